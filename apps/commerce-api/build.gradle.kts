@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
@@ -10,6 +14,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-protobuf")
 
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
@@ -19,4 +24,29 @@ dependencies {
     // test-fixtures
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
+    testImplementation(testFixtures(project(":supports:monitoring")))
+}
+
+// 실행 시간 예산(@Tag("benchmark")) : ./gradlew :apps:commerce-api:benchmarkTest
+val benchmarkTest by tasks.registering(Test::class) {
+    description = "실행 시간 예산(@Tag(\"benchmark\")) 테스트를 실행한다."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxParallelForks = 1
+    systemProperty("user.timezone", "Asia/Seoul")
+    systemProperty("spring.profiles.active", "test")
+    systemProperty("performance-budget.report-file", layout.buildDirectory.file("reports/performance-budget/results.jsonl").get().asFile.absolutePath)
+    systemProperty("performance-budget.version", project.version.toString())
+    jvmArgs("-Xshare:off")
+    outputs.upToDateWhen { false }
+}
+
+// benchmark : ./gradlew :apps:commerce-api:jmh (src/jmh, 할당량은 gc profiler 의 gc.alloc.rate.norm 으로 비교한다)
+jmh {
+    profilers = listOf("gc")
+    resultFormat = "JSON"
 }
@@ -0,0 +1,94 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 {@link ApiResponse} 를 형식별로 인코딩/디코딩하는 시간과 본문 크기를 비교한다.
+ * <p>
+ * 본문은 검색 응답(예시 {@code items} 건)으로, 크기는 setUp 에서 한 번 출력한다.
+ * 할당량은 {@code gc.alloc.rate.norm} 으로 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseFormatBenchmark {
+    private static final TypeReference<ApiResponse<ExampleV1Dto.SearchResponse>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"1", "20"})
+    public int items;
+
+    private ApiResponse<ExampleV1Dto.SearchResponse> response;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<ExampleV1Dto.ExampleResponse> examples = new ArrayList<>(items);
+        for (long id = 1; id <= items; id++) {
+            examples.add(new ExampleV1Dto.ExampleResponse(id * 1_000_003, "예시 상품 " + id, "Spring Boot 예시 설명 " + id + " 입니다."));
+        }
+        response = ApiResponse.success(new ExampleV1Dto.SearchResponse(examples));
+
+        ObjectMapper mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            case "protobuf" -> new ProtobufMapper();
+            default -> throw new IllegalArgumentException(format);
+        };
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        JavaType type = mapper.getTypeFactory().constructType(RESPONSE_TYPE);
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+        if (mapper instanceof ProtobufMapper protobufMapper) {
+            ProtobufSchema schema = protobufMapper.generateSchemaFor(type);
+            writer = writer.with(schema);
+            reader = reader.with(schema);
+        }
+        encoded = writer.writeValueAsBytes(response);
+        System.out.printf("%n[%s] items=%d size=%dB%n", format, items, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<ExampleV1Dto.SearchResponse> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
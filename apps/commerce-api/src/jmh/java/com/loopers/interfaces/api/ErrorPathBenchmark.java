@@ -0,0 +1,76 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 예상된 에러(404) 한 건을 던지고 응답으로 바꾸기까지의 비용을 비교한다.
+ * <ul>
+ *     <li>legacy : 스택 트레이스를 채우는 예외 + 매 호출 Pattern 컴파일 + 매 호출 응답 생성</li>
+ *     <li>current : 스택 없는 CoreException + ApiControllerAdvice (캐시된 응답, 샘플링 로그)</li>
+ * </ul>
+ * {@code ./gradlew :apps:commerce-api:jmh} 결과의 {@code gc.alloc.rate.norm} 으로 호출당 할당량을 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+    private ApiControllerAdvice advice;
+
+    @Setup
+    public void setUp() {
+        advice = new ApiControllerAdvice(new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<?>> legacy() {
+        try {
+            throw new StackfulException(ErrorType.NOT_FOUND);
+        } catch (StackfulException e) {
+            Matcher matcher = Pattern.compile("'(.+?)'").matcher(e.getMessage());
+            matcher.find();
+            return ResponseEntity.status(e.errorType.getStatus())
+                .body(ApiResponse.fail(e.errorType.getCode(), e.errorType.getMessage()));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<?>> current() {
+        try {
+            throw new CoreException(ErrorType.NOT_FOUND);
+        } catch (CoreException e) {
+            return advice.handle(e);
+        }
+    }
+
+    /**
+     * 변경 전 CoreException 과 같은 방식(스택 트레이스 채움)으로 생성되는 예외.
+     */
+    private static final class StackfulException extends RuntimeException {
+        private final ErrorType errorType;
+
+        private StackfulException(ErrorType errorType) {
+            super(errorType.getMessage());
+            this.errorType = errorType;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.loopers.interfaces.api.example;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.example.ExampleInfo;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.cache.ResponseByteCache;
+import com.loopers.support.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예시 단건 조회 응답을 쓰는 비용을 비교한다. 로컬 캐시(HotKeyCache)에서 {@link ExampleInfo} 를 얻은 뒤부터 잰다.
+ * <ul>
+ *     <li>mapped : ExampleInfo → ExampleResponse → ApiResponse 를 만들고 ObjectMapper 로 출력 스트림에 쓴다 (변경 전 hit 경로)</li>
+ *     <li>cached : {@link ResponseByteCache} 에서 바이트를 찾아 출력 스트림에 그대로 쓴다 ({@link ExampleResponseCacheFilter})</li>
+ * </ul>
+ * 컨트롤러 쪽은 DispatcherServlet 의 핸들러 조회, 인자 해석, 메시지 컨버터 선택 비용이 더 붙으므로 실제 차이는 이보다 크다.
+ * {@code gc.alloc.rate.norm} 으로 요청당 할당량을 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExampleResponseBenchmark {
+    private static final long ID = 42L;
+
+    /** 설명 길이. 길수록 직렬화(문자열 이스케이프, UTF-8 인코딩) 비용이 커진다. */
+    @Param({"32", "1024"})
+    public int descriptionLength;
+
+    private ObjectMapper objectMapper;
+    private ExampleInfo info;
+    private ResponseByteCache cache;
+    private OutputStream out;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 메시지 컨버터와 같이 출력 스트림을 닫지 않는다
+        objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        info = new ExampleInfo(ID, "예시 " + ID, "설명".repeat(descriptionLength / 2));
+        cache = new ResponseByteCache(
+            "benchmark", new ResponseCacheProperties(true, Duration.ofHours(1), 16, Integer.MAX_VALUE), new SimpleMeterRegistry()
+        );
+        cache.put(ID, cache.version(ID), objectMapper.writeValueAsBytes(ApiResponse.success(ExampleV1Dto.ExampleResponse.from(info))));
+        out = OutputStream.nullOutputStream();
+    }
+
+    @Benchmark
+    public void mapped() throws IOException {
+        ApiResponse<ExampleV1Dto.ExampleResponse> response = ApiResponse.success(ExampleV1Dto.ExampleResponse.from(info));
+        objectMapper.writeValue(out, response);
+    }
+
+    @Benchmark
+    public void cached() throws IOException {
+        out.write(cache.find(ID).body());
+    }
+}
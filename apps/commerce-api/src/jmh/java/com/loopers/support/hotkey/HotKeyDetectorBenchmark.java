@@ -0,0 +1,77 @@
+package com.loopers.support.hotkey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 한 건당 hot key 탐지({@link HotKeyDetector#record} + {@link HotKeyDetector#isHot})가 더하는 비용을 잰다.
+ * <p>
+ * 키는 상위 몇 개에 요청이 몰리는 분포(지수 분포 근사)로 미리 만들어 두고, 8 스레드가 동시에 기록한다.
+ * {@code baseline} 은 키를 꺼내는 비용만 포함하므로, 두 결과의 차이가 요청당 오버헤드다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class HotKeyDetectorBenchmark {
+    private static final int KEYS = 1 << 16;
+
+    @Param({"1", "8"})
+    public int sampleRate;
+
+    private HotKeyDetector detector;
+    private long[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        detector = new HotKeyDetector(
+            new HotKeyProperties(true, sampleRate, 16384, 4, 100, 200, Duration.ofSeconds(10), Duration.ofSeconds(1)),
+            new SimpleMeterRegistry()
+        );
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new long[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = (long) (-Math.log(1 - random.nextDouble()) * 1_000);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = (int) Thread.currentThread().threadId() * 7919;
+
+        long next(long[] keys) {
+            return keys[next++ & (KEYS - 1)];
+        }
+    }
+
+    @Benchmark
+    public long baseline(Cursor cursor) {
+        return cursor.next(keys);
+    }
+
+    @Benchmark
+    public boolean recordAndCheck(Cursor cursor) {
+        long key = cursor.next(keys);
+        detector.record(key);
+        return detector.isHot(key);
+    }
+}
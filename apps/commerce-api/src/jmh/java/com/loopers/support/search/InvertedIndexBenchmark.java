@@ -0,0 +1,132 @@
+package com.loopers.support.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예시 수준의 짧은 문서(이름 + 설명)를 100 만 건 이상 색인한 뒤, 검색 종류별 지연을 잰다.
+ * <p>
+ * 단어는 한글/영문 어휘에서 Zipf 에 가까운 분포로 뽑아, 자주 나오는 단어(긴 목록)와 드문 단어가 섞이게 한다.
+ * 색인을 다 만든 뒤 문서당 추정 메모리({@link InvertedIndex#estimatedBytes()})와 실제 힙 증가량을 출력한다.
+ * (fork 는 100 만 건 색인을 담을 수 있도록 -Xmx4g 로 띄운다)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+@State(Scope.Benchmark)
+public class InvertedIndexBenchmark {
+    private static final String[] KOREAN = {
+        "스프링", "부트", "성능", "튜닝", "캐시", "데이터베이스", "인덱스", "트랜잭션", "배치", "메시지",
+        "카프카", "레디스", "주문", "결제", "상품", "브랜드", "좋아요", "쿠폰", "포인트", "재고",
+        "검색", "랭킹", "집계", "모니터링", "로그", "장애", "복구", "배포", "테스트", "설계",
+    };
+    private static final String[] ENGLISH = {
+        "spring", "boot", "java", "kotlin", "redis", "kafka", "mysql", "index", "query", "cache",
+        "latency", "throughput", "batch", "stream", "order", "payment", "product", "brand", "coupon", "point",
+        "search", "ranking", "metric", "trace", "deploy", "rollback", "test", "design", "pattern", "module",
+    };
+    private static final int QUERIES = 1024;
+
+    @Param({"1000000"})
+    public int documents;
+
+    private InvertedIndex index;
+    private SearchQuery[] termQueries;
+    private SearchQuery[] prefixQueries;
+    private SearchQuery[] phraseQueries;
+    private SearchQuery[] multiTermQueries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        index = new InvertedIndex(documents);
+        for (long id = 1; id <= documents; id++) {
+            index.put(id, sentence(random, 3, id), sentence(random, 12, id));
+        }
+
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf(
+            "%n[index] docs=%d terms=%d estimated=%.1fB/doc heap=%.1fB/doc%n",
+            index.size(), index.termCount(),
+            (double) index.estimatedBytes() / documents, (double) (heapAfter - heapBefore) / documents
+        );
+
+        termQueries = new SearchQuery[QUERIES];
+        prefixQueries = new SearchQuery[QUERIES];
+        phraseQueries = new SearchQuery[QUERIES];
+        multiTermQueries = new SearchQuery[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String english = pick(random, ENGLISH);
+            String korean = pick(random, KOREAN);
+            termQueries[i] = SearchQuery.parse(random.nextBoolean() ? english : korean);
+            prefixQueries[i] = SearchQuery.parse(english.substring(0, 2) + "*");
+            phraseQueries[i] = SearchQuery.parse("\"" + korean + " " + pick(random, KOREAN) + "\"");
+            multiTermQueries[i] = SearchQuery.parse(english + " " + korean);
+        }
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> term() {
+        return index.search(next(termQueries), 20);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> prefix() {
+        return index.search(next(prefixQueries), 20);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> phrase() {
+        return index.search(next(phraseQueries), 20);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> multiTerm() {
+        return index.search(next(multiTermQueries), 20);
+    }
+
+    private SearchQuery next(SearchQuery[] queries) {
+        // 스레드 간 경합 없이 대충 돌아가며 고르면 충분하다
+        return queries[(cursor++ & Integer.MAX_VALUE) % queries.length];
+    }
+
+    private static String sentence(SplittableRandom random, int words, long id) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(pick(random, random.nextBoolean() ? KOREAN : ENGLISH)).append(' ');
+        }
+        // 문서마다 다른 드문 단어 하나를 섞어 단어 사전이 실제처럼 커지게 한다
+        return builder.append("sku").append(id % 200_000).toString();
+    }
+
+    /**
+     * 앞쪽 단어일수록 자주 뽑히도록 두 난수 중 작은 값을 쓴다.
+     */
+    private static String pick(SplittableRandom random, String[] words) {
+        return words[Math.min(random.nextInt(words.length), random.nextInt(words.length))];
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.application.example;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.util.Comparator;
+import java.util.List;
+
+public record ExampleBulkResult(int total, int succeeded, List<Failure> failures, long elapsedNanos) {
+    public record Failure(int index, ErrorType errorType, String message) {
+        public static Failure of(int index, CoreException e) {
+            return new Failure(index, e.getErrorType(), e.getMessage());
+        }
+    }
+
+    public static ExampleBulkResult of(int total, List<Failure> failures, long elapsedNanos) {
+        List<Failure> ordered = failures.stream()
+            .sorted(Comparator.comparingInt(Failure::index))
+            .toList();
+        return new ExampleBulkResult(total, total - ordered.size(), ordered, elapsedNanos);
+    }
+
+    public double rowsPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return succeeded * 1_000_000_000d / elapsedNanos;
+    }
+}
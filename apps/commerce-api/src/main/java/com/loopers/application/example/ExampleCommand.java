@@ -0,0 +1,7 @@
+package com.loopers.application.example;
+
+public class ExampleCommand {
+    public record Create(String name, String description) {}
+
+    public record Update(Long id, String description) {}
+}
@@ -1,17 +1,218 @@
 package com.loopers.application.example;
 
+import com.loopers.domain.example.ExampleAccessLog;
+import com.loopers.domain.example.ExampleChangedEvent;
 import com.loopers.domain.example.ExampleModel;
 import com.loopers.domain.example.ExampleService;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.hotkey.HotKeyCache;
+import com.loopers.support.hotkey.HotKeyDetector;
+import com.loopers.support.hotkey.HotKeyProperties;
+import com.loopers.support.writebehind.WriteBehindProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-@RequiredArgsConstructor
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Slf4j
 @Component
 public class ExampleFacade {
+    /** 한 트랜잭션(= 한 JDBC 배치)에서 처리하는 최대 건수 */
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final ExampleService exampleService;
+    private final ExampleAccessLog exampleAccessLog;
+    private final HotKeyDetector hotKeyDetector;
+    private final HotKeyCache<ExampleInfo> hotExamples;
+    private final boolean writeBehind;
 
+    public ExampleFacade(
+        ExampleService exampleService,
+        ExampleAccessLog exampleAccessLog,
+        HotKeyDetector hotKeyDetector,
+        HotKeyProperties hotKeyProperties,
+        WriteBehindProperties writeBehindProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.exampleService = exampleService;
+        this.exampleAccessLog = exampleAccessLog;
+        this.hotKeyDetector = hotKeyDetector;
+        this.writeBehind = writeBehindProperties.enabled();
+        this.hotExamples = new HotKeyCache<>("example", hotKeyDetector, hotKeyProperties.localTtl(), meterRegistry);
+    }
+
+    /**
+     * 요청이 몰리는 예시는 {@link HotKeyCache} 로 잠시 로컬에서 응답한다.
+     */
     public ExampleInfo getExample(Long id) {
-        ExampleModel example = exampleService.getExample(id);
-        return ExampleInfo.from(example);
+        return getExample(id, true);
+    }
+
+    /**
+     * {@code recordAccess} 가 false 면 조회 기록과 hot key 탐지에 남기지 않는다.
+     * 워밍업이 재생하는 조회가 다음 워밍업 대상과 hot key 승격을 부풀리지 않게 한다.
+     */
+    public ExampleInfo getExample(Long id, boolean recordAccess) {
+        ExampleInfo example = hotExamples.get(id, () -> ExampleInfo.from(
+            exampleService.getExample(id), exampleService.findPendingDescriptions(List.of(id))
+        ), recordAccess);
+        if (recordAccess) {
+            exampleAccessLog.record(id);
+        }
+        return example;
+    }
+
+    /**
+     * 응답 캐시가 조회 없이 응답한 경우에도 {@link #getExample} 과 같이 조회 기록과 hot key 탐지에 남긴다.
+     */
+    public void recordCachedRead(Long id) {
+        hotKeyDetector.record(id);
+        exampleAccessLog.record(id);
+    }
+
+    /**
+     * write-behind 가 켜져 있으면 수정을 기록만 하고 응답하며, DB 에는 {@link ExampleWriteBehindFlusher} 가 모아서 반영한다.
+     */
+    public ExampleInfo updateExample(Long id, String description) {
+        return writeBehind
+            ? ExampleInfo.from(exampleService.updateExampleDeferred(id, description), Map.of(id, description))
+            : ExampleInfo.from(exampleService.updateExample(id, description));
+    }
+
+    /**
+     * 응답 캐시는 같은 이벤트로 버전을 올리므로, 그보다 먼저 로컬 캐시를 비운다.
+     * 순서가 바뀌면 올라간 버전으로 응답을 채우는 요청이 로컬 캐시의 이전 값을 읽어 응답 캐시에 담는다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void on(ExampleChangedEvent event) {
+        event.examples().forEach(changed -> hotExamples.invalidate(changed.id()));
+    }
+
+    public List<ExampleInfo> searchExamples(String query, int size) {
+        List<ExampleModel> examples = exampleService.searchExamples(query, size);
+        Map<Long, String> pending = exampleService.findPendingDescriptions(examples.stream().map(ExampleModel::getId).toList());
+        return examples.stream()
+            .map(example -> ExampleInfo.from(example, pending))
+            .toList();
+    }
+
+    public void exportExamples(Consumer<ExampleInfo> action) {
+        exampleService.exportExamples(example -> action.accept(ExampleInfo.from(example)));
+    }
+
+    /**
+     * 요청을 순서대로 읽으며 검증하고, 유효한 건은 {@link #BULK_CHUNK_SIZE} 단위의 트랜잭션으로 저장한다.
+     * 실패한 건은 요청 내 순번(index)과 함께 결과에 담긴다.
+     */
+    public ExampleBulkResult createExamples(Iterator<ExampleCommand.Create> commands) {
+        long startedAt = System.nanoTime();
+        List<ExampleBulkResult.Failure> failures = new ArrayList<>();
+        List<ExampleModel> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BULK_CHUNK_SIZE);
+
+        int total = 0;
+        while (commands.hasNext()) {
+            ExampleCommand.Create command = commands.next();
+            int index = total++;
+            try {
+                chunk.add(new ExampleModel(command.name(), command.description()));
+                chunkIndexes.add(index);
+            } catch (CoreException e) {
+                failures.add(ExampleBulkResult.Failure.of(index, e));
+            }
+
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                flushCreates(chunk, chunkIndexes, failures);
+            }
+        }
+        flushCreates(chunk, chunkIndexes, failures);
+
+        return logged("create", ExampleBulkResult.of(total, failures, System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 요청을 순서대로 읽으며 {@link #BULK_CHUNK_SIZE} 단위의 트랜잭션으로 수정한다.
+     * 같은 청크 안에 동일한 ID 가 다시 등장하면, 요청 순서가 보장되도록 앞선 청크를 먼저 반영한다.
+     * write-behind 가 켜져 있으면 단건 수정과 같이 기록만 한다. (DB 에 바로 쓰면 먼저 기록된 단건 수정이 나중에 반영되어 덮어쓴다)
+     */
+    public ExampleBulkResult updateExamples(Iterator<ExampleCommand.Update> commands) {
+        long startedAt = System.nanoTime();
+        List<ExampleBulkResult.Failure> failures = new ArrayList<>();
+        Map<Long, String> chunk = new LinkedHashMap<>();
+        Map<Long, Integer> chunkIndexes = new LinkedHashMap<>();
+
+        int total = 0;
+        while (commands.hasNext()) {
+            ExampleCommand.Update command = commands.next();
+            int index = total++;
+            if (command.id() == null) {
+                failures.add(ExampleBulkResult.Failure.of(index, new CoreException(ErrorType.BAD_REQUEST, "ID는 비어있을 수 없습니다.")));
+                continue;
+            }
+
+            if (chunk.containsKey(command.id())) {
+                flushUpdates(chunk, chunkIndexes, failures);
+            }
+            chunk.put(command.id(), command.description());
+            chunkIndexes.put(command.id(), index);
+
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                flushUpdates(chunk, chunkIndexes, failures);
+            }
+        }
+        flushUpdates(chunk, chunkIndexes, failures);
+
+        return logged("update", ExampleBulkResult.of(total, failures, System.nanoTime() - startedAt));
+    }
+
+    private void flushCreates(List<ExampleModel> chunk, List<Integer> chunkIndexes, List<ExampleBulkResult.Failure> failures) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            exampleService.createExamples(chunk);
+        } catch (RuntimeException e) {
+            log.error("예시 대량 저장 중 청크 저장에 실패했습니다. (size = {})", chunk.size(), e);
+            chunkIndexes.forEach(index -> failures.add(chunkFailure(index)));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    private void flushUpdates(Map<Long, String> chunk, Map<Long, Integer> chunkIndexes, List<ExampleBulkResult.Failure> failures) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            (writeBehind ? exampleService.updateExamplesDeferred(chunk) : exampleService.updateExamples(chunk))
+                .forEach((id, e) -> failures.add(ExampleBulkResult.Failure.of(chunkIndexes.get(id), e)));
+        } catch (RuntimeException e) {
+            log.error("예시 대량 수정 중 청크 반영에 실패했습니다. (size = {})", chunk.size(), e);
+            chunkIndexes.values().forEach(index -> failures.add(chunkFailure(index)));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    private ExampleBulkResult.Failure chunkFailure(int index) {
+        return new ExampleBulkResult.Failure(index, ErrorType.INTERNAL_ERROR, ErrorType.INTERNAL_ERROR.getMessage());
+    }
+
+    private ExampleBulkResult logged(String operation, ExampleBulkResult result) {
+        log.info("예시 대량 {} 완료 : total = {}, succeeded = {}, failed = {}, elapsed = {}ms, {} rows/sec",
+            operation, result.total(), result.succeeded(), result.failures().size(),
+            result.elapsedNanos() / 1_000_000, String.format("%.1f", result.rowsPerSecond()));
+        return result;
     }
 }
@@ -2,6 +2,8 @@ package com.loopers.application.example;
 
 import com.loopers.domain.example.ExampleModel;
 
+import java.util.Map;
+
 public record ExampleInfo(Long id, String name, String description) {
     public static ExampleInfo from(ExampleModel model) {
         return new ExampleInfo(
@@ -10,4 +12,16 @@ public record ExampleInfo(Long id, String name, String description) {
             model.getDescription()
         );
     }
+
+    /**
+     * 아직 DB 에 반영되지 않은 설명이 있으면 그 값으로 보이게 한다. (write-behind 의 read-your-writes)
+     * 엔티티는 다른 조회와 공유될 수 있으므로 바꾸지 않는다.
+     */
+    public static ExampleInfo from(ExampleModel model, Map<Long, String> pendingDescriptions) {
+        return new ExampleInfo(
+            model.getId(),
+            model.getName(),
+            pendingDescriptions.getOrDefault(model.getId(), model.getDescription())
+        );
+    }
 }
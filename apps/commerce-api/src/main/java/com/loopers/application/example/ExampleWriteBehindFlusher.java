@@ -0,0 +1,110 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleService;
+import com.loopers.domain.example.ExampleWriteBuffer;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.writebehind.WriteBehindProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ExampleWriteBuffer} 에 모인 설명 수정을 주기적으로 DB 에 반영한다.
+ * <p>
+ * 임대를 가진 한 인스턴스만 반영한다. 가져온 기록은 예시마다 마지막 값으로 합친 뒤 한 트랜잭션으로 반영하고,
+ * 반영에 실패하면 확인하지 않고 남겨 다음 주기에 다시 시도한다. 존재하지 않거나 규칙을 위반한 수정은 버린다.
+ * <ul>
+ *     <li>{@code write-behind.flush.lag} : 반영 시점에 가장 오래된 기록이 기다린 시간</li>
+ *     <li>{@code write-behind.coalescing.ratio} : 기록 수 / 합친 뒤 반영한 예시 수</li>
+ *     <li>{@code write-behind.backlog} : 아직 반영되지 않은 기록 수 (모든 인스턴스가 같은 값을 보고한다)</li>
+ * </ul>
+ */
+@Slf4j
+@ConditionalOnProperty(name = "write-behind.enabled", havingValue = "true")
+@Component
+public class ExampleWriteBehindFlusher {
+    private final ExampleService exampleService;
+    private final ExampleWriteBuffer exampleWriteBuffer;
+    private final WriteBehindProperties properties;
+
+    private final Timer lag;
+    private final DistributionSummary coalescingRatio;
+    private final Counter flushed;
+    private final Counter dropped;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public ExampleWriteBehindFlusher(
+        ExampleService exampleService,
+        ExampleWriteBuffer exampleWriteBuffer,
+        WriteBehindProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.exampleService = exampleService;
+        this.exampleWriteBuffer = exampleWriteBuffer;
+        this.properties = properties;
+        this.lag = Timer.builder("write-behind.flush.lag")
+            .tag("entity", "example")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.coalescingRatio = DistributionSummary.builder("write-behind.coalescing.ratio")
+            .tag("entity", "example")
+            .register(meterRegistry);
+        this.flushed = Counter.builder("write-behind.flushed")
+            .tag("entity", "example")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("write-behind.dropped")
+            .tag("entity", "example")
+            .register(meterRegistry);
+        Gauge.builder("write-behind.backlog", backlog, AtomicLong::get)
+            .tag("entity", "example")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 한 주기 안에서는 가져온 기록이 batchSize 만큼 찰 때까지(= 밀려 있는 동안) 임대를 연장하며 이어서 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${write-behind.flush-interval}")
+    public void flush() {
+        try {
+            backlog.set(exampleWriteBuffer.backlog());
+            while (exampleWriteBuffer.acquireFlushLease(properties.leaseTtl())) {
+                if (flushBatch() < properties.batchSize()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("예시 수정 기록을 DB 에 반영하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private int flushBatch() {
+        List<ExampleWriteBuffer.Entry> entries = exampleWriteBuffer.poll(properties.batchSize());
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> descriptions = new LinkedHashMap<>();
+        entries.forEach(entry -> descriptions.put(entry.exampleId(), entry.description()));
+
+        Map<Long, CoreException> failures = exampleService.updateExamples(descriptions);
+        failures.forEach((id, e) -> log.warn("반영할 수 없는 예시 수정 기록을 버립니다. (id = {}, reason = {})", id, e.getMessage()));
+        exampleWriteBuffer.complete(entries);
+
+        lag.record(System.currentTimeMillis() - entries.get(0).recordedAt(), TimeUnit.MILLISECONDS);
+        coalescingRatio.record((double) entries.size() / descriptions.size());
+        flushed.increment(descriptions.size() - failures.size());
+        dropped.increment(failures.size());
+        return entries.size();
+    }
+}
@@ -0,0 +1,48 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleService;
+import com.loopers.domain.ranking.RankingEntry;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class RankingFacade {
+    private final RankingService rankingService;
+    private final ExampleService exampleService;
+
+    /**
+     * 랭킹 한 페이지의 예시 정보를 한 번의 IN 조회로 채운다. 그 사이 삭제된 예시는 건너뛴다.
+     */
+    public List<RankingInfo> getRankings(RankingPeriod period, int page, int size) {
+        List<RankingEntry> entries = rankingService.getRanking(period, page, size);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ExampleModel> examples = exampleService.getExamples(entries.stream().map(RankingEntry::exampleId).toList())
+            .stream()
+            .collect(Collectors.toMap(ExampleModel::getId, Function.identity()));
+        Map<Long, String> pending = exampleService.findPendingDescriptions(examples.keySet());
+
+        List<RankingInfo> rankings = new ArrayList<>(entries.size());
+        int rank = page * size;
+        for (RankingEntry entry : entries) {
+            rank++;
+            ExampleModel example = examples.get(entry.exampleId());
+            if (example != null) {
+                rankings.add(RankingInfo.of(rank, entry, example, pending));
+            }
+        }
+        return rankings;
+    }
+}
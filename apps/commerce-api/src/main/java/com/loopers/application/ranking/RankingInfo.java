@@ -0,0 +1,18 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.ranking.RankingEntry;
+
+import java.util.Map;
+
+public record RankingInfo(int rank, Long exampleId, String name, String description, double score) {
+    public static RankingInfo of(int rank, RankingEntry entry, ExampleModel example, Map<Long, String> pendingDescriptions) {
+        return new RankingInfo(
+            rank,
+            example.getId(),
+            example.getName(),
+            pendingDescriptions.getOrDefault(example.getId(), example.getDescription()),
+            entry.score()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.example;
+
+import java.util.List;
+
+/**
+ * 예시 조회 기록. 재시작 후 워밍업 대상(가장 많이 조회된 예시)을 고르는 데 쓴다.
+ */
+public interface ExampleAccessLog {
+    void record(Long exampleId);
+
+    /**
+     * 최근 조회가 많은 순서로 최대 {@code limit} 개의 예시 ID 를 돌려준다.
+     */
+    List<Long> findHottest(int limit);
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.example;
+
+import java.util.List;
+
+/**
+ * 예시가 생성되거나 수정되어 커밋된(write-behind 인 경우 기록된) 내용. 조회용 파생 데이터(검색 색인 등)를 갱신하는 데 쓴다.
+ */
+public record ExampleChangedEvent(List<Changed> examples) {
+    public record Changed(long id, String name, String description) {
+    }
+
+    public static ExampleChangedEvent of(ExampleModel example) {
+        return new ExampleChangedEvent(List.of(new Changed(example.getId(), example.getName(), example.getDescription())));
+    }
+}
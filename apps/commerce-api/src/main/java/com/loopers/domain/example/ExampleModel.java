@@ -19,9 +19,7 @@ public class ExampleModel extends BaseEntity {
         if (name == null || name.isBlank()) {
             throw new CoreException(ErrorType.BAD_REQUEST, "이름은 비어있을 수 없습니다.");
         }
-        if (description == null || description.isBlank()) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "설명은 비어있을 수 없습니다.");
-        }
+        validateDescription(description);
 
         this.name = name;
         this.description = description;
@@ -36,9 +34,16 @@ public class ExampleModel extends BaseEntity {
     }
 
     public void update(String newDescription) {
-        if (newDescription == null || newDescription.isBlank()) {
+        validateDescription(newDescription);
+        this.description = newDescription;
+    }
+
+    /**
+     * 엔티티를 바꾸지 않고 설명이 수정 규칙에 맞는지만 확인한다. (write-behind 로 기록만 하는 수정)
+     */
+    public static void validateDescription(String description) {
+        if (description == null || description.isBlank()) {
             throw new CoreException(ErrorType.BAD_REQUEST, "설명은 비어있을 수 없습니다.");
         }
-        this.description = newDescription;
     }
 }
@@ -1,7 +1,22 @@
 package com.loopers.domain.example;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ExampleRepository {
     Optional<ExampleModel> find(Long id);
+
+    List<ExampleModel> findAll(Collection<Long> ids);
+
+    /**
+     * 주어진 예시들을 한 번의 배치로 저장하고, 저장 순서대로 생성된 ID 를 반환한다.
+     */
+    List<Long> saveAll(List<ExampleModel> examples);
+
+    /**
+     * 삭제되지 않은 모든 예시를 ID 순서대로 한 건씩 넘긴다. 넘긴 예시는 어디에도 붙잡혀 있지 않으며, 변경해도 반영되지 않는다.
+     */
+    void forEach(Consumer<ExampleModel> action);
 }
@@ -0,0 +1,10 @@
+package com.loopers.domain.example;
+
+import java.util.List;
+
+public interface ExampleSearchIndex {
+    /**
+     * 검색어와 일치하는 예시 ID 를 관련도 순으로 최대 limit 개 반환한다.
+     */
+    List<Long> search(String query, int limit);
+}
@@ -3,18 +3,181 @@ package com.loopers.domain.example;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Component
 public class ExampleService {
+    public static final int MAX_SEARCH_SIZE = 100;
 
     private final ExampleRepository exampleRepository;
+    private final ExampleSearchIndex exampleSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExampleWriteBuffer exampleWriteBuffer;
 
     @Transactional(readOnly = true)
     public ExampleModel getExample(Long id) {
         return exampleRepository.find(id)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
     }
+
+    @Transactional(readOnly = true)
+    public List<ExampleModel> getExamples(Collection<Long> ids) {
+        return exampleRepository.findAll(ids);
+    }
+
+    /**
+     * write-behind 로 기록되었지만 아직 DB 에 반영되지 않은 마지막 설명. 조회 결과를 응답으로 만들 때 덮어쓴다. (read-your-writes)
+     * <p>
+     * 조회한 엔티티는 다른 요청과 공유될 수 있으므로(micro-batch 조회) 엔티티에 덮어쓰지 않는다.
+     */
+    public Map<Long, String> findPendingDescriptions(Collection<Long> ids) {
+        return exampleWriteBuffer.findPending(ids);
+    }
+
+    /**
+     * 검색 색인에서 찾은 예시를 관련도 순서대로 반환한다. 색인에는 남아 있지만 삭제된 예시는 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public List<ExampleModel> searchExamples(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색어는 비어있을 수 없습니다.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색 결과 수는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        List<Long> ids = exampleSearchIndex.search(query, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ExampleModel> examples = exampleRepository.findAll(ids).stream()
+            .collect(Collectors.toMap(ExampleModel::getId, Function.identity()));
+        return ids.stream()
+            .map(examples::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * 삭제되지 않은 모든 예시를 ID 순서대로 넘긴다. 예시 수와 관계없이 메모리 사용량이 일정하다.
+     * 영속성 컨텍스트 없이 별도 커넥션으로 읽으므로 트랜잭션을 열지 않으며, DB 에 반영된 값만 보인다. (write-behind 로 보류 중인 수정은 제외)
+     */
+    public void exportExamples(Consumer<ExampleModel> action) {
+        exampleRepository.forEach(action);
+    }
+
+    @Transactional
+    public List<Long> createExamples(List<ExampleModel> examples) {
+        List<Long> ids = exampleRepository.saveAll(examples);
+
+        List<ExampleChangedEvent.Changed> changed = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            ExampleModel example = examples.get(i);
+            changed.add(new ExampleChangedEvent.Changed(ids.get(i), example.getName(), example.getDescription()));
+        }
+        eventPublisher.publishEvent(new ExampleChangedEvent(changed));
+        return ids;
+    }
+
+    /**
+     * 예시들의 설명을 한 트랜잭션 안에서 수정한다.
+     * 존재하지 않거나 수정 규칙을 위반한 예시는 건너뛰고, 해당 ID 별 예외를 반환한다.
+     * 변경 이벤트에는 아직 반영되지 않은 더 새로운 수정이 있으면 그 값을 담아, 파생 데이터가 이전 값으로 돌아가지 않게 한다.
+     */
+    @Transactional
+    public Map<Long, CoreException> updateExamples(Map<Long, String> descriptions) {
+        Map<Long, ExampleModel> examples = exampleRepository.findAll(descriptions.keySet()).stream()
+            .collect(Collectors.toMap(ExampleModel::getId, Function.identity()));
+        Map<Long, String> pending = exampleWriteBuffer.findPending(examples.keySet());
+
+        Map<Long, CoreException> failures = new HashMap<>();
+        List<ExampleChangedEvent.Changed> changed = new ArrayList<>(descriptions.size());
+        descriptions.forEach((id, description) -> {
+            ExampleModel example = examples.get(id);
+            if (example == null) {
+                failures.put(id, new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
+                return;
+            }
+            try {
+                example.update(description);
+                changed.add(new ExampleChangedEvent.Changed(id, example.getName(), pending.getOrDefault(id, example.getDescription())));
+            } catch (CoreException e) {
+                failures.put(id, e);
+            }
+        });
+        eventPublisher.publishEvent(new ExampleChangedEvent(changed));
+        return failures;
+    }
+
+    /**
+     * 설명을 바로 수정하고, 수정된 예시를 반환한다.
+     */
+    @Transactional
+    public ExampleModel updateExample(Long id, String description) {
+        ExampleModel example = getExample(id);
+        example.update(description);
+        eventPublisher.publishEvent(ExampleChangedEvent.of(example));
+        return example;
+    }
+
+    /**
+     * 설명 수정을 {@link ExampleWriteBuffer} 에 기록만 하고, 수정 전의 예시를 반환한다. DB 에는 나중에 모아서 반영된다.
+     * <p>
+     * 조회한 엔티티는 다른 요청과 공유될 수 있으므로 바꾸지 않고 설명만 검증한다.
+     * 기록 후 변경 이벤트를 발행해 검색 색인과 응답 캐시가 보류 중인 값을 따르게 한다.
+     */
+    @Transactional(readOnly = true)
+    public ExampleModel updateExampleDeferred(Long id, String description) {
+        ExampleModel example = getExample(id);
+        ExampleModel.validateDescription(description);
+        exampleWriteBuffer.append(id, description);
+        eventPublisher.publishEvent(new ExampleChangedEvent(List.of(
+            new ExampleChangedEvent.Changed(id, example.getName(), description)
+        )));
+        return example;
+    }
+
+    /**
+     * {@link #updateExamples} 의 write-behind 버전. 유효한 수정을 요청 순서대로 {@link ExampleWriteBuffer} 에 한 번에 기록한다.
+     * 단건 수정과 같은 버퍼를 거치므로, 먼저 기록된 단건 수정이 나중에 반영되어 대량 수정을 덮어쓰지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, CoreException> updateExamplesDeferred(Map<Long, String> descriptions) {
+        Map<Long, ExampleModel> examples = exampleRepository.findAll(descriptions.keySet()).stream()
+            .collect(Collectors.toMap(ExampleModel::getId, Function.identity()));
+
+        Map<Long, CoreException> failures = new HashMap<>();
+        Map<Long, String> accepted = new LinkedHashMap<>();
+        List<ExampleChangedEvent.Changed> changed = new ArrayList<>(descriptions.size());
+        descriptions.forEach((id, description) -> {
+            ExampleModel example = examples.get(id);
+            if (example == null) {
+                failures.put(id, new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
+                return;
+            }
+            try {
+                ExampleModel.validateDescription(description);
+                accepted.put(id, description);
+                changed.add(new ExampleChangedEvent.Changed(id, example.getName(), description));
+            } catch (CoreException e) {
+                failures.put(id, e);
+            }
+        });
+        exampleWriteBuffer.appendAll(accepted);
+        eventPublisher.publishEvent(new ExampleChangedEvent(changed));
+        return failures;
+    }
 }
@@ -0,0 +1,56 @@
+package com.loopers.domain.example;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예시 설명 수정을 먼저 기록해 두고, 나중에 모아서 DB 에 반영하기 위한 쓰기 버퍼. (write-behind)
+ * <p>
+ * 기록은 순서대로 쌓이고, 예시마다 아직 반영되지 않은 마지막 값을 따로 둔다.
+ */
+public interface ExampleWriteBuffer {
+
+    /**
+     * 수정을 기록한다. 반환되면 DB 에 반영될 때까지 유실되지 않는다.
+     */
+    void append(Long id, String description);
+
+    /**
+     * 여러 수정을 순서대로 한 번에 기록한다. 반환되면 모두 기록되었거나, 예외가 나면 아무것도 기록되지 않았다.
+     */
+    void appendAll(Map<Long, String> descriptions);
+
+    /**
+     * 아직 DB 에 반영되지 않은 마지막 설명. 보류 중인 수정이 없는 ID 는 결과에 없다.
+     */
+    Map<Long, String> findPending(Collection<Long> ids);
+
+    /**
+     * 반영을 맡을 임대를 얻거나 연장한다. 여러 인스턴스 중 임대를 가진 하나만 반영해야 순서가 뒤바뀌지 않는다.
+     */
+    boolean acquireFlushLease(Duration ttl);
+
+    /**
+     * 반영할 기록을 기록 순서대로 최대 limit 건 가져온다. 이전 담당이 가져갔다가 마치지 못한 기록도 포함한다.
+     */
+    List<Entry> poll(int limit);
+
+    /**
+     * 반영이 끝난 기록을 지운다. 그 사이 같은 예시에 새 수정이 기록되었으면 그 값은 보류 상태로 남는다.
+     */
+    void complete(List<Entry> entries);
+
+    /**
+     * 아직 반영되지 않은 기록 수
+     */
+    long backlog();
+
+    /**
+     * @param recordId   버퍼 안에서의 기록 ID (기록 순서대로 증가한다)
+     * @param recordedAt 기록된 시각 (epoch millis)
+     */
+    record Entry(String recordId, long exampleId, String description, long recordedAt) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.loopers.domain.ranking;
+
+public record RankingEntry(Long exampleId, double score) {
+}
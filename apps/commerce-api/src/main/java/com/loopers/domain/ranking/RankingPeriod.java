@@ -0,0 +1,29 @@
+package com.loopers.domain.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 랭킹 집계 구간. 최근 {@code buckets} 개의 버킷을 반감기 {@code halfLife} 로 감쇠시켜 합산한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RankingPeriod {
+    HOURLY(ChronoUnit.HOURS, 24, Duration.ofHours(6)),
+    DAILY(ChronoUnit.DAYS, 7, Duration.ofDays(2));
+
+    private final ChronoUnit bucketUnit;
+    private final int buckets;
+    private final Duration halfLife;
+
+    /**
+     * 현재 버킷으로부터 {@code age} 번째 이전 버킷의 가중치.
+     */
+    public double weight(int age) {
+        double elapsed = bucketUnit.getDuration().multipliedBy(age).toMillis();
+        return Math.pow(0.5, elapsed / halfLife.toMillis());
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.ranking;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface RankingRepository {
+    /**
+     * {@code now} 기준으로 감쇠를 적용한 상위 {@code limit} 개를 점수 내림차순으로 돌려준다.
+     */
+    List<RankingEntry> findTop(RankingPeriod period, ZonedDateTime now, int limit);
+}
@@ -0,0 +1,57 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상위 {@link #MAX_RANK} 위까지를 구간별로 짧게 캐시해 두고, 페이지는 캐시된 스냅샷에서 잘라 준다.
+ * 랭킹은 몇 초 늦어도 괜찮으므로, 트래픽이 몰려도 Redis 조회는 인스턴스당 구간별 {@link #SNAPSHOT_TTL} 에 한 번으로 제한된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class RankingService {
+    public static final int MAX_RANK = 1000;
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final Duration SNAPSHOT_TTL = Duration.ofSeconds(5);
+
+    private final RankingRepository rankingRepository;
+    private final Map<RankingPeriod, Snapshot> snapshots = new EnumMap<>(RankingPeriod.class);
+
+    public List<RankingEntry> getRanking(RankingPeriod period, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "page 는 0 이상, size 는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        List<RankingEntry> entries = snapshot(period).entries();
+        int from = (int) Math.min((long) page * size, entries.size());
+        int to = Math.min(from + size, entries.size());
+        return entries.subList(from, to);
+    }
+
+    private Snapshot snapshot(RankingPeriod period) {
+        long now = System.nanoTime();
+        synchronized (snapshots) {
+            Snapshot snapshot = snapshots.get(period);
+            if (snapshot != null && now < snapshot.expiresAt()) {
+                return snapshot;
+            }
+        }
+        // 만료 직후 동시에 들어온 요청은 각자 다시 읽을 수 있지만, 결과가 같으므로 잠금을 오래 잡지 않는다.
+        List<RankingEntry> entries = List.copyOf(rankingRepository.findTop(period, ZonedDateTime.now(), MAX_RANK));
+        Snapshot refreshed = new Snapshot(entries, System.nanoTime() + SNAPSHOT_TTL.toNanos());
+        synchronized (snapshots) {
+            snapshots.put(period, refreshed);
+        }
+        return refreshed;
+    }
+
+    private record Snapshot(List<RankingEntry> entries, long expiresAt) {
+    }
+}
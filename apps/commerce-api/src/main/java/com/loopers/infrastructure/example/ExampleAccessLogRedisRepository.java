@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.hedge.HedgedRedisReader;
+import com.loopers.domain.example.ExampleAccessLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 기록을 시간 단위 ZSET({@code example:access:yyyyMMddHH})에 남긴다.
+ * <p>
+ * 요청 경로에서 Redis 를 호출하지 않도록 {@link #SAMPLE_RATE} 로 표본만 메모리에 모으고, 주기적으로 pipeline ZINCRBY 로 반영한다.
+ * 버킷은 상위 {@link #MAX_MEMBERS} 개만 남겨 크기를 제한한다.
+ * 조회는 {@link HedgedRedisReader} 로 읽어, replica 하나가 느려져도 master 응답으로 끝낸다.
+ */
+@Slf4j
+@Component
+public class ExampleAccessLogRedisRepository implements ExampleAccessLog {
+    static final String KEY_PREFIX = "example:access:";
+    static final DateTimeFormatter HOURLY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    static final Duration TTL = Duration.ofHours(3);
+    static final int MAX_MEMBERS = 10_000;
+    private static final double SAMPLE_RATE = 0.1;
+    private static final String READ_OPERATION = "example-access-log";
+
+    private final HedgedRedisReader hedgedRedisReader;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final double sampleRate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ExampleAccessLogRedisRepository(
+        HedgedRedisReader hedgedRedisReader,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this(hedgedRedisReader, masterRedisTemplate, SAMPLE_RATE);
+    }
+
+    ExampleAccessLogRedisRepository(
+        HedgedRedisReader hedgedRedisReader,
+        RedisTemplate<String, String> masterRedisTemplate,
+        double sampleRate
+    ) {
+        this.hedgedRedisReader = hedgedRedisReader;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void record(Long exampleId) {
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            pending.computeIfAbsent(exampleId, id -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public List<Long> findHottest(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        Map<Long, Double> scores = new HashMap<>();
+        for (ZonedDateTime at : List.of(now, now.minusHours(1))) {
+            String key = key(at);
+            Set<ZSetOperations.TypedTuple<String>> tuples = hedgedRedisReader.read(READ_OPERATION,
+                operations -> operations.opsForZSet().reverseRangeWithScores(key, 0, limit - 1));
+            if (tuples == null) {
+                continue;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                scores.merge(Long.valueOf(tuple.getValue()), tuple.getScore() == null ? 0 : tuple.getScore(), Double::sum);
+            }
+        }
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        pending.keySet().forEach(id -> {
+            LongAdder adder = pending.remove(id);
+            if (adder != null) {
+                counts.put(id, adder.sum());
+            }
+        });
+
+        byte[] key = key(ZonedDateTime.now()).getBytes(StandardCharsets.UTF_8);
+        try {
+            masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                RedisZSetCommands zSetCommands = connection.zSetCommands();
+                counts.forEach((id, count) ->
+                    zSetCommands.zIncrBy(key, count, Long.toString(id).getBytes(StandardCharsets.UTF_8)));
+                zSetCommands.zRemRange(key, 0, -(MAX_MEMBERS + 1));
+                connection.keyCommands().expire(key, TTL.toSeconds());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 워밍업 참고용 기록이므로 유실돼도 괜찮다.
+            log.warn("예시 조회 기록 반영에 실패했습니다. (keys = {})", counts.size(), e);
+        }
+    }
+
+    private String key(ZonedDateTime at) {
+        return KEY_PREFIX + HOURLY_FORMAT.format(at);
+    }
+}
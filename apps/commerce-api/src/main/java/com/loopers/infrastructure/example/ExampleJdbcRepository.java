@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.domain.example.ExampleModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 배치로 묶지 못하므로, 대량 저장은 JDBC 배치로 직접 수행한다.
+ * 현재 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ExampleJdbcRepository {
+    private static final String INSERT_SQL =
+        "INSERT INTO example (name, description, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_ALL_SQL =
+        "SELECT id, name, description FROM example WHERE deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertAll(List<ExampleModel> examples) {
+        if (examples.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            // timezone.default_storage: NORMALIZE_UTC 와 동일하게 UTC 로 저장한다.
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (ExampleModel example : examples) {
+                    statement.setString(1, example.getName());
+                    statement.setString(2, example.getDescription());
+                    statement.setObject(3, now);
+                    statement.setObject(4, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>(examples.size());
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        ids.add(generatedKeys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 삭제되지 않은 예시를 한 행씩 읽어 넘긴다. 결과 전체를 메모리에 올리지 않도록 fetchSize 로 스트리밍한다.
+     */
+    public void forEachExample(int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    SELECT_ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSize);
+                return statement;
+            },
+            handler
+        );
+    }
+}
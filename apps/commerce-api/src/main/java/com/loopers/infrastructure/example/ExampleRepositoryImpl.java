@@ -1,19 +1,77 @@
 package com.loopers.infrastructure.example;
 
+import com.loopers.config.jpa.batch.MicroBatchLoader;
+import com.loopers.config.jpa.batch.MicroBatchLoaders;
 import com.loopers.domain.example.ExampleModel;
 import com.loopers.domain.example.ExampleRepository;
-import lombok.RequiredArgsConstructor;
+import com.loopers.domain.example.QExampleModel;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 @Component
 public class ExampleRepositoryImpl implements ExampleRepository {
     private final ExampleJpaRepository exampleJpaRepository;
+    private final ExampleJdbcRepository exampleJdbcRepository;
+    private final ExampleScanRepository exampleScanRepository;
+    private final JPAQueryFactory queryFactory;
+    private final MicroBatchLoader<Long, ExampleModel> exampleLoader;
 
+    public ExampleRepositoryImpl(
+        ExampleJpaRepository exampleJpaRepository,
+        ExampleJdbcRepository exampleJdbcRepository,
+        ExampleScanRepository exampleScanRepository,
+        JPAQueryFactory queryFactory,
+        MicroBatchLoaders microBatchLoaders
+    ) {
+        this.exampleJpaRepository = exampleJpaRepository;
+        this.exampleJdbcRepository = exampleJdbcRepository;
+        this.exampleScanRepository = exampleScanRepository;
+        this.queryFactory = queryFactory;
+        this.exampleLoader = microBatchLoaders.create("example", this::findAllByIdIn);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션에서는 동시에 들어온 단건 조회를 하나의 IN 조회로 합친다.
+     * 합쳐진 엔티티는 다른 스레드의 영속성 컨텍스트에 속하므로, 수정 가능한 트랜잭션에서는 기존처럼 단건 조회한다.
+     */
     @Override
     public Optional<ExampleModel> find(Long id) {
+        if (exampleLoader.isEnabled() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return exampleLoader.load(id);
+        }
         return exampleJpaRepository.findById(id);
     }
+
+    @Override
+    public List<ExampleModel> findAll(Collection<Long> ids) {
+        return exampleJpaRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Long> saveAll(List<ExampleModel> examples) {
+        return exampleJdbcRepository.insertAll(examples);
+    }
+
+    @Override
+    public void forEach(Consumer<ExampleModel> action) {
+        exampleScanRepository.forEachExample(action);
+    }
+
+    private Map<Long, ExampleModel> findAllByIdIn(Collection<Long> ids) {
+        QExampleModel example = QExampleModel.exampleModel;
+        return queryFactory.selectFrom(example)
+            .where(example.id.in(ids))
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(ExampleModel::getId, Function.identity()));
+    }
 }
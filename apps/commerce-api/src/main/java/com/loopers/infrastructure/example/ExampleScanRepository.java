@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * 예시 전체를 ID 순서대로 훑는다. 테이블 크기와 관계없이 메모리 사용량이 일정하도록,
+ * <ul>
+ *     <li>영속성 컨텍스트가 없는 {@link StatelessSession} 으로 읽어, 넘긴 엔티티를 아무도 붙잡고 있지 않는다.</li>
+ *     <li>fetchSize {@link Integer#MIN_VALUE} 로 MySQL 드라이버가 결과를 한 행씩 스트리밍한다. (forward-only)
+ *     소비자가 느리면 소켓 버퍼가 차서 서버도 그만큼 천천히 보낸다.</li>
+ * </ul>
+ * 스트리밍 중인 결과를 닫으면 드라이버가 남은 행을 끝까지 읽어 버리므로, 도중에 실패하면(클라이언트 연결 끊김 등)
+ * 커넥션을 abort 하고 풀에서 제거한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExampleScanRepository {
+    private static final String SELECT_ALL_HQL = "from ExampleModel e where e.deletedAt is null order by e.id";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    public void forEachExample(Consumer<ExampleModel> action) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        try (Connection connection = dataSource.getConnection()) {
+            boolean completed = false;
+            try {
+                StatelessSession session = sessionFactory.withStatelessOptions().connection(connection).openStatelessSession();
+                ScrollableResults<ExampleModel> rows = session.createSelectionQuery(SELECT_ALL_HQL, ExampleModel.class)
+                    .setFetchSize(Integer.MIN_VALUE)
+                    .scroll(ScrollMode.FORWARD_ONLY);
+                while (rows.next()) {
+                    action.accept(rows.get());
+                }
+                completed = true;
+                rows.close();
+                session.close();
+            } finally {
+                if (!completed) {
+                    abort(connection);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("예시를 훑는 커넥션을 열거나 닫지 못했습니다.", e);
+        }
+    }
+
+    private void abort(Connection connection) {
+        try {
+            connection.abort(Runnable::run);
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+            }
+        } catch (SQLException e) {
+            log.warn("중단된 스캔의 커넥션을 정리하지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.domain.example.ExampleChangedEvent;
+import com.loopers.domain.example.ExampleSearchIndex;
+import com.loopers.support.search.InvertedIndex;
+import com.loopers.support.search.SearchIndexProperties;
+import com.loopers.support.search.SearchQuery;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예시 이름/설명의 메모리 역색인.
+ * <p>
+ * 기동 시(readiness 전) example 테이블을 스트리밍으로 읽어 색인을 만들고, 이후에는 커밋된 {@link ExampleChangedEvent} 로 갱신한다.
+ * 적재 중에 들어온 변경은 모아 두었다가 적재가 끝난 뒤 반영해, 먼저 읽은 이전 값이 새 값을 덮어쓰지 않게 한다.
+ * 삭제된 예시는 색인에 남아 있어도 조회 단계에서 제외된다.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class ExampleSearchIndexImpl implements ExampleSearchIndex, ApplicationRunner {
+    private final ExampleJdbcRepository exampleJdbcRepository;
+    private final SearchIndexProperties properties;
+    private final InvertedIndex index;
+    private final Timer queries;
+
+    private final Object loadLock = new Object();
+    private boolean loading = true;
+    private final List<ExampleChangedEvent> pending = new ArrayList<>();
+
+    public ExampleSearchIndexImpl(
+        ExampleJdbcRepository exampleJdbcRepository,
+        SearchIndexProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.exampleJdbcRepository = exampleJdbcRepository;
+        this.properties = properties;
+        this.index = new InvertedIndex(properties.enabled() ? properties.expectedDocuments() : 16);
+        this.queries = Timer.builder("search.index.query")
+            .tag("index", "example")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("search.index.documents", index, InvertedIndex::size)
+            .tag("index", "example")
+            .register(meterRegistry);
+        Gauge.builder("search.index.terms", index, InvertedIndex::termCount)
+            .tag("index", "example")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        SearchQuery parsed = SearchQuery.parse(query);
+        return queries.record(() -> index.search(parsed, limit).stream()
+            .map(InvertedIndex.Hit::id)
+            .toList());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        exampleJdbcRepository.forEachExample(properties.loadFetchSize(), rs ->
+            index.put(rs.getLong("id"), rs.getString("name"), rs.getString("description"))
+        );
+
+        synchronized (loadLock) {
+            pending.forEach(this::apply);
+            pending.clear();
+            loading = false;
+        }
+        log.info("예시 검색 색인을 만들었습니다. (documents = {}, terms = {}, ~{}MB, {}ms)",
+            index.size(), index.termCount(), index.estimatedBytes() >> 20, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void on(ExampleChangedEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (loading) {
+                pending.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(ExampleChangedEvent event) {
+        for (ExampleChangedEvent.Changed example : event.examples()) {
+            index.put(example.id(), example.name(), example.description());
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.example.ExampleWriteBuffer;
+import com.loopers.support.writebehind.WriteBehindProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예시 설명 수정을 master 의 Redis Stream({@code example:write-behind:{wb}:log})에 쌓고,
+ * 예시별 마지막 미반영 값을 Hash({@code example:write-behind:{wb}:pending}, 값은 {@code <기록 ID>|<설명>})에 둔다.
+ * <p>
+ * 두 키는 Lua 로 함께 바꾸므로 기록과 미반영 값이 어긋나지 않는다. (같은 hash tag 라 cluster 에서도 한 slot 이다)
+ * 반영은 consumer group 으로 가져오고, 끝나면 XACK + XDEL 한다. 담당이 죽어 확인되지 않은 기록은 다음 담당이 XCLAIM 으로 가져간다.
+ * 미반영 값은 read-your-writes 를 위해 replica 가 아니라 master 에서 읽는다.
+ */
+@Slf4j
+@Component
+public class ExampleWriteBufferRedisRepository implements ExampleWriteBuffer {
+    private static final String LOG_KEY = "example:write-behind:{wb}:log";
+    private static final String PENDING_KEY = "example:write-behind:{wb}:pending";
+    private static final String LEASE_KEY = "example:write-behind:{wb}:lease";
+    private static final String GROUP = "example-write-behind";
+    private static final String SEPARATOR = "|";
+
+    /** ARGV 는 (예시 ID, 설명) 쌍을 기록할 순서대로 나열한다 */
+    private static final RedisScript<Long> APPEND = RedisScript.of("""
+        for i = 1, #ARGV, 2 do
+            local recordId = redis.call('XADD', KEYS[1], '*', 'id', ARGV[i], 'description', ARGV[i + 1])
+            redis.call('HSET', KEYS[2], ARGV[i], recordId .. '|' .. ARGV[i + 1])
+        end
+        return #ARGV / 2
+        """, Long.class);
+
+    /** ARGV[1] = group, ARGV[2] = n, 이후 n 쌍의 (예시 ID, 마지막 기록 ID), 나머지는 확인할 기록 ID */
+    private static final RedisScript<Long> COMPLETE = RedisScript.of("""
+        local n = tonumber(ARGV[2])
+        for i = 0, n - 1 do
+            local id = ARGV[3 + i * 2]
+            local prefix = ARGV[4 + i * 2] .. '|'
+            local current = redis.call('HGET', KEYS[2], id)
+            if current and string.sub(current, 1, #prefix) == prefix then
+                redis.call('HDEL', KEYS[2], id)
+            end
+        end
+        local recordIds = {}
+        for i = 3 + n * 2, #ARGV do
+            recordIds[#recordIds + 1] = ARGV[i]
+        end
+        if #recordIds > 0 then
+            redis.call('XACK', KEYS[1], ARGV[1], unpack(recordIds))
+            redis.call('XDEL', KEYS[1], unpack(recordIds))
+        end
+        return #recordIds
+        """, Long.class);
+
+    private static final RedisScript<Long> LEASE = RedisScript.of("""
+        if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+            return 1
+        end
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final WriteBehindProperties properties;
+    private final String consumerName;
+    private volatile boolean groupCreated;
+
+    public ExampleWriteBufferRedisRepository(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        WriteBehindProperties properties
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.properties = properties;
+        this.consumerName = System.getenv().getOrDefault("HOSTNAME", "local") + "-" + ProcessHandle.current().pid();
+    }
+
+    @Override
+    public void append(Long id, String description) {
+        masterRedisTemplate.execute(APPEND, List.of(LOG_KEY, PENDING_KEY), Long.toString(id), description);
+    }
+
+    @Override
+    public void appendAll(Map<Long, String> descriptions) {
+        if (descriptions.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(descriptions.size() * 2);
+        descriptions.forEach((id, description) -> {
+            args.add(Long.toString(id));
+            args.add(description);
+        });
+        masterRedisTemplate.execute(APPEND, List.of(LOG_KEY, PENDING_KEY), args.toArray());
+    }
+
+    @Override
+    public Map<Long, String> findPending(Collection<Long> ids) {
+        if (!properties.enabled() || ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> fields = new ArrayList<>(ids.size());
+        ids.forEach(id -> fields.add(Long.toString(id)));
+        List<Object> values = masterRedisTemplate.opsForHash().multiGet(PENDING_KEY, fields);
+
+        Map<Long, String> pending = new HashMap<>();
+        int i = 0;
+        for (Long id : ids) {
+            Object value = values.get(i++);
+            if (value != null) {
+                String encoded = value.toString();
+                pending.put(id, encoded.substring(encoded.indexOf(SEPARATOR) + 1));
+            }
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean acquireFlushLease(Duration ttl) {
+        Long acquired = masterRedisTemplate.execute(LEASE, List.of(LEASE_KEY), consumerName, Long.toString(ttl.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    /**
+     * 내가 가져갔다가 확인하지 못한 기록, 이전 담당이 남긴 기록, 새 기록 순으로 채운다.
+     * 이전 담당의 기록이 아직 {@code claimIdle} 이 지나지 않아 가져올 수 없으면, 순서가 뒤바뀌지 않도록 새 기록은 읽지 않는다.
+     */
+    @Override
+    public List<Entry> poll(int limit) {
+        ensureGroup();
+        try {
+            return read(limit);
+        } catch (DataAccessException e) {
+            // 스트림이 지워지면 group 도 함께 사라지므로, 다시 만들고 한 번 더 읽는다
+            if (e.getMessage() == null || !e.getMessage().contains("NOGROUP")) {
+                throw e;
+            }
+            groupCreated = false;
+            ensureGroup();
+            return read(limit);
+        }
+    }
+
+    private List<Entry> read(int limit) {
+        StreamOperations<String, Object, Object> stream = masterRedisTemplate.opsForStream();
+        Consumer consumer = Consumer.from(GROUP, consumerName);
+        List<MapRecord<String, Object, Object>> records = new ArrayList<>(
+            nullToEmpty(stream.read(consumer, StreamReadOptions.empty().count(limit), StreamOffset.create(LOG_KEY, ReadOffset.from("0"))))
+        );
+        boolean othersPending = false;
+        if (records.size() < limit) {
+            othersPending = claimAbandoned(stream, limit - records.size(), records);
+        }
+        if (records.size() < limit && !othersPending) {
+            records.addAll(nullToEmpty(stream.read(
+                consumer, StreamReadOptions.empty().count(limit - records.size()), StreamOffset.create(LOG_KEY, ReadOffset.lastConsumed())
+            )));
+        }
+
+        List<Entry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            entries.add(new Entry(
+                record.getId().getValue(),
+                Long.parseLong(value.get("id").toString()),
+                value.get("description").toString(),
+                record.getId().getTimestamp()
+            ));
+        }
+        entries.sort(Comparator.comparing((Entry e) -> RecordId.of(e.recordId()).getTimestamp())
+            .thenComparing(e -> RecordId.of(e.recordId()).getSequence()));
+        return entries;
+    }
+
+    @Override
+    public void complete(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        // 예시마다 마지막 기록만 남긴다 (entries 는 기록 순서)
+        Map<Long, String> lastRecordIds = new LinkedHashMap<>();
+        entries.forEach(entry -> lastRecordIds.put(entry.exampleId(), entry.recordId()));
+
+        List<String> args = new ArrayList<>(2 + lastRecordIds.size() * 2 + entries.size());
+        args.add(GROUP);
+        args.add(Integer.toString(lastRecordIds.size()));
+        lastRecordIds.forEach((id, recordId) -> {
+            args.add(Long.toString(id));
+            args.add(recordId);
+        });
+        entries.forEach(entry -> args.add(entry.recordId()));
+        masterRedisTemplate.execute(COMPLETE, List.of(LOG_KEY, PENDING_KEY), args.toArray());
+    }
+
+    @Override
+    public long backlog() {
+        Long size = masterRedisTemplate.opsForStream().size(LOG_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 다른 consumer 에게 전달되었지만 확인되지 않은 기록 중 {@code claimIdle} 이 지난 것을 records 에 더한다.
+     *
+     * @return 아직 가져올 수 없는 다른 consumer 의 기록이 남아 있으면 true
+     */
+    private boolean claimAbandoned(StreamOperations<String, Object, Object> stream, int limit, List<MapRecord<String, Object, Object>> records) {
+        PendingMessages pending = stream.pending(LOG_KEY, GROUP, Range.unbounded(), limit);
+        List<RecordId> abandoned = new ArrayList<>();
+        boolean othersPending = false;
+        for (PendingMessage message : pending) {
+            if (consumerName.equals(message.getConsumerName())) {
+                continue;
+            }
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(properties.claimIdle()) >= 0) {
+                abandoned.add(message.getId());
+            } else {
+                othersPending = true;
+            }
+        }
+        if (!abandoned.isEmpty()) {
+            log.info("이전 담당이 반영하지 못한 예시 수정 기록을 가져옵니다. (count = {})", abandoned.size());
+            records.addAll(nullToEmpty(
+                stream.claim(LOG_KEY, GROUP, consumerName, properties.claimIdle(), abandoned.toArray(RecordId[]::new))
+            ));
+        }
+        return othersPending;
+    }
+
+    private void ensureGroup() {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            masterRedisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection));
+        } catch (DataAccessException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+
+    private static String createGroup(RedisConnection connection) {
+        return connection.streamCommands()
+            .xGroupCreate(LOG_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true);
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
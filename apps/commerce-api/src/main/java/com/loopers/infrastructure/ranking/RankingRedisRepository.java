@@ -0,0 +1,87 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.ranking.RankingEntry;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.domain.ranking.RankingRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * commerce-streamer 가 쌓는 시간/일 단위 버킷 ZSET 을 감쇠 가중치로 합산해 랭킹을 만든다.
+ * <p>
+ * 합산 결과는 분 단위 키({@code ranking:example:union:<period>:<epochMinute>})로 master 에 ZUNIONSTORE 해 두고,
+ * 같은 분 안의 조회는 모든 인스턴스가 replica 에서 읽는다. replica 에 아직 없을 때만 master 에서 합산한다.
+ */
+@Component
+public class RankingRedisRepository implements RankingRepository {
+    /** 버킷 키 형식은 commerce-streamer 의 ExampleRankingRepositoryImpl 과 맞춰야 한다. */
+    private static final String HOURLY_KEY_PREFIX = "ranking:example:hourly:";
+    private static final String DAILY_KEY_PREFIX = "ranking:example:daily:";
+    private static final DateTimeFormatter HOURLY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAILY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String UNION_KEY_PREFIX = "ranking:example:union:";
+    private static final Duration UNION_TTL = Duration.ofMinutes(5);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RankingRedisRepository(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public List<RankingEntry> findTop(RankingPeriod period, ZonedDateTime now, int limit) {
+        String unionKey = UNION_KEY_PREFIX + period.name().toLowerCase() + ":" + now.toEpochSecond() / 60;
+
+        Set<ZSetOperations.TypedTuple<String>> cached = redisTemplate.opsForZSet().reverseRangeWithScores(unionKey, 0, limit - 1);
+        if (cached != null && !cached.isEmpty()) {
+            return toEntries(cached);
+        }
+
+        List<String> bucketKeys = new ArrayList<>(period.getBuckets());
+        double[] weights = new double[period.getBuckets()];
+        for (int age = 0; age < period.getBuckets(); age++) {
+            bucketKeys.add(bucketKey(period, now.minus(age, period.getBucketUnit())));
+            weights[age] = period.weight(age);
+        }
+
+        ZSetOperations<String, String> master = masterRedisTemplate.opsForZSet();
+        master.unionAndStore(bucketKeys.getFirst(), bucketKeys.subList(1, bucketKeys.size()), unionKey, Aggregate.SUM, Weights.of(weights));
+        masterRedisTemplate.expire(unionKey, UNION_TTL);
+        return toEntries(master.reverseRangeWithScores(unionKey, 0, limit - 1));
+    }
+
+    private String bucketKey(RankingPeriod period, ZonedDateTime at) {
+        return switch (period) {
+            case HOURLY -> HOURLY_KEY_PREFIX + HOURLY_FORMAT.format(at);
+            case DAILY -> DAILY_KEY_PREFIX + DAILY_FORMAT.format(at);
+        };
+    }
+
+    private List<RankingEntry> toEntries(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (tuples == null) {
+            return List.of();
+        }
+        List<RankingEntry> entries = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            entries.add(new RankingEntry(Long.valueOf(tuple.getValue()), tuple.getScore() == null ? 0 : tuple.getScore()));
+        }
+        return entries;
+    }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -16,6 +18,8 @@ import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -23,9 +27,31 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 @Slf4j
 public class ApiControllerAdvice {
+    private static final Pattern QUOTED_PARAMETER = Pattern.compile("'(.+?)'");
+
+    /** 기본 메시지를 쓰는 실패 응답은 ErrorType 별로 한 번만 만든다. (ApiResponse 는 불변) */
+    private final Map<ErrorType, ResponseEntity<ApiResponse<?>>> defaultResponses = new EnumMap<>(ErrorType.class);
+    private final Map<ErrorType, Counter> errorCounters = new EnumMap<>(ErrorType.class);
+    private final ErrorLogSampler errorLogSampler = new ErrorLogSampler();
+
+    public ApiControllerAdvice(MeterRegistry meterRegistry) {
+        for (ErrorType errorType : ErrorType.values()) {
+            defaultResponses.put(errorType, ResponseEntity.status(errorType.getStatus())
+                .body(ApiResponse.fail(errorType.getCode(), errorType.getMessage())));
+            errorCounters.put(errorType, Counter.builder("api.errors")
+                .description("ErrorType 별 실패 응답 수")
+                .tag("type", errorType.name())
+                .register(meterRegistry));
+        }
+    }
+
     @ExceptionHandler
     public ResponseEntity<ApiResponse<?>> handle(CoreException e) {
-        log.warn("CoreException : {}", e.getCustomMessage() != null ? e.getCustomMessage() : e.getMessage(), e);
+        if (e.getErrorType().isExpected()) {
+            errorLogSampler.log(e.getErrorType(), e.getMessage());
+        } else {
+            log.error("CoreException : {}", e.getMessage(), e);
+        }
         return failureResponse(e.getErrorType(), e.getCustomMessage());
     }
 
@@ -114,13 +140,16 @@ public class ApiControllerAdvice {
     }
 
     private String extractMissingParameter(String message) {
-        Pattern pattern = Pattern.compile("'(.+?)'");
-        Matcher matcher = pattern.matcher(message);
+        Matcher matcher = QUOTED_PARAMETER.matcher(message);
         return matcher.find() ? matcher.group(1) : "";
     }
 
     private ResponseEntity<ApiResponse<?>> failureResponse(ErrorType errorType, String errorMessage) {
+        errorCounters.get(errorType).increment();
+        if (errorMessage == null) {
+            return defaultResponses.get(errorType);
+        }
         return ResponseEntity.status(errorType.getStatus())
-            .body(ApiResponse.fail(errorType.getCode(), errorMessage != null ? errorMessage : errorType.getMessage()));
+            .body(ApiResponse.fail(errorType.getCode(), errorMessage));
     }
 }
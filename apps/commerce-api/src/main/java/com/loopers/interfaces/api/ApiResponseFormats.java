@@ -0,0 +1,101 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link ApiResponse} 의 응답 형식. JSON 외에 내부 호출용 바이너리 형식(CBOR, Smile, protobuf)을 Accept 로 고를 수 있다.
+ * <p>
+ * CBOR/Smile 컨버터는 JacksonConfig 가 기본 컨버터를 대체해 등록하고, protobuf 컨버터는 여기서 목록의 맨 뒤에 붙인다.
+ * (앞에 두면 Accept 가 없거나 {@code *}/{@code *} 인 요청도 protobuf 로 응답하게 된다)
+ * 컨트롤러를 거치지 않는 필터의 실패 응답은 {@link #preEncode} 로 형식별 본문을 미리 만들어 같은 규칙으로 고른다.
+ */
+@Component
+public class ApiResponseFormats implements WebMvcConfigurer {
+    private final ObjectMapper jsonMapper;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+    private final ProtobufApiResponseConverter protobufConverter;
+
+    public ApiResponseFormats(
+        ObjectMapper objectMapper,
+        MappingJackson2CborHttpMessageConverter cborConverter,
+        MappingJackson2SmileHttpMessageConverter smileConverter,
+        Jackson2ObjectMapperBuilder builder
+    ) {
+        this.jsonMapper = objectMapper;
+        this.cborConverter = cborConverter;
+        this.smileConverter = smileConverter;
+        this.protobufConverter = new ProtobufApiResponseConverter(builder);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(protobufConverter);
+    }
+
+    /**
+     * 응답을 모든 형식으로 미리 인코딩한다. 첫 번째(JSON)가 기본 형식이다.
+     */
+    public PreEncoded preEncode(ApiResponse<?> response) throws JsonProcessingException {
+        return new PreEncoded(List.of(
+            new Body(MediaType.APPLICATION_JSON, jsonMapper.writeValueAsBytes(response)),
+            new Body(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper().writeValueAsBytes(response)),
+            new Body(smileConverter.getSupportedMediaTypes().get(0), smileConverter.getObjectMapper().writeValueAsBytes(response)),
+            new Body(ProtobufApiResponseConverter.APPLICATION_PROTOBUF, protobufConverter.encodeFailure(response))
+        ));
+    }
+
+    public record Body(MediaType mediaType, byte[] bytes) {
+    }
+
+    public record PreEncoded(List<Body> bodies) {
+        /**
+         * Accept 에서 품질값이 높은 순으로, 받을 수 있는 첫 형식을 고른다. 맞는 형식이 없거나 Accept 를 읽을 수 없으면 JSON 이다.
+         * 파라미터가 없는 흔한 Accept 만 파싱 없이 JSON 으로 보낸다. ({@code application/json;q=0} 처럼 JSON 을 거절할 수 있는 경우는 파싱한다)
+         */
+        public Body select(String accept) {
+            Body json = bodies.get(0);
+            if (accept == null || accept.isEmpty() || "*/*".equals(accept) || prefersJsonWithoutParameters(accept)) {
+                return json;
+            }
+            List<MediaType> accepted;
+            try {
+                accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            } catch (InvalidMediaTypeException e) {
+                return json;
+            }
+            accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType mediaType : accepted) {
+                if (mediaType.getQualityValue() == 0) {
+                    break;
+                }
+                for (Body body : bodies) {
+                    if (mediaType.includes(body.mediaType())) {
+                        return body;
+                    }
+                }
+            }
+            return json;
+        }
+
+        private static boolean prefersJsonWithoutParameters(String accept) {
+            int length = MediaType.APPLICATION_JSON_VALUE.length();
+            return accept.startsWith(MediaType.APPLICATION_JSON_VALUE)
+                && (accept.length() == length || accept.charAt(length) == ',')
+                && accept.indexOf(';') < 0;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.limit.AdaptiveConcurrencyLimiter;
+import com.loopers.support.limit.ConcurrencyLimitProperties;
+import com.loopers.support.limit.RequestPriority;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 컨트롤러 앞에서 {@link AdaptiveConcurrencyLimiter} 의 한도를 적용한다.
+ * <p>
+ * 한도를 넘은 요청은 스레드와 커넥션을 기다리며 쌓이지 않도록 바로 503 으로 거절한다.
+ * 응답 본문은 형식(Accept)별로 미리 직렬화해두고, {@link ApiControllerAdvice} 와 같은 형식을 쓴다.
+ * 비동기로 처리되는 요청(StreamingResponseBody 등)은 응답이 끝날 때 자리를 반환한다.
+ * <p>
+ * 등급은 경로로만 나눈다. 클라이언트가 보내는 헤더로 나누면 외부 요청이 헤더를 붙여 내부 몫을 쓸 수 있다.
+ * actuator 는 management 포트(8081)에서 서빙되어 이 필터를 거치지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ApiResponseFormats.PreEncoded rejectedBody;
+
+    public ConcurrencyLimitFilter(
+        AdaptiveConcurrencyLimiter limiter,
+        ConcurrencyLimitProperties properties,
+        ApiResponseFormats formats
+    ) throws JsonProcessingException {
+        this.limiter = limiter;
+        this.properties = properties;
+        this.rejectedBody = formats.preEncode(
+            ApiResponse.fail(ErrorType.SERVICE_UNAVAILABLE.getCode(), ErrorType.SERVICE_UNAVAILABLE.getMessage())
+        );
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        RequestPriority priority = priorityOf(request);
+        Optional<AdaptiveConcurrencyLimiter.Permit> acquired = limiter.tryAcquire(priority);
+        if (acquired.isEmpty()) {
+            reject(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = acquired.get();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                async = true;
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit));
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.release(true);
+            throw e;
+        } finally {
+            if (!async) {
+                permit.release(isDropped(response));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return matchesAny(properties.excludedPaths(), request.getRequestURI());
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    private RequestPriority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (matchesAny(properties.criticalPaths(), path)) {
+            return RequestPriority.CRITICAL;
+        }
+        if (matchesAny(properties.internalPaths(), path)) {
+            return RequestPriority.INTERNAL;
+        }
+        return RequestPriority.PUBLIC;
+    }
+
+    private boolean matchesAny(List<String> patterns, String path) {
+        if (patterns == null) {
+            return false;
+        }
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ApiResponseFormats.Body body = rejectedBody.select(request.getHeader(HttpHeaders.ACCEPT));
+        response.setStatus(ErrorType.SERVICE_UNAVAILABLE.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(body.mediaType().toString());
+        response.setContentLength(body.bytes().length);
+        response.getOutputStream().write(body.bytes());
+    }
+
+    private static boolean isDropped(HttpServletResponse response) {
+        return response.getStatus() >= 500;
+    }
+
+    private record ReleaseOnComplete(AdaptiveConcurrencyLimiter.Permit permit) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release(isDropped((HttpServletResponse) event.getSuppliedResponse()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예상된 에러의 로그를 ErrorType 별로 {@link #INTERVAL_NANOS} 에 한 줄로 제한한다.
+ * 그 사이 발생한 건수는 다음 로그에 함께 남겨, 로그를 줄여도 발생량은 알 수 있게 한다.
+ */
+@Slf4j
+class ErrorLogSampler {
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<ErrorType, Window> windows = new EnumMap<>(ErrorType.class);
+
+    ErrorLogSampler() {
+        for (ErrorType errorType : ErrorType.values()) {
+            windows.put(errorType, new Window());
+        }
+    }
+
+    void log(ErrorType errorType, String message) {
+        Window window = windows.get(errorType);
+        long now = System.nanoTime();
+        long last = window.loggedAt.get();
+        if (now - last < INTERVAL_NANOS || !window.loggedAt.compareAndSet(last, now)) {
+            window.suppressed.increment();
+            return;
+        }
+        long suppressed = window.suppressed.sumThenReset();
+        log.warn("CoreException [{}] : {} (직전 로그 이후 생략된 건수 = {})", errorType, message, suppressed);
+    }
+
+    private static final class Window {
+        /** 처음 발생한 에러는 바로 남기도록 충분히 과거로 둔다. */
+        private final AtomicLong loggedAt = new AtomicLong(System.nanoTime() - INTERVAL_NANOS);
+        private final LongAdder suppressed = new LongAdder();
+    }
+}
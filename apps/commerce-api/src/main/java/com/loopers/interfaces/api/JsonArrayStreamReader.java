@@ -0,0 +1,79 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON 배열 형태의 요청 본문을 전체를 버퍼링하지 않고 원소 단위로 읽어준다.
+ * 반환된 Stream 은 사용 후 반드시 닫아야 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class JsonArrayStreamReader {
+    private static final String INVALID_BODY_MESSAGE = "요청 본문을 처리하는 중 오류가 발생했습니다. JSON 메세지 규격을 확인해주세요.";
+
+    private final ObjectMapper objectMapper;
+
+    public <T> Stream<T> read(InputStream inputStream, Class<T> itemType) {
+        MappingIterator<T> items;
+        try {
+            items = objectMapper.readerFor(itemType).readValues(inputStream);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, INVALID_BODY_MESSAGE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Iterator<T> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return items.hasNext();
+                } catch (RuntimeException e) {
+                    throw translate(e);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return items.next();
+                } catch (RuntimeException e) {
+                    throw translate(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(() -> {
+                try {
+                    items.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    // MappingIterator 는 파싱/매핑 오류를 RuntimeException 으로 감싸서 던진다.
+    private RuntimeException translate(RuntimeException e) {
+        if (e instanceof RuntimeJsonMappingException || e.getCause() instanceof JsonProcessingException) {
+            return new CoreException(ErrorType.BAD_REQUEST, INVALID_BODY_MESSAGE);
+        }
+        return e;
+    }
+}
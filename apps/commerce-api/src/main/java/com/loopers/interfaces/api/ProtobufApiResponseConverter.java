@@ -0,0 +1,109 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ApiResponse} 를 protobuf 로 쓰는 컨버터. (Accept: application/x-protobuf)
+ * <p>
+ * .proto 를 따로 두지 않고, 컨트롤러가 선언한 응답 타입(ApiResponse&lt;T&gt;)에서 스키마를 만들어 타입별로 재사용한다.
+ * 필드 번호는 record 의 선언 순서를 따르므로 meta = 1, data = 2 이다.
+ * 데이터 타입을 알 수 없는 응답(실패 응답 등 ApiResponse&lt;?&gt;)은 meta 만 담은 스키마로 쓴다.
+ * 요청 본문은 읽지 않는다.
+ */
+public class ProtobufApiResponseConverter extends AbstractJackson2HttpMessageConverter {
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final ProtobufMapper mapper;
+    private final ProtobufSchema metadataOnlySchema;
+    private final Map<JavaType, Optional<ProtobufSchema>> schemas = new ConcurrentHashMap<>();
+
+    public ProtobufApiResponseConverter(Jackson2ObjectMapperBuilder builder) {
+        super(configured(builder), APPLICATION_PROTOBUF);
+        this.mapper = (ProtobufMapper) getObjectMapper();
+        try {
+            this.metadataOnlySchema = mapper.generateSchemaFor(MetadataOnly.class);
+        } catch (JsonMappingException e) {
+            throw new IllegalStateException("ApiResponse.Metadata 의 protobuf 스키마를 만들 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 실패 응답의 스키마. 필드 번호가 ApiResponse 의 meta 와 같다.
+     */
+    record MetadataOnly(ApiResponse.Metadata meta) {
+    }
+
+    private static ProtobufMapper configured(Jackson2ObjectMapperBuilder builder) {
+        ProtobufMapper mapper = new ProtobufMapper();
+        builder.configure(mapper);
+        return mapper;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return ApiResponse.class.isAssignableFrom(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    /**
+     * 스키마를 만들 수 없는 데이터 타입이면 false 를 돌려, 다른 형식으로 응답하거나 406 이 되게 한다.
+     */
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(clazz, mediaType)) {
+            return false;
+        }
+        return type == null || schemaFor(getJavaType(type, null)).isPresent();
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType, @Nullable JavaType javaType) {
+        return writer.with(javaType == null ? metadataOnlySchema : schemaFor(javaType).orElse(metadataOnlySchema));
+    }
+
+    /**
+     * 컨버터 밖(필터 등)에서 미리 만들어 두는 실패 응답 본문.
+     */
+    public byte[] encodeFailure(ApiResponse<?> response) throws JsonProcessingException {
+        return mapper.writer(metadataOnlySchema).writeValueAsBytes(response);
+    }
+
+    private Optional<ProtobufSchema> schemaFor(JavaType javaType) {
+        return schemas.computeIfAbsent(javaType, type -> {
+            JavaType[] parameters = type.findTypeParameters(ApiResponse.class);
+            if (parameters.length != 1 || parameters[0].hasRawClass(Object.class)) {
+                return Optional.of(metadataOnlySchema);
+            }
+            try {
+                return Optional.of(mapper.generateSchemaFor(type));
+            } catch (JsonMappingException e) {
+                logger.warn("protobuf 스키마를 만들 수 없는 응답 타입입니다: " + type, e);
+                return Optional.empty();
+            }
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package com.loopers.interfaces.api.example;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.loopers.application.example.ExampleInfo;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 예시 내보내기 형식. 행마다 바로 쓰고, 버퍼(8KB)가 차면 내보내므로 전체 결과를 메모리에 모으지 않는다.
+ */
+public enum ExampleExportFormat {
+    /** 한 줄에 예시 하나인 JSON ({@code {"id":1,"name":"...","description":"..."}}) */
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    /** RFC 4180. 첫 줄은 헤더이고, 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싼다. */
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExampleExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ExampleExportFormat from(String value) {
+        for (ExampleExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다. (ndjson, csv)");
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String filename() {
+        return "examples." + extension;
+    }
+
+    /**
+     * 닫아도 outputStream 은 닫지 않는다. (응답 스트림은 컨테이너가 닫는다)
+     */
+    public RowWriter writer(OutputStream outputStream, JsonFactory jsonFactory) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonWriter(jsonFactory.createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+            case CSV -> new CsvWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        };
+    }
+
+    public interface RowWriter extends Closeable {
+        void write(ExampleInfo example) throws IOException;
+    }
+
+    private record NdjsonWriter(JsonGenerator generator) implements RowWriter {
+        @Override
+        public void write(ExampleInfo example) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", example.id());
+            generator.writeStringField("name", example.name());
+            generator.writeStringField("description", example.description());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write("id,name,description\r\n");
+        }
+
+        @Override
+        public void write(ExampleInfo example) throws IOException {
+            writer.write(Long.toString(example.id()));
+            writer.write(',');
+            writeField(example.name());
+            writer.write(',');
+            writeField(example.description());
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
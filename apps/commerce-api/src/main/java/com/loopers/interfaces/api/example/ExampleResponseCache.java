@@ -0,0 +1,71 @@
+package com.loopers.interfaces.api.example;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.example.ExampleChangedEvent;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.cache.ResponseByteCache;
+import com.loopers.support.cache.ResponseCacheProperties;
+import com.loopers.support.hotkey.HotKeyDetector;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예시 단건 조회 응답({@link ApiResponse} 까지 감싼 JSON 바이트)의 캐시.
+ * <p>
+ * {@link HotKeyDetector} 가 hot key 로 판단한 예시만 담는다. 담을 때 한 번 더 직렬화하지만,
+ * 이후 TTL 동안의 조회는 {@link ExampleResponseCacheFilter} 가 컨트롤러와 Jackson 을 거치지 않고 바이트를 바로 내보낸다.
+ * 예시가 바뀌면 커밋된 {@link ExampleChangedEvent} 로 무효화한다. 조회 결과를 담는 로컬 hot key 캐시가 먼저 비워지도록 가장 나중에 처리한다.
+ */
+@Slf4j
+@Component
+public class ExampleResponseCache {
+    private final ResponseByteCache cache;
+    private final ResponseCacheProperties properties;
+    private final HotKeyDetector hotKeyDetector;
+    private final ObjectMapper objectMapper;
+
+    public ExampleResponseCache(
+        ResponseCacheProperties properties,
+        HotKeyDetector hotKeyDetector,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.cache = new ResponseByteCache("example", properties, meterRegistry);
+        this.properties = properties;
+        this.hotKeyDetector = hotKeyDetector;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 예시를 읽기 전에 호출해, 그 결과를 {@link #store} 할 때 넘긴다.
+     */
+    public long version(long exampleId) {
+        return cache.version(exampleId);
+    }
+
+    public void store(long exampleId, long version, ApiResponse<ExampleV1Dto.ExampleResponse> response) {
+        if (!properties.enabled() || !hotKeyDetector.isHot(exampleId)) {
+            return;
+        }
+        try {
+            cache.put(exampleId, version, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            log.warn("예시 응답을 캐시용으로 직렬화하지 못했습니다. (id = {})", exampleId, e);
+        }
+    }
+
+    public ResponseByteCache.Entry find(long exampleId) {
+        return cache.find(exampleId);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void on(ExampleChangedEvent event) {
+        event.examples().forEach(changed -> cache.invalidate(changed.id()));
+    }
+}
@@ -0,0 +1,135 @@
+package com.loopers.interfaces.api.example;
+
+import com.loopers.application.example.ExampleFacade;
+import com.loopers.support.cache.ResponseByteCache;
+import com.loopers.support.warmup.WarmupTraffic;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@code GET /api/v1/examples/{id}} 를 {@link ExampleResponseCache} 에 담긴 바이트로 바로 응답한다.
+ * <p>
+ * 캐시에 없거나, JSON 이 아닌 응답을 요청했으면 그대로 컨트롤러로 넘긴다.
+ * gzip 사본이 있고 클라이언트가 gzip 을 받으면 압축된 바이트를 내보낸다.
+ * 조회 기록과 hot key 탐지는 캐시에서 응답한 경우에도 남긴다. (워밍업 재생 요청은 남기지 않는다)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "response-cache.enabled", havingValue = "true")
+public class ExampleResponseCacheFilter extends OncePerRequestFilter {
+    private static final String PATH_PREFIX = "/api/v1/examples/";
+    /** Long 범위를 넘지 않는 자릿수 */
+    private static final int MAX_ID_DIGITS = 18;
+    private static final String GZIP = "gzip";
+
+    private final ExampleResponseCache responseCache;
+    private final ExampleFacade exampleFacade;
+    private final WarmupTraffic warmupTraffic;
+
+    public ExampleResponseCacheFilter(ExampleResponseCache responseCache, ExampleFacade exampleFacade, WarmupTraffic warmupTraffic) {
+        this.responseCache = responseCache;
+        this.exampleFacade = exampleFacade;
+        this.warmupTraffic = warmupTraffic;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || parseId(request.getRequestURI()) < 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        long id = parseId(request.getRequestURI());
+        ResponseByteCache.Entry entry = acceptsJson(request.getHeader(HttpHeaders.ACCEPT)) ? responseCache.find(id) : null;
+        if (entry == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!warmupTraffic.isWarmup(request)) {
+            exampleFacade.recordCachedRead(id);
+        }
+        byte[] body = entry.body();
+        if (entry.gzipBody() != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                body = entry.gzipBody();
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 경로가 {@code /api/v1/examples/{숫자}} 면 ID 를, 아니면 -1 을 반환한다.
+     */
+    static long parseId(String uri) {
+        if (uri == null || !uri.startsWith(PATH_PREFIX)) {
+            return -1;
+        }
+        int length = uri.length() - PATH_PREFIX.length();
+        if (length == 0 || length > MAX_ID_DIGITS) {
+            return -1;
+        }
+        long id = 0;
+        for (int i = PATH_PREFIX.length(); i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isEmpty() || "*/*".equals(accept) || MediaType.APPLICATION_JSON_VALUE.equals(accept)) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            // 잘못된 Accept 에 대한 응답은 컨트롤러 쪽 처리에 맡긴다
+            return false;
+        }
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() > 0 && mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!GZIP.equalsIgnoreCase(parts[0].trim()) && !"*".equals(parts[0].trim())) {
+                continue;
+            }
+            return parts.length < 2 || !parts[1].trim().matches("q\\s*=\\s*0(\\.0*)?");
+        }
+        return false;
+    }
+}
@@ -2,8 +2,16 @@ package com.loopers.interfaces.api.example;
 
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
 
 @Tag(name = "Example V1 API", description = "Loopers 예시 API 입니다.")
 public interface ExampleV1ApiSpec {
@@ -14,6 +22,57 @@ public interface ExampleV1ApiSpec {
     )
     ApiResponse<ExampleV1Dto.ExampleResponse> getExample(
         @Schema(name = "예시 ID", description = "조회할 예시의 ID")
-        Long exampleId
+        Long exampleId,
+        HttpServletRequest request
+    );
+
+    @Operation(
+        summary = "예시 설명 수정",
+        description = "예시의 설명을 수정합니다. write-behind 가 켜져 있으면 수정을 기록한 뒤 바로 응답하고, DB 에는 모아서 반영합니다. 반영 전에도 조회하면 수정된 값이 보입니다."
+    )
+    ApiResponse<ExampleV1Dto.ExampleResponse> updateExample(
+        @Schema(name = "예시 ID", description = "수정할 예시의 ID")
+        Long exampleId,
+        ExampleV1Dto.UpdateDescriptionRequest request
     );
+
+    @Operation(
+        summary = "예시 검색",
+        description = "이름과 설명을 대상으로 검색합니다. 큰따옴표로 감싸면 구문 검색, 단어 끝에 * 를 붙이면 접두어 검색을 수행합니다."
+    )
+    ApiResponse<ExampleV1Dto.SearchResponse> searchExamples(
+        @Schema(name = "검색어", description = "예) 스프링, \"루퍼스 예시\", spr*")
+        String query,
+        @Schema(name = "결과 수", description = "반환할 최대 결과 수 (1 ~ 100)", defaultValue = "20")
+        int size
+    );
+
+    @Operation(
+        summary = "예시 내보내기",
+        description = "삭제되지 않은 모든 예시를 ID 순서대로 NDJSON 또는 CSV 로 스트리밍합니다. 공통 응답(ApiResponse)으로 감싸지 않으며, 도중에 실패하면 응답이 중간에 끊깁니다. "
+            + "동시에 진행 중인 내보내기가 한도에 이르면 503 을 반환합니다."
+    )
+    ResponseEntity<StreamingResponseBody> exportExamples(
+        @Schema(name = "형식", description = "ndjson 또는 csv", defaultValue = "ndjson")
+        String format,
+        HttpServletRequest request
+    );
+
+    @Operation(
+        summary = "예시 대량 생성",
+        description = "예시 배열을 스트리밍으로 읽어 청크 단위로 저장합니다. 실패한 항목은 요청 내 순번과 함께 반환됩니다.",
+        requestBody = @RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = ExampleV1Dto.CreateRequest.class))
+        ))
+    )
+    ApiResponse<ExampleV1Dto.BulkResponse> createExamples(HttpServletRequest request) throws IOException;
+
+    @Operation(
+        summary = "예시 대량 수정",
+        description = "예시 설명 수정 배열을 스트리밍으로 읽어 청크 단위로 반영합니다. 실패한 항목은 요청 내 순번과 함께 반환됩니다.",
+        requestBody = @RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = ExampleV1Dto.UpdateRequest.class))
+        ))
+    )
+    ApiResponse<ExampleV1Dto.BulkResponse> updateExamples(HttpServletRequest request) throws IOException;
 }
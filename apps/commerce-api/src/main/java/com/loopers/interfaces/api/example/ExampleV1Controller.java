@@ -1,13 +1,33 @@
 package com.loopers.interfaces.api.example;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.example.ExampleBulkResult;
 import com.loopers.application.example.ExampleFacade;
 import com.loopers.application.example.ExampleInfo;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.JsonArrayStreamReader;
+import com.loopers.support.export.ExportLimiter;
+import com.loopers.support.warmup.WarmupTraffic;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @RestController
@@ -15,14 +35,98 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExampleV1Controller implements ExampleV1ApiSpec {
 
     private final ExampleFacade exampleFacade;
+    private final JsonArrayStreamReader jsonArrayStreamReader;
+    private final ExampleResponseCache exampleResponseCache;
+    private final ObjectMapper objectMapper;
+    private final ExportLimiter exportLimiter;
+    private final WarmupTraffic warmupTraffic;
 
     @GetMapping("/{exampleId}")
     @Override
     public ApiResponse<ExampleV1Dto.ExampleResponse> getExample(
-        @PathVariable(value = "exampleId") Long exampleId
+        @PathVariable(value = "exampleId") Long exampleId,
+        HttpServletRequest request
+    ) {
+        long version = exampleResponseCache.version(exampleId);
+        ExampleInfo info = exampleFacade.getExample(exampleId, !warmupTraffic.isWarmup(request));
+        ApiResponse<ExampleV1Dto.ExampleResponse> response = ApiResponse.success(ExampleV1Dto.ExampleResponse.from(info));
+        exampleResponseCache.store(exampleId, version, response);
+        return response;
+    }
+
+    @PatchMapping("/{exampleId}")
+    @Override
+    public ApiResponse<ExampleV1Dto.ExampleResponse> updateExample(
+        @PathVariable(value = "exampleId") Long exampleId,
+        @RequestBody ExampleV1Dto.UpdateDescriptionRequest request
     ) {
-        ExampleInfo info = exampleFacade.getExample(exampleId);
-        ExampleV1Dto.ExampleResponse response = ExampleV1Dto.ExampleResponse.from(info);
-        return ApiResponse.success(response);
+        ExampleInfo info = exampleFacade.updateExample(exampleId, request.description());
+        return ApiResponse.success(ExampleV1Dto.ExampleResponse.from(info));
+    }
+
+    @GetMapping("/search")
+    @Override
+    public ApiResponse<ExampleV1Dto.SearchResponse> searchExamples(
+        @RequestParam(value = "q") String query,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        List<ExampleInfo> infos = exampleFacade.searchExamples(query, size);
+        return ApiResponse.success(ExampleV1Dto.SearchResponse.from(infos));
+    }
+
+    /**
+     * 본문은 MVC 비동기 스레드에서 쓰이며, 길이를 모르므로 chunked 로 나간다. 소켓이 밀리면 쓰기가 막혀 DB 읽기도 그만큼 늦춰진다.
+     * 헤더가 나간 뒤의 실패는 상태 코드로 알릴 수 없어, 응답이 끝 청크 없이 끊긴다.
+     * 본문을 쓰는 스레드, 동시 실행 수, timeout 은 {@link ExportLimiter} 가 정한다.
+     */
+    @GetMapping("/export")
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportExamples(
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletRequest request
+    ) {
+        ExampleExportFormat exportFormat = ExampleExportFormat.from(format);
+        StreamingResponseBody body = outputStream -> {
+            try (ExampleExportFormat.RowWriter writer = exportFormat.writer(outputStream, objectMapper.getFactory())) {
+                exampleFacade.exportExamples(info -> {
+                    try {
+                        writer.write(info);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        exportLimiter.acquire(request);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(exportFormat.filename()).build().toString())
+            .body(body);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Override
+    public ApiResponse<ExampleV1Dto.BulkResponse> createExamples(HttpServletRequest request) throws IOException {
+        try (Stream<ExampleV1Dto.CreateRequest> items =
+                 jsonArrayStreamReader.read(request.getInputStream(), ExampleV1Dto.CreateRequest.class)) {
+            ExampleBulkResult result = exampleFacade.createExamples(
+                items.map(ExampleV1Dto.CreateRequest::toCommand).iterator()
+            );
+            return ApiResponse.success(ExampleV1Dto.BulkResponse.from(result));
+        }
+    }
+
+    @PatchMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Override
+    public ApiResponse<ExampleV1Dto.BulkResponse> updateExamples(HttpServletRequest request) throws IOException {
+        try (Stream<ExampleV1Dto.UpdateRequest> items =
+                 jsonArrayStreamReader.read(request.getInputStream(), ExampleV1Dto.UpdateRequest.class)) {
+            ExampleBulkResult result = exampleFacade.updateExamples(
+                items.map(ExampleV1Dto.UpdateRequest::toCommand).iterator()
+            );
+            return ApiResponse.success(ExampleV1Dto.BulkResponse.from(result));
+        }
     }
 }
@@ -1,7 +1,11 @@
 package com.loopers.interfaces.api.example;
 
+import com.loopers.application.example.ExampleBulkResult;
+import com.loopers.application.example.ExampleCommand;
 import com.loopers.application.example.ExampleInfo;
 
+import java.util.List;
+
 public class ExampleV1Dto {
     public record ExampleResponse(Long id, String name, String description) {
         public static ExampleResponse from(ExampleInfo info) {
@@ -12,4 +16,55 @@ public class ExampleV1Dto {
             );
         }
     }
+
+    public record SearchResponse(List<ExampleResponse> examples) {
+        public static SearchResponse from(List<ExampleInfo> infos) {
+            return new SearchResponse(infos.stream().map(ExampleResponse::from).toList());
+        }
+    }
+
+    public record CreateRequest(String name, String description) {
+        public ExampleCommand.Create toCommand() {
+            return new ExampleCommand.Create(name, description);
+        }
+    }
+
+    public record UpdateDescriptionRequest(String description) {
+    }
+
+    public record UpdateRequest(Long id, String description) {
+        public ExampleCommand.Update toCommand() {
+            return new ExampleCommand.Update(id, description);
+        }
+    }
+
+    public record BulkResponse(
+        int total,
+        int succeeded,
+        int failed,
+        long elapsedMillis,
+        double rowsPerSecond,
+        List<BulkFailure> failures
+    ) {
+        public static BulkResponse from(ExampleBulkResult result) {
+            return new BulkResponse(
+                result.total(),
+                result.succeeded(),
+                result.failures().size(),
+                result.elapsedNanos() / 1_000_000,
+                result.rowsPerSecond(),
+                result.failures().stream().map(BulkFailure::from).toList()
+            );
+        }
+    }
+
+    public record BulkFailure(int index, String errorCode, String message) {
+        public static BulkFailure from(ExampleBulkResult.Failure failure) {
+            return new BulkFailure(
+                failure.index(),
+                failure.errorType().getCode(),
+                failure.message()
+            );
+        }
+    }
 }
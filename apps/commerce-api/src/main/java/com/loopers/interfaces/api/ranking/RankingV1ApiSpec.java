@@ -0,0 +1,24 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Ranking V1 API", description = "최근 활동 기반 예시 랭킹 API 입니다.")
+public interface RankingV1ApiSpec {
+
+    @Operation(
+        summary = "예시 랭킹 조회",
+        description = "최근 조회/좋아요 활동을 시간 감쇠로 합산한 상위 예시를 조회합니다. 랭킹은 수 초 단위로 갱신됩니다."
+    )
+    ApiResponse<RankingV1Dto.RankingPageResponse> getRankings(
+        @Schema(name = "집계 구간", description = "HOURLY(최근 24시간) 또는 DAILY(최근 7일)")
+        RankingPeriod period,
+        @Schema(name = "페이지", description = "0 부터 시작")
+        int page,
+        @Schema(name = "페이지 크기", description = "최대 100")
+        int size
+    );
+}
@@ -0,0 +1,29 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingInfo;
+
+import java.util.List;
+
+public class RankingV1Dto {
+    public record RankingResponse(int rank, Long exampleId, String name, String description, double score) {
+        public static RankingResponse from(RankingInfo info) {
+            return new RankingResponse(
+                info.rank(),
+                info.exampleId(),
+                info.name(),
+                info.description(),
+                info.score()
+            );
+        }
+    }
+
+    public record RankingPageResponse(int page, int size, List<RankingResponse> items) {
+        public static RankingPageResponse of(int page, int size, List<RankingInfo> rankings) {
+            return new RankingPageResponse(
+                page,
+                size,
+                rankings.stream().map(RankingResponse::from).toList()
+            );
+        }
+    }
+}
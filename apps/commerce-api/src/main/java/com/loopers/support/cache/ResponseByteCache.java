@@ -0,0 +1,118 @@
+package com.loopers.support.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 리소스 ID 별로 직렬화가 끝난 응답 바이트(와 gzip 사본)를 보관한다.
+ * <p>
+ * 리소스마다 버전을 두고, 값이 바뀌면 {@link #invalidate(long)} 로 버전을 올린다.
+ * 응답을 만드는 쪽은 원본을 읽기 전에 {@link #version(long)} 을 받아두고 {@link #put} 에 넘긴다.
+ * 그 사이 버전이 바뀌었으면 저장하지 않으므로, 무효화보다 먼저 읽은 이전 값이 캐시에 남지 않는다.
+ * 버전은 ID 를 고정된 수의 칸에 나눠 담아 메모리가 ID 수에 비례해 늘지 않게 한다. (같은 칸의 다른 ID 도 함께 무효화된다)
+ */
+public class ResponseByteCache {
+    public static final String CACHE_METRIC = "http.response-cache";
+    private static final int VERSION_STRIPES = 4096;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final int gzipMinSize;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseByteCache(String name, ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.ttlNanos = properties.ttl().toNanos();
+        this.maxEntries = properties.maxEntries();
+        this.gzipMinSize = properties.gzipMinSize();
+        this.hits = meterRegistry.counter(CACHE_METRIC, "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter(CACHE_METRIC, "cache", name, "result", "miss");
+        Gauge.builder(CACHE_METRIC + ".entries", entries, Map::size)
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param body     그대로 내보낼 응답 본문
+     * @param gzipBody body 를 gzip 으로 압축한 사본. 작은 응답은 만들지 않는다(null).
+     */
+    public record Entry(byte[] body, byte[] gzipBody, long version, long createdAt) {
+    }
+
+    public long version(long key) {
+        return versions.get(stripe(key));
+    }
+
+    /**
+     * 유효한 응답이 있으면 반환하고, 없거나 만료/무효화되었으면 null 을 반환한다.
+     */
+    public Entry find(long key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.version != version(key) || System.nanoTime() - entry.createdAt >= ttlNanos) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    /**
+     * @param version 원본을 읽기 전에 {@link #version(long)} 으로 받은 값
+     */
+    public void put(long key, long version, byte[] body) {
+        if (version != version(key) || !hasRoom()) {
+            return;
+        }
+        byte[] gzipBody = body.length >= gzipMinSize ? gzip(body) : null;
+        entries.put(key, new Entry(body, gzipBody, version, System.nanoTime()));
+    }
+
+    public void invalidate(long key) {
+        versions.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean hasRoom() {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> now - e.getValue().createdAt >= ttlNanos);
+        return entries.size() < maxEntries;
+    }
+
+    private static int stripe(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (VERSION_STRIPES - 1);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
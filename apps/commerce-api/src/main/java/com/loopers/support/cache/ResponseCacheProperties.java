@@ -0,0 +1,22 @@
+package com.loopers.support.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 직렬화가 끝난 응답 바이트 캐시 설정.
+ *
+ * @param enabled     비활성화하면 저장하지 않고, 필터도 등록하지 않는다
+ * @param ttl         한 번 만든 응답을 재사용하는 최대 시간. 무효화가 늦게 도착해도 이 시간이 지나면 다시 만든다.
+ * @param maxEntries  보관하는 최대 응답 수. 가득 차면 만료된 응답을 정리하고, 그래도 자리가 없으면 저장하지 않는다.
+ * @param gzipMinSize 이 크기(바이트) 이상인 응답만 gzip 사본을 함께 만든다
+ */
+@ConfigurationProperties("response-cache")
+public record ResponseCacheProperties(
+    boolean enabled,
+    Duration ttl,
+    int maxEntries,
+    int gzipMinSize
+) {
+}
@@ -2,6 +2,11 @@ package com.loopers.support.error;
 
 import lombok.Getter;
 
+/**
+ * {@link ErrorType#isExpected()} 인 에러는 스택 트레이스를 채우지 않는다.
+ * 404/400 처럼 대량으로 발생할 수 있는 에러에서 스택을 채우는 비용이 정상 응답보다 커지지 않도록 하기 위함이며,
+ * 이런 에러는 어디서 던졌는지보다 ErrorType 과 메시지로 원인을 판단한다.
+ */
 @Getter
 public class CoreException extends RuntimeException {
     private final ErrorType errorType;
@@ -12,7 +17,7 @@ public class CoreException extends RuntimeException {
     }
 
     public CoreException(ErrorType errorType, String customMessage) {
-        super(customMessage != null ? customMessage : errorType.getMessage());
+        super(customMessage != null ? customMessage : errorType.getMessage(), null, !errorType.isExpected(), !errorType.isExpected());
         this.errorType = errorType;
         this.customMessage = customMessage;
     }
@@ -0,0 +1,14 @@
+package com.loopers.support.export;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class ExportConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    ExportLimiter exportLimiter(ExportProperties properties, MeterRegistry meterRegistry) {
+        return new ExportLimiter(properties, meterRegistry);
+    }
+}
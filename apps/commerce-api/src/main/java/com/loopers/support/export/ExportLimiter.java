@@ -0,0 +1,100 @@
+package com.loopers.support.export;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 몇 분씩 이어지는 내보내기 응답을 일반 요청과 분리한다.
+ * <ul>
+ *     <li>동시에 진행할 수 있는 내보내기 수를 {@link ExportProperties#maxConcurrent()} 로 제한한다.
+ *     내보내기는 끝날 때까지 DB 커넥션을 하나 잡으므로, 커넥션 풀을 내보내기가 다 차지하지 못하게 한다.</li>
+ *     <li>본문은 applicationTaskExecutor 가 아닌 전용 스레드(최대 {@code maxConcurrent} 개)에서 쓴다.</li>
+ *     <li>비동기 timeout 은 {@code spring.mvc.async.request-timeout} 대신 이 요청에만 {@link ExportProperties#timeout()} 을 준다.</li>
+ * </ul>
+ * 자리는 비동기 처리가 끝날 때(완료, timeout, 오류 모두) 반환한다.
+ */
+public class ExportLimiter {
+    public static final String ACTIVE_METRIC = "api.export.active";
+    public static final String REJECTED_METRIC = "api.export.rejected";
+
+    private static final String INTERCEPTOR_KEY = ExportLimiter.class.getName();
+
+    private final ExportProperties properties;
+    private final Semaphore permits;
+    private final ThreadPoolTaskExecutor executor;
+    private final Counter rejected;
+
+    public ExportLimiter(ExportProperties properties, MeterRegistry meterRegistry) {
+        if (properties.maxConcurrent() < 1) {
+            throw new IllegalArgumentException("동시 내보내기 수는 1 이상이어야 합니다: " + properties.maxConcurrent());
+        }
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrent());
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("export-");
+        executor.setCorePoolSize(properties.maxConcurrent());
+        executor.setMaxPoolSize(properties.maxConcurrent());
+        // timeout 으로 자리가 반환된 뒤에도 이전 스레드가 잠시 정리 중일 수 있어, 그동안 들어온 내보내기는 큐에서 기다린다.
+        executor.setQueueCapacity(properties.maxConcurrent());
+        executor.initialize();
+
+        Gauge.builder(ACTIVE_METRIC, this, ExportLimiter::getActive)
+            .description("진행 중인 내보내기 수")
+            .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+            .description("동시 내보내기 한도를 넘어 거절한 요청 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 자리가 있으면 현재 요청의 비동기 처리를 전용 스레드와 내보내기 timeout 으로 바꾼다.
+     * 컨트롤러가 {@code StreamingResponseBody} 를 돌려주기 직전에 호출해야 한다. 이후 비동기 처리가 시작되지 않으면 자리가 반환되지 않는다.
+     *
+     * @throws CoreException 자리가 없으면 {@link ErrorType#SERVICE_UNAVAILABLE}
+     */
+    public void acquire(ServletRequest request) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setTaskExecutor(executor);
+        asyncManager.registerCallableInterceptor(INTERCEPTOR_KEY, new ExportSlot());
+    }
+
+    public int getActive() {
+        return properties.maxConcurrent() - permits.availablePermits();
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private class ExportSlot implements CallableProcessingInterceptor {
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            // 비동기 처리가 시작되기 직전이라 아직 timeout 을 바꿀 수 있다.
+            if (request instanceof AsyncWebRequest asyncWebRequest) {
+                asyncWebRequest.setTimeout(properties.timeout().toMillis());
+            }
+        }
+
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.support.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 내보내기(스트리밍 응답) 설정.
+ *
+ * @param maxConcurrent 동시에 진행할 수 있는 내보내기 수. 내보내기는 끝날 때까지 DB 커넥션과 전용 스레드를 하나씩 잡는다.
+ * @param timeout       내보내기 한 건의 비동기 처리 제한 시간. 다른 비동기 요청의 timeout 에는 영향을 주지 않는다.
+ */
+@ConfigurationProperties("export")
+public record ExportProperties(
+    int maxConcurrent,
+    Duration timeout
+) {
+}
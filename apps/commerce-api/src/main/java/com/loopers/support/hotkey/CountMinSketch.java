@@ -0,0 +1,77 @@
+package com.loopers.support.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키의 빈도를 고정 메모리로 추정하는 count-min sketch. 추정치는 실제보다 작지 않다.
+ * <p>
+ * 카운터는 하나의 {@link AtomicLongArray} 에 행 단위로 이어 붙여 두고, 갱신은 락 없이 셀 단위 원자 연산으로 한다.
+ */
+class CountMinSketch {
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int mask;
+    private final int width;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int width, int depth) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth 는 1 이상 " + SEEDS.length + " 이하여야 합니다: " + depth);
+        }
+        if (width < 1) {
+            throw new IllegalArgumentException("width 는 1 이상이어야 합니다: " + width);
+        }
+        this.width = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.mask = this.width - 1;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(this.width * depth);
+    }
+
+    /**
+     * 키의 카운터를 1 올리고, 갱신된 추정 빈도를 반환한다.
+     */
+    long increment(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+        }
+        return estimate;
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄여, 오래된 빈도의 영향을 지수적으로 줄인다.
+     * 셀 단위로 원자적으로 갱신하므로 진행 중인 increment 는 잃지 않는다.
+     */
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            if (counters.get(i) != 0) {
+                counters.getAndUpdate(i, count -> count >>> 1);
+            }
+        }
+    }
+
+    private int index(int row, long key) {
+        return row * width + (int) (mix(key ^ SEEDS[row]) & mask);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
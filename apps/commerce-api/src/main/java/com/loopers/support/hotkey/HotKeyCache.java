@@ -0,0 +1,74 @@
+package com.loopers.support.hotkey;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link HotKeyDetector} 가 hot key 로 판단한 키의 값만 짧은 TTL 로 로컬에 둔다.
+ * <p>
+ * 승격되지 않은 키는 기록만 하고 매번 원본에서 읽으므로, 캐시 크기는 상위 키 수를 넘지 않는다.
+ * 값이 바뀌는 쪽에서는 {@link #invalidate(long)} 를 호출해 TTL 동안 이전 값이 보이는 시간을 줄인다.
+ * 읽는 도중에 무효화가 일어나면 읽은 값이 이전 값일 수 있으므로 담지 않는다. (무효화는 드물어 키별로 구분하지 않는다)
+ */
+public class HotKeyCache<V> {
+    public static final String CACHE_METRIC = "hotkey.local-cache";
+
+    private final HotKeyDetector detector;
+    private final long ttlNanos;
+    private final Map<Long, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public HotKeyCache(String name, HotKeyDetector detector, Duration ttl, MeterRegistry meterRegistry) {
+        this.detector = detector;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = meterRegistry.counter(CACHE_METRIC, "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter(CACHE_METRIC, "cache", name, "result", "miss");
+    }
+
+    public V get(long key, Supplier<V> loader) {
+        return get(key, loader, true);
+    }
+
+    /**
+     * {@code record} 가 false 면 요청 수를 기록하지 않는다. 실제 요청이 아닌 조회(워밍업 재생 등)가 승격에 영향을 주지 않게 한다.
+     */
+    public V get(long key, Supplier<V> loader, boolean record) {
+        if (record) {
+            detector.record(key);
+        }
+        if (!detector.isHot(key)) {
+            entries.remove(key);
+            return loader.get();
+        }
+
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        long invalidationsBefore = invalidations.get();
+        V value = loader.get();
+        if (invalidations.get() == invalidationsBefore) {
+            entries.put(key, new Entry<>(value, now));
+        }
+        return value;
+    }
+
+    public void invalidate(long key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.loopers.support.hotkey;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 경로에서 샘플링한 키로 요청 빈도 상위 키를 찾는다.
+ * <p>
+ * 빈도는 {@link CountMinSketch} 로 추정하고, 상위 {@code topK} 개만 따로 추적한다. 이미 추적 중인 키는 락 없이 갱신하고,
+ * 추적 중인 키의 최솟값(floor)보다 큰 추정치가 나올 때만 락을 잡고 최솟값 키와 교체하므로, 대부분의 요청은 락을 만나지 않는다.
+ * {@code decayInterval} 마다 모든 카운터를 절반으로 줄여 최근 트래픽 위주로 순위가 바뀌게 한다.
+ * 상위 키 중 추정 요청 수가 {@code promoteThreshold} 이상인 키를 hot key 로 본다.
+ */
+@Component
+public class HotKeyDetector {
+    public static final String PROMOTED_METRIC = "hotkey.promoted";
+
+    private final boolean enabled;
+    private final int sampleRate;
+    private final int topK;
+    private final long promoteThresholdSampled;
+    private final CountMinSketch sketch;
+
+    private final Map<Long, AtomicLong> top = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private volatile long floor;
+
+    public HotKeyDetector(HotKeyProperties properties, MeterRegistry meterRegistry) {
+        if (properties.sampleRate() < 1 || properties.topK() < 1) {
+            throw new IllegalArgumentException("sampleRate 와 topK 는 1 이상이어야 합니다.");
+        }
+        this.enabled = properties.enabled();
+        this.sampleRate = properties.sampleRate();
+        this.topK = properties.topK();
+        this.promoteThresholdSampled = Math.max(1, properties.promoteThreshold() / sampleRate);
+        this.sketch = new CountMinSketch(properties.sketchWidth(), properties.sketchDepth());
+
+        Gauge.builder(PROMOTED_METRIC, this, HotKeyDetector::promotedCount)
+            .description("로컬 캐시로 승격된 키 수")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(long key) {
+        if (!enabled || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0)) {
+            return;
+        }
+        long estimate = sketch.increment(key);
+
+        AtomicLong tracked = top.get(key);
+        if (tracked != null) {
+            tracked.accumulateAndGet(estimate, Math::max);
+            return;
+        }
+        if (top.size() >= topK && estimate <= floor) {
+            return;
+        }
+        offer(key, estimate);
+    }
+
+    public boolean isHot(long key) {
+        AtomicLong tracked = top.get(key);
+        return tracked != null && tracked.get() >= promoteThresholdSampled;
+    }
+
+    /**
+     * 추정 요청 수(샘플링 보정) 내림차순의 상위 키.
+     */
+    public List<HotKey> top() {
+        return top.entrySet().stream()
+            .map(e -> new HotKey(e.getKey(), e.getValue().get() * sampleRate, e.getValue().get() >= promoteThresholdSampled))
+            .sorted(Comparator.comparingLong(HotKey::estimatedCount).reversed())
+            .toList();
+    }
+
+    @Scheduled(fixedRateString = "${hot-key.decay-interval}", initialDelayString = "${hot-key.decay-interval}")
+    public void decay() {
+        sketch.halve();
+        synchronized (lock) {
+            top.values().forEach(count -> count.getAndUpdate(c -> c >>> 1));
+            top.values().removeIf(count -> count.get() == 0);
+            floor = minTracked();
+        }
+    }
+
+    private void offer(long key, long estimate) {
+        synchronized (lock) {
+            AtomicLong tracked = top.get(key);
+            if (tracked != null) {
+                tracked.accumulateAndGet(estimate, Math::max);
+                return;
+            }
+            if (top.size() < topK) {
+                top.put(key, new AtomicLong(estimate));
+                floor = top.size() < topK ? 0 : minTracked();
+                return;
+            }
+            // topK 가 작으므로(수백 이하) 힙을 유지하는 대신 교체할 때만 최솟값을 찾는다
+            Map.Entry<Long, AtomicLong> min = null;
+            for (Map.Entry<Long, AtomicLong> entry : top.entrySet()) {
+                if (min == null || entry.getValue().get() < min.getValue().get()) {
+                    min = entry;
+                }
+            }
+            if (min != null && estimate > min.getValue().get()) {
+                top.remove(min.getKey());
+                top.put(key, new AtomicLong(estimate));
+            }
+            floor = minTracked();
+        }
+    }
+
+    private long minTracked() {
+        long min = Long.MAX_VALUE;
+        for (AtomicLong count : top.values()) {
+            min = Math.min(min, count.get());
+        }
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    private double promotedCount() {
+        long promoted = 0;
+        for (AtomicLong count : top.values()) {
+            if (count.get() >= promoteThresholdSampled) {
+                promoted++;
+            }
+        }
+        return promoted;
+    }
+
+    public record HotKey(long key, long estimatedCount, boolean promoted) {
+    }
+}
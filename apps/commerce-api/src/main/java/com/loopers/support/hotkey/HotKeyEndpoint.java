@@ -0,0 +1,25 @@
+package com.loopers.support.hotkey;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 현재 추적 중인 상위 키와 로컬 캐시 승격 여부를 보여준다. ({@code GET /actuator/hotkeys})
+ */
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+    private final HotKeyDetector detector;
+
+    public HotKeyEndpoint(HotKeyDetector detector) {
+        this.detector = detector;
+    }
+
+    @ReadOperation
+    public List<HotKeyDetector.HotKey> hotKeys() {
+        return detector.top();
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.support.hotkey;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 경로의 hot key 탐지와 로컬 캐시 승격 설정.
+ *
+ * @param sampleRate        N 건 중 1 건만 기록한다. 추정 빈도는 이 값을 곱해 보정한다.
+ * @param sketchWidth       count-min sketch 한 행의 카운터 수 (2의 거듭제곱으로 올림한다)
+ * @param sketchDepth       count-min sketch 의 행(해시 함수) 수
+ * @param topK              추적하는 상위 키 수
+ * @param promoteThreshold  감쇠된 추정 요청 수가 이 값 이상인 상위 키를 로컬 캐시로 승격한다
+ * @param decayInterval     이 주기마다 모든 카운터를 절반으로 줄인다
+ * @param localTtl          승격된 키를 로컬 캐시에 두는 시간
+ */
+@ConfigurationProperties("hot-key")
+public record HotKeyProperties(
+    boolean enabled,
+    int sampleRate,
+    int sketchWidth,
+    int sketchDepth,
+    int topK,
+    long promoteThreshold,
+    Duration decayInterval,
+    Duration localTtl
+) {
+}
@@ -0,0 +1,194 @@
+package com.loopers.support.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 관측한 응답 지연의 변화(gradient)로 동시 처리 한도를 조정한다.
+ * <p>
+ * {@code window} 마다 그 구간의 평균 지연(short RTT)을 장기 평균(long RTT)과 비교해,
+ * 지연이 {@code tolerance} 배 이상 늘면 그 비율만큼 한도를 줄이고, 그렇지 않으면 {@code sqrt(limit)} 만큼 늘린다.
+ * 한 구간에 실패(5xx)가 있었다면 지연과 무관하게 한도를 10% 줄인다.
+ * 처리 중인 요청이 한도의 절반에도 못 미치면 지연이 좋아 보여도 한도를 늘리지 않는다. (실제 부하 없이 한도만 커지는 것을 막는다)
+ * <p>
+ * 요청 경로에서는 {@link #tryAcquire} 의 CAS 와 {@link Permit#release} 의 누적만 일어나고,
+ * 한도 계산은 구간이 끝난 뒤 처음 release 한 스레드 하나만 수행한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+    public static final String LIMIT_METRIC = "api.concurrency.limit";
+    public static final String INFLIGHT_METRIC = "api.concurrency.inflight";
+    public static final String REJECTED_METRIC = "api.concurrency.rejected";
+
+    private static final double DROP_BACKOFF = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+    /** long RTT 는 최근 약 이 수만큼의 구간 평균을 반영한다 */
+    private static final int LONG_WINDOWS = 60;
+
+    private final ConcurrencyLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final long windowNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder rttCount = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+    private final AtomicLong nextUpdateAt;
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (properties.minLimit() < 1 || properties.minLimit() > properties.maxLimit()) {
+            throw new IllegalArgumentException("동시성 한도 범위가 올바르지 않습니다: " + properties.minLimit() + " ~ " + properties.maxLimit());
+        }
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.windowNanos = properties.window().toNanos();
+        this.limit = clamp(properties.initialLimit());
+        this.nextUpdateAt = new AtomicLong(nanoClock.getAsLong() + windowNanos);
+
+        Gauge.builder(LIMIT_METRIC, this, AdaptiveConcurrencyLimiter::getLimit)
+            .description("현재 동시 처리 한도")
+            .register(meterRegistry);
+        Gauge.builder(INFLIGHT_METRIC, inflight, AtomicInteger::get)
+            .description("처리 중인 요청 수")
+            .register(meterRegistry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, Counter.builder(REJECTED_METRIC)
+                .description("한도를 넘어 거절한 요청 수")
+                .tag("priority", priority.name())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 등급별 몫 안에 자리가 있으면 처리 중으로 세고 permit 을 돌려준다. 자리가 없으면 바로 비어있는 값을 돌려준다.
+     * CRITICAL 요청도 처리 중 수에는 포함되지만 거절되지 않는다.
+     */
+    public Optional<Permit> tryAcquire(RequestPriority priority) {
+        if (priority == RequestPriority.CRITICAL) {
+            inflight.incrementAndGet();
+            return Optional.of(new Permit(nanoClock.getAsLong()));
+        }
+
+        int capacity = capacityOf(priority);
+        while (true) {
+            int current = inflight.get();
+            if (current >= capacity) {
+                rejected.get(priority).increment();
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private int capacityOf(RequestPriority priority) {
+        int current = (int) limit;
+        if (priority == RequestPriority.PUBLIC) {
+            return Math.max(1, (int) (current * properties.publicShare()));
+        }
+        return current;
+    }
+
+    private void release(long startedAt, boolean dropped) {
+        int inflightBefore = inflight.getAndDecrement();
+        long now = nanoClock.getAsLong();
+        rttSum.add(now - startedAt);
+        rttCount.increment();
+        if (dropped) {
+            drops.increment();
+        }
+
+        long updateAt = nextUpdateAt.get();
+        if (now >= updateAt && nextUpdateAt.compareAndSet(updateAt, now + windowNanos)) {
+            update(inflightBefore);
+        }
+    }
+
+    /**
+     * 구간이 끝난 뒤 CAS 에 성공한 스레드 하나만 호출하므로 longRttNanos 는 동기화 없이 갱신한다.
+     */
+    private void update(int inflightNow) {
+        if (rttCount.sum() < properties.minWindowSamples()) {
+            return;
+        }
+        long count = rttCount.sumThenReset();
+        double shortRtt = (double) rttSum.sumThenReset() / count;
+        boolean dropped = drops.sumThenReset() > 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOWS;
+        }
+        // 지연이 장기 평균보다 크게 좋아졌다면(장애 회복 등) 장기 평균을 빨리 따라가게 한다
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        double next;
+        if (dropped) {
+            next = current * DROP_BACKOFF;
+        } else {
+            if (inflightNow * 2 < current && shortRtt <= longRttNanos * properties.tolerance()) {
+                return;
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, properties.tolerance() * longRttNanos / shortRtt));
+            next = current * gradient + Math.sqrt(current);
+            next = current * (1 - properties.smoothing()) + next * properties.smoothing();
+        }
+        limit = clamp(next);
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.minLimit(), Math.min(properties.maxLimit(), value));
+    }
+
+    /**
+     * 요청 하나가 차지한 자리. 요청이 끝나면 정확히 한 번 {@link #release} 해야 한다.
+     */
+    public final class Permit {
+        private final long startedAt;
+        private boolean released;
+
+        private Permit(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * @param dropped 과부하로 실패한 요청(5xx)이면 true. 다음 한도 계산에서 한도를 줄인다.
+         */
+        public void release(boolean dropped) {
+            if (released) {
+                return;
+            }
+            released = true;
+            AdaptiveConcurrencyLimiter.this.release(startedAt, dropped);
+        }
+    }
+}
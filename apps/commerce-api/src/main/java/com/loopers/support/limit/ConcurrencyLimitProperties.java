@@ -0,0 +1,38 @@
+package com.loopers.support.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * API 요청의 적응형 동시성 제한 설정.
+ *
+ * @param initialLimit    기동 직후의 동시 처리 한도
+ * @param minLimit        한도의 하한. 지연이 아무리 늘어도 이만큼은 받는다.
+ * @param maxLimit        한도의 상한. Tomcat 워커 스레드 수를 넘길 필요는 없다.
+ * @param window          이 주기마다 관측한 지연으로 한도를 다시 계산한다
+ * @param minWindowSamples 한 주기에 이보다 적게 관측되면 한도를 바꾸지 않는다
+ * @param tolerance       장기 평균 대비 이 배수까지의 지연 증가는 정상으로 본다
+ * @param smoothing       새 한도를 반영하는 비율 (0~1)
+ * @param publicShare     일반 요청이 쓸 수 있는 한도의 비율. 나머지는 내부 요청 몫으로 남긴다.
+ * @param criticalPaths   한도와 무관하게 항상 받는 경로. actuator 는 management 포트라 여기에 둘 필요가 없다.
+ * @param internalPaths   내부 요청으로 분류할 경로. 외부에 노출되지 않는 경로만 둔다.
+ * @param excludedPaths   한도를 적용하지 않는 경로. 응답이 길게 이어지는 요청(내보내기 등)의 지연이 한도 계산을 흔들지 않게 한다.
+ */
+@ConfigurationProperties("concurrency-limit")
+public record ConcurrencyLimitProperties(
+    boolean enabled,
+    int initialLimit,
+    int minLimit,
+    int maxLimit,
+    Duration window,
+    int minWindowSamples,
+    double tolerance,
+    double smoothing,
+    double publicShare,
+    List<String> criticalPaths,
+    List<String> internalPaths,
+    List<String> excludedPaths
+) {
+}
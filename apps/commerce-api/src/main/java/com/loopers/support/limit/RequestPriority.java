@@ -0,0 +1,13 @@
+package com.loopers.support.limit;
+
+/**
+ * 동시성 한도를 나눠 쓰는 요청 등급. 등급이 높을수록 한도의 더 많은 부분을 쓸 수 있다.
+ */
+public enum RequestPriority {
+    /** health, readiness 처럼 과부하 중에도 응답해야 하는 요청. 한도를 적용하지 않는다. */
+    CRITICAL,
+    /** 내부 시스템의 호출. 한도 전체를 쓸 수 있다. */
+    INTERNAL,
+    /** 외부 사용자 요청. {@code publicShare} 만큼만 쓸 수 있다. */
+    PUBLIC
+}
@@ -0,0 +1,383 @@
+package com.loopers.support.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 상의 역색인. 문서(long ID)의 여러 필드를 {@link Tokenizer} 로 나눠 {@link PostingList} 에 담는다.
+ * <p>
+ * 문서마다 증가하는 내부 번호를 붙이고, 수정된 문서는 새 번호로 다시 색인한 뒤 이전 번호를 지운 것으로 표시한다.
+ * 지운 번호가 살아있는 문서의 1/4 을 넘으면 모든 목록에서 지운 번호를 걷어낸다.
+ * 쓰기는 하나의 락으로 직렬화하고, 검색은 락 없이 각 목록의 snapshot 을 읽는다.
+ * <p>
+ * 점수는 BM25 로 매기고, 구문 절은 구문이 나온 횟수를 단어 빈도로 쓴다.
+ */
+public class InvertedIndex {
+    /** 필드 사이의 위치 간격. 구문이 필드 경계를 넘어 맞지 않게 한다. */
+    private static final int FIELD_GAP = 16;
+    /** 접두어 하나가 펼쳐지는 최대 단어 수. 문서가 많은 단어부터 고른다. */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final long DELETED = 0L;
+
+    private final NavigableMap<String, PostingList> postings = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongIntHashMap docsById;
+
+    private volatile DocTable docTable;
+    private int nextDoc;
+    private volatile int liveDocs;
+    private volatile long totalLength;
+    private int deletedDocs;
+
+    public InvertedIndex(int expectedDocs) {
+        this.docsById = new LongIntHashMap(expectedDocs);
+        this.docTable = new DocTable(new AtomicLongArray(Math.max(16, expectedDocs)), new int[Math.max(16, expectedDocs)]);
+    }
+
+    /**
+     * 내부 번호 → 문서 ID(지워졌으면 0) 와 문서 길이. 크기를 키울 때만 새로 만든다.
+     */
+    private record DocTable(AtomicLongArray ids, int[] lengths) {
+    }
+
+    public record Hit(long id, double score) {
+    }
+
+    /**
+     * 문서를 색인한다. 이미 있는 ID 면 이전 내용을 지우고 다시 색인한다.
+     */
+    public void put(long id, String... fields) {
+        Map<String, int[]> terms = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        int position = 0;
+        for (String field : fields) {
+            for (String token : Tokenizer.tokenize(field)) {
+                int count = counts.merge(token, 1, Integer::sum);
+                int[] positions = terms.computeIfAbsent(token, t -> new int[4]);
+                if (positions.length < count) {
+                    positions = Arrays.copyOf(positions, positions.length << 1);
+                    terms.put(token, positions);
+                }
+                positions[count - 1] = position++;
+            }
+            position += FIELD_GAP;
+        }
+        int length = counts.values().stream().mapToInt(Integer::intValue).sum();
+
+        writeLock.lock();
+        try {
+            removeLocked(id);
+            int doc = nextDoc++;
+            DocTable table = ensureCapacity(doc);
+            table.lengths()[doc] = length;
+            table.ids().set(doc, id);
+            docsById.put(id, doc);
+            terms.forEach((term, positions) ->
+                postings.computeIfAbsent(term, t -> new PostingList()).add(doc, positions, counts.get(term))
+            );
+            liveDocs++;
+            totalLength += length;
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(long id) {
+        writeLock.lock();
+        try {
+            removeLocked(id);
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return liveDocs;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 색인이 차지하는 힙의 추정치. 단어 사전(문자열 + skip list 노드)과 목록 배열, 문서 테이블을 더한다.
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            // 키 문자열(헤더 + 배열) + skip list 노드 + PostingList, Snapshot 객체
+            bytes += 40 + entry.getKey().length() * 2L + 48 + 32 + 16 + entry.getValue().sizeInBytes();
+        }
+        DocTable table = docTable;
+        bytes += (long) table.lengths().length * (Long.BYTES + Integer.BYTES);
+        bytes += docsById.estimatedBytes();
+        return bytes;
+    }
+
+    public List<Hit> search(SearchQuery query, int limit) {
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        DocTable table = docTable;
+        List<Matches> clauses = new ArrayList<>(query.clauses().size());
+        for (SearchQuery.Clause clause : query.clauses()) {
+            Matches matches = match(clause, table);
+            if (matches.size == 0) {
+                return List.of();
+            }
+            clauses.add(matches);
+        }
+        clauses.sort(Comparator.comparingInt(m -> m.size));
+        return topK(clauses, table, limit);
+    }
+
+    private Matches match(SearchQuery.Clause clause, DocTable table) {
+        if (clause.prefix()) {
+            return matchPrefix(clause.terms().get(0), table);
+        }
+        if (clause.isPhrase()) {
+            return matchPhrase(clause.terms(), table);
+        }
+        PostingList list = postings.get(clause.terms().get(0));
+        Matches matches = new Matches(list == null ? 0 : list.docCount());
+        if (list != null) {
+            PostingList.Cursor cursor = list.cursor();
+            while (cursor.next()) {
+                if (isLive(table, cursor.doc())) {
+                    matches.add(cursor.doc(), cursor.freq());
+                }
+            }
+        }
+        return matches;
+    }
+
+    private Matches matchPrefix(String prefix, DocTable table) {
+        List<PostingList> lists = new ArrayList<>(postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+        if (lists.size() > MAX_PREFIX_EXPANSIONS) {
+            lists.sort(Comparator.comparingInt(PostingList::docCount).reversed());
+            lists = lists.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        int total = 0;
+        for (PostingList list : lists) {
+            total += list.docCount();
+        }
+        // (문서 번호 << 32 | 빈도) 로 모아 정렬한 뒤, 같은 문서의 빈도를 합친다
+        long[] packed = new long[total];
+        int size = 0;
+        for (PostingList list : lists) {
+            PostingList.Cursor cursor = list.cursor();
+            while (cursor.next() && size < total) {
+                packed[size++] = ((long) cursor.doc() << 32) | cursor.freq();
+            }
+        }
+        Arrays.sort(packed, 0, size);
+        Matches matches = new Matches(size);
+        for (int i = 0; i < size; ) {
+            int doc = (int) (packed[i] >>> 32);
+            int freq = 0;
+            while (i < size && (int) (packed[i] >>> 32) == doc) {
+                freq += (int) packed[i++];
+            }
+            if (isLive(table, doc)) {
+                matches.add(doc, freq);
+            }
+        }
+        return matches;
+    }
+
+    private Matches matchPhrase(List<String> terms, DocTable table) {
+        PostingList.Cursor[] cursors = new PostingList.Cursor[terms.size()];
+        int minDocs = Integer.MAX_VALUE;
+        for (int i = 0; i < cursors.length; i++) {
+            PostingList list = postings.get(terms.get(i));
+            if (list == null) {
+                return new Matches(0);
+            }
+            cursors[i] = list.cursor();
+            minDocs = Math.min(minDocs, list.docCount());
+        }
+        Matches matches = new Matches(Math.min(minDocs, 1024));
+        PostingList.Cursor lead = cursors[0];
+        int target = 0;
+        while (true) {
+            if (!lead.advance(target)) {
+                return matches;
+            }
+            int doc = lead.doc();
+            boolean aligned = true;
+            for (int i = 1; i < cursors.length; i++) {
+                if (!cursors[i].advance(doc)) {
+                    return matches;
+                }
+                if (cursors[i].doc() != doc) {
+                    target = cursors[i].doc();
+                    aligned = false;
+                    break;
+                }
+            }
+            if (!aligned) {
+                continue;
+            }
+            int freq = phraseFrequency(cursors);
+            if (freq > 0 && isLive(table, doc)) {
+                matches.add(doc, freq);
+            }
+            target = doc + 1;
+        }
+    }
+
+    private static int phraseFrequency(PostingList.Cursor[] cursors) {
+        int freq = 0;
+        int[] starts = cursors[0].positions();
+        for (int p = 0; p < cursors[0].freq(); p++) {
+            int start = starts[p];
+            boolean matched = true;
+            for (int i = 1; i < cursors.length && matched; i++) {
+                matched = cursors[i].hasPosition(start + i);
+            }
+            if (matched) {
+                freq++;
+            }
+        }
+        return freq;
+    }
+
+    /**
+     * 가장 작은 절부터 다른 절들과 교집합을 구하며 BM25 점수를 더하고, 상위 limit 개를 남긴다.
+     */
+    private List<Hit> topK(List<Matches> clauses, DocTable table, int limit) {
+        int live = Math.max(1, liveDocs);
+        double averageLength = Math.max(1.0, (double) totalLength / live);
+        double[] idf = new double[clauses.size()];
+        for (int c = 0; c < idf.length; c++) {
+            int df = clauses.get(c).size;
+            idf[c] = Math.log(1 + (live - df + 0.5) / (df + 0.5));
+        }
+
+        // 점수가 같으면 ID 가 큰 쪽을 먼저 밀어내, 결과가 실행마다 달라지지 않게 한다
+        PriorityQueue<Hit> top = new PriorityQueue<>(
+            limit + 1, Comparator.comparingDouble(Hit::score).thenComparing(Hit::id, Comparator.reverseOrder())
+        );
+        Matches lead = clauses.get(0);
+        int[] cursors = new int[clauses.size()];
+        outer:
+        for (int i = 0; i < lead.size; i++) {
+            int doc = lead.docs[i];
+            double norm = K1 * (1 - B + B * table.lengths()[doc] / averageLength);
+            double score = idf[0] * bm25(lead.freqs[i], norm);
+            for (int c = 1; c < clauses.size(); c++) {
+                Matches other = clauses.get(c);
+                int at = Arrays.binarySearch(other.docs, cursors[c], other.size, doc);
+                if (at < 0) {
+                    cursors[c] = -at - 1;
+                    continue outer;
+                }
+                cursors[c] = at;
+                score += idf[c] * bm25(other.freqs[at], norm);
+            }
+            if (top.size() == limit && score <= top.peek().score()) {
+                continue;
+            }
+            long id = table.ids().get(doc);
+            if (id == DELETED) {
+                continue;
+            }
+            top.offer(new Hit(id, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id));
+        return hits;
+    }
+
+    private static double bm25(int freq, double norm) {
+        return freq * (K1 + 1) / (freq + norm);
+    }
+
+    private static boolean isLive(DocTable table, int doc) {
+        // 지우는 중인 문서가 섞여 보여도 topK 에서 다시 거르므로 plain 읽기로 충분하다
+        return doc < table.ids().length() && table.ids().getPlain(doc) != DELETED;
+    }
+
+    private void removeLocked(long id) {
+        int doc = docsById.get(id);
+        if (doc == LongIntHashMap.MISSING) {
+            return;
+        }
+        docsById.remove(id);
+        DocTable table = docTable;
+        table.ids().set(doc, DELETED);
+        liveDocs--;
+        totalLength -= table.lengths()[doc];
+        deletedDocs++;
+    }
+
+    private DocTable ensureCapacity(int doc) {
+        DocTable table = docTable;
+        if (doc < table.lengths().length) {
+            return table;
+        }
+        int capacity = Math.max(doc + 1, table.lengths().length + (table.lengths().length >> 1));
+        AtomicLongArray ids = new AtomicLongArray(capacity);
+        for (int i = 0; i < table.ids().length(); i++) {
+            ids.set(i, table.ids().get(i));
+        }
+        DocTable grown = new DocTable(ids, Arrays.copyOf(table.lengths(), capacity));
+        docTable = grown;
+        return grown;
+    }
+
+    private void compactIfNeeded() {
+        if (deletedDocs < 1024 || deletedDocs * 4L < liveDocs) {
+            return;
+        }
+        DocTable table = docTable;
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList compacted = entry.getValue().compact(doc -> table.ids().get(doc) != DELETED);
+            if (compacted == null) {
+                postings.remove(entry.getKey());
+            } else {
+                postings.put(entry.getKey(), compacted);
+            }
+        }
+        deletedDocs = 0;
+    }
+
+    /**
+     * 한 절을 만족하는 문서 번호(오름차순)와 빈도.
+     */
+    private static final class Matches {
+        private int[] docs;
+        private int[] freqs;
+        private int size;
+
+        private Matches(int capacity) {
+            this.docs = new int[Math.max(4, capacity)];
+            this.freqs = new int[docs.length];
+        }
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size << 1);
+                freqs = Arrays.copyOf(freqs, size << 1);
+            }
+            docs[size] = doc;
+            freqs[size++] = freq;
+        }
+    }
+}
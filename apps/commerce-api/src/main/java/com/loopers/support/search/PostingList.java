@@ -0,0 +1,166 @@
+package com.loopers.support.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 단어가 나온 문서와 위치 목록. 문서 번호 차이, 출현 횟수, 위치 차이를 모두 varint 로 이어 붙여 저장한다.
+ * <p>
+ * 문서 번호는 항상 증가하는 순서로만 추가되므로 뒤에 덧붙이기만 한다. 추가는 색인의 쓰기 락 안에서만 일어나고,
+ * 읽는 쪽은 volatile {@link Snapshot} 이 가리키는 길이까지만 읽으므로 락 없이 동시에 읽을 수 있다.
+ * (배열을 키울 때는 새 배열에 복사한 뒤 snapshot 을 바꾼다)
+ */
+final class PostingList {
+    private static final Snapshot EMPTY = new Snapshot(new byte[0], 0, 0);
+
+    private volatile Snapshot snapshot = EMPTY;
+    private int lastDoc = -1;
+
+    record Snapshot(byte[] data, int length, int docCount) {
+    }
+
+    int docCount() {
+        return snapshot.docCount;
+    }
+
+    int sizeInBytes() {
+        return snapshot.data.length;
+    }
+
+    /**
+     * @param positions 문서 안에서 이 단어의 위치 (오름차순)
+     */
+    void add(int doc, int[] positions, int count) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 증가하는 순서로 추가해야 합니다: " + doc + " <= " + lastDoc);
+        }
+        Snapshot current = snapshot;
+        byte[] data = current.data;
+        int length = current.length;
+        int required = length + 5 * (count + 2);
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length + (data.length >> 1) + 16));
+        }
+
+        length = writeVarint(data, length, doc - lastDoc);
+        length = writeVarint(data, length, count);
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            length = writeVarint(data, length, positions[i] - previous);
+            previous = positions[i];
+        }
+        lastDoc = doc;
+        snapshot = new Snapshot(data, length, current.docCount + 1);
+    }
+
+    /**
+     * {@code live} 가 false 인 문서를 뺀 새 목록을 만든다. 남는 문서가 없으면 null.
+     */
+    PostingList compact(DocFilter live) {
+        PostingList compacted = new PostingList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            if (live.test(cursor.doc())) {
+                compacted.add(cursor.doc(), cursor.positions(), cursor.freq());
+            }
+        }
+        if (compacted.docCount() == 0) {
+            return null;
+        }
+        Snapshot s = compacted.snapshot;
+        compacted.snapshot = new Snapshot(Arrays.copyOf(s.data, s.length), s.length, s.docCount);
+        return compacted;
+    }
+
+    Cursor cursor() {
+        return new Cursor(snapshot);
+    }
+
+    @FunctionalInterface
+    interface DocFilter {
+        boolean test(int doc);
+    }
+
+    /**
+     * 문서 순서로 한 번만 훑는 읽기 커서. 위치는 {@link #next()} 할 때 함께 풀어둔다.
+     */
+    static final class Cursor {
+        private final byte[] data;
+        private final int length;
+        private int offset;
+        private int doc = -1;
+        private int freq;
+        private int[] positions = new int[8];
+
+        private Cursor(Snapshot snapshot) {
+            this.data = snapshot.data;
+            this.length = snapshot.length;
+        }
+
+        boolean next() {
+            if (offset >= length) {
+                doc = Integer.MAX_VALUE;
+                return false;
+            }
+            doc += readVarint();
+            freq = readVarint();
+            if (positions.length < freq) {
+                positions = new int[Math.max(freq, positions.length << 1)];
+            }
+            int position = 0;
+            for (int i = 0; i < freq; i++) {
+                position += readVarint();
+                positions[i] = position;
+            }
+            return true;
+        }
+
+        /**
+         * target 이상인 첫 문서로 이동한다.
+         */
+        boolean advance(int target) {
+            while (doc < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int freq() {
+            return freq;
+        }
+
+        int[] positions() {
+            return positions;
+        }
+
+        boolean hasPosition(int position) {
+            return Arrays.binarySearch(positions, 0, freq, position) >= 0;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    private static int writeVarint(byte[] data, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            data[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[offset++] = (byte) value;
+        return offset;
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.support.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled          비활성화하면 기동 시 색인을 만들지 않고, 검색은 빈 결과를 반환한다
+ * @param expectedDocuments 초기 색인 크기. 미리 잡아두면 적재 중 배열 복사가 줄어든다.
+ * @param loadFetchSize    기동 시 테이블을 읽는 JDBC fetch size (MySQL 은 Integer.MIN_VALUE 면 행 단위 스트리밍)
+ */
+@ConfigurationProperties("search.index")
+public record SearchIndexProperties(
+    boolean enabled,
+    int expectedDocuments,
+    int loadFetchSize
+) {
+}
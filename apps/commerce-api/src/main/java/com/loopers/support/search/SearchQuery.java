@@ -0,0 +1,71 @@
+package com.loopers.support.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색어를 절(clause)들로 나눈다. 모든 절을 만족하는 문서만 결과가 된다.
+ * <ul>
+ *     <li>{@code "..."} : 구문. 안의 토큰들이 연속된 위치에 있어야 한다.</li>
+ *     <li>{@code word*} : 접두어. word 로 시작하는 단어 중 하나라도 있으면 된다.</li>
+ *     <li>그 외 단어 : 토큰이 하나면 단어 일치, 여럿이면(한글 2-gram 등) 구문으로 본다. 한 글자 한글은 접두어로 본다.</li>
+ * </ul>
+ */
+public record SearchQuery(List<Clause> clauses) {
+    static final int MAX_CLAUSES = 8;
+
+    /**
+     * @param terms  구문이면 연속해야 하는 토큰들, 아니면 토큰 하나
+     * @param prefix true 면 terms 의 유일한 토큰으로 시작하는 단어를 모두 찾는다
+     */
+    public record Clause(List<String> terms, boolean prefix) {
+        boolean isPhrase() {
+            return terms.size() > 1;
+        }
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    public static SearchQuery parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        if (query == null) {
+            return new SearchQuery(clauses);
+        }
+        boolean quoted = false;
+        for (String segment : query.split("\"", -1)) {
+            if (quoted) {
+                addPhrase(Tokenizer.tokenize(segment), clauses);
+            } else {
+                for (String word : segment.trim().split("\\s+")) {
+                    addWord(word, clauses);
+                }
+            }
+            quoted = !quoted;
+        }
+        return new SearchQuery(clauses.size() > MAX_CLAUSES ? List.copyOf(clauses.subList(0, MAX_CLAUSES)) : List.copyOf(clauses));
+    }
+
+    private static void addWord(String word, List<Clause> clauses) {
+        boolean prefix = word.endsWith("*");
+        List<String> tokens = Tokenizer.tokenize(prefix ? word.substring(0, word.length() - 1) : word);
+        if (tokens.size() == 1) {
+            String token = tokens.get(0);
+            clauses.add(new Clause(tokens, prefix || Tokenizer.isHangulUnigram(token)));
+            return;
+        }
+        addPhrase(tokens, clauses);
+    }
+
+    private static void addPhrase(List<String> tokens, List<Clause> clauses) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        if (tokens.size() == 1 && Tokenizer.isHangulUnigram(tokens.get(0))) {
+            clauses.add(new Clause(tokens, true));
+            return;
+        }
+        clauses.add(new Clause(List.copyOf(tokens), false));
+    }
+}
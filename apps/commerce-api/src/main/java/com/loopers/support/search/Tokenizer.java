@@ -0,0 +1,71 @@
+package com.loopers.support.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토큰 분리기. 형태소 분석 없이 문자 종류만 보고 나눈다.
+ * <ul>
+ *     <li>영문/숫자 등 한글이 아닌 글자가 이어진 구간은 소문자 단어 하나로 본다.</li>
+ *     <li>한글이 이어진 구간은 2-gram 으로 나눈다. (한 글자짜리 구간은 그 글자 하나) 조사가 붙어도 부분 일치로 찾을 수 있다.</li>
+ *     <li>그 외 문자(공백, 문장 부호 등)는 구분자로 버린다.</li>
+ * </ul>
+ * 토큰의 순서가 위치(position)가 되므로, 색인과 구문 검색은 같은 규칙으로 토큰을 나눠야 한다.
+ */
+public final class Tokenizer {
+    /** 지나치게 긴 단어(해시, URL 등)는 잘라서 색인한다. */
+    static final int MAX_WORD_LENGTH = 32;
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                addHangulGrams(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && !isHangul(text.charAt(i)) && Character.isLetterOrDigit(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(text.substring(start, Math.min(i, start + MAX_WORD_LENGTH)).toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    /**
+     * 한 글자로만 된 한글 토큰. 한 글자 검색어는 이 글자로 시작하는 2-gram 까지 찾아야 한다.
+     */
+    static boolean isHangulUnigram(String token) {
+        return token.length() == 1 && isHangul(token.charAt(0));
+    }
+
+    private static void addHangulGrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.loopers.support.warmup;
+
+import com.loopers.domain.example.ExampleAccessLog;
+import com.loopers.domain.example.ExampleService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readiness 가 UP 이 되기 전에 애플리케이션을 데운다.
+ * <p>
+ * readiness 는 모든 {@link ApplicationRunner} 가 끝난 뒤 발행되는 ApplicationReadyEvent 에서 ACCEPTING_TRAFFIC 이 되므로,
+ * 이 러너가 끝날 때까지 로드밸런서는 트래픽을 보내지 않는다. 웹 서버는 이미 떠 있으므로 실제 HTTP 경로로 요청을 재생할 수 있다.
+ * <ol>
+ *     <li>커넥션 풀을 최대 크기까지 미리 연다.</li>
+ *     <li>조회 기록에서 가장 많이 조회된 예시들을 한 번에 읽어 DB 버퍼와 캐시를 채운다.</li>
+ *     <li>같은 예시들로 {@code GET /api/v1/examples/{id}} 를 반복 호출해, 라운드별 p90 이 안정될 때까지 JIT 를 데운다.
+ *     재생 요청은 {@link WarmupTraffic} 으로 표시해 조회 기록과 hot key 탐지에 남기지 않는다.</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+public class ApplicationWarmup implements ApplicationRunner {
+    private static final int STABLE_ROUNDS = 2;
+    private static final int FALLBACK_POOL_SIZE = 10;
+
+    private final WarmupProperties properties;
+    private final DataSource dataSource;
+    private final ExampleAccessLog exampleAccessLog;
+    private final ExampleService exampleService;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final WarmupTraffic warmupTraffic;
+
+    public ApplicationWarmup(
+        WarmupProperties properties,
+        DataSource dataSource,
+        ExampleAccessLog exampleAccessLog,
+        ExampleService exampleService,
+        Environment environment,
+        MeterRegistry meterRegistry,
+        WarmupTraffic warmupTraffic
+    ) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.exampleAccessLog = exampleAccessLog;
+        this.exampleService = exampleService;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.warmupTraffic = warmupTraffic;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.budget().toNanos();
+        String outcome = "settled";
+        try {
+            openConnections();
+            List<Long> hotIds = exampleAccessLog.findHottest(properties.hotKeys());
+            preload(hotIds, deadline);
+            if (!replayUntilSettled(hotIds, deadline)) {
+                outcome = "budget_exhausted";
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        } catch (RuntimeException e) {
+            // 워밍업 실패로 기동을 막지는 않는다.
+            log.warn("워밍업 중 오류가 발생해 중단합니다.", e);
+            outcome = "failed";
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("warmup.duration")
+            .description("기동 후 readiness 전까지 워밍업에 걸린 시간")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("워밍업 완료 : outcome = {}, elapsed = {}ms", outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * minimum-idle 만큼만 열려 있는 풀을 최대 크기까지 채운다. 동시에 빌린 뒤 반납하면 풀에 idle 로 남는다.
+     */
+    private void openConnections() {
+        int size = FALLBACK_POOL_SIZE;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                size = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("커넥션 풀 크기를 확인하지 못했습니다.", e);
+        }
+
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션을 {} 개까지만 미리 열었습니다.", connections.size(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 반납 실패는 풀이 정리한다.
+                }
+            }
+        }
+    }
+
+    private void preload(List<Long> hotIds, long deadline) {
+        int chunkSize = 500;
+        for (int from = 0; from < hotIds.size() && System.nanoTime() < deadline; from += chunkSize) {
+            exampleService.getExamples(hotIds.subList(from, Math.min(from + chunkSize, hotIds.size())));
+        }
+    }
+
+    /**
+     * 라운드마다 {@code roundSize} 건을 재생하고, 연속한 라운드의 p90 이 {@code settleRatio} 안으로 들어오면 멈춘다.
+     *
+     * @return 예산 안에 안정됐거나 재생할 대상이 없으면 true
+     */
+    private boolean replayUntilSettled(List<Long> hotIds, long deadline) throws InterruptedException {
+        String port = environment.getProperty("local.server.port");
+        if (hotIds.isEmpty() || port == null) {
+            return true;
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        List<URI> targets = hotIds.stream()
+            .map(id -> URI.create("http://localhost:" + port + "/api/v1/examples/" + id))
+            .toList();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(properties.concurrency())) {
+            double previous = -1;
+            int stableRounds = 0;
+            int round = 0;
+            while (System.nanoTime() < deadline) {
+                double p90 = replayRound(client, executor, targets, round++, deadline);
+                if (previous > 0 && Math.abs(p90 - previous) / previous <= properties.settleRatio()) {
+                    if (++stableRounds >= STABLE_ROUNDS) {
+                        log.info("워밍업 지연이 안정되었습니다. (rounds = {}, p90 = {}ms)", round, String.format("%.2f", p90 / 1_000_000));
+                        return true;
+                    }
+                } else {
+                    stableRounds = 0;
+                }
+                previous = p90;
+            }
+            return false;
+        }
+    }
+
+    private double replayRound(
+        HttpClient client,
+        ExecutorService executor,
+        List<URI> targets,
+        int round,
+        long deadline
+    ) throws InterruptedException {
+        long[] latencies = new long[properties.roundSize()];
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>(properties.concurrency());
+        for (int worker = 0; worker < properties.concurrency(); worker++) {
+            workers.add(executor.submit(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < latencies.length && System.nanoTime() < deadline) {
+                    URI target = targets.get((round * latencies.length + i) % targets.size());
+                    long startedAt = System.nanoTime();
+                    try {
+                        HttpRequest request = HttpRequest.newBuilder(target)
+                            .header(WarmupTraffic.HEADER, warmupTraffic.token())
+                            .GET()
+                            .build();
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                    } catch (Exception e) {
+                        // 실패한 요청도 지연으로 기록해, 안정 여부 판단에 반영한다.
+                    }
+                    latencies[i] = System.nanoTime() - startedAt;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        long[] measured = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+        return measured.length == 0 ? 0 : measured[(int) Math.ceil(measured.length * 0.9) - 1];
+    }
+}
@@ -0,0 +1,25 @@
+package com.loopers.support.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 기동 직후 readiness 전에 수행하는 워밍업 설정.
+ *
+ * @param budget       워밍업 전체에 쓸 수 있는 최대 시간. 넘기면 남은 단계를 건너뛰고 트래픽을 받는다.
+ * @param hotKeys      조회 기록에서 가져올 상위 예시 수
+ * @param roundSize    지연이 안정됐는지 판단하는 한 라운드의 요청 수
+ * @param settleRatio  연속한 두 라운드의 p90 차이가 이 비율 이하면 안정된 것으로 본다.
+ * @param concurrency  재생 요청의 동시성
+ */
+@ConfigurationProperties("warmup")
+public record WarmupProperties(
+    boolean enabled,
+    Duration budget,
+    int hotKeys,
+    int roundSize,
+    double settleRatio,
+    int concurrency
+) {
+}
@@ -0,0 +1,30 @@
+package com.loopers.support.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+/**
+ * {@link ApplicationWarmup} 이 재생하는 요청을 표시한다. 재생 요청은 실제 조회가 아니므로 조회 기록과 hot key 탐지에 남기지 않는다.
+ * <p>
+ * 표시는 프로세스마다 새로 만드는 토큰이라, 클라이언트가 헤더를 흉내 내 기록을 피할 수 없다.
+ */
+@Component
+public class WarmupTraffic {
+    public static final String HEADER = "X-Warmup-Token";
+
+    private final String token = UUID.randomUUID().toString();
+    private final byte[] tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+
+    public String token() {
+        return token;
+    }
+
+    public boolean isWarmup(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        return value != null && MessageDigest.isEqual(tokenBytes, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.support.writebehind;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 수정을 Redis 에 먼저 기록하고 모아서 DB 에 반영하는 write-behind 설정.
+ *
+ * @param enabled       비활성화하면 수정은 지금처럼 바로 DB 에 반영된다
+ * @param flushInterval 모아 둔 수정을 DB 에 반영하는 주기
+ * @param batchSize     한 번에 가져와 반영하는 최대 기록 수 (한 트랜잭션)
+ * @param leaseTtl      반영 담당 인스턴스의 임대 시간. 담당이 죽으면 이 시간 뒤에 다른 인스턴스가 이어받는다.
+ * @param claimIdle     이 시간 동안 확인(ack)되지 않은 기록은 이전 담당이 처리하지 못한 것으로 보고 가져온다
+ */
+@ConfigurationProperties("write-behind")
+public record WriteBehindProperties(
+    boolean enabled,
+    Duration flushInterval,
+    int batchSize,
+    Duration leaseTtl,
+    Duration claimIdle
+) {
+}
@@ -0,0 +1,67 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.PerformanceBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+/**
+ * 같은 예시를 반복 조회하므로, hot key 로 승격되면 도중부터 로컬 캐시 응답을 재게 된다.
+ * 매번 DB 에서 읽는 경로의 예산이므로 hot key 캐시와 응답 캐시를 끈다.
+ * 실행 계획 검사의 JDBC 프록시와 파라미터 기록도 운영에는 없는 할당이므로 끈다.
+ */
+@SpringBootTest(properties = {
+    "hot-key.enabled=false",
+    "response-cache.enabled=false",
+    "query-plan-guard.enabled=false"
+})
+class ExampleFacadePerformanceBudgetTest {
+    @Autowired
+    private ExampleFacade exampleFacade;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        id = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("예시 조회는 호출당 64KB 미만을 할당한다.")
+    @Test
+    void getsExample_withinAllocationBudget() {
+        // act & assert
+        PerformanceBudget.of("example.getExample")
+            .allocatedBytesBelow(64 * 1024)
+            .run(() -> exampleFacade.getExample(id));
+    }
+
+    @DisplayName("예시 조회는 중앙값 20ms 안에 응답한다.")
+    @Tag("benchmark")
+    @Test
+    void getsExample_withinTimeBudget() {
+        // act & assert
+        PerformanceBudget.of("example.getExample")
+            .medianTimeBelow(Duration.ofMillis(20))
+            .run(() -> exampleFacade.getExample(id));
+    }
+}
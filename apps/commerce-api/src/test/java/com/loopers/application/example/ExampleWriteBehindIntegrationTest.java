@@ -0,0 +1,129 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleWriteBuffer;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+    "write-behind.enabled=true",
+    "write-behind.flush-interval=1h" // 반영은 테스트에서 직접 호출한다
+})
+class ExampleWriteBehindIntegrationTest {
+    @Autowired
+    private ExampleFacade exampleFacade;
+
+    @Autowired
+    private ExampleWriteBehindFlusher exampleWriteBehindFlusher;
+
+    @Autowired
+    private ExampleWriteBuffer exampleWriteBuffer;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("write-behind 로 예시 설명을 수정할 때,")
+    @Nested
+    class Update {
+        @DisplayName("DB 에 반영되기 전에도, 조회하면 수정된 설명이 보인다.")
+        @Test
+        void returnsPendingDescription_beforeFlush() {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+
+            // act
+            ExampleInfo updated = exampleFacade.updateExample(example.getId(), "수정된 설명");
+            ExampleInfo read = exampleFacade.getExample(example.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(updated.description()).isEqualTo("수정된 설명"),
+                () -> assertThat(read.description()).isEqualTo("수정된 설명"),
+                () -> assertThat(exampleJpaRepository.findById(example.getId()).get().getDescription()).isEqualTo("예시 설명")
+            );
+        }
+
+        @DisplayName("같은 예시를 여러 번 수정하면, 마지막 설명만 DB 에 반영되고 보류 중인 수정이 비워진다.")
+        @Test
+        void flushesLastDescription_whenSameExampleIsUpdatedRepeatedly() {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+            exampleFacade.updateExample(example.getId(), "설명 1");
+            exampleFacade.updateExample(example.getId(), "설명 2");
+            exampleFacade.updateExample(example.getId(), "설명 3");
+
+            // act
+            exampleWriteBehindFlusher.flush();
+
+            // assert
+            assertAll(
+                () -> assertThat(exampleJpaRepository.findById(example.getId()).get().getDescription()).isEqualTo("설명 3"),
+                () -> assertThat(exampleWriteBuffer.findPending(List.of(example.getId()))).isEmpty(),
+                () -> assertThat(exampleWriteBuffer.backlog()).isZero()
+            );
+        }
+
+        @DisplayName("단건 수정 뒤에 대량 수정하면, 반영 전에도 후에도 대량 수정의 설명이 보인다.")
+        @Test
+        void keepsBulkDescription_whenBulkUpdateFollowsDeferredUpdate() {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+            exampleFacade.updateExample(example.getId(), "단건 수정");
+
+            // act
+            ExampleBulkResult result = exampleFacade.updateExamples(
+                List.of(new ExampleCommand.Update(example.getId(), "대량 수정")).iterator()
+            );
+            ExampleInfo beforeFlush = exampleFacade.getExample(example.getId());
+            exampleWriteBehindFlusher.flush();
+
+            // assert
+            assertAll(
+                () -> assertThat(result.failures()).isEmpty(),
+                () -> assertThat(beforeFlush.description()).isEqualTo("대량 수정"),
+                () -> assertThat(exampleJpaRepository.findById(example.getId()).get().getDescription()).isEqualTo("대량 수정"),
+                () -> assertThat(exampleWriteBuffer.findPending(List.of(example.getId()))).isEmpty()
+            );
+        }
+
+        @DisplayName("존재하지 않는 예시면, 기록하지 않고 NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsNotFound_whenExampleDoesNotExist() {
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> exampleFacade.updateExample(999L, "수정된 설명"));
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND),
+                () -> assertThat(exampleWriteBuffer.backlog()).isZero()
+            );
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.loopers.config.jpa;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class SoftDeleteFilterIntegrationTest {
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ExampleModel live;
+    private ExampleModel deleted;
+    /** 목록 조회도 ID 로 범위를 좁혀 전체 스캔 없이 확인한다. (QueryPlanGuard) */
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        live = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+        ExampleModel example = new ExampleModel("예시 제목2", "예시 설명2");
+        example.delete();
+        deleted = exampleJpaRepository.save(example);
+        ids = List.of(live.getId(), deleted.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("기본으로는, 삭제된 예시가 ID 조회와 목록 조회 모두에서 제외된다.")
+    @Test
+    void excludesDeleted_byDefault() {
+        // act
+        Optional<ExampleModel> byId = exampleJpaRepository.findById(deleted.getId());
+        List<ExampleModel> all = exampleJpaRepository.findAllById(ids);
+
+        // assert
+        assertAll(
+            () -> assertThat(byId).isEmpty(),
+            () -> assertThat(all).extracting(ExampleModel::getId).containsExactly(live.getId())
+        );
+    }
+
+    @DisplayName("필터를 해제한 조회에서는 삭제된 예시도 읽고, 끝나면 같은 트랜잭션에서 다시 제외한다.")
+    @Test
+    void includesDeleted_onlyInsideQuery() {
+        // act
+        List<List<Long>> ids = transactionTemplate.execute(status -> List.of(
+            softDeleteFilter.includingDeleted(() -> exampleJpaRepository.findAllById(ids)).stream().map(ExampleModel::getId).toList(),
+            exampleJpaRepository.findAllById(ids).stream().map(ExampleModel::getId).toList()
+        ));
+
+        // assert
+        assertAll(
+            () -> assertThat(ids.get(0)).containsExactlyInAnyOrder(live.getId(), deleted.getId()),
+            () -> assertThat(ids.get(1)).containsExactly(live.getId())
+        );
+    }
+
+    @DisplayName("트랜잭션 밖에서 필터를 해제하려 하면, 예외가 발생한다.")
+    @Test
+    void throws_whenNoTransaction() {
+        // act & assert
+        assertThatThrownBy(() -> softDeleteFilter.includingDeleted(() -> exampleJpaRepository.findAllById(ids)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
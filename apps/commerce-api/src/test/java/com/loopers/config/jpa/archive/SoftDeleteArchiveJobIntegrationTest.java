@@ -0,0 +1,116 @@
+package com.loopers.config.jpa.archive;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class SoftDeleteArchiveJobIntegrationTest {
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `example_archive`");
+    }
+
+    private SoftDeleteArchiveJob job() {
+        SoftDeleteArchiveProperties properties = new SoftDeleteArchiveProperties(
+            true, List.of("example"), RETENTION, 2, Duration.ZERO, Duration.ofSeconds(5), Duration.ofHours(1), null
+        );
+        return new SoftDeleteArchiveJob(jdbcTemplate, transactionTemplate, ReplicationLagProbe.NONE, properties, meterRegistry);
+    }
+
+    private Long deletedAgo(String name, Duration ago) {
+        Long id = exampleJpaRepository.save(new ExampleModel(name, name + " 설명")).getId();
+        jdbcTemplate.update("UPDATE example SET deleted_at = ? WHERE id = ?", LocalDateTime.now(ZoneOffset.UTC).minus(ago), id);
+        return id;
+    }
+
+    /**
+     * candidates 중 table 에 남아 있는 ID. 전체 스캔하지 않도록 ID 로 범위를 좁힌다. (QueryPlanGuard)
+     */
+    private List<Long> idsIn(String table, List<Long> candidates) {
+        String placeholders = String.join(", ", Collections.nCopies(candidates.size(), "?"));
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM `" + table + "` WHERE id IN (" + placeholders + ") ORDER BY id", Long.class, candidates.toArray()
+        );
+    }
+
+    @DisplayName("보관 기간이 지난 삭제 행만, 청크 단위로 아카이브 테이블로 옮긴다.")
+    @Test
+    void movesRowsDeletedBeforeRetention() throws InterruptedException {
+        // arrange
+        Long live = exampleJpaRepository.save(new ExampleModel("예시", "예시 설명")).getId();
+        Long recent = deletedAgo("최근 삭제", Duration.ofDays(1));
+        Long old1 = deletedAgo("오래된 삭제1", RETENTION.plusDays(1));
+        Long old2 = deletedAgo("오래된 삭제2", RETENTION.plusDays(1));
+        Long old3 = deletedAgo("오래된 삭제3", RETENTION.plusDays(1));
+
+        List<Long> all = List.of(live, recent, old1, old2, old3);
+
+        // act
+        job().archive("example");
+
+        // assert
+        assertAll(
+            () -> assertThat(idsIn("example", all)).containsExactly(live, recent),
+            () -> assertThat(idsIn("example_archive", all)).containsExactly(old1, old2, old3),
+            () -> assertThat(meterRegistry.counter("jpa.archive.rows", "table", "example").count()).isEqualTo(3)
+        );
+    }
+
+    @DisplayName("아카이브 테이블의 컬럼 순서가 원본과 달라도, 값은 같은 이름의 컬럼으로 옮긴다.")
+    @Test
+    void copiesByColumnName_whenArchiveColumnOrderDiffers() throws InterruptedException {
+        // arrange
+        Long old = deletedAgo("오래된 삭제", RETENTION.plusDays(1));
+        jdbcTemplate.execute("CREATE TABLE `example_archive` LIKE `example`");
+        // 원본에 나중에 추가된 컬럼처럼, 아카이브에는 없다가 맨 뒤에 다시 생기게 한다.
+        jdbcTemplate.execute("ALTER TABLE `example_archive` DROP COLUMN `name`");
+
+        // act
+        job().archive("example");
+
+        // assert
+        Map<String, Object> archived = jdbcTemplate.queryForMap("SELECT name, description FROM example_archive WHERE id = ?", old);
+        assertAll(
+            () -> assertThat(archived.get("name")).isEqualTo("오래된 삭제"),
+            () -> assertThat(archived.get("description")).isEqualTo("오래된 삭제 설명"),
+            () -> assertThat(idsIn("example", List.of(old))).isEmpty()
+        );
+    }
+}
@@ -10,6 +10,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -23,6 +28,12 @@ class ExampleServiceIntegrationTest {
     @Autowired
     private ExampleJpaRepository exampleJpaRepository;
 
+    @Autowired
+    private ExampleSearchIndex exampleSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -69,4 +80,162 @@ class ExampleServiceIntegrationTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         }
     }
+
+    @DisplayName("예시를 대량으로 저장할 때,")
+    @Nested
+    class CreateAll {
+        @DisplayName("주어진 예시들이 모두 저장되고, 저장 순서대로 생성된 ID 를 반환한다.")
+        @Test
+        void savesAllExamples_andReturnsGeneratedIds() {
+            // arrange
+            List<ExampleModel> examples = List.of(
+                new ExampleModel("예시 제목1", "예시 설명1"),
+                new ExampleModel("예시 제목2", "예시 설명2")
+            );
+
+            // act
+            List<Long> ids = exampleService.createExamples(examples);
+
+            // assert
+            assertAll(
+                () -> assertThat(ids).hasSize(2),
+                () -> assertThat(exampleJpaRepository.findById(ids.get(0)).orElseThrow().getName()).isEqualTo("예시 제목1"),
+                () -> assertThat(exampleJpaRepository.findById(ids.get(1)).orElseThrow().getName()).isEqualTo("예시 제목2")
+            );
+        }
+    }
+
+    @DisplayName("예시를 대량으로 수정할 때,")
+    @Nested
+    class UpdateAll {
+        @DisplayName("존재하지 않는 ID 는 NOT_FOUND 로, 유효하지 않은 설명은 BAD_REQUEST 로 반환하고 나머지는 반영한다.")
+        @Test
+        void appliesValidUpdates_andReturnsFailuresById() {
+            // arrange
+            ExampleModel valid = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel invalid = exampleJpaRepository.save(new ExampleModel("예시 제목2", "예시 설명2"));
+            Long missingId = 999L;
+
+            // act
+            Map<Long, CoreException> failures = exampleService.updateExamples(Map.of(
+                valid.getId(), "수정된 설명",
+                invalid.getId(), "  ",
+                missingId, "수정된 설명"
+            ));
+
+            // assert
+            assertAll(
+                () -> assertThat(failures).containsOnlyKeys(invalid.getId(), missingId),
+                () -> assertThat(failures.get(invalid.getId()).getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(failures.get(missingId).getErrorType()).isEqualTo(ErrorType.NOT_FOUND),
+                () -> assertThat(exampleJpaRepository.findById(valid.getId()).orElseThrow().getDescription()).isEqualTo("수정된 설명"),
+                () -> assertThat(exampleJpaRepository.findById(invalid.getId()).orElseThrow().getDescription()).isEqualTo("예시 설명2")
+            );
+        }
+    }
+
+    /**
+     * 테이블을 비워도 색인은 남아 있고 ID 는 다시 1 부터 쓰이므로, 테스트마다 다른 검색어를 쓴다.
+     */
+    @DisplayName("예시를 검색할 때,")
+    @Nested
+    class Search {
+        @DisplayName("생성한 예시는 커밋된 뒤 색인에 반영되어 검색된다.")
+        @Test
+        void findsCreatedExample_afterCommit() {
+            // arrange
+            List<Long> ids = exampleService.createExamples(List.of(
+                new ExampleModel("aurora 제목", "예시 설명1"),
+                new ExampleModel("예시 제목2", "예시 설명2")
+            ));
+
+            // act
+            List<ExampleModel> result = exampleService.searchExamples("aurora", 10);
+
+            // assert
+            assertThat(result).extracting(ExampleModel::getId).containsExactly(ids.get(0));
+        }
+
+        @DisplayName("설명을 수정하면, 새 설명으로 검색되고 이전 설명으로는 검색되지 않는다.")
+        @Test
+        void reindexesUpdatedDescription() {
+            // arrange
+            Long id = exampleService.createExamples(List.of(new ExampleModel("예시 제목", "quasar 설명"))).get(0);
+
+            // act
+            exampleService.updateExample(id, "zephyr 설명");
+
+            // assert
+            assertAll(
+                () -> assertThat(exampleService.searchExamples("zephyr", 10)).extracting(ExampleModel::getId).containsExactly(id),
+                () -> assertThat(exampleService.searchExamples("quasar", 10)).isEmpty()
+            );
+        }
+
+        @DisplayName("트랜잭션이 끝나기 전에는 색인에 반영하지 않고, 롤백되면 끝내 반영하지 않는다.")
+        @Test
+        void doesNotIndex_beforeCommitOrAfterRollback() {
+            // act
+            List<Long> beforeCommit = transactionTemplate.execute(status -> {
+                exampleService.createExamples(List.of(new ExampleModel("nebula 제목", "예시 설명")));
+                List<Long> found = exampleSearchIndex.search("nebula", 10);
+                status.setRollbackOnly();
+                return found;
+            });
+
+            // assert
+            assertAll(
+                () -> assertThat(beforeCommit).isEmpty(),
+                () -> assertThat(exampleSearchIndex.search("nebula", 10)).isEmpty()
+            );
+        }
+
+        @DisplayName("결과 수가 1 이상 최대값 이하가 아니면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenSizeIsOutOfRange() {
+            // act
+            CoreException zero = assertThrows(CoreException.class, () -> exampleService.searchExamples("예시", 0));
+            CoreException tooLarge = assertThrows(CoreException.class,
+                () -> exampleService.searchExamples("예시", ExampleService.MAX_SEARCH_SIZE + 1));
+
+            // assert
+            assertAll(
+                () -> assertThat(zero.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(tooLarge.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(exampleService.searchExamples("예시", ExampleService.MAX_SEARCH_SIZE)).isNotNull()
+            );
+        }
+
+        @DisplayName("검색어가 비어 있으면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenQueryIsBlank() {
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> exampleService.searchExamples("  ", 10));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("예시를 내보낼 때,")
+    @Nested
+    class Export {
+        @DisplayName("삭제되지 않은 예시만 ID 순서대로 넘긴다.")
+        @Test
+        void passesLiveExamplesInIdOrder() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel deleted = new ExampleModel("예시 제목2", "예시 설명2");
+            deleted.delete();
+            exampleJpaRepository.save(deleted);
+            ExampleModel third = exampleJpaRepository.save(new ExampleModel("예시 제목3", "예시 설명3"));
+
+            // act
+            List<Long> ids = new ArrayList<>();
+            exampleService.exportExamples(example -> ids.add(example.getId()));
+
+            // assert
+            assertThat(ids).containsExactly(first.getId(), third.getId());
+        }
+    }
 }
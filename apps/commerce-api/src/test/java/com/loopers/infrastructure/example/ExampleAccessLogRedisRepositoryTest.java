@@ -0,0 +1,138 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.hedge.HedgedRedisReader;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class ExampleAccessLogRedisRepositoryTest {
+    @Autowired
+    private HedgedRedisReader hedgedRedisReader;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    /** 표본 추출 없이 모든 조회를 기록한다 */
+    private ExampleAccessLogRedisRepository repository() {
+        return new ExampleAccessLogRedisRepository(hedgedRedisReader, masterRedisTemplate, 1.0);
+    }
+
+    private static String key(ZonedDateTime at) {
+        return ExampleAccessLogRedisRepository.KEY_PREFIX + ExampleAccessLogRedisRepository.HOURLY_FORMAT.format(at);
+    }
+
+    @DisplayName("모아 둔 조회 기록을 반영할 때, ")
+    @Nested
+    class Flush {
+        @DisplayName("예시별 조회 수를 현재 시간 버킷에 더하고, 반영한 기록은 다시 반영하지 않는다.")
+        @Test
+        void addsCountsToCurrentBucket_once() {
+            // arrange
+            ExampleAccessLogRedisRepository repository = repository();
+            repository.record(1L);
+            repository.record(1L);
+            repository.record(2L);
+
+            // act
+            repository.flush();
+            repository.flush();
+
+            // assert
+            String key = key(ZonedDateTime.now());
+            ZSetOperations<String, String> zSet = masterRedisTemplate.opsForZSet();
+            assertAll(
+                () -> assertThat(zSet.score(key, "1")).isEqualTo(2.0),
+                () -> assertThat(zSet.score(key, "2")).isEqualTo(1.0)
+            );
+        }
+
+        @DisplayName("버킷에는 만료 시간을 둔다.")
+        @Test
+        void setsTtlOnBucket() {
+            // arrange
+            ExampleAccessLogRedisRepository repository = repository();
+            repository.record(1L);
+
+            // act
+            repository.flush();
+
+            // assert
+            Long expire = masterRedisTemplate.getExpire(key(ZonedDateTime.now()));
+            assertThat(expire).isPositive().isLessThanOrEqualTo(ExampleAccessLogRedisRepository.TTL.toSeconds());
+        }
+
+        @DisplayName("버킷이 최대 크기를 넘으면, 조회 수가 적은 예시부터 지워 상위만 남긴다.")
+        @Test
+        void trimsBucket_toMostAccessed() {
+            // arrange
+            String key = key(ZonedDateTime.now());
+            Set<ZSetOperations.TypedTuple<String>> existing = new HashSet<>();
+            for (long id = 1; id <= ExampleAccessLogRedisRepository.MAX_MEMBERS; id++) {
+                existing.add(new DefaultTypedTuple<>(Long.toString(id), 1.0));
+            }
+            masterRedisTemplate.opsForZSet().add(key, existing);
+            ExampleAccessLogRedisRepository repository = repository();
+            repository.record(0L);
+            repository.record(0L);
+
+            // act
+            repository.flush();
+
+            // assert
+            ZSetOperations<String, String> zSet = masterRedisTemplate.opsForZSet();
+            assertAll(
+                () -> assertThat(zSet.zCard(key)).isEqualTo(ExampleAccessLogRedisRepository.MAX_MEMBERS),
+                () -> assertThat(zSet.score(key, "0")).isEqualTo(2.0)
+            );
+        }
+    }
+
+    @DisplayName("가장 많이 조회된 예시를 찾을 때, ")
+    @Nested
+    class FindHottest {
+        @DisplayName("현재와 직전 시간 버킷의 조회 수를 합쳐 많은 순서로 limit 개를 돌려준다.")
+        @Test
+        void sumsRecentBuckets_inDescendingOrder() {
+            // arrange
+            ZonedDateTime now = ZonedDateTime.now();
+            ZSetOperations<String, String> zSet = masterRedisTemplate.opsForZSet();
+            zSet.add(key(now), "1", 3);
+            zSet.add(key(now), "2", 5);
+            zSet.add(key(now.minusHours(1)), "1", 4);
+            zSet.add(key(now.minusHours(1)), "3", 1);
+
+            // act
+            List<Long> hottest = repository().findHottest(2);
+
+            // assert
+            assertThat(hottest).containsExactly(1L, 2L);
+        }
+    }
+}
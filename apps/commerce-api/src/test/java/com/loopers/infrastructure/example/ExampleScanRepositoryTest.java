@@ -0,0 +1,109 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
+import org.hibernate.query.SelectionQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 사용량이 행 수와 관계없이 일정하다는 것은 GC 결과가 아니라, 스캔이 지키는 계약으로 확인한다.
+ * 영속성 컨텍스트가 없는 세션으로, 드라이버가 한 행씩 스트리밍하도록 읽고, 다음 행을 읽기 전에 이전 행을 넘긴다.
+ */
+class ExampleScanRepositoryTest {
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final SessionFactory sessionFactory = mock(SessionFactory.class);
+    private final StatelessSessionBuilder sessionBuilder = mock(StatelessSessionBuilder.class);
+    private final StatelessSession session = mock(StatelessSession.class);
+    @SuppressWarnings("unchecked")
+    private final SelectionQuery<ExampleModel> query = mock(SelectionQuery.class);
+    @SuppressWarnings("unchecked")
+    private final ScrollableResults<ExampleModel> rows = mock(ScrollableResults.class);
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    @SuppressWarnings("unchecked")
+    private final Consumer<ExampleModel> action = mock(Consumer.class);
+
+    private final ExampleModel first = new ExampleModel("예시 제목1", "예시 설명1");
+    private final ExampleModel second = new ExampleModel("예시 제목2", "예시 설명2");
+
+    private final ExampleScanRepository repository = new ExampleScanRepository(entityManagerFactory, dataSource);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(sessionFactory.withStatelessOptions()).thenReturn(sessionBuilder);
+        when(sessionBuilder.connection(connection)).thenReturn(sessionBuilder);
+        when(sessionBuilder.openStatelessSession()).thenReturn(session);
+        when(session.createSelectionQuery(anyString(), eq(ExampleModel.class))).thenReturn(query);
+        when(query.setFetchSize(anyInt())).thenReturn(query);
+        when(query.scroll(any(ScrollMode.class))).thenReturn(rows);
+        when(rows.next()).thenReturn(true, true, false);
+        when(rows.get()).thenReturn(first, second);
+    }
+
+    @DisplayName("예시를 훑으면, 상태 없는 세션의 forward-only 스트리밍 결과에서 한 행씩 읽어 다음 행을 읽기 전에 넘긴다.")
+    @Test
+    void passesEachRow_beforeReadingNext() throws Exception {
+        // act
+        repository.forEachExample(action);
+
+        // assert
+        InOrder order = inOrder(rows, action);
+        order.verify(rows).next();
+        order.verify(action).accept(first);
+        order.verify(rows).next();
+        order.verify(action).accept(second);
+        order.verify(rows).next();
+        order.verify(rows).close();
+        verify(query).setFetchSize(Integer.MIN_VALUE);
+        verify(query).scroll(ScrollMode.FORWARD_ONLY);
+        verify(sessionFactory, never()).openSession();
+        verify(session).close();
+        verify(connection).close();
+        verify(connection, never()).abort(any());
+    }
+
+    @DisplayName("도중에 실패하면, 남은 행을 읽어 버리지 않도록 결과를 닫지 않고 커넥션을 abort 해 풀에서 제거한다.")
+    @Test
+    void abortsConnection_whenActionFails() throws Exception {
+        // arrange
+        HikariDataSource pool = mock(HikariDataSource.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(pool);
+        doThrow(new IllegalStateException("클라이언트 연결 끊김")).when(action).accept(first);
+
+        // act & assert
+        assertThatThrownBy(() -> repository.forEachExample(action)).isInstanceOf(IllegalStateException.class);
+        verify(rows, never()).close();
+        verify(connection).abort(any(Executor.class));
+        verify(pool).evictConnection(connection);
+        verify(connection).close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.PerformanceBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class ApiControllerAdviceTest {
+    private final ApiControllerAdvice advice = new ApiControllerAdvice(new SimpleMeterRegistry());
+
+    @DisplayName("예상된 CoreException 은 미리 만든 응답을 돌려주므로, 예외 생성까지 포함해 호출당 1KB 미만을 할당한다.")
+    @Test
+    void handlesExpectedException_withinAllocationBudget() {
+        // act & assert
+        PerformanceBudget.of("api.controller-advice.expected")
+            .warmup(10_000)
+            .iterations(10_000)
+            .allocatedBytesBelow(1024)
+            .run(() -> advice.handle(new CoreException(ErrorType.NOT_FOUND)));
+    }
+
+    @DisplayName("예상된 CoreException 은 중앙값 1ms 안에 처리한다.")
+    @Tag("benchmark")
+    @Test
+    void handlesExpectedException_withinTimeBudget() {
+        // act & assert
+        PerformanceBudget.of("api.controller-advice.expected")
+            .warmup(10_000)
+            .iterations(10_000)
+            .medianTimeBelow(Duration.ofMillis(1))
+            .run(() -> advice.handle(new CoreException(ErrorType.NOT_FOUND)));
+    }
+}
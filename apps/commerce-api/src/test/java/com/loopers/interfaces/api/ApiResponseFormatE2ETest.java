@@ -0,0 +1,143 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiResponseFormatE2ETest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final TypeReference<ApiResponse<ExampleV1Dto.ExampleResponse>> EXAMPLE_RESPONSE = new TypeReference<>() {};
+
+    private final TestRestTemplate testRestTemplate;
+    private final ExampleJpaRepository exampleJpaRepository;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    public ApiResponseFormatE2ETest(
+        TestRestTemplate testRestTemplate,
+        ExampleJpaRepository exampleJpaRepository,
+        DatabaseCleanUp databaseCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.exampleJpaRepository = exampleJpaRepository;
+        this.databaseCleanUp = databaseCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private ResponseEntity<byte[]> get(String url, MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, accept.toString());
+        return testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null, headers), byte[].class);
+    }
+
+    private ApiResponse<ExampleV1Dto.ExampleResponse> decodeProtobuf(byte[] body) throws IOException {
+        ProtobufMapper mapper = new ProtobufMapper();
+        JavaType type = mapper.getTypeFactory().constructType(EXAMPLE_RESPONSE);
+        ProtobufSchema schema = mapper.generateSchemaFor(type);
+        return mapper.readerFor(type).with(schema).readValue(body);
+    }
+
+    @DisplayName("GET /api/v1/examples/{id} 를 바이너리 형식으로 요청할 때, ")
+    @Nested
+    class Get {
+        @DisplayName("CBOR, Smile, protobuf 모두 JSON 과 같은 meta/data 구조로 응답한다.")
+        @Test
+        void returnsSameShape_forEachBinaryFormat() throws IOException {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+            String url = "/api/v1/examples/" + example.getId();
+
+            // act
+            ResponseEntity<byte[]> cbor = get(url, MediaType.APPLICATION_CBOR);
+            ResponseEntity<byte[]> smile = get(url, APPLICATION_SMILE);
+            ResponseEntity<byte[]> protobuf = get(url, ProtobufApiResponseConverter.APPLICATION_PROTOBUF);
+
+            // assert
+            ApiResponse<ExampleV1Dto.ExampleResponse> fromCbor = new CBORMapper().readValue(cbor.getBody(), EXAMPLE_RESPONSE);
+            ApiResponse<ExampleV1Dto.ExampleResponse> fromSmile = new SmileMapper().readValue(smile.getBody(), EXAMPLE_RESPONSE);
+            ApiResponse<ExampleV1Dto.ExampleResponse> fromProtobuf = decodeProtobuf(protobuf.getBody());
+            ExampleV1Dto.ExampleResponse expected = new ExampleV1Dto.ExampleResponse(example.getId(), "예시 제목", "예시 설명");
+            assertAll(
+                () -> assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR),
+                () -> assertThat(smile.getHeaders().getContentType()).isEqualTo(APPLICATION_SMILE),
+                () -> assertThat(protobuf.getHeaders().getContentType()).isEqualTo(ProtobufApiResponseConverter.APPLICATION_PROTOBUF),
+                () -> assertThat(fromCbor.meta().result()).isEqualTo(ApiResponse.Metadata.Result.SUCCESS),
+                () -> assertThat(fromCbor.data()).isEqualTo(expected),
+                () -> assertThat(fromSmile.data()).isEqualTo(expected),
+                () -> assertThat(fromProtobuf.meta().result()).isEqualTo(ApiResponse.Metadata.Result.SUCCESS),
+                () -> assertThat(fromProtobuf.data()).isEqualTo(expected)
+            );
+        }
+
+        @DisplayName("Accept 가 없으면, 지금처럼 JSON 으로 응답한다.")
+        @Test
+        void returnsJson_whenAcceptIsAbsent() throws IOException {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+
+            // act
+            ResponseEntity<byte[]> response = testRestTemplate.exchange(
+                "/api/v1/examples/" + example.getId(), HttpMethod.GET, new HttpEntity<>(null, new HttpHeaders()), byte[].class
+            );
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue(),
+                () -> assertThat(new ObjectMapper().readValue(response.getBody(), EXAMPLE_RESPONSE).data().id()).isEqualTo(example.getId())
+            );
+        }
+
+        @DisplayName("실패 응답도 요청한 형식으로 인코딩된다.")
+        @Test
+        void returnsFailureInRequestedFormat() throws IOException {
+            // act
+            ResponseEntity<byte[]> cbor = get("/api/v1/examples/-1", MediaType.APPLICATION_CBOR);
+            ResponseEntity<byte[]> protobuf = get("/api/v1/examples/-1", ProtobufApiResponseConverter.APPLICATION_PROTOBUF);
+
+            // assert
+            ApiResponse<ExampleV1Dto.ExampleResponse> fromCbor = new CBORMapper().readValue(cbor.getBody(), EXAMPLE_RESPONSE);
+            ApiResponse<ExampleV1Dto.ExampleResponse> fromProtobuf = decodeProtobuf(protobuf.getBody());
+            assertAll(
+                () -> assertThat(cbor.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND),
+                () -> assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR),
+                () -> assertThat(fromCbor.meta().result()).isEqualTo(ApiResponse.Metadata.Result.FAIL),
+                () -> assertThat(fromCbor.meta().errorCode()).isEqualTo(HttpStatus.NOT_FOUND.getReasonPhrase()),
+                () -> assertThat(protobuf.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND),
+                () -> assertThat(fromProtobuf.meta().result()).isEqualTo(ApiResponse.Metadata.Result.FAIL),
+                () -> assertThat(fromProtobuf.data()).isNull()
+            );
+        }
+    }
+}
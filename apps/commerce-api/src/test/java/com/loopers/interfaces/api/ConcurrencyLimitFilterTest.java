@@ -0,0 +1,211 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.limit.AdaptiveConcurrencyLimiter;
+import com.loopers.support.limit.ConcurrencyLimitProperties;
+import com.loopers.support.limit.RequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ConcurrencyLimitFilterTest {
+    private static final int LIMIT = 10; // 일반 요청은 publicShare 0.8 로 8 개까지
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(
+            true, LIMIT, LIMIT, LIMIT, Duration.ofMinutes(1), 1, 1.5, 0.2, 0.8,
+            List.of("/healthz"), List.of("/internal/**"), List.of("/api/v1/examples/export")
+        );
+        limiter = new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+        ApiResponseFormats formats = new ApiResponseFormats(
+            new ObjectMapper(),
+            new MappingJackson2CborHttpMessageConverter(),
+            new MappingJackson2SmileHttpMessageConverter(),
+            new Jackson2ObjectMapperBuilder()
+        );
+        filter = new ConcurrencyLimitFilter(limiter, properties, formats);
+    }
+
+    private void occupy(RequestPriority priority, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(limiter.tryAcquire(priority)).isPresent();
+        }
+    }
+
+    private MockHttpServletResponse request(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @DisplayName("한도가 가득 찼을 때, ")
+    @Nested
+    class Rejection {
+        @DisplayName("일반 요청은 컨트롤러에 넘기지 않고 503 과 Retry-After 로 바로 거절한다.")
+        @Test
+        void rejectsPublicRequest_whenPublicShareIsFull() throws Exception {
+            // arrange
+            occupy(RequestPriority.PUBLIC, 8);
+            MockFilterChain chain = new MockFilterChain();
+
+            // act
+            MockHttpServletResponse response = request(new MockHttpServletRequest("GET", "/api/v1/examples/1"), chain);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(503),
+                () -> assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1"),
+                () -> assertThat(response.getContentAsString()).contains("\"result\":\"FAIL\""),
+                () -> assertThat(chain.getRequest()).isNull(),
+                () -> assertThat(limiter.getInflight()).isEqualTo(8)
+            );
+        }
+
+        @DisplayName("Accept 가 JSON 을 q=0 으로 거절하면, 거절 응답을 다음으로 받을 수 있는 형식으로 보낸다.")
+        @Test
+        void rejectsInAcceptedFormat_whenJsonIsRefused() throws Exception {
+            // arrange
+            occupy(RequestPriority.PUBLIC, 8);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/examples/1");
+            request.addHeader(HttpHeaders.ACCEPT, "application/json;q=0, application/cbor");
+
+            // act
+            MockHttpServletResponse response = request(request, new MockFilterChain());
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(503),
+                () -> assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_CBOR_VALUE)
+            );
+        }
+
+        @DisplayName("내부 경로의 요청은 일반 요청 몫이 차도 남은 한도로 받는다.")
+        @Test
+        void acceptsInternalPath_whenPublicShareIsFull() throws Exception {
+            // arrange
+            occupy(RequestPriority.PUBLIC, 8);
+            MockFilterChain chain = new MockFilterChain();
+
+            // act
+            MockHttpServletResponse response = request(new MockHttpServletRequest("GET", "/internal/examples/1"), chain);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(200),
+                () -> assertThat(chain.getRequest()).isNotNull(),
+                () -> assertThat(limiter.getInflight()).isEqualTo(8)
+            );
+        }
+
+        @DisplayName("일반 경로는 내부 호출용 헤더를 붙여도 일반 요청으로 분류되어 거절된다.")
+        @Test
+        void ignoresClientHeaders_whenClassifyingPriority() throws Exception {
+            // arrange
+            occupy(RequestPriority.PUBLIC, 8);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/examples/1");
+            request.addHeader("X-Internal-Client", "batch");
+
+            // act
+            MockHttpServletResponse response = request(request, new MockFilterChain());
+
+            // assert
+            assertThat(response.getStatus()).isEqualTo(503);
+        }
+
+        @DisplayName("critical 경로는 한도 전체가 차도 받는다.")
+        @Test
+        void acceptsCriticalPath_whenLimitIsFull() throws Exception {
+            // arrange
+            occupy(RequestPriority.INTERNAL, LIMIT);
+
+            // act
+            MockHttpServletResponse response = request(new MockHttpServletRequest("GET", "/healthz"), new MockFilterChain());
+
+            // assert
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        @DisplayName("제외 경로는 한도를 적용하지 않는다.")
+        @Test
+        void skipsExcludedPath() throws Exception {
+            // arrange
+            occupy(RequestPriority.INTERNAL, LIMIT);
+
+            // act
+            MockHttpServletResponse response = request(new MockHttpServletRequest("GET", "/api/v1/examples/export"), new MockFilterChain());
+
+            // assert
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @DisplayName("받은 요청의 자리를 반환할 때, ")
+    @Nested
+    class Release {
+        @DisplayName("처리가 끝나면 바로 반환한다.")
+        @Test
+        void releasesPermit_afterChain() throws Exception {
+            // act
+            request(new MockHttpServletRequest("GET", "/api/v1/examples/1"), new MockFilterChain());
+
+            // assert
+            assertThat(limiter.getInflight()).isZero();
+        }
+
+        @DisplayName("처리 중 예외가 나도 반환하고, 예외는 그대로 던진다.")
+        @Test
+        void releasesPermit_whenChainThrows() {
+            // arrange
+            FilterChain chain = (request, response) -> {
+                throw new IllegalStateException("처리 실패");
+            };
+
+            // act & assert
+            assertThatThrownBy(() -> request(new MockHttpServletRequest("GET", "/api/v1/examples/1"), chain))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(limiter.getInflight()).isZero();
+        }
+
+        @DisplayName("비동기로 처리되는 요청은 응답이 끝날 때 반환한다.")
+        @Test
+        void releasesPermit_whenAsyncCompletes() throws Exception {
+            // arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/examples/1");
+            request.setAsyncSupported(true);
+            FilterChain chain = (req, res) -> req.startAsync(req, res);
+
+            // act
+            request(request, chain);
+            int inflightWhileStreaming = limiter.getInflight();
+            request.getAsyncContext().complete();
+
+            // assert
+            assertAll(
+                () -> assertThat(inflightWhileStreaming).isEqualTo(1),
+                () -> assertThat(limiter.getInflight()).isZero()
+            );
+        }
+    }
+}
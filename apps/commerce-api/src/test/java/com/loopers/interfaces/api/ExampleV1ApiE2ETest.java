@@ -1,6 +1,7 @@
 package com.loopers.interfaces.api;
 
 import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleService;
 import com.loopers.infrastructure.example.ExampleJpaRepository;
 import com.loopers.interfaces.api.example.ExampleV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
@@ -13,13 +14,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -27,6 +33,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class ExampleV1ApiE2ETest {
 
     private static final Function<Long, String> ENDPOINT_GET = id -> "/api/v1/examples/" + id;
+    private static final String ENDPOINT_BULK = "/api/v1/examples/bulk";
+    private static final String ENDPOINT_EXPORT = "/api/v1/examples/export";
+    private static final String ENDPOINT_SEARCH = "/api/v1/examples/search";
 
     private final TestRestTemplate testRestTemplate;
     private final ExampleJpaRepository exampleJpaRepository;
@@ -111,4 +120,190 @@ class ExampleV1ApiE2ETest {
             );
         }
     }
+
+    @DisplayName("POST /api/v1/examples/bulk")
+    @Nested
+    class BulkCreate {
+        @DisplayName("유효한 항목은 저장하고, 유효하지 않은 항목은 요청 내 순번과 함께 실패로 반환한다.")
+        @Test
+        void savesValidItems_andReportsInvalidItemsByIndex() {
+            // arrange
+            List<ExampleV1Dto.CreateRequest> request = List.of(
+                new ExampleV1Dto.CreateRequest("예시 제목1", "예시 설명1"),
+                new ExampleV1Dto.CreateRequest("  ", "예시 설명2"),
+                new ExampleV1Dto.CreateRequest("예시 제목3", "예시 설명3")
+            );
+
+            // act
+            ResponseEntity<ApiResponse<ExampleV1Dto.BulkResponse>> response = exchangeBulk(HttpMethod.POST, request);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().total()).isEqualTo(3),
+                () -> assertThat(response.getBody().data().succeeded()).isEqualTo(2),
+                () -> assertThat(response.getBody().data().failures())
+                    .extracting(ExampleV1Dto.BulkFailure::index, ExampleV1Dto.BulkFailure::errorCode)
+                    .containsExactly(tuple(1, HttpStatus.BAD_REQUEST.getReasonPhrase())),
+                () -> assertThat(exampleJpaRepository.count()).isEqualTo(2)
+            );
+        }
+
+        @DisplayName("JSON 배열 형식이 아닌 본문을 주면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenBodyIsMalformed() {
+            // act
+            ResponseEntity<ApiResponse<ExampleV1Dto.BulkResponse>> response = exchangeBulk(HttpMethod.POST, "[{\"name\": ");
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("PATCH /api/v1/examples/bulk")
+    @Nested
+    class BulkUpdate {
+        @DisplayName("존재하는 예시는 수정하고, 존재하지 않는 예시는 NOT_FOUND 실패로 반환한다.")
+        @Test
+        void updatesExistingItems_andReportsMissingItems() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+            List<ExampleV1Dto.UpdateRequest> request = List.of(
+                new ExampleV1Dto.UpdateRequest(-1L, "수정된 설명"),
+                new ExampleV1Dto.UpdateRequest(exampleModel.getId(), "수정된 설명")
+            );
+
+            // act
+            ResponseEntity<ApiResponse<ExampleV1Dto.BulkResponse>> response = exchangeBulk(HttpMethod.PATCH, request);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().succeeded()).isEqualTo(1),
+                () -> assertThat(response.getBody().data().failures())
+                    .extracting(ExampleV1Dto.BulkFailure::index, ExampleV1Dto.BulkFailure::errorCode)
+                    .containsExactly(tuple(0, HttpStatus.NOT_FOUND.getReasonPhrase())),
+                () -> assertThat(exampleJpaRepository.findById(exampleModel.getId()).orElseThrow().getDescription()).isEqualTo("수정된 설명")
+            );
+        }
+    }
+
+    /**
+     * 테이블을 비워도 색인은 남아 있고 ID 는 다시 1 부터 쓰이므로, 테스트마다 다른 검색어를 쓴다.
+     */
+    @DisplayName("GET /api/v1/examples/search")
+    @Nested
+    class Search {
+        @DisplayName("API 로 생성하고 수정한 예시를, 커밋된 내용으로 검색해 반환한다.")
+        @Test
+        void returnsExamplesMatchingCommittedChanges() {
+            // arrange
+            exchangeBulk(HttpMethod.POST, List.of(
+                new ExampleV1Dto.CreateRequest("예시 제목1", "solstice 설명"),
+                new ExampleV1Dto.CreateRequest("예시 제목2", "equinox 설명")
+            ));
+            Long updatedId = search("?q=equinox").getBody().data().examples().get(0).id();
+            exchangeBulk(HttpMethod.PATCH, List.of(new ExampleV1Dto.UpdateRequest(updatedId, "solstice 수정된 설명")));
+
+            // act
+            ResponseEntity<ApiResponse<ExampleV1Dto.SearchResponse>> response = search("?q=solstice");
+            ResponseEntity<ApiResponse<ExampleV1Dto.SearchResponse>> previous = search("?q=equinox");
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().examples())
+                    .extracting(ExampleV1Dto.ExampleResponse::name, ExampleV1Dto.ExampleResponse::description)
+                    .containsExactlyInAnyOrder(tuple("예시 제목1", "solstice 설명"), tuple("예시 제목2", "solstice 수정된 설명")),
+                () -> assertThat(previous.getBody().data().examples()).isEmpty()
+            );
+        }
+
+        @DisplayName("size 가 최대값을 넘으면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenSizeExceedsMax() {
+            // act
+            ResponseEntity<ApiResponse<ExampleV1Dto.SearchResponse>> response =
+                search("?q=solstice&size=" + (ExampleService.MAX_SEARCH_SIZE + 1));
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @DisplayName("검색어가 비어 있으면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenQueryIsBlank() {
+            // act
+            ResponseEntity<ApiResponse<ExampleV1Dto.SearchResponse>> response = search("?q=");
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/examples/export")
+    @Nested
+    class Export {
+        @DisplayName("format 을 주지 않으면, 예시마다 한 줄씩 NDJSON 으로 내보낸다.")
+        @Test
+        void streamsNdjson_byDefault() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel second = exampleJpaRepository.save(new ExampleModel("예시 제목2", "예시 설명2"));
+
+            // act
+            ResponseEntity<byte[]> response = testRestTemplate.getForEntity(ENDPOINT_EXPORT, byte[].class);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON),
+                () -> assertThat(new String(response.getBody(), StandardCharsets.UTF_8).lines().toList()).containsExactly(
+                    "{\"id\":" + first.getId() + ",\"name\":\"예시 제목1\",\"description\":\"예시 설명1\"}",
+                    "{\"id\":" + second.getId() + ",\"name\":\"예시 제목2\",\"description\":\"예시 설명2\"}"
+                )
+            );
+        }
+
+        @DisplayName("format=csv 이면, 헤더와 함께 쉼표/따옴표가 있는 값을 따옴표로 감싸 내보낸다.")
+        @Test
+        void streamsCsv_withQuotedValues() {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시, 제목", "\"예시\" 설명"));
+
+            // act
+            ResponseEntity<String> response = testRestTemplate.getForEntity(ENDPOINT_EXPORT + "?format=csv", String.class);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/csv"))).isTrue(),
+                () -> assertThat(response.getBody()).isEqualTo(
+                    "id,name,description\r\n" + example.getId() + ",\"예시, 제목\",\"\"\"예시\"\" 설명\"\r\n"
+                )
+            );
+        }
+
+        @DisplayName("지원하지 않는 format 이면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenFormatIsNotSupported() {
+            // act
+            ResponseEntity<String> response = testRestTemplate.getForEntity(ENDPOINT_EXPORT + "?format=xml", String.class);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private ResponseEntity<ApiResponse<ExampleV1Dto.SearchResponse>> search(String query) {
+        ParameterizedTypeReference<ApiResponse<ExampleV1Dto.SearchResponse>> responseType = new ParameterizedTypeReference<>() {};
+        return testRestTemplate.exchange(ENDPOINT_SEARCH + query, HttpMethod.GET, new HttpEntity<>(null), responseType);
+    }
+
+    private ResponseEntity<ApiResponse<ExampleV1Dto.BulkResponse>> exchangeBulk(HttpMethod method, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ParameterizedTypeReference<ApiResponse<ExampleV1Dto.BulkResponse>> responseType = new ParameterizedTypeReference<>() {};
+        return testRestTemplate.exchange(ENDPOINT_BULK, method, new HttpEntity<>(body, headers), responseType);
+    }
 }
@@ -0,0 +1,125 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.interfaces.api.ranking.RankingV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RankingV1ApiE2ETest {
+
+    private static final String ENDPOINT = "/api/v1/rankings";
+    private static final DateTimeFormatter HOURLY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private final TestRestTemplate testRestTemplate;
+    private final ExampleJpaRepository exampleJpaRepository;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public RankingV1ApiE2ETest(
+        TestRestTemplate testRestTemplate,
+        ExampleJpaRepository exampleJpaRepository,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        DatabaseCleanUp databaseCleanUp,
+        RedisCleanUp redisCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.exampleJpaRepository = exampleJpaRepository;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("GET /api/v1/rankings")
+    @Nested
+    class Get {
+        @DisplayName("최근 시간 버킷에 점수가 있으면, 점수 내림차순으로 예시 정보와 순위를 반환한다.")
+        @Test
+        void returnsRankedExamples_whenBucketsHaveScores() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("첫번째", "설명"));
+            ExampleModel second = exampleJpaRepository.save(new ExampleModel("두번째", "설명"));
+            ExampleModel third = exampleJpaRepository.save(new ExampleModel("세번째", "설명"));
+
+            // 시간 경계에서도 순서가 같도록 현재/직전 버킷에 같은 점수를 둔다.
+            ZonedDateTime now = ZonedDateTime.now();
+            for (ZonedDateTime at : new ZonedDateTime[]{now, now.minusHours(1)}) {
+                String key = "ranking:example:hourly:" + HOURLY_FORMAT.format(at);
+                masterRedisTemplate.opsForZSet().add(key, String.valueOf(first.getId()), 30);
+                masterRedisTemplate.opsForZSet().add(key, String.valueOf(second.getId()), 20);
+                masterRedisTemplate.opsForZSet().add(key, String.valueOf(third.getId()), 10);
+            }
+
+            // act
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> response = get(ENDPOINT + "?period=HOURLY&page=0&size=2");
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().items())
+                    .extracting(RankingV1Dto.RankingResponse::rank, RankingV1Dto.RankingResponse::exampleId)
+                    .containsExactly(tuple(1, first.getId()), tuple(2, second.getId()))
+            );
+        }
+
+        @DisplayName("페이지 크기가 최대값을 넘으면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenPageSizeIsTooLarge() {
+            // act
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> response = get(ENDPOINT + "?size=101");
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is4xxClientError()),
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST)
+            );
+        }
+
+        @DisplayName("지원하지 않는 집계 구간을 주면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenPeriodIsInvalid() {
+            // act
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> response = get(ENDPOINT + "?period=WEEKLY");
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> get(String url) {
+        ParameterizedTypeReference<ApiResponse<RankingV1Dto.RankingPageResponse>> responseType = new ParameterizedTypeReference<>() {};
+        return testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(null), responseType);
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.support.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ResponseByteCacheTest {
+    private static final byte[] BODY = "{\"meta\":{\"result\":\"SUCCESS\"}}".getBytes(StandardCharsets.UTF_8);
+
+    private ResponseByteCache cache(Duration ttl, int maxEntries, int gzipMinSize) {
+        return new ResponseByteCache(
+            "test", new ResponseCacheProperties(true, ttl, maxEntries, gzipMinSize), new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("응답을 저장할 때, ")
+    @Nested
+    class Put {
+        @DisplayName("읽기 전에 받은 버전이 그대로면, 저장한 바이트를 그대로 돌려준다.")
+        @Test
+        void returnsStoredBytes() {
+            // arrange
+            ResponseByteCache cache = cache(Duration.ofMinutes(1), 10, 1024);
+
+            // act
+            cache.put(1L, cache.version(1L), BODY);
+
+            // assert
+            ResponseByteCache.Entry entry = cache.find(1L);
+            assertAll(
+                () -> assertThat(entry).isNotNull(),
+                () -> assertThat(entry.body()).isEqualTo(BODY),
+                () -> assertThat(entry.gzipBody()).isNull()
+            );
+        }
+
+        @DisplayName("읽는 사이에 무효화되었으면, 이전 값을 저장하지 않는다.")
+        @Test
+        void skips_whenInvalidatedWhileLoading() {
+            // arrange
+            ResponseByteCache cache = cache(Duration.ofMinutes(1), 10, 1024);
+            long version = cache.version(1L);
+
+            // act
+            cache.invalidate(1L);
+            cache.put(1L, version, BODY);
+
+            // assert
+            assertThat(cache.find(1L)).isNull();
+        }
+
+        @DisplayName("가득 차 있으면, 만료되지 않은 응답을 밀어내지 않고 저장하지 않는다.")
+        @Test
+        void skips_whenFull() {
+            // arrange
+            ResponseByteCache cache = cache(Duration.ofMinutes(1), 2, 1024);
+            cache.put(1L, cache.version(1L), BODY);
+            cache.put(2L, cache.version(2L), BODY);
+
+            // act
+            cache.put(3L, cache.version(3L), BODY);
+
+            // assert
+            assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.find(3L)).isNull(),
+                () -> assertThat(cache.find(1L)).isNotNull()
+            );
+        }
+
+        @DisplayName("기준 크기 이상이면, 같은 내용으로 풀리는 gzip 사본을 함께 만든다.")
+        @Test
+        void createsGzipVariant() throws IOException {
+            // arrange
+            ResponseByteCache cache = cache(Duration.ofMinutes(1), 10, 16);
+
+            // act
+            cache.put(1L, cache.version(1L), BODY);
+
+            // assert
+            byte[] gzipBody = cache.find(1L).gzipBody();
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+                assertThat(in.readAllBytes()).isEqualTo(BODY);
+            }
+        }
+    }
+
+    @DisplayName("응답을 찾을 때, ")
+    @Nested
+    class Find {
+        @DisplayName("무효화된 응답은 돌려주지 않는다.")
+        @Test
+        void returnsNull_afterInvalidate() {
+            // arrange
+            ResponseByteCache cache = cache(Duration.ofMinutes(1), 10, 1024);
+            cache.put(1L, cache.version(1L), BODY);
+
+            // act
+            cache.invalidate(1L);
+
+            // assert
+            assertAll(
+                () -> assertThat(cache.find(1L)).isNull(),
+                () -> assertThat(cache.size()).isZero()
+            );
+        }
+
+        @DisplayName("TTL 이 지난 응답은 돌려주지 않는다.")
+        @Test
+        void returnsNull_afterTtl() {
+            // arrange
+            ResponseByteCache cache = cache(Duration.ZERO, 10, 1024);
+            cache.put(1L, cache.version(1L), BODY);
+
+            // act
+            ResponseByteCache.Entry entry = cache.find(1L);
+
+            // assert
+            assertThat(entry).isNull();
+        }
+    }
+}
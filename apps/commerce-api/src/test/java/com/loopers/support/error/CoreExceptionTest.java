@@ -31,4 +31,27 @@ class CoreExceptionTest {
         // assert
         assertThat(exception.getMessage()).isEqualTo(customMessage);
     }
+
+    @DisplayName("예상된 ErrorType 의 예외는 스택 트레이스를 채우지 않는다.")
+    @Test
+    void stackTraceShouldBeEmpty_whenErrorTypeIsExpected() {
+        // arrange
+        ErrorType[] errorTypes = {ErrorType.BAD_REQUEST, ErrorType.NOT_FOUND, ErrorType.CONFLICT};
+
+        // act & assert
+        for (ErrorType errorType : errorTypes) {
+            CoreException exception = new CoreException(errorType);
+            assertThat(exception.getStackTrace()).isEmpty();
+        }
+    }
+
+    @DisplayName("예상하지 못한 ErrorType 의 예외는 스택 트레이스를 채운다.")
+    @Test
+    void stackTraceShouldBeFilled_whenErrorTypeIsNotExpected() {
+        // act
+        CoreException exception = new CoreException(ErrorType.INTERNAL_ERROR);
+
+        // assert
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
 }
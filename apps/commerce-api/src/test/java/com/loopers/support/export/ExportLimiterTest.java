@@ -0,0 +1,97 @@
+package com.loopers.support.export;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ExportLimiterTest {
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExportLimiter limiter = new ExportLimiter(new ExportProperties(1, TIMEOUT), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    /** 컨트롤러가 acquire 한 뒤 StreamingResponseBody 를 돌려줬을 때 MVC 가 하는 일을 흉내 낸다 */
+    private MockHttpServletRequest export(AtomicReference<String> thread) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/examples/export");
+        request.setAsyncSupported(true);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+
+        limiter.acquire(request);
+        asyncManager.startCallableProcessing(() -> {
+            thread.set(Thread.currentThread().getName());
+            return null;
+        });
+        while (!asyncManager.hasConcurrentResult()) {
+            Thread.onSpinWait();
+        }
+        return request;
+    }
+
+    @DisplayName("자리가 있으면, 본문을 전용 스레드에서 쓰고 이 요청에만 내보내기 timeout 을 준다.")
+    @Test
+    void runsOnExportThread_withExportTimeout() throws Exception {
+        // arrange
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        // act
+        MockHttpServletRequest request = export(thread);
+
+        // assert
+        assertAll(
+            () -> assertThat(thread.get()).startsWith("export-"),
+            () -> assertThat(request.getAsyncContext().getTimeout()).isEqualTo(TIMEOUT.toMillis()),
+            () -> assertThat(limiter.getActive()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("진행 중인 내보내기가 한도에 이르면, 503 으로 거절한다.")
+    @Test
+    void rejects_whenLimitIsReached() throws Exception {
+        // arrange
+        export(new AtomicReference<>());
+
+        // act & assert
+        assertThatThrownBy(() -> limiter.acquire(new MockHttpServletRequest()))
+            .isInstanceOfSatisfying(CoreException.class,
+                e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.counter(ExportLimiter.REJECTED_METRIC).count()).isEqualTo(1);
+    }
+
+    @DisplayName("비동기 처리가 끝나면, 자리를 반환해 다음 내보내기를 받는다.")
+    @Test
+    void releasesSlot_whenAsyncCompletes() throws Exception {
+        // arrange
+        MockHttpServletRequest request = export(new AtomicReference<>());
+
+        // act
+        request.getAsyncContext().complete();
+
+        // assert
+        assertAll(
+            () -> assertThat(limiter.getActive()).isZero(),
+            () -> assertThat(export(new AtomicReference<>())).isNotNull()
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package com.loopers.support.hotkey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class HotKeyDetectorTest {
+
+    private HotKeyDetector detector(int topK, long promoteThreshold) {
+        HotKeyProperties properties = new HotKeyProperties(
+            true, 1, 1024, 4, topK, promoteThreshold, Duration.ofSeconds(10), Duration.ofSeconds(1)
+        );
+        return new HotKeyDetector(properties, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("키를 기록할 때, ")
+    @Nested
+    class Record {
+        @DisplayName("요청이 몰린 키가 상위 키로 추적되고, 임계치를 넘으면 승격된다.")
+        @Test
+        void promotesFrequentKey() {
+            // arrange
+            HotKeyDetector detector = detector(3, 50);
+
+            // act
+            for (int i = 0; i < 100; i++) {
+                detector.record(1L);
+                detector.record(1_000L + i);
+            }
+
+            // assert
+            assertAll(
+                () -> assertThat(detector.top()).hasSize(3),
+                () -> assertThat(detector.top().get(0).key()).isEqualTo(1L),
+                () -> assertThat(detector.isHot(1L)).isTrue(),
+                () -> assertThat(detector.isHot(1_050L)).isFalse()
+            );
+        }
+
+        @DisplayName("감쇠가 반복되면, 더 이상 요청되지 않는 키는 승격이 해제된다.")
+        @Test
+        void demotesKey_afterDecay() {
+            // arrange
+            HotKeyDetector detector = detector(3, 50);
+            for (int i = 0; i < 100; i++) {
+                detector.record(1L);
+            }
+
+            // act
+            detector.decay();
+            detector.decay();
+
+            // assert
+            assertThat(detector.isHot(1L)).isFalse();
+        }
+    }
+
+    @DisplayName("로컬 캐시를 조회할 때, ")
+    @Nested
+    class LocalCache {
+        @DisplayName("승격된 키만 TTL 동안 원본을 다시 읽지 않는다.")
+        @Test
+        void cachesOnlyPromotedKeys() {
+            // arrange
+            HotKeyDetector detector = detector(10, 5);
+            HotKeyCache<String> cache = new HotKeyCache<>("test", detector, Duration.ofMinutes(1), new SimpleMeterRegistry());
+            AtomicInteger hotLoads = new AtomicInteger();
+            AtomicInteger coldLoads = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < 100; i++) {
+                cache.get(1L, () -> "hot-" + hotLoads.incrementAndGet());
+            }
+            cache.get(2L, () -> "cold-" + coldLoads.incrementAndGet());
+            cache.get(2L, () -> "cold-" + coldLoads.incrementAndGet());
+
+            // assert
+            assertAll(
+                () -> assertThat(hotLoads.get()).isEqualTo(5),
+                () -> assertThat(coldLoads.get()).isEqualTo(2)
+            );
+        }
+
+        @DisplayName("무효화된 키는 다음 조회에서 원본을 다시 읽는다.")
+        @Test
+        void reloads_afterInvalidate() {
+            // arrange
+            HotKeyDetector detector = detector(10, 1);
+            HotKeyCache<String> cache = new HotKeyCache<>("test", detector, Duration.ofMinutes(1), new SimpleMeterRegistry());
+            AtomicInteger loads = new AtomicInteger();
+            cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+            // act
+            cache.invalidate(1L);
+            String value = cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+            // assert
+            assertThat(value).isEqualTo("v2");
+        }
+
+        @DisplayName("기록하지 않는 조회는, 아무리 많아도 키를 승격시키지 않는다.")
+        @Test
+        void doesNotPromote_whenReadsAreNotRecorded() {
+            // arrange
+            HotKeyDetector detector = detector(10, 50);
+            HotKeyCache<String> cache = new HotKeyCache<>("test", detector, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+            // act
+            for (int i = 0; i < 100; i++) {
+                cache.get(1L, () -> "v", false);
+            }
+
+            // assert
+            assertAll(
+                () -> assertThat(detector.isHot(1L)).isFalse(),
+                () -> assertThat(detector.top()).isEmpty()
+            );
+        }
+
+        @DisplayName("읽는 도중에 무효화되면, 읽은 값을 담지 않아 다음 조회에서 다시 읽는다.")
+        @Test
+        void doesNotStore_whenInvalidatedWhileLoading() {
+            // arrange
+            HotKeyDetector detector = detector(10, 1);
+            HotKeyCache<String> cache = new HotKeyCache<>("test", detector, Duration.ofMinutes(1), new SimpleMeterRegistry());
+            AtomicInteger loads = new AtomicInteger();
+
+            // act
+            String stale = cache.get(1L, () -> {
+                cache.invalidate(1L); // 읽는 사이에 수정이 커밋된다
+                return "v" + loads.incrementAndGet();
+            });
+            String reloaded = cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+            // assert
+            assertAll(
+                () -> assertThat(stale).isEqualTo("v1"),
+                () -> assertThat(reloaded).isEqualTo("v2")
+            );
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.loopers.support.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AdaptiveConcurrencyLimiterTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(
+            true, initialLimit, 10, 200, Duration.ofSeconds(1), 1, 1.5, 1.0, 0.8,
+            List.of(), List.of(), List.of()
+        );
+        return new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquire(AdaptiveConcurrencyLimiter limiter, RequestPriority priority, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            limiter.tryAcquire(priority).ifPresent(permits::add);
+        }
+        return permits;
+    }
+
+    /**
+     * 다음 구간으로 넘어가, inflight 만큼 동시에 받고 latency 뒤에 모두 끝낸다.
+     */
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int inflight, long latencyMillis, boolean dropped) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, RequestPriority.INTERNAL, inflight);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        permits.forEach(permit -> permit.release(dropped));
+    }
+
+    @DisplayName("요청을 받을 때, ")
+    @Nested
+    class Acquire {
+        @DisplayName("일반 요청은 한도의 publicShare 까지만 받고, 내부 요청은 한도까지 받는다.")
+        @Test
+        void reservesCapacityForInternalRequests() {
+            // arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(100);
+
+            // act
+            List<AdaptiveConcurrencyLimiter.Permit> publicPermits = acquire(limiter, RequestPriority.PUBLIC, 100);
+            List<AdaptiveConcurrencyLimiter.Permit> internalPermits = acquire(limiter, RequestPriority.INTERNAL, 100);
+
+            // assert
+            assertAll(
+                () -> assertThat(publicPermits).hasSize(80),
+                () -> assertThat(internalPermits).hasSize(20),
+                () -> assertThat(limiter.getInflight()).isEqualTo(100)
+            );
+        }
+
+        @DisplayName("CRITICAL 요청은 한도가 가득 차도 받는다.")
+        @Test
+        void alwaysAcceptsCriticalRequests() {
+            // arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(10);
+            acquire(limiter, RequestPriority.INTERNAL, 10);
+
+            // act
+            Optional<AdaptiveConcurrencyLimiter.Permit> critical = limiter.tryAcquire(RequestPriority.CRITICAL);
+            Optional<AdaptiveConcurrencyLimiter.Permit> internal = limiter.tryAcquire(RequestPriority.INTERNAL);
+
+            // assert
+            assertAll(
+                () -> assertThat(critical).isPresent(),
+                () -> assertThat(internal).isEmpty()
+            );
+        }
+
+        @DisplayName("반환된 자리는 다시 쓸 수 있고, 같은 permit 을 여러 번 반환해도 한 번만 반영된다.")
+        @Test
+        void releasesPermitOnce() {
+            // arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(10);
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(RequestPriority.PUBLIC).orElseThrow();
+
+            // act
+            permit.release(false);
+            permit.release(false);
+
+            // assert
+            assertThat(limiter.getInflight()).isZero();
+        }
+    }
+
+    @DisplayName("한도를 조정할 때, ")
+    @Nested
+    class Adjust {
+        @DisplayName("지연이 장기 평균보다 크게 늘면, 한도를 줄인다.")
+        @Test
+        void decreasesLimit_whenLatencyIncreases() {
+            // arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(100);
+            for (int i = 0; i < 5; i++) {
+                runWindow(limiter, 80, 10, false);
+            }
+            int before = limiter.getLimit();
+
+            // act
+            runWindow(limiter, 80, 5_000, false);
+
+            // assert
+            assertThat(limiter.getLimit()).isLessThan(before);
+        }
+
+        @DisplayName("지연이 안정적이고 한도 가까이 쓰이면, 한도를 늘린다.")
+        @Test
+        void increasesLimit_whenLatencyIsStableAndSaturated() {
+            // arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(50);
+
+            // act
+            for (int i = 0; i < 5; i++) {
+                runWindow(limiter, 50, 10, false);
+            }
+
+            // assert
+            assertThat(limiter.getLimit()).isGreaterThan(50);
+        }
+
+        @DisplayName("과부하로 실패한 요청이 있으면, 지연과 무관하게 한도를 줄인다.")
+        @Test
+        void decreasesLimit_whenRequestsAreDropped() {
+            // arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(100);
+
+            // act
+            runWindow(limiter, 80, 10, true);
+
+            // assert
+            assertThat(limiter.getLimit()).isEqualTo(90);
+        }
+    }
+}
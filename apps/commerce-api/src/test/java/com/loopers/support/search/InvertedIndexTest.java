@@ -0,0 +1,199 @@
+package com.loopers.support.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class InvertedIndexTest {
+
+    private List<Long> search(InvertedIndex index, String query) {
+        return index.search(SearchQuery.parse(query), 10).stream()
+            .map(InvertedIndex.Hit::id)
+            .toList();
+    }
+
+    private InvertedIndex sampleIndex() {
+        InvertedIndex index = new InvertedIndex(16);
+        index.put(1L, "스프링 부트 입문", "Spring Boot 로 시작하는 웹 개발");
+        index.put(2L, "자바 성능 튜닝", "JVM 과 GC 튜닝 가이드, spring 포함");
+        index.put(3L, "스프링 배치", "대용량 배치 처리 spring batch");
+        index.put(4L, "책", "책상 위의 책");
+        return index;
+    }
+
+    @DisplayName("단어로 검색할 때, ")
+    @Nested
+    class Term {
+        @DisplayName("영문은 대소문자 구분 없이, 한글은 2-gram 으로 일치하는 문서를 찾는다.")
+        @Test
+        void matchesKoreanAndEnglish() {
+            // arrange
+            InvertedIndex index = sampleIndex();
+
+            // act & assert
+            assertAll(
+                () -> assertThat(search(index, "SPRING")).containsExactlyInAnyOrder(1L, 2L, 3L),
+                () -> assertThat(search(index, "스프링")).containsExactlyInAnyOrder(1L, 3L),
+                () -> assertThat(search(index, "튜닝")).containsExactly(2L),
+                () -> assertThat(search(index, "없는")).isEmpty()
+            );
+        }
+
+        @DisplayName("여러 단어를 주면, 모든 단어를 포함한 문서만 찾는다.")
+        @Test
+        void intersectsClauses() {
+            // arrange
+            InvertedIndex index = sampleIndex();
+
+            // act
+            List<Long> result = search(index, "스프링 batch");
+
+            // assert
+            assertThat(result).containsExactly(3L);
+        }
+
+        @DisplayName("단어가 더 자주, 더 짧은 문서에 나올수록 앞에 정렬된다.")
+        @Test
+        void ranksByBm25() {
+            // arrange
+            InvertedIndex index = new InvertedIndex(16);
+            index.put(1L, "redis", "캐시 서버 설명 문서 입니다 아주 길게 작성된 문서");
+            index.put(2L, "redis", "redis redis");
+            index.put(3L, "mysql", "관계형 데이터베이스");
+
+            // act
+            List<InvertedIndex.Hit> hits = index.search(SearchQuery.parse("redis"), 10);
+
+            // assert
+            assertAll(
+                () -> assertThat(hits).extracting(InvertedIndex.Hit::id).containsExactly(2L, 1L),
+                () -> assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score())
+            );
+        }
+
+        @DisplayName("결과 수가 limit 을 넘으면, 점수가 높은 limit 개만 반환한다.")
+        @Test
+        void returnsTopK() {
+            // arrange
+            InvertedIndex index = new InvertedIndex(16);
+            for (long id = 1; id <= 100; id++) {
+                index.put(id, "item", id == 50 ? "item item item" : "other");
+            }
+
+            // act
+            List<InvertedIndex.Hit> hits = index.search(SearchQuery.parse("item"), 3);
+
+            // assert
+            assertThat(hits).extracting(InvertedIndex.Hit::id).containsExactly(50L, 1L, 2L);
+        }
+    }
+
+    @DisplayName("접두어와 구문으로 검색할 때, ")
+    @Nested
+    class PrefixAndPhrase {
+        @DisplayName("* 로 끝나는 단어는 그 단어로 시작하는 모든 단어와 일치한다.")
+        @Test
+        void matchesPrefix() {
+            // arrange
+            InvertedIndex index = sampleIndex();
+
+            // act & assert
+            assertAll(
+                () -> assertThat(search(index, "spr*")).containsExactlyInAnyOrder(1L, 2L, 3L),
+                () -> assertThat(search(index, "ba*")).containsExactly(3L)
+            );
+        }
+
+        @DisplayName("한 글자 한글은 그 글자로 시작하는 단어와 일치한다.")
+        @Test
+        void matchesHangulUnigramAsPrefix() {
+            // arrange
+            InvertedIndex index = sampleIndex();
+            index.put(5L, "책상 정리", "");
+
+            // act
+            List<Long> result = search(index, "책");
+
+            // assert
+            assertThat(result).containsExactlyInAnyOrder(4L, 5L);
+        }
+
+        @DisplayName("큰따옴표로 감싼 구문은 단어가 같은 순서로 이어진 문서만 찾는다.")
+        @Test
+        void matchesPhrase() {
+            // arrange
+            InvertedIndex index = sampleIndex();
+
+            // act & assert
+            assertAll(
+                () -> assertThat(search(index, "\"spring boot\"")).containsExactly(1L),
+                () -> assertThat(search(index, "\"boot spring\"")).isEmpty(),
+                () -> assertThat(search(index, "\"대용량 배치\"")).containsExactly(3L)
+            );
+        }
+
+        @DisplayName("구문은 필드 경계를 넘어 일치하지 않는다.")
+        @Test
+        void doesNotMatchPhraseAcrossFields() {
+            // arrange
+            InvertedIndex index = new InvertedIndex(16);
+            index.put(1L, "hello", "world");
+
+            // act
+            List<Long> result = search(index, "\"hello world\"");
+
+            // assert
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @DisplayName("문서를 바꾸거나 지울 때, ")
+    @Nested
+    class Update {
+        @DisplayName("다시 색인하면 이전 내용으로는 더 이상 찾을 수 없다.")
+        @Test
+        void replacesPreviousContent() {
+            // arrange
+            InvertedIndex index = sampleIndex();
+
+            // act
+            index.put(1L, "코틀린", "kotlin");
+
+            // assert
+            assertAll(
+                () -> assertThat(search(index, "spring")).containsExactlyInAnyOrder(2L, 3L),
+                () -> assertThat(search(index, "kotlin")).containsExactly(1L),
+                () -> assertThat(index.size()).isEqualTo(4)
+            );
+        }
+
+        @DisplayName("지운 문서가 많아져 목록을 정리한 뒤에도, 남은 문서는 그대로 찾을 수 있다.")
+        @Test
+        void keepsLiveDocuments_afterCompaction() {
+            // arrange
+            InvertedIndex index = new InvertedIndex(16);
+            for (long id = 1; id <= 5_000; id++) {
+                index.put(id, "item " + id, id % 2 == 0 ? "even 짝수" : "odd 홀수");
+            }
+
+            // act
+            for (long id = 1; id <= 5_000; id += 2) {
+                index.remove(id);
+            }
+
+            // assert
+            assertAll(
+                () -> assertThat(index.size()).isEqualTo(2_500),
+                () -> assertThat(search(index, "odd")).isEmpty(),
+                () -> assertThat(search(index, "홀수")).isEmpty(),
+                () -> assertThat(search(index, "짝수")).hasSize(10),
+                () -> assertThat(search(index, "4000")).containsExactly(4_000L)
+            );
+        }
+    }
+}
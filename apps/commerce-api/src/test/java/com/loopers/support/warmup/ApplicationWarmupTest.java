@@ -0,0 +1,123 @@
+package com.loopers.support.warmup;
+
+import com.loopers.domain.example.ExampleAccessLog;
+import com.loopers.domain.example.ExampleService;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.net.InetSocketAddress;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApplicationWarmupTest {
+    private static final List<Long> HOT_IDS = List.of(1L, 2L, 3L);
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final ExampleAccessLog exampleAccessLog = mock(ExampleAccessLog.class);
+    private final ExampleService exampleService = mock(ExampleService.class);
+    private final MockEnvironment environment = new MockEnvironment();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WarmupTraffic warmupTraffic = new WarmupTraffic();
+
+    /** 재생 요청의 경로와 워밍업 표시 헤더 */
+    private final Queue<String> replayed = new ConcurrentLinkedQueue<>();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(exampleAccessLog.findHottest(HOT_IDS.size())).thenReturn(HOT_IDS);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            replayed.add(exchange.getRequestURI().getPath() + " " + exchange.getRequestHeaders().getFirst(WarmupTraffic.HEADER));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        environment.setProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private ApplicationWarmup warmup(Duration budget) {
+        // 라운드 간 p90 이 10 배 안에만 들면 안정된 것으로 본다 (로컬 서버라 지연의 절대값은 의미가 없다)
+        WarmupProperties properties = new WarmupProperties(true, budget, HOT_IDS.size(), 20, 10.0, 2);
+        return new ApplicationWarmup(properties, dataSource, exampleAccessLog, exampleService, environment, meterRegistry, warmupTraffic);
+    }
+
+    private boolean recorded(String outcome) {
+        return meterRegistry.find("warmup.duration").tag("outcome", outcome).timer() != null;
+    }
+
+    @DisplayName("워밍업을 하면, 커넥션을 미리 열고 상위 예시를 읽은 뒤 워밍업 표시를 붙여 조회를 재생한다.")
+    @Test
+    void replaysHotExamples_withWarmupToken() throws Exception {
+        // act
+        warmup(Duration.ofSeconds(30)).run(new DefaultApplicationArguments());
+
+        // assert
+        assertAll(
+            () -> verify(dataSource, times(10)).getConnection(),
+            () -> verify(connection, times(10)).close(),
+            () -> verify(exampleService).getExamples(HOT_IDS),
+            () -> assertThat(replayed).isNotEmpty().allSatisfy(request -> assertThat(request).matches(
+                "/api/v1/examples/[123] " + warmupTraffic.token()
+            )),
+            () -> assertThat(recorded("settled")).isTrue()
+        );
+    }
+
+    @DisplayName("예산을 다 쓰면, 남은 단계를 건너뛰고 끝낸다.")
+    @Test
+    void stops_whenBudgetIsExhausted() {
+        // act
+        warmup(Duration.ZERO).run(new DefaultApplicationArguments());
+
+        // assert
+        assertAll(
+            () -> verify(exampleService, never()).getExamples(HOT_IDS),
+            () -> assertThat(replayed).isEmpty(),
+            () -> assertThat(recorded("budget_exhausted")).isTrue()
+        );
+    }
+
+    @DisplayName("워밍업 중 오류가 나도, 기동을 막지 않고 실패로 기록한다.")
+    @Test
+    void doesNotThrow_whenWarmupFails() {
+        // arrange
+        when(exampleAccessLog.findHottest(HOT_IDS.size())).thenThrow(new IllegalStateException("Redis 연결 실패"));
+
+        // act
+        warmup(Duration.ofSeconds(30)).run(new DefaultApplicationArguments());
+
+        // assert
+        assertAll(
+            () -> assertThat(replayed).isEmpty(),
+            () -> assertThat(recorded("failed")).isTrue()
+        );
+    }
+}
@@ -20,4 +20,28 @@ dependencies {
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
     testImplementation(testFixtures(project(":modules:kafka")))
+    testImplementation(testFixtures(project(":supports:monitoring")))
+}
+
+// ./gradlew :apps:commerce-streamer:kafkaBenchmark -Pbenchmark.records=5000000 -Pbenchmark.payload-bytes=1024
+val kafkaBenchmark by tasks.registering(Test::class) {
+    description = "BATCH_LISTENER 컨슈머 처리량 벤치마크와 실행 시간 예산(@Tag(\"benchmark\"))을 실행한다."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxParallelForks = 1
+    systemProperty("user.timezone", "Asia/Seoul")
+    systemProperty("spring.profiles.active", "test")
+    systemProperty("benchmark.report-dir", layout.buildDirectory.dir("reports/kafka-benchmark").get().asFile.absolutePath)
+    systemProperty("performance-budget.report-file", layout.buildDirectory.file("reports/performance-budget/results.jsonl").get().asFile.absolutePath)
+    systemProperty("performance-budget.version", project.version.toString())
+    project.properties
+        .filterKeys { it.startsWith("benchmark.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+    jvmArgs("-Xshare:off")
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }
 }
@@ -0,0 +1,146 @@
+package com.loopers.application.metrics;
+
+import com.loopers.domain.metrics.ExampleMetricsCounterRepository;
+import com.loopers.domain.metrics.ExampleMetricsDeltas;
+import com.loopers.domain.metrics.ExampleMetricsEvent;
+import com.loopers.domain.metrics.ExampleMetricsRepository;
+import com.loopers.domain.metrics.ExampleMetricsWindow;
+import com.loopers.domain.ranking.ExampleRankingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * example 활동 이벤트를 tumbling window 로 모아, 윈도우마다 MySQL 과 Redis (카운터, 랭킹) 에 한 번씩 반영한다.
+ * <p>
+ * 윈도우에 포함된 배치의 offset 은 반영이 끝난 뒤에만 커밋한다. 반영 전에 재시작되면 같은 이벤트를 다시 받아
+ * 다시 더하므로 결과는 at-least-once 이다. 같은 이유로 종료 시점에 남은 윈도우는 반영하지 않는다. (커밋할 수 없으므로)
+ */
+@Slf4j
+@Component
+public class ExampleMetricsAggregator {
+    private final ExampleMetricsRepository exampleMetricsRepository;
+    private final ExampleMetricsCounterRepository exampleMetricsCounterRepository;
+    private final ExampleRankingRepository exampleRankingRepository;
+
+    private final Timer databaseFlush;
+    private final Timer counterFlush;
+    private final Timer rankingFlush;
+    private final DistributionSummary keysPerWindow;
+    private final Counter events;
+    private final Counter flushFailures;
+
+    private final Object lock = new Object();
+    private ExampleMetricsWindow current = new ExampleMetricsWindow();
+    private List<Acknowledgment> currentAcknowledgments = new ArrayList<>();
+
+    /**
+     * 반영 중 일부 저장소에서 실패한 윈도우. flush 스레드에서만 접근한다.
+     */
+    private PendingFlush pending;
+
+    public ExampleMetricsAggregator(
+        ExampleMetricsRepository exampleMetricsRepository,
+        ExampleMetricsCounterRepository exampleMetricsCounterRepository,
+        ExampleRankingRepository exampleRankingRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.exampleMetricsRepository = exampleMetricsRepository;
+        this.exampleMetricsCounterRepository = exampleMetricsCounterRepository;
+        this.exampleRankingRepository = exampleRankingRepository;
+        this.databaseFlush = Timer.builder("streamer.aggregation.flush")
+            .tag("target", "mysql")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.counterFlush = Timer.builder("streamer.aggregation.flush")
+            .tag("target", "redis")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rankingFlush = Timer.builder("streamer.aggregation.flush")
+            .tag("target", "ranking")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.keysPerWindow = DistributionSummary.builder("streamer.aggregation.window.keys")
+            .description("윈도우 하나에서 반영한 example 수")
+            .register(meterRegistry);
+        this.events = meterRegistry.counter("streamer.aggregation.events");
+        this.flushFailures = meterRegistry.counter("streamer.aggregation.flush.failures");
+    }
+
+    /**
+     * 배치를 현재 윈도우에 합산한다. acknowledgment 는 윈도우가 반영된 뒤에 호출된다.
+     */
+    public void accumulate(List<ExampleMetricsEvent> batch, Acknowledgment acknowledgment) {
+        synchronized (lock) {
+            for (ExampleMetricsEvent event : batch) {
+                current.add(event);
+            }
+            currentAcknowledgments.add(acknowledgment);
+        }
+        events.increment(batch.size());
+    }
+
+    @Scheduled(fixedRateString = "${example-metrics.window}")
+    public void flush() {
+        if (pending == null) {
+            synchronized (lock) {
+                if (currentAcknowledgments.isEmpty()) {
+                    return;
+                }
+                pending = new PendingFlush(current.toDeltas(), currentAcknowledgments, ZonedDateTime.now());
+                current = new ExampleMetricsWindow();
+                currentAcknowledgments = new ArrayList<>();
+            }
+            keysPerWindow.record(pending.deltas.size());
+        }
+
+        try {
+            if (!pending.databaseFlushed) {
+                databaseFlush.record(() -> exampleMetricsRepository.incrementAll(pending.deltas));
+                pending.databaseFlushed = true;
+            }
+            if (!pending.counterFlushed) {
+                counterFlush.record(() -> exampleMetricsCounterRepository.incrementAll(pending.deltas));
+                pending.counterFlushed = true;
+            }
+            if (!pending.rankingFlushed) {
+                rankingFlush.record(() -> exampleRankingRepository.incrementAll(pending.deltas, pending.closedAt));
+                pending.rankingFlushed = true;
+            }
+        } catch (RuntimeException e) {
+            // 반영하지 못한 저장소만 다음 주기에 다시 시도한다. 그 동안 들어온 이벤트는 새 윈도우에 쌓인다.
+            flushFailures.increment();
+            log.error("집계 윈도우 반영에 실패했습니다. (keys = {}, mysql = {}, redis = {}, ranking = {})",
+                pending.deltas.size(), pending.databaseFlushed, pending.counterFlushed, pending.rankingFlushed, e);
+            return;
+        }
+
+        pending.acknowledgments.forEach(Acknowledgment::acknowledge);
+        pending = null;
+    }
+
+    private static final class PendingFlush {
+        private final ExampleMetricsDeltas deltas;
+        private final List<Acknowledgment> acknowledgments;
+        /** 재시도로 반영이 늦어져도 원래 시간 버킷에 더하도록, 윈도우를 닫은 시각을 기억한다. */
+        private final ZonedDateTime closedAt;
+        private boolean databaseFlushed;
+        private boolean counterFlushed;
+        private boolean rankingFlushed;
+
+        private PendingFlush(ExampleMetricsDeltas deltas, List<Acknowledgment> acknowledgments, ZonedDateTime closedAt) {
+            this.deltas = deltas;
+            this.acknowledgments = acknowledgments;
+            this.closedAt = closedAt;
+        }
+    }
+}
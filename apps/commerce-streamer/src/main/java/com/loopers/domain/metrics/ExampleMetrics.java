@@ -0,0 +1,28 @@
+package com.loopers.domain.metrics;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+
+/**
+ * example 별 누적 집계. 이벤트마다 갱신하지 않고 {@link ExampleMetricsWindow} 단위로 모아서 더한다.
+ */
+@Entity
+@Table(name = "example_metrics", uniqueConstraints = @UniqueConstraint(name = "uk_example_metrics_example_id", columnNames = "example_id"))
+@Getter
+public class ExampleMetrics extends BaseEntity {
+
+    @Column(name = "example_id", nullable = false)
+    private Long exampleId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    protected ExampleMetrics() {}
+}
@@ -0,0 +1,8 @@
+package com.loopers.domain.metrics;
+
+/**
+ * 조회용 실시간 카운터 저장소. (Redis)
+ */
+public interface ExampleMetricsCounterRepository {
+    void incrementAll(ExampleMetricsDeltas deltas);
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.metrics;
+
+/**
+ * 한 윈도우 동안 모인 example 별 증감량. exampleIds 는 오름차순이며, 같은 index 끼리 한 행을 이룬다.
+ */
+public record ExampleMetricsDeltas(long[] exampleIds, long[] viewDeltas, long[] likeDeltas) {
+
+    public int size() {
+        return exampleIds.length;
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.metrics;
+
+/**
+ * example 에 대한 사용자 활동 이벤트.
+ */
+public record ExampleMetricsEvent(Long exampleId, Type type) {
+
+    public enum Type {
+        VIEW,
+        LIKE,
+        UNLIKE
+    }
+}
@@ -0,0 +1,5 @@
+package com.loopers.domain.metrics;
+
+public interface ExampleMetricsRepository {
+    void incrementAll(ExampleMetricsDeltas deltas);
+}
@@ -0,0 +1,63 @@
+package com.loopers.domain.metrics;
+
+import com.loopers.support.collection.LongLongHashMap;
+
+import java.util.Arrays;
+
+/**
+ * tumbling window 하나에 들어온 이벤트를 example 별로 합산한다. 스레드 안전하지 않다.
+ */
+public class ExampleMetricsWindow {
+    private final LongLongHashMap views = new LongLongHashMap();
+    private final LongLongHashMap likes = new LongLongHashMap();
+    private long events;
+
+    public void add(ExampleMetricsEvent event) {
+        long exampleId = event.exampleId();
+        switch (event.type()) {
+            case VIEW -> views.addTo(exampleId, 1);
+            case LIKE -> likes.addTo(exampleId, 1);
+            case UNLIKE -> likes.addTo(exampleId, -1);
+        }
+        events++;
+    }
+
+    public long events() {
+        return events;
+    }
+
+    public boolean isEmpty() {
+        return events == 0;
+    }
+
+    /**
+     * 증감량이 0 인 example 은 제외하고, exampleId 오름차순으로 돌려준다. (다른 인스턴스와 같은 순서로 행 잠금을 잡도록)
+     */
+    public ExampleMetricsDeltas toDeltas() {
+        LongLongHashMap keys = new LongLongHashMap(views.size() + likes.size());
+        views.forEach((exampleId, delta) -> keys.addTo(exampleId, 0));
+        likes.forEach((exampleId, delta) -> keys.addTo(exampleId, 0));
+
+        long[] sorted = keys.sortedKeys();
+        long[] exampleIds = new long[sorted.length];
+        long[] viewDeltas = new long[sorted.length];
+        long[] likeDeltas = new long[sorted.length];
+        int size = 0;
+        for (long exampleId : sorted) {
+            long viewDelta = views.get(exampleId);
+            long likeDelta = likes.get(exampleId);
+            if (viewDelta == 0 && likeDelta == 0) {
+                continue;
+            }
+            exampleIds[size] = exampleId;
+            viewDeltas[size] = viewDelta;
+            likeDeltas[size] = likeDelta;
+            size++;
+        }
+        return new ExampleMetricsDeltas(
+            Arrays.copyOf(exampleIds, size),
+            Arrays.copyOf(viewDeltas, size),
+            Arrays.copyOf(likeDeltas, size)
+        );
+    }
+}
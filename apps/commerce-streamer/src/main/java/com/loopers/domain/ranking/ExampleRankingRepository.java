@@ -0,0 +1,12 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.domain.metrics.ExampleMetricsDeltas;
+
+import java.time.ZonedDateTime;
+
+public interface ExampleRankingRepository {
+    /**
+     * {@code occurredAt} 이 속한 시간/일 단위 랭킹 버킷에 증감량만큼 점수를 더한다.
+     */
+    void incrementAll(ExampleMetricsDeltas deltas, ZonedDateTime occurredAt);
+}
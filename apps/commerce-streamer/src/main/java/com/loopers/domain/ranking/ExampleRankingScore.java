@@ -0,0 +1,16 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 활동 종류별 랭킹 가중치. 좋아요는 조회보다 강한 관심 신호로 본다.
+ */
+public final class ExampleRankingScore {
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 3.0;
+
+    private ExampleRankingScore() {
+    }
+
+    public static double of(long viewDelta, long likeDelta) {
+        return viewDelta * VIEW_WEIGHT + likeDelta * LIKE_WEIGHT;
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.metrics.ExampleMetricsCounterRepository;
+import com.loopers.domain.metrics.ExampleMetricsDeltas;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code example:metrics:{id}} 해시에 증감량을 HINCRBY 로 더한다. 한 윈도우의 명령을 pipeline 으로 묶어 왕복을 줄인다.
+ */
+@Component
+public class ExampleMetricsCounterRepositoryImpl implements ExampleMetricsCounterRepository {
+    private static final String KEY_PREFIX = "example:metrics:";
+    private static final byte[] VIEW_FIELD = "view".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LIKE_FIELD = "like".getBytes(StandardCharsets.UTF_8);
+    private static final int PIPELINE_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ExampleMetricsCounterRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void incrementAll(ExampleMetricsDeltas deltas) {
+        for (int from = 0; from < deltas.size(); from += PIPELINE_SIZE) {
+            int start = from;
+            int end = Math.min(from + PIPELINE_SIZE, deltas.size());
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                RedisHashCommands hashCommands = connection.hashCommands();
+                for (int i = start; i < end; i++) {
+                    byte[] key = (KEY_PREFIX + deltas.exampleIds()[i]).getBytes(StandardCharsets.UTF_8);
+                    if (deltas.viewDeltas()[i] != 0) {
+                        hashCommands.hIncrBy(key, VIEW_FIELD, deltas.viewDeltas()[i]);
+                    }
+                    if (deltas.likeDeltas()[i] != 0) {
+                        hashCommands.hIncrBy(key, LIKE_FIELD, deltas.likeDeltas()[i]);
+                    }
+                }
+                return null;
+            });
+        }
+    }
+}
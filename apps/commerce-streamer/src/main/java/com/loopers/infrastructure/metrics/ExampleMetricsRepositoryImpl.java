@@ -0,0 +1,59 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.domain.metrics.ExampleMetricsDeltas;
+import com.loopers.domain.metrics.ExampleMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 윈도우 단위 증감량을 JDBC 배치로 더한다.
+ * 집계 행이 아직 없을 수 있으므로 {@code UPDATE ... SET count = count + ?} 대신 같은 의미의 upsert 를 쓴다.
+ * 넣으려던 값은 deprecated 된 {@code VALUES(col)} 대신 행 별칭(MySQL 8.0.19+)으로 참조한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ExampleMetricsRepositoryImpl implements ExampleMetricsRepository {
+    private static final String UPSERT_SQL = """
+        INSERT INTO example_metrics (example_id, view_count, like_count, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?) AS new
+        ON DUPLICATE KEY UPDATE
+            view_count = view_count + new.view_count,
+            like_count = like_count + new.like_count,
+            updated_at = new.updated_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    @Override
+    public void incrementAll(ExampleMetricsDeltas deltas) {
+        if (deltas.size() == 0) {
+            return;
+        }
+        // timezone.default_storage: NORMALIZE_UTC 와 동일하게 UTC 로 저장한다.
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                statement.setLong(1, deltas.exampleIds()[i]);
+                statement.setLong(2, deltas.viewDeltas()[i]);
+                statement.setLong(3, deltas.likeDeltas()[i]);
+                statement.setObject(4, now);
+                statement.setObject(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.metrics.ExampleMetricsDeltas;
+import com.loopers.domain.ranking.ExampleRankingRepository;
+import com.loopers.domain.ranking.ExampleRankingScore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 시간/일 단위 버킷 ZSET 에 ZINCRBY 로 점수를 더한다. 버킷 키 형식은 commerce-api 의 RankingRedisRepository 와 맞춰야 한다.
+ * <ul>
+ *     <li>{@code ranking:example:hourly:yyyyMMddHH} - 2일 보관</li>
+ *     <li>{@code ranking:example:daily:yyyyMMdd} - 30일 보관</li>
+ * </ul>
+ */
+@Component
+public class ExampleRankingRepositoryImpl implements ExampleRankingRepository {
+    private static final String HOURLY_KEY_PREFIX = "ranking:example:hourly:";
+    private static final String DAILY_KEY_PREFIX = "ranking:example:daily:";
+    private static final DateTimeFormatter HOURLY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAILY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Duration HOURLY_TTL = Duration.ofDays(2);
+    private static final Duration DAILY_TTL = Duration.ofDays(30);
+    private static final int PIPELINE_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ExampleRankingRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void incrementAll(ExampleMetricsDeltas deltas, ZonedDateTime occurredAt) {
+        byte[] hourlyKey = (HOURLY_KEY_PREFIX + HOURLY_FORMAT.format(occurredAt)).getBytes(StandardCharsets.UTF_8);
+        byte[] dailyKey = (DAILY_KEY_PREFIX + DAILY_FORMAT.format(occurredAt)).getBytes(StandardCharsets.UTF_8);
+
+        for (int from = 0; from < deltas.size(); from += PIPELINE_SIZE) {
+            int start = from;
+            int end = Math.min(from + PIPELINE_SIZE, deltas.size());
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                RedisZSetCommands zSetCommands = connection.zSetCommands();
+                for (int i = start; i < end; i++) {
+                    double score = ExampleRankingScore.of(deltas.viewDeltas()[i], deltas.likeDeltas()[i]);
+                    if (score == 0) {
+                        continue;
+                    }
+                    byte[] member = Long.toString(deltas.exampleIds()[i]).getBytes(StandardCharsets.UTF_8);
+                    zSetCommands.zIncrBy(hourlyKey, score, member);
+                    zSetCommands.zIncrBy(dailyKey, score, member);
+                }
+                if (end == deltas.size()) {
+                    RedisKeyCommands keyCommands = connection.keyCommands();
+                    keyCommands.expire(hourlyKey, HOURLY_TTL.toSeconds());
+                    keyCommands.expire(dailyKey, DAILY_TTL.toSeconds());
+                }
+                return null;
+            });
+        }
+    }
+}
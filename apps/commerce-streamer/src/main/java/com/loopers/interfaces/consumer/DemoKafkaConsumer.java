@@ -1,6 +1,9 @@
 package com.loopers.interfaces.consumer;
 
 import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.retry.RetryingBatchProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
@@ -8,9 +11,18 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+/**
+ * 재시도 토픽은 단계마다 별도 컨테이너로 소비한다. ({@link DemoKafkaTopicConfig#demoRetryListeners})
+ */
+@Slf4j
+@RequiredArgsConstructor
 @Component
 public class DemoKafkaConsumer {
+    private final RetryingBatchProcessor retryingBatchProcessor;
+
     @KafkaListener(
+        id = "demo-listener",
+        idIsGroup = false, // 리스너 id 는 지표 태그로만 쓰고, consumer group 은 설정값을 유지한다.
         topics = {"${demo-kafka.test.topic-name}"},
         containerFactory = KafkaConfig.BATCH_LISTENER
     )
@@ -18,7 +30,10 @@ public class DemoKafkaConsumer {
         List<ConsumerRecord<Object,Object>> messages,
         Acknowledgment acknowledgment
     ){
-        System.out.println(messages);
-        acknowledgment.acknowledge();
+        retryingBatchProcessor.process(messages, acknowledgment, this::handle);
+    }
+
+    void handle(ConsumerRecord<Object, Object> message) {
+        log.info("demo 메시지를 받았습니다. ({}-{}@{}) key = {}", message.topic(), message.partition(), message.offset(), message.key());
     }
 }
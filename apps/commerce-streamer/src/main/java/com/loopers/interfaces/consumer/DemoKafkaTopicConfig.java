@@ -0,0 +1,40 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.metrics.KafkaListenerMetrics;
+import com.loopers.confg.kafka.retry.KafkaRetryTopics;
+import com.loopers.confg.kafka.retry.RetryTopicListenerContainers;
+import com.loopers.confg.kafka.retry.RetryingBatchProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+
+@Configuration
+public class DemoKafkaTopicConfig {
+
+    @Bean
+    public KafkaAdmin.NewTopics demoRetryTopics(
+        KafkaRetryTopics kafkaRetryTopics,
+        @Value("${demo-kafka.test.topic-name}") String topicName
+    ) {
+        return kafkaRetryTopics.newTopics(topicName, 3, 1);
+    }
+
+    @Bean
+    public RetryTopicListenerContainers demoRetryListeners(
+        @Qualifier(KafkaConfig.BATCH_LISTENER) ConcurrentKafkaListenerContainerFactory<Object, Object> factory,
+        KafkaListenerMetrics kafkaListenerMetrics,
+        KafkaRetryTopics kafkaRetryTopics,
+        RetryingBatchProcessor retryingBatchProcessor,
+        DemoKafkaConsumer demoKafkaConsumer,
+        @Value("${demo-kafka.test.topic-name}") String topicName
+    ) {
+        return new RetryTopicListenerContainers(
+            factory, kafkaListenerMetrics, kafkaRetryTopics, retryingBatchProcessor,
+            "demo-retry-listener", topicName, demoKafkaConsumer::handle
+        );
+    }
+}
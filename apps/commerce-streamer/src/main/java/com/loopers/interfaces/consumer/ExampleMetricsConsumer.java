@@ -0,0 +1,67 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.metrics.ExampleMetricsAggregator;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.metrics.ExampleMetricsEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExampleMetricsConsumer {
+    private final ExampleMetricsAggregator exampleMetricsAggregator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * offset 은 집계 윈도우가 반영된 뒤 {@link ExampleMetricsAggregator} 가 커밋한다.
+     */
+    @KafkaListener(
+        id = "example-metrics-listener",
+        idIsGroup = false,
+        topics = {"${example-metrics.topic-name}"},
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void exampleMetricsListener(
+        List<ConsumerRecord<Object, Object>> messages,
+        Acknowledgment acknowledgment
+    ) {
+        List<ExampleMetricsEvent> events = new ArrayList<>(messages.size());
+        for (ConsumerRecord<Object, Object> message : messages) {
+            ExampleMetricsEvent event = parse(message);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        exampleMetricsAggregator.accumulate(events, acknowledgment);
+    }
+
+    /**
+     * 집계 이벤트는 재시도해도 결과가 달라지지 않으므로, 해석할 수 없는 이벤트는 건너뛴다.
+     */
+    private ExampleMetricsEvent parse(ConsumerRecord<Object, Object> message) {
+        try {
+            ExampleMetricsEvent event = switch (message.value()) {
+                case byte[] bytes -> objectMapper.readValue(bytes, ExampleMetricsEvent.class);
+                case String json -> objectMapper.readValue(json, ExampleMetricsEvent.class);
+                case null, default -> null;
+            };
+            if (event != null && event.exampleId() != null && event.type() != null) {
+                return event;
+            }
+        } catch (IOException e) {
+            log.debug("example 집계 이벤트를 해석할 수 없습니다. ({}-{}@{})", message.topic(), message.partition(), message.offset(), e);
+        }
+        log.warn("잘못된 example 집계 이벤트를 건너뜁니다. ({}-{}@{})", message.topic(), message.partition(), message.offset());
+        return null;
+    }
+}
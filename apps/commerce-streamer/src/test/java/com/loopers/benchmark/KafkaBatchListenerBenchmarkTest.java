@@ -0,0 +1,231 @@
+package com.loopers.benchmark;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.testcontainers.KafkaTestContainersConfig;
+import com.loopers.utils.KafkaTopics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link KafkaConfig#BATCH_LISTENER} 컨슈머의 지속 처리량 벤치마크. {@code ./gradlew :apps:commerce-streamer:kafkaBenchmark} 로 실행한다.
+ * <p>
+ * 레코드를 먼저 모두 적재한 뒤 리스너를 시작해, 브로커에 쌓인 backlog 를 소비하는 속도만 측정한다.
+ * 실행 조건은 {@code -Pbenchmark.*} 로 바꾸고, 결과는 build/reports/kafka-benchmark/results.csv 에 누적된다.
+ * <ul>
+ *     <li>{@code benchmark.records} (1,000,000), {@code benchmark.payload-bytes} (512), {@code benchmark.partitions} (6)</li>
+ *     <li>{@code benchmark.concurrency} (3), {@code benchmark.max-poll-records}, {@code benchmark.fetch-min-bytes} (기본값은 KafkaConfig 상수)</li>
+ *     <li>{@code benchmark.work-micros} (0) - 레코드당 처리 시간을 흉내낸다.</li>
+ * </ul>
+ */
+@Tag("benchmark")
+@SpringBootTest
+class KafkaBatchListenerBenchmarkTest {
+    private static final String TOPIC = "benchmark.batch-listener-v1";
+    private static final String LISTENER_ID = "benchmark-listener";
+
+    private static final long RECORDS = Long.getLong("benchmark.records", 1_000_000L);
+    private static final int PAYLOAD_BYTES = Integer.getInteger("benchmark.payload-bytes", 512);
+    private static final int PARTITIONS = Integer.getInteger("benchmark.partitions", 6);
+    private static final long WORK_MICROS = Long.getLong("benchmark.work-micros", 0L);
+    private static final long TIMEOUT_MINUTES = Long.getLong("benchmark.timeout-minutes", 10L);
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private BenchmarkListener listener;
+
+    @DisplayName("backlog 를 소비하는 지속 처리량, 배치 주기, 컨슈머 CPU 를 측정한다.")
+    @Test
+    void measuresBatchListenerThroughput() throws Exception {
+        // arrange
+        KafkaTopics.create(KafkaTestContainersConfig.bootstrapServers(), TOPIC, PARTITIONS);
+        produce();
+
+        // act
+        long startedAt = System.nanoTime();
+        registry.getListenerContainer(LISTENER_ID).start();
+        boolean completed = listener.await(RECORDS, TimeUnit.MINUTES.toNanos(TIMEOUT_MINUTES));
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long cpuNanos = listener.consumerCpuNanos();
+        registry.getListenerContainer(LISTENER_ID).stop();
+
+        // assert
+        report(elapsedNanos, cpuNanos);
+        assertThat(completed).isTrue();
+    }
+
+    private void produce() {
+        byte[] payload = new byte[PAYLOAD_BYTES];
+        ThreadLocalRandom.current().nextBytes(payload);
+        Map<String, Object> config = Map.of(
+            ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, KafkaTestContainersConfig.bootstrapServers(),
+            ProducerConfig.ACKS_CONFIG, "1",
+            ProducerConfig.LINGER_MS_CONFIG, 20,
+            ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024,
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4"
+        );
+        try (KafkaProducer<byte[], byte[]> producer = new KafkaProducer<>(config, new ByteArraySerializer(), new ByteArraySerializer())) {
+            for (long i = 0; i < RECORDS; i++) {
+                producer.send(new ProducerRecord<>(TOPIC, Long.toString(i).getBytes(), payload));
+            }
+            producer.flush();
+        }
+    }
+
+    private void report(long elapsedNanos, long cpuNanos) throws IOException {
+        double seconds = elapsedNanos / 1e9;
+        long consumed = listener.consumed.get();
+        double recordsPerSecond = consumed / seconds;
+        double megabytesPerSecond = recordsPerSecond * PAYLOAD_BYTES / (1024 * 1024);
+        long[] batchSizes = sorted(listener.batchSizes);
+        long[] cycles = sorted(listener.cycleNanos);
+
+        String line = String.format(
+            Locale.ROOT,
+            "%s,%d,%d,%d,%s,%s,%s,%d,%.0f,%.2f,%d,%d,%d,%.2f,%.2f,%.2f,%.1f,%.3f",
+            Instant.now(), consumed, PAYLOAD_BYTES, PARTITIONS,
+            System.getProperty("benchmark.concurrency", "3"),
+            System.getProperty("benchmark.max-poll-records", String.valueOf(KafkaConfig.MAX_POLLING_SIZE)),
+            System.getProperty("benchmark.fetch-min-bytes", String.valueOf(KafkaConfig.FETCH_MIN_BYTES)),
+            WORK_MICROS, recordsPerSecond, megabytesPerSecond,
+            batchSizes.length, percentile(batchSizes, 50), percentile(batchSizes, 99),
+            percentile(cycles, 50) / 1e6, percentile(cycles, 99) / 1e6, percentile(cycles, 100) / 1e6,
+            cpuNanos / 1e6, cpuNanos / (double) elapsedNanos
+        );
+        System.out.println("[kafka-benchmark] " + line);
+
+        Path file = Path.of(System.getProperty("benchmark.report-dir", "build/reports/kafka-benchmark")).resolve("results.csv");
+        Files.createDirectories(file.getParent());
+        if (Files.notExists(file)) {
+            Files.writeString(file, "timestamp,records,payload_bytes,partitions,concurrency,max_poll_records,fetch_min_bytes,work_micros,"
+                + "records_per_sec,mb_per_sec,batches,batch_size_p50,batch_size_p99,cycle_p50_ms,cycle_p99_ms,cycle_max_ms,"
+                + "consumer_cpu_ms,consumer_cpu_cores\n");
+        }
+        Files.writeString(file, line + "\n", StandardOpenOption.APPEND);
+    }
+
+    private static long[] sorted(List<Long> values) {
+        synchronized (values) {
+            return values.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(sorted.length * percentile / 100) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    @TestConfiguration
+    static class BenchmarkConfig {
+        @Bean
+        BenchmarkListener benchmarkListener() {
+            return new BenchmarkListener();
+        }
+    }
+
+    /**
+     * 배치 크기, 컨슈머 스레드별 poll 주기(배치 간 간격 = fetch 대기 + 처리), 컨슈머 스레드 CPU 시간을 모은다.
+     */
+    static class BenchmarkListener {
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+        private final AtomicLong consumed = new AtomicLong();
+        private final List<Long> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> cycleNanos = Collections.synchronizedList(new ArrayList<>());
+        private final Set<Long> consumerThreads = ConcurrentHashMap.newKeySet();
+        private final ThreadLocal<Long> lastBatchAt = new ThreadLocal<>();
+
+        @KafkaListener(
+            id = LISTENER_ID,
+            idIsGroup = false,
+            groupId = "benchmark-consumer",
+            topics = TOPIC,
+            containerFactory = KafkaConfig.BATCH_LISTENER,
+            autoStartup = "false",
+            concurrency = "${benchmark.concurrency:3}",
+            properties = {
+                "auto.offset.reset=earliest",
+                "max.poll.records=#{systemProperties['benchmark.max-poll-records'] ?: T(com.loopers.confg.kafka.KafkaConfig).MAX_POLLING_SIZE}",
+                "fetch.min.bytes=#{systemProperties['benchmark.fetch-min-bytes'] ?: T(com.loopers.confg.kafka.KafkaConfig).FETCH_MIN_BYTES}"
+            }
+        )
+        void consume(List<ConsumerRecord<Object, Object>> records, Acknowledgment acknowledgment) {
+            long now = System.nanoTime();
+            Long last = lastBatchAt.get();
+            if (last != null) {
+                cycleNanos.add(now - last);
+            }
+            lastBatchAt.set(now);
+            consumerThreads.add(Thread.currentThread().threadId());
+            batchSizes.add((long) records.size());
+
+            if (WORK_MICROS > 0) {
+                long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(WORK_MICROS * records.size());
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+            }
+            acknowledgment.acknowledge();
+            consumed.addAndGet(records.size());
+        }
+
+        boolean await(long expected, long timeoutNanos) throws InterruptedException {
+            long deadline = System.nanoTime() + timeoutNanos;
+            while (consumed.get() < expected) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                Thread.sleep(50);
+            }
+            return true;
+        }
+
+        long consumerCpuNanos() {
+            long total = 0;
+            for (long threadId : consumerThreads) {
+                long cpu = THREADS.getThreadCpuTime(threadId);
+                if (cpu > 0) {
+                    total += cpu;
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.domain.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ExampleMetricsWindowTest {
+    @DisplayName("윈도우의 증감량은 example 별로 합산되고, 증감이 없는 example 은 제외된다.")
+    @Test
+    void aggregatesDeltasPerExample() {
+        // arrange
+        ExampleMetricsWindow window = new ExampleMetricsWindow();
+        window.add(new ExampleMetricsEvent(3L, ExampleMetricsEvent.Type.VIEW));
+        window.add(new ExampleMetricsEvent(1L, ExampleMetricsEvent.Type.VIEW));
+        window.add(new ExampleMetricsEvent(3L, ExampleMetricsEvent.Type.LIKE));
+        window.add(new ExampleMetricsEvent(3L, ExampleMetricsEvent.Type.VIEW));
+        window.add(new ExampleMetricsEvent(2L, ExampleMetricsEvent.Type.LIKE));
+        window.add(new ExampleMetricsEvent(2L, ExampleMetricsEvent.Type.UNLIKE));
+
+        // act
+        ExampleMetricsDeltas deltas = window.toDeltas();
+
+        // assert
+        assertAll(
+            () -> assertThat(window.events()).isEqualTo(6L),
+            () -> assertThat(deltas.exampleIds()).containsExactly(1L, 3L),
+            () -> assertThat(deltas.viewDeltas()).containsExactly(1L, 2L),
+            () -> assertThat(deltas.likeDeltas()).containsExactly(0L, 1L)
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.metrics.ExampleMetricsAggregator;
+import com.loopers.utils.PerformanceBudget;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+class ExampleMetricsConsumerTest {
+    private static final int BATCH_SIZE = 100;
+
+    /** 호출을 기록하지 않는 mock 이어야 측정에 mock 의 할당이 섞이지 않는다. */
+    private final ExampleMetricsConsumer consumer = new ExampleMetricsConsumer(
+        mock(ExampleMetricsAggregator.class, withSettings().stubOnly()),
+        new ObjectMapper()
+    );
+
+    private final List<ConsumerRecord<Object, Object>> messages = batch();
+    private final Acknowledgment acknowledgment = () -> {
+    };
+
+    private static List<ConsumerRecord<Object, Object>> batch() {
+        List<ConsumerRecord<Object, Object>> messages = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            byte[] value = ("{\"exampleId\":" + i + ",\"type\":\"VIEW\"}").getBytes(StandardCharsets.UTF_8);
+            messages.add(new ConsumerRecord<>("example-metrics", 0, i, null, value));
+        }
+        return messages;
+    }
+
+    @DisplayName("100 건짜리 배치를 해석하는 데 배치당 128KB 미만을 할당한다.")
+    @Test
+    void parsesBatch_withinAllocationBudget() {
+        // act & assert
+        PerformanceBudget.of("example-metrics.consume-batch")
+            .warmup(1_000)
+            .iterations(1_000)
+            .allocatedBytesBelow(128 * 1024)
+            .run(() -> consumer.exampleMetricsListener(messages, acknowledgment));
+    }
+
+    @DisplayName("100 건짜리 배치를 중앙값 10ms 안에 해석한다.")
+    @Tag("benchmark")
+    @Test
+    void parsesBatch_withinTimeBudget() {
+        // act & assert
+        PerformanceBudget.of("example-metrics.consume-batch")
+            .warmup(1_000)
+            .iterations(1_000)
+            .medianTimeBelow(Duration.ofMillis(10))
+            .run(() -> consumer.exampleMetricsListener(messages, acknowledgment));
+    }
+}
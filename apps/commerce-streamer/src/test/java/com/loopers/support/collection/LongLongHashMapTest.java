@@ -0,0 +1,96 @@
+package com.loopers.support.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LongLongHashMapTest {
+    @DisplayName("값을 더할 때, ")
+    @Nested
+    class AddTo {
+        @DisplayName("같은 키에 여러 번 더하면, 누적된 값을 돌려준다.")
+        @Test
+        void accumulatesDeltas_whenSameKeyIsAddedRepeatedly() {
+            // arrange
+            LongLongHashMap map = new LongLongHashMap(4);
+
+            // act
+            map.addTo(7L, 3L);
+            long result = map.addTo(7L, -1L);
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isEqualTo(2L),
+                () -> assertThat(map.get(7L)).isEqualTo(2L),
+                () -> assertThat(map.size()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("키 0 도 다른 키와 동일하게 다룬다.")
+        @Test
+        void handlesZeroKey() {
+            // arrange
+            LongLongHashMap map = new LongLongHashMap();
+
+            // act
+            map.addTo(0L, 5L);
+            map.addTo(1L, 1L);
+
+            // assert
+            assertAll(
+                () -> assertThat(map.containsKey(0L)).isTrue(),
+                () -> assertThat(map.get(0L)).isEqualTo(5L),
+                () -> assertThat(map.sortedKeys()).containsExactly(0L, 1L)
+            );
+        }
+
+        @DisplayName("초기 용량보다 많은 키를 넣어도, HashMap 과 같은 결과를 유지한다.")
+        @Test
+        void matchesHashMap_whenResized() {
+            // arrange
+            LongLongHashMap map = new LongLongHashMap(2);
+            Map<Long, Long> expected = new HashMap<>();
+            Random random = new Random(42);
+
+            // act
+            for (int i = 0; i < 100_000; i++) {
+                long key = random.nextInt(20_000) - 10_000;
+                long delta = random.nextInt(10);
+                map.addTo(key, delta);
+                expected.merge(key, delta, Long::sum);
+            }
+
+            // assert
+            Map<Long, Long> actual = new HashMap<>();
+            map.forEach(actual::put);
+            assertAll(
+                () -> assertThat(map.size()).isEqualTo(expected.size()),
+                () -> assertThat(actual).isEqualTo(expected)
+            );
+        }
+    }
+
+    @DisplayName("없는 키를 조회하면, 0 을 돌려준다.")
+    @Test
+    void returnsZero_whenKeyIsAbsent() {
+        // arrange
+        LongLongHashMap map = new LongLongHashMap();
+        map.addTo(1L, 1L);
+
+        // act
+        long result = map.get(2L);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).isZero(),
+            () -> assertThat(map.containsKey(2L)).isFalse()
+        );
+    }
+}
@@ -77,11 +77,54 @@ subprojects {
         tasks.withType(BootJar::class) { enabled = true }
     }
 
+    // fast-startup : Spring AOT 로 처리된 컨텍스트 + AppCDS 아카이브 (./gradlew :apps:<app>:cdsArchive -PfastStartup)
+    if (project.parent?.name.equals("apps") && project.hasProperty("fastStartup")) {
+        apply(plugin = "org.springframework.boot.aot")
+
+        val fastStartupDir = layout.buildDirectory.dir("fast-startup")
+        val bootJar = tasks.named<BootJar>("bootJar")
+        val javaLauncher = extensions.getByType<JavaToolchainService>().launcherFor {
+            languageVersion = JavaLanguageVersion.of(21)
+        }
+
+        val extractBootJar = tasks.register<Exec>("extractBootJar") {
+            group = "fast-startup"
+            description = "bootJar 를 CDS 에 적합한 구조(애플리케이션 jar + lib/)로 풀어낸다."
+            dependsOn(bootJar)
+            doFirst { delete(fastStartupDir) }
+            executable = javaLauncher.get().executablePath.asFile.absolutePath
+            args(
+                "-Djarmode=tools", "-jar", bootJar.get().archiveFile.get().asFile.absolutePath,
+                "extract", "--destination", fastStartupDir.get().asFile.absolutePath,
+            )
+        }
+
+        tasks.register<Exec>("cdsArchive") {
+            group = "fast-startup"
+            description = "학습 실행(컨텍스트 refresh 직후 종료)으로 AppCDS 아카이브를 만든다. local 인프라가 떠 있어야 한다."
+            dependsOn(extractBootJar)
+            workingDir = fastStartupDir.get().asFile
+            executable = javaLauncher.get().executablePath.asFile.absolutePath
+            args(
+                "-XX:ArchiveClassesAtExit=application.jsa",
+                "-Dspring.context.exit=onRefresh",
+                "-Dspring.aot.enabled=true",
+                "-jar", bootJar.get().archiveFileName.get(),
+            )
+        }
+    }
+
     tasks.test {
         maxParallelForks = 1
-        useJUnitPlatform()
+        useJUnitPlatform {
+            // 벽시계 시간에 기대는 측정은 실행 환경마다 흔들리므로 기본 테스트에서 뺀다
+            excludeTags("benchmark")
+        }
         systemProperty("user.timezone", "Asia/Seoul")
         systemProperty("spring.profiles.active", "test")
+        // PerformanceBudget (supports:monitoring testFixtures) 리포트
+        systemProperty("performance-budget.report-file", layout.buildDirectory.file("reports/performance-budget/results.jsonl").get().asFile.absolutePath)
+        systemProperty("performance-budget.version", project.version.toString())
         jvmArgs("-Xshare:off")
     }
 
@@ -0,0 +1,32 @@
+import org.springframework.boot.gradle.tasks.bundling.BootJar
+
+evaluationDependsOn(":apps:commerce-api")
+
+dependencies {
+    // commerce-api 가 테스트에서 사용하는 인프라 fixture 를 그대로 재사용한다.
+    implementation(testFixtures(project(":modules:jpa")))
+    implementation(testFixtures(project(":modules:redis")))
+
+    implementation("org.hdrhistogram:HdrHistogram:${project.properties["hdrHistogramVersion"]}")
+    runtimeOnly("com.mysql:mysql-connector-j")
+}
+
+/**
+ * ./gradlew :load-test:loadTest -Ploadtest.rows=2000000 -Ploadtest.rps=500,1000,2000,4000
+ * -Ploadtest.* 로 넘긴 값은 그대로 시스템 프로퍼티로 전달된다. (LoadTestProperties 참고)
+ */
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "commerce-api 를 띄워 open-model 부하를 주고, 지연 분포와 saturation curve 를 남긴다."
+
+    val bootJar = project(":apps:commerce-api").tasks.named<BootJar>("bootJar")
+    dependsOn(bootJar)
+
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.loopers.loadtest.LoadTestRunner"
+    systemProperty("loadtest.app-jar", bootJar.get().archiveFile.get().asFile.absolutePath)
+    systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/load-test").get().asFile.absolutePath)
+    project.properties
+        .filterKeys { it.startsWith("loadtest.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
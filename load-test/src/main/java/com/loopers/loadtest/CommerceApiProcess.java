@@ -0,0 +1,83 @@
+package com.loopers.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * commerce-api bootJar 를 별도 JVM 으로 띄운다. 부하 발생기와 같은 JVM 을 쓰지 않아야 측정값이 서로 간섭하지 않는다.
+ */
+final class CommerceApiProcess implements AutoCloseable {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Process process;
+    private final int managementPort;
+
+    private CommerceApiProcess(Process process, int managementPort) {
+        this.process = process;
+        this.managementPort = managementPort;
+    }
+
+    static CommerceApiProcess start(LoadTestProperties properties, Map<String, String> overrides, Path logFile)
+        throws IOException, InterruptedException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-Dspring.profiles.active=local");
+        overrides.forEach((key, value) -> command.add("-D" + key + "=" + value));
+        command.add("-jar");
+        command.add(properties.appJar().toString());
+        command.add("--server.port=" + properties.serverPort());
+        command.add("--management.server.port=" + properties.managementPort());
+
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile())
+            .start();
+
+        CommerceApiProcess app = new CommerceApiProcess(process, properties.managementPort());
+        app.awaitReadiness();
+        return app;
+    }
+
+    private void awaitReadiness() throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + managementPort + "/actuator/health/readiness")
+        ).timeout(Duration.ofSeconds(2)).build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("commerce-api 가 기동 중 종료되었습니다. (exit = " + process.exitValue() + ")");
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // 아직 포트가 열리지 않았다.
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("commerce-api 가 " + STARTUP_TIMEOUT + " 안에 ready 상태가 되지 않았습니다.");
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 단계별 HdrHistogram 분포(.hgrm)와 saturation curve(saturation.csv)를 남긴다.
+ * .hgrm 은 HdrHistogram plotter 에 그대로 올려 실행 간 비교할 수 있다.
+ */
+final class LatencyReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Path directory;
+
+    LatencyReport(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    void writeStage(StageResult result) throws IOException {
+        write("rps-" + result.targetRps() + "-corrected.hgrm", result, true);
+        write("rps-" + result.targetRps() + "-service.hgrm", result, false);
+    }
+
+    Path writeSaturationCurve(List<StageResult> results) throws IOException {
+        Path file = directory.resolve("saturation.csv");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            out.println("target_rps,achieved_rps,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms,error_rate");
+            for (StageResult result : results) {
+                out.println(String.format(
+                    Locale.ROOT,
+                    "%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.4f",
+                    result.targetRps(),
+                    result.achievedRps(),
+                    result.correctedMillisAt(50),
+                    result.correctedMillisAt(90),
+                    result.correctedMillisAt(99),
+                    result.correctedMillisAt(99.9),
+                    result.corrected().getMaxValue() / NANOS_PER_MILLI,
+                    result.errorRate()
+                ));
+            }
+        }
+        return file;
+    }
+
+    private void write(String fileName, StageResult result, boolean corrected) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+            (corrected ? result.corrected() : result.service()).outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.loadtest;
+
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * commerce-api 가 붙을 MySQL/Redis 를 준비하고, 애플리케이션에 넘길 접속 정보를 돌려준다.
+ * testcontainers 모드에서는 테스트와 동일한 fixture 를 사용하므로, fixture 가 설정한 시스템 프로퍼티를 그대로 전달한다.
+ */
+record LoadTestInfrastructure(Map<String, String> applicationOverrides, String jdbcUrl, String username, String password) {
+    private static final String[] FORWARDED_PREFIXES = {"datasource.mysql-jpa.main.", "datasource.redis."};
+
+    static LoadTestInfrastructure start(String mode) {
+        return switch (mode) {
+            case "testcontainers" -> startContainers();
+            case "local" -> new LoadTestInfrastructure(Map.of(), "jdbc:mysql://localhost:3306/loopers", "application", "application");
+            default -> throw new IllegalArgumentException("지원하지 않는 loadtest.infra 입니다: " + mode);
+        };
+    }
+
+    private static LoadTestInfrastructure startContainers() {
+        // MySQL 은 static 초기화에서, Redis 는 생성자에서 컨테이너 접속 정보를 시스템 프로퍼티로 설정한다.
+        new MySqlTestContainersConfig();
+        new RedisTestContainersConfig();
+
+        Map<String, String> overrides = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> {
+                for (String prefix : FORWARDED_PREFIXES) {
+                    if (name.startsWith(prefix)) {
+                        return true;
+                    }
+                }
+                return false;
+            })
+            .sorted()
+            .forEach(name -> overrides.put(name, System.getProperty(name)));
+
+        return new LoadTestInfrastructure(
+            overrides,
+            System.getProperty("datasource.mysql-jpa.main.jdbc-url"),
+            System.getProperty("datasource.mysql-jpa.main.username"),
+            System.getProperty("datasource.mysql-jpa.main.password")
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정. 모두 시스템 프로퍼티({@code -Ploadtest.*})로 변경할 수 있다.
+ *
+ * @param infra     {@code testcontainers} 이면 테스트 fixture 로 MySQL/Redis 를 띄우고, {@code local} 이면 docker/infra-compose 를 사용한다.
+ * @param rows      example 테이블에 미리 채워둘 행 수
+ * @param stageRps  saturation curve 를 그릴 목표 처리량(req/s) 단계
+ * @param zipfTheta 키 분포의 skew (YCSB 기본값 0.99)
+ */
+record LoadTestProperties(
+    Path appJar,
+    Path reportDir,
+    String infra,
+    long rows,
+    List<Integer> stageRps,
+    Duration stageDuration,
+    Duration warmupDuration,
+    double zipfTheta,
+    int serverPort,
+    int managementPort
+) {
+    static LoadTestProperties fromSystemProperties() {
+        String appJar = System.getProperty("loadtest.app-jar");
+        if (appJar == null) {
+            throw new IllegalStateException("loadtest.app-jar 가 필요합니다. ./gradlew :load-test:loadTest 로 실행해주세요.");
+        }
+        return new LoadTestProperties(
+            Path.of(appJar),
+            Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test")),
+            System.getProperty("loadtest.infra", "testcontainers"),
+            Long.getLong("loadtest.rows", 2_000_000L),
+            Arrays.stream(System.getProperty("loadtest.rps", "250,500,1000,2000,4000").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList(),
+            Duration.ofSeconds(Long.getLong("loadtest.stage-seconds", 30L)),
+            Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 20L)),
+            Double.parseDouble(System.getProperty("loadtest.zipf-theta", "0.99")),
+            Integer.getInteger("loadtest.server-port", 18080),
+            Integer.getInteger("loadtest.management-port", 18081)
+        );
+    }
+}
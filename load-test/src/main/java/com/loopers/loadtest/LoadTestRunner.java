@@ -0,0 +1,54 @@
+package com.loopers.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 진입점.
+ * 인프라 준비 → commerce-api 기동 → example 테이블 적재 → 워밍업 → 목표 처리량 단계별 측정 → 리포트 순으로 진행한다.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+        Path reportDir = Files.createDirectories(properties.reportDir());
+        LatencyReport report = new LatencyReport(reportDir);
+
+        LoadTestInfrastructure infrastructure = LoadTestInfrastructure.start(properties.infra());
+        // ddl-auto 로 스키마가 만들어진 뒤에 적재해야 하므로, 애플리케이션이 ready 된 다음 seed 한다.
+        try (CommerceApiProcess ignored = CommerceApiProcess.start(
+            properties, infrastructure.applicationOverrides(), reportDir.resolve("commerce-api.log")
+        )) {
+            long rows = new ExampleTableSeeder(infrastructure).seed(properties.rows());
+            System.out.printf("[seed] example rows = %,d%n", rows);
+
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+                properties.serverPort(),
+                new ZipfianKeyGenerator(rows, properties.zipfTheta())
+            );
+
+            System.out.printf("[warmup] %ds @ %d req/s%n", properties.warmupDuration().toSeconds(), properties.stageRps().getFirst());
+            generator.run(properties.stageRps().getFirst(), properties.warmupDuration());
+
+            List<StageResult> results = new ArrayList<>();
+            for (int rps : properties.stageRps()) {
+                StageResult result = generator.run(rps, properties.stageDuration());
+                report.writeStage(result);
+                results.add(result);
+                System.out.printf(
+                    "[stage] target=%d achieved=%.1f p50=%.2fms p99=%.2fms p99.9=%.2fms errors=%.2f%%%n",
+                    rps, result.achievedRps(), result.correctedMillisAt(50), result.correctedMillisAt(99),
+                    result.correctedMillisAt(99.9), result.errorRate() * 100
+                );
+            }
+            System.out.println("[report] " + report.writeSaturationCurve(results));
+        }
+        // testcontainers 는 JVM 종료 시 ryuk 가 정리한다.
+        System.exit(0);
+    }
+}
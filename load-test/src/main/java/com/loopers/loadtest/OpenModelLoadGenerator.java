@@ -0,0 +1,82 @@
+package com.loopers.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정된 도착률로 요청을 보내는 open-model 부하 발생기.
+ * 각 요청은 "보냈어야 할 시각(intended start)" 을 기준으로 지연을 기록하므로, 서버가 밀려 발송이 늦어진 시간까지
+ * 지연에 포함된다. (coordinated omission 보정) 실제 송신 시각 기준의 서비스 시간도 함께 기록해 비교할 수 있게 한다.
+ */
+final class OpenModelLoadGenerator {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ZipfianKeyGenerator keys;
+
+    OpenModelLoadGenerator(int serverPort, ZipfianKeyGenerator keys) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        this.baseUrl = "http://localhost:" + serverPort + "/api/v1/examples/";
+        this.keys = keys;
+    }
+
+    StageResult run(int targetRps, Duration duration) throws InterruptedException {
+        Histogram corrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Histogram service = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        LongAdder errors = new LongAdder();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / targetRps;
+        long total = duration.toSeconds() * targetRps;
+        long startedAt = System.nanoTime();
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intendedStart = startedAt + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + keys.next()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+                requests.submit(() -> send(request, intendedStart, corrected, service, errors));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new StageResult(targetRps, total, errors.sum(), elapsedNanos, corrected, service);
+    }
+
+    private void send(HttpRequest request, long intendedStart, Histogram corrected, Histogram service, LongAdder errors) {
+        long actualStart = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 500) {
+                errors.increment();
+            }
+        } catch (Exception e) {
+            errors.increment();
+        }
+        long end = System.nanoTime();
+        corrected.recordValue(Math.min(end - intendedStart, HIGHEST_TRACKABLE_NANOS));
+        service.recordValue(Math.min(end - actualStart, HIGHEST_TRACKABLE_NANOS));
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 부하 단계의 결과.
+ *
+ * @param corrected intended start 기준 지연 (coordinated omission 보정)
+ * @param service   실제 송신 시각 기준 지연
+ */
+record StageResult(int targetRps, long requests, long errors, long elapsedNanos, Histogram corrected, Histogram service) {
+
+    double achievedRps() {
+        return (requests - errors) / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : errors / (double) requests;
+    }
+
+    double correctedMillisAt(double percentile) {
+        return corrected.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.loopers.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * YCSB 의 (Scrambled)Zipfian 분포를 따르는 1 ~ items 범위의 키를 만든다.
+ * 순위를 FNV 해시로 흩어, 인기 키가 인접한 ID(= 같은 페이지)에 몰리지 않도록 한다.
+ */
+final class ZipfianKeyGenerator {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 1099511628211L;
+
+    private final long items;
+    private final double theta;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+
+    ZipfianKeyGenerator(long items, double theta) {
+        this.items = items;
+        this.theta = theta;
+        this.zetaN = zeta(items, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+    }
+
+    long next() {
+        long rank = nextRank(ThreadLocalRandom.current().nextDouble());
+        return 1 + Math.floorMod(fnv(rank), items);
+    }
+
+    private long nextRank(double u) {
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        return Math.min(items - 1, (long) (items * Math.pow(eta * u - eta + 1, alpha)));
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+
+    private static long fnv(long value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < 8; i++) {
+            hash ^= value & 0xFF;
+            hash *= FNV_PRIME;
+            value >>= 8;
+        }
+        return hash;
+    }
+}
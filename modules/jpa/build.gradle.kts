@@ -13,9 +13,14 @@ dependencies {
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.testcontainers:mysql")
 
     testFixturesImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
     testFixturesImplementation("org.testcontainers:mysql")
+    // 실행 계획 검사 (QueryPlanGuard)
+    testFixturesImplementation("org.springframework:spring-test")
+    testFixturesImplementation("com.fasterxml.jackson.core:jackson-databind")
 }
@@ -0,0 +1,42 @@
+package com.loopers.config.jpa;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link BaseEntity} 의 soft-delete 필터는 기본으로 활성화되어 있다.
+ * 삭제된 엔티티까지 포함해서 조회해야 하는 경우에만, 이 컴포넌트로 필터를 잠시 해제한다.
+ */
+@Component
+public class SoftDeleteFilter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 필터는 세션 단위로 적용되므로, 반드시 트랜잭션 안에서 호출해야 한다.
+     */
+    public <T> T includingDeleted(Supplier<T> query) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("삭제된 엔티티 조회는 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        if (session.getEnabledFilter(BaseEntity.SOFT_DELETE_FILTER) == null) {
+            return query.get();
+        }
+
+        session.disableFilter(BaseEntity.SOFT_DELETE_FILTER);
+        try {
+            return query.get();
+        } finally {
+            session.enableFilter(BaseEntity.SOFT_DELETE_FILTER);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.config.jpa.archive;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * replica 에서 {@code SHOW REPLICA STATUS} 의 Seconds_Behind_Source 를 읽는다.
+ * 복제가 멈춰 값을 알 수 없으면, 안전하게 작업이 멈추도록 충분히 큰 값을 반환한다.
+ */
+class MySqlReplicationLagProbe implements ReplicationLagProbe {
+    private static final Duration UNKNOWN_LAG = Duration.ofDays(1);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    MySqlReplicationLagProbe(DataSource replicaDataSource) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    }
+
+    @Override
+    public Duration currentLag() {
+        List<Long> lags = replicaJdbcTemplate.query(
+            "SHOW REPLICA STATUS",
+            (rs, rowNum) -> {
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : seconds;
+            }
+        );
+        if (lags.isEmpty() || lags.contains(null)) {
+            return UNKNOWN_LAG;
+        }
+        return Duration.ofSeconds(lags.stream().mapToLong(Long::longValue).max().orElse(0));
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.config.jpa.archive;
+
+import java.time.Duration;
+
+@FunctionalInterface
+public interface ReplicationLagProbe {
+    ReplicationLagProbe NONE = () -> Duration.ZERO;
+
+    Duration currentLag();
+}
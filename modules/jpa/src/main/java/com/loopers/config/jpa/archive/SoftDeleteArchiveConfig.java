@@ -0,0 +1,47 @@
+package com.loopers.config.jpa.archive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(SoftDeleteArchiveProperties.class)
+@ConditionalOnProperty(prefix = "jpa.archive", name = "enabled", havingValue = "true")
+class SoftDeleteArchiveConfig {
+
+    @Bean
+    ReplicationLagProbe replicationLagProbe(SoftDeleteArchiveProperties properties) {
+        SoftDeleteArchiveProperties.Replica replica = properties.replica();
+        if (replica == null || replica.jdbcUrl() == null || replica.jdbcUrl().isBlank()) {
+            return ReplicationLagProbe.NONE;
+        }
+        return new MySqlReplicationLagProbe(
+            new DriverManagerDataSource(replica.jdbcUrl(), replica.username(), replica.password())
+        );
+    }
+
+    @Bean
+    SoftDeleteArchiveJob softDeleteArchiveJob(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        ReplicationLagProbe replicationLagProbe,
+        SoftDeleteArchiveProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new SoftDeleteArchiveJob(
+            jdbcTemplate,
+            new TransactionTemplate(transactionManager),
+            replicationLagProbe,
+            properties,
+            meterRegistry
+        );
+    }
+}
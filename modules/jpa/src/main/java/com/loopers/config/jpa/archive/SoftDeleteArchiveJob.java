@@ -0,0 +1,197 @@
+package com.loopers.config.jpa.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제된 지 {@code retention} 이 지난 행을 {@code <table>_archive} 테이블로 옮긴다.
+ * <p>
+ * PK 기준 keyset 순서로 작은 청크씩 처리하며, 청크마다 트랜잭션을 분리해 락 보유 시간을 짧게 유지한다.
+ * replica 의 복제 지연이 {@code maxReplicationLag} 를 넘으면 지연이 해소될 때까지 다음 청크를 미룬다.
+ * <p>
+ * 아카이브 테이블은 처음 한 번 원본과 같은 구조로 만들어지므로, 이후 원본에 컬럼이 추가되면 실행할 때마다 아카이브에도 (nullable 로) 추가한다.
+ * 복사할 때는 컬럼 순서에 기대지 않도록 원본의 컬럼 이름을 명시한다.
+ */
+@Slf4j
+public class SoftDeleteArchiveJob {
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReplicationLagProbe replicationLagProbe;
+    private final SoftDeleteArchiveProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong observedLagMillis = new AtomicLong();
+    private final Map<String, AtomicLong> cursors = new ConcurrentHashMap<>();
+
+    public SoftDeleteArchiveJob(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        ReplicationLagProbe replicationLagProbe,
+        SoftDeleteArchiveProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.replicationLagProbe = replicationLagProbe;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        meterRegistry.gauge("jpa.archive.replication.lag", observedLagMillis, lag -> lag.get() / 1000d);
+        for (String table : properties.tables()) {
+            if (!TABLE_NAME.matcher(table).matches()) {
+                throw new IllegalArgumentException("아카이빙 대상 테이블 이름이 올바르지 않습니다: " + table);
+            }
+            AtomicLong cursor = new AtomicLong();
+            cursors.put(table, cursor);
+            meterRegistry.gauge("jpa.archive.cursor", List.of(Tag.of("table", table)), cursor);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jpa.archive.interval}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (String table : properties.tables()) {
+                archive(table);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("soft-delete 아카이빙 중 오류가 발생했습니다.", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    void archive(String table) throws InterruptedException {
+        String columns = prepareArchiveTable(table);
+
+        LocalDateTime threshold = LocalDateTime.now(ZoneOffset.UTC).minus(properties.retention());
+        Counter archivedRows = meterRegistry.counter("jpa.archive.rows", "table", table);
+        Timer chunkTimer = meterRegistry.timer("jpa.archive.chunk", "table", table);
+        AtomicLong cursor = cursors.get(table);
+
+        long lastId = 0L;
+        long total = 0L;
+        while (true) {
+            awaitReplication(table);
+
+            long from = lastId;
+            long startedAt = System.nanoTime();
+            ArchivedChunk chunk = transactionTemplate.execute(status -> moveChunk(table, columns, threshold, from));
+            chunkTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+
+            if (chunk == null || chunk.scannedUpTo() == null) {
+                break;
+            }
+            lastId = chunk.scannedUpTo();
+            cursor.set(lastId);
+            archivedRows.increment(chunk.moved());
+            total += chunk.moved();
+
+            Thread.sleep(properties.pause().toMillis());
+        }
+        log.info("soft-delete 아카이빙 완료 : table = {}, archived = {}, cursor = {}", table, total, lastId);
+    }
+
+    /**
+     * 아카이브 테이블을 만들거나 원본에 새로 생긴 컬럼을 추가하고, 복사에 쓸 컬럼 목록을 돌려준다.
+     */
+    private String prepareArchiveTable(String table) {
+        String archive = table + "_archive";
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS `" + archive + "` LIKE `" + table + "`");
+
+        Map<String, String> columns = columnTypes(table);
+        Map<String, String> archivedColumns = columnTypes(archive);
+        columns.forEach((column, type) -> {
+            if (!archivedColumns.containsKey(column)) {
+                log.info("원본에 추가된 컬럼을 아카이브 테이블에 추가합니다. : table = {}, column = {}", archive, column);
+                jdbcTemplate.execute("ALTER TABLE `" + archive + "` ADD COLUMN `" + column + "` " + type + " NULL");
+            }
+        });
+        return columns.keySet().stream().map(column -> "`" + column + "`").collect(Collectors.joining(", "));
+    }
+
+    private Map<String, String> columnTypes(String table) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            "SELECT column_name, column_type FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = ? ORDER BY ordinal_position",
+            row -> {
+                String column = row.getString(1);
+                if (!TABLE_NAME.matcher(column).matches()) {
+                    throw new IllegalStateException("아카이빙할 수 없는 컬럼 이름입니다: " + table + "." + column);
+                }
+                columns.put(column, row.getString(2));
+            },
+            table
+        );
+        return columns;
+    }
+
+    private ArchivedChunk moveChunk(String table, String columns, LocalDateTime threshold, long fromId) {
+        // 1. 잠금 없이 keyset 순서로 대상 후보를 찾는다.
+        List<Long> candidates = jdbcTemplate.queryForList(
+            "SELECT id FROM `" + table + "` WHERE id > ? AND deleted_at IS NOT NULL AND deleted_at < ? ORDER BY id LIMIT ?",
+            Long.class, fromId, threshold, properties.chunkSize()
+        );
+        if (candidates.isEmpty()) {
+            return new ArchivedChunk(null, 0);
+        }
+
+        // 2. PK 로 후보 행만 잠그고, 그 사이에 복구된 행은 제외한다. (gap lock 을 피하기 위해 범위 조건으로 잠그지 않는다)
+        String inClause = candidates.stream().map(String::valueOf).collect(Collectors.joining(","));
+        List<Long> locked = jdbcTemplate.queryForList(
+            "SELECT id FROM `" + table + "` WHERE id IN (" + inClause + ") AND deleted_at IS NOT NULL AND deleted_at < ? FOR UPDATE",
+            Long.class, threshold
+        );
+        Long scannedUpTo = candidates.get(candidates.size() - 1);
+        if (locked.isEmpty()) {
+            return new ArchivedChunk(scannedUpTo, 0);
+        }
+
+        // 3. 아카이브 테이블로 복사한 뒤 원본에서 지운다.
+        String lockedIds = locked.stream().map(String::valueOf).collect(Collectors.joining(","));
+        jdbcTemplate.update(
+            "INSERT INTO `" + table + "_archive` (" + columns + ") SELECT " + columns + " FROM `" + table + "` WHERE id IN (" + lockedIds + ")"
+        );
+        int moved = jdbcTemplate.update("DELETE FROM `" + table + "` WHERE id IN (" + lockedIds + ")");
+        return new ArchivedChunk(scannedUpTo, moved);
+    }
+
+    private void awaitReplication(String table) throws InterruptedException {
+        Duration lag = replicationLagProbe.currentLag();
+        observedLagMillis.set(lag.toMillis());
+        while (lag.compareTo(properties.maxReplicationLag()) > 0) {
+            meterRegistry.counter("jpa.archive.throttled", "table", table).increment();
+            log.info("복제 지연({}s)으로 아카이빙을 잠시 멈춥니다. : table = {}", lag.toSeconds(), table);
+            Thread.sleep(Math.max(properties.pause().toMillis(), 1000L));
+            lag = replicationLagProbe.currentLag();
+            observedLagMillis.set(lag.toMillis());
+        }
+    }
+
+    private record ArchivedChunk(Long scannedUpTo, int moved) { }
+}
@@ -0,0 +1,33 @@
+package com.loopers.config.jpa.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param tables            아카이빙 대상 테이블 ({@code <table>_archive} 로 옮겨진다)
+ * @param retention         삭제 후 원본 테이블에 남겨둘 기간
+ * @param chunkSize         한 트랜잭션에서 옮기는 최대 행 수
+ * @param pause             청크 사이의 대기 시간
+ * @param maxReplicationLag 이 값을 넘는 복제 지연이 관측되면 다음 청크를 미룬다
+ * @param interval          작업 실행 주기
+ * @param replica           복제 지연을 확인할 replica 접속 정보 (없으면 지연 확인을 생략한다)
+ */
+@ConfigurationProperties(prefix = "jpa.archive")
+public record SoftDeleteArchiveProperties(
+    boolean enabled,
+    List<String> tables,
+    Duration retention,
+    int chunkSize,
+    Duration pause,
+    Duration maxReplicationLag,
+    Duration interval,
+    Replica replica
+) {
+    public record Replica(
+        String jdbcUrl,
+        String username,
+        String password
+    ) { }
+}
@@ -0,0 +1,16 @@
+package com.loopers.config.jpa.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MicroBatchProperties.class)
+class MicroBatchConfig {
+
+    @Bean
+    MicroBatchLoaders microBatchLoaders(MicroBatchProperties properties, MeterRegistry meterRegistry) {
+        return new MicroBatchLoaders(properties, meterRegistry);
+    }
+}
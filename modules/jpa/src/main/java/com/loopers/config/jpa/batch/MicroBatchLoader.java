@@ -0,0 +1,194 @@
+package com.loopers.config.jpa.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 안에 여러 스레드에서 들어온 단건 조회를 하나의 {@code IN} 조회로 합친다.
+ * <p>
+ * 배치를 연 첫 호출 스레드(leader)가 {@code window} 만큼 기다린 뒤 자신의 트랜잭션에서 조회를 실행하고,
+ * 같은 배치에 합류한 스레드들은 결과를 기다린다. 별도 실행 스레드를 두면 대기 중인 호출자들이 이미 커넥션을 쥔 채로
+ * 조회 스레드의 커넥션 획득을 막을 수 있으므로, 조회는 항상 이미 커넥션을 가진 호출 스레드에서 실행한다.
+ * {@code maxBatchSize} 개의 서로 다른 키가 모이면, 마지막 키를 넣은 스레드가 window 를 기다리지 않고 바로 실행한다.
+ * 배치를 열 때 조회 중인 다른 호출이 없으면 합류할 스레드도 없을 가능성이 높으므로, leader 도 기다리지 않고 바로 실행한다.
+ * (한가할 때는 지연을 더하지 않고, 동시 호출이 있을 때만 window 만큼 모은다)
+ * <p>
+ * 조회된 값은 배치에 합류한 모든 스레드가 공유하며, 다른 스레드 입장에서는 영속성 컨텍스트 밖의 객체다.
+ * 따라서 값을 수정하지 않는 읽기 전용 트랜잭션의 조회에만 사용해야 한다.
+ */
+public class MicroBatchLoader<K, V> {
+    private final Function<Collection<K>, Map<K, V>> batchLoad;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final DistributionSummary batchSize;
+    private final Timer addedWait;
+    private final Timer query;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Object lock = new Object();
+    private Batch<K, V> current;
+
+    MicroBatchLoader(
+        String name,
+        Function<Collection<K>, Map<K, V>> batchLoad,
+        boolean enabled,
+        Duration window,
+        int maxBatchSize,
+        MeterRegistry meterRegistry
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize 는 1 이상이어야 합니다: " + maxBatchSize);
+        }
+        this.batchLoad = batchLoad;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+
+        this.batchSize = DistributionSummary.builder("jpa.micro-batch.size")
+            .description("한 번의 조회로 합쳐진 서로 다른 키의 수")
+            .tag("loader", name)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.addedWait = Timer.builder("jpa.micro-batch.wait")
+            .description("호출이 배치에 합류한 시점부터 조회가 시작될 때까지 추가로 기다린 시간")
+            .tag("loader", name)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.query = Timer.builder("jpa.micro-batch.query")
+            .tag("loader", name)
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<V> load(K key) {
+        if (!enabled) {
+            return Optional.ofNullable(batchLoad.apply(List.of(key)).get(key));
+        }
+
+        inflight.incrementAndGet();
+        try {
+            return join(key);
+        } finally {
+            inflight.decrementAndGet();
+        }
+    }
+
+    private Optional<V> join(K key) {
+        long joinedAt = System.nanoTime();
+        Batch<K, V> batch;
+        CompletableFuture<Optional<V>> result;
+        boolean leader;
+        boolean runNow;
+        synchronized (lock) {
+            leader = current == null;
+            if (leader) {
+                current = new Batch<>(Thread.currentThread());
+            }
+            batch = current;
+            result = batch.results.computeIfAbsent(key, k -> new CompletableFuture<>());
+            boolean alone = leader && inflight.get() == 1;
+            runNow = alone || batch.results.size() >= maxBatchSize;
+            if (runNow) {
+                close(batch);
+            }
+        }
+
+        if (runNow) {
+            if (!leader) {
+                LockSupport.unpark(batch.leader);
+            }
+            execute(batch);
+        } else if (leader) {
+            long deadline = joinedAt + windowNanos;
+            for (long remaining = windowNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+                if (batch.closed) {
+                    break;
+                }
+            }
+            if (tryClose(batch)) {
+                execute(batch);
+            }
+        }
+
+        Optional<V> value = await(result);
+        addedWait.record(Math.max(0, batch.startedAt - joinedAt), TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    /**
+     * 아직 열려있는 배치라면 닫고 true 를 반환한다. 이미 가득 차서 다른 스레드가 닫았다면 false.
+     */
+    private boolean tryClose(Batch<K, V> batch) {
+        synchronized (lock) {
+            if (batch.closed) {
+                return false;
+            }
+            close(batch);
+            return true;
+        }
+    }
+
+    private void close(Batch<K, V> batch) {
+        batch.closed = true;
+        current = null;
+    }
+
+    private void execute(Batch<K, V> batch) {
+        batch.startedAt = System.nanoTime();
+        batchSize.record(batch.results.size());
+        try {
+            Map<K, V> loaded = query.record(() -> batchLoad.apply(List.copyOf(batch.results.keySet())));
+            batch.results.forEach((key, future) -> future.complete(Optional.ofNullable(loaded.get(key))));
+        } catch (RuntimeException | Error e) {
+            batch.results.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Optional<V> await(CompletableFuture<Optional<V>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * results 는 lock 안에서만 수정되고, 배치가 닫힌 뒤에는 조회를 실행하는 스레드만 읽는다.
+     */
+    private static final class Batch<K, V> {
+        private final Thread leader;
+        private final Map<K, CompletableFuture<Optional<V>>> results = new LinkedHashMap<>();
+        private volatile boolean closed;
+        private volatile long startedAt;
+
+        private Batch(Thread leader) {
+            this.leader = leader;
+        }
+    }
+}
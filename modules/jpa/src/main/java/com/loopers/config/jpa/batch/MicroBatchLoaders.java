@@ -0,0 +1,35 @@
+package com.loopers.config.jpa.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 공통 설정({@code jpa.micro-batch})과 메트릭을 적용한 {@link MicroBatchLoader} 를 만든다.
+ */
+public class MicroBatchLoaders {
+    private final MicroBatchProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public MicroBatchLoaders(MicroBatchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param name      메트릭의 {@code loader} 태그
+     * @param batchLoad 키 묶음을 한 번에 조회해 키별 결과를 돌려준다. 결과에 없는 키는 빈 값으로 전달된다.
+     */
+    public <K, V> MicroBatchLoader<K, V> create(String name, Function<Collection<K>, Map<K, V>> batchLoad) {
+        return new MicroBatchLoader<>(
+            name,
+            batchLoad,
+            properties.enabled(),
+            properties.window(),
+            properties.maxBatchSize(),
+            meterRegistry
+        );
+    }
+}
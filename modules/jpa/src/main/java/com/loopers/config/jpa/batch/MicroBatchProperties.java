@@ -0,0 +1,18 @@
+package com.loopers.config.jpa.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled      비활성화하면 로더를 쓰는 쪽이 기존 단건 조회 경로를 사용한다
+ * @param window       첫 요청이 들어온 뒤 다른 키를 모으는 최대 시간. 조회 중인 다른 호출이 없으면 기다리지 않는다.
+ * @param maxBatchSize 이 수만큼 서로 다른 키가 모이면 window 를 기다리지 않고 바로 조회한다
+ */
+@ConfigurationProperties(prefix = "jpa.micro-batch")
+public record MicroBatchProperties(
+    boolean enabled,
+    Duration window,
+    int maxBatchSize
+) {
+}
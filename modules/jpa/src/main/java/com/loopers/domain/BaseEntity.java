@@ -8,15 +8,28 @@ import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import lombok.Getter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+
 import java.time.ZonedDateTime;
 
 /**
  * 생성/수정/삭제 정보를 자동으로 관리해준다.
  * 재사용성을 위해 이 외의 컬럼이나 동작은 추가하지 않는다.
+ * 삭제된(deletedAt 이 채워진) 엔티티는 {@link #SOFT_DELETE_FILTER} 에 의해 모든 조회에서 자동으로 제외된다.
+ * 삭제된 엔티티까지 조회해야 한다면 {@link com.loopers.config.jpa.SoftDeleteFilter} 를 사용한다.
  */
+@FilterDef(
+    name = BaseEntity.SOFT_DELETE_FILTER,
+    defaultCondition = "deleted_at IS NULL",
+    autoEnabled = true,
+    applyToLoadByKey = true
+)
+@Filter(name = BaseEntity.SOFT_DELETE_FILTER)
 @MappedSuperclass
 @Getter
 public abstract class BaseEntity {
+    public static final String SOFT_DELETE_FILTER = "softDeleteFilter";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,170 @@
+package com.loopers.config.jpa.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MicroBatchLoaderTest {
+    /** 이 키를 조회하는 동안은 {@link #blocking} 이 풀릴 때까지 조회가 끝나지 않는다 */
+    private static final long BLOCKING_ID = 0L;
+
+    private final List<List<Long>> queries = new CopyOnWriteArrayList<>();
+    private final CountDownLatch blocking = new CountDownLatch(1);
+
+    private Map<Long, String> load(Collection<Long> ids) {
+        queries.add(List.copyOf(ids));
+        if (ids.contains(BLOCKING_ID)) {
+            try {
+                blocking.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ids.stream()
+            .filter(id -> id >= 0)
+            .collect(Collectors.toMap(Function.identity(), id -> "example-" + id));
+    }
+
+    private MicroBatchLoader<Long, String> loader(Duration window, int maxBatchSize) {
+        return new MicroBatchLoader<>("test", this::load, true, window, maxBatchSize, new SimpleMeterRegistry());
+    }
+
+    private List<Optional<String>> loadConcurrently(MicroBatchLoader<Long, String> loader, List<Long> ids) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(ids.size())) {
+            List<Future<Optional<String>>> futures = new ArrayList<>();
+            for (Long id : ids) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return loader.load(id);
+                }));
+            }
+            start.countDown();
+            List<Optional<String>> results = new ArrayList<>();
+            for (Future<Optional<String>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 조회가 끝나지 않는 호출 하나를 띄워, 이후 호출들이 "조회 중인 다른 호출이 있는" 상태에서 배치를 열게 한다.
+     */
+    private Future<Optional<String>> holdInflightCall(MicroBatchLoader<Long, String> loader, ExecutorService executor) {
+        Future<Optional<String>> held = executor.submit(() -> loader.load(BLOCKING_ID));
+        while (queries.isEmpty()) {
+            Thread.onSpinWait();
+        }
+        return held;
+    }
+
+    @DisplayName("동시에 여러 키를 조회할 때, ")
+    @Nested
+    class Load {
+        @DisplayName("window 안에 들어온 키들은 한 번의 조회로 합쳐지고, 각 호출자는 자신의 키에 해당하는 값을 받는다.")
+        @Test
+        void mergesConcurrentLookups() throws Exception {
+            // arrange
+            MicroBatchLoader<Long, String> loader = loader(Duration.ofMillis(200), 100);
+            try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+                Future<Optional<String>> held = holdInflightCall(loader, executor);
+
+                // act
+                List<Optional<String>> results;
+                try {
+                    results = loadConcurrently(loader, List.of(1L, 2L, 3L, 2L, -1L));
+                } finally {
+                    blocking.countDown();
+                }
+
+                // assert
+                assertAll(
+                    () -> assertThat(results).containsExactly(
+                        Optional.of("example-1"), Optional.of("example-2"), Optional.of("example-3"),
+                        Optional.of("example-2"), Optional.empty()
+                    ),
+                    () -> assertThat(held.get()).contains("example-0"),
+                    () -> assertThat(queries).hasSize(2),
+                    () -> assertThat(queries.get(1)).containsExactlyInAnyOrder(1L, 2L, 3L, -1L)
+                );
+            }
+        }
+
+        @DisplayName("조회 중인 다른 호출이 없으면, window 를 기다리지 않고 바로 조회한다.")
+        @Test
+        void loadsImmediately_whenNoOtherCallIsInflight() {
+            // arrange
+            MicroBatchLoader<Long, String> loader = loader(Duration.ofMinutes(1), 100);
+
+            // act
+            long startedAt = System.nanoTime();
+            Optional<String> result = loader.load(1L);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            // assert
+            assertAll(
+                () -> assertThat(result).contains("example-1"),
+                () -> assertThat(elapsed).isLessThan(Duration.ofSeconds(10)),
+                () -> assertThat(queries).containsExactly(List.of(1L))
+            );
+        }
+
+        @DisplayName("maxBatchSize 를 넘는 키는 여러 번의 조회로 나뉜다.")
+        @Test
+        void splitsBatchesByMaxSize() throws Exception {
+            // arrange
+            MicroBatchLoader<Long, String> loader = loader(Duration.ofMillis(200), 2);
+
+            // act
+            List<Optional<String>> results = loadConcurrently(loader, List.of(1L, 2L, 3L, 4L, 5L));
+
+            // assert
+            assertAll(
+                () -> assertThat(results).allMatch(Optional::isPresent),
+                () -> assertThat(queries).allMatch(ids -> ids.size() <= 2),
+                () -> assertThat(queries.stream().mapToInt(List::size).sum()).isEqualTo(5)
+            );
+        }
+
+        @DisplayName("조회가 실패하면, 같은 배치의 모든 호출자에게 예외가 전달된다.")
+        @Test
+        void propagatesFailure() {
+            // arrange
+            MicroBatchLoader<Long, String> loader = new MicroBatchLoader<>(
+                "test",
+                ids -> {
+                    throw new IllegalStateException("boom");
+                },
+                true,
+                Duration.ZERO,
+                100,
+                new SimpleMeterRegistry()
+            );
+
+            // act & assert
+            assertThatThrownBy(() -> loader.load(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        }
+    }
+}
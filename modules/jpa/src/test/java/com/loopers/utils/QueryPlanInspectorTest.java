@@ -0,0 +1,126 @@
+package com.loopers.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryPlanInspectorTest {
+
+    private static String table(String accessType, String possibleKeys, long rows) {
+        return """
+            "table": {
+              "table_name": "example",
+              "access_type": "%s",
+              %s
+              "rows_examined_per_scan": %d,
+              "filtered": "100.00"
+            }""".formatted(accessType, possibleKeys == null ? "" : "\"possible_keys\": [" + possibleKeys + "],", rows);
+    }
+
+    @DisplayName("테이블 접근을 검사할 때, ")
+    @Nested
+    class TableAccess {
+        @DisplayName("인덱스로 찾으면, 문제가 없다.")
+        @Test
+        void passes_whenIndexIsUsed() {
+            // arrange
+            String plan = "{\"query_block\": {\"select_id\": 1, " + table("const", "\"PRIMARY\"", 1) + "}}";
+
+            // act
+            List<String> violations = QueryPlanInspector.violations(plan, 0);
+
+            // assert
+            assertThat(violations).isEmpty();
+        }
+
+        @DisplayName("사용할 수 있는 인덱스 없이 전체 스캔하면, 위반이다.")
+        @Test
+        void fails_whenFullScanHasNoPossibleKey() {
+            // arrange
+            String plan = "{\"query_block\": {\"select_id\": 1, " + table("ALL", null, 3) + "}}";
+
+            // act
+            List<String> violations = QueryPlanInspector.violations(plan, 0);
+
+            // assert
+            assertThat(violations).singleElement().asString().contains("전체 스캔", "example", "rows=3");
+        }
+
+        @DisplayName("인덱스가 있는데 작은 테이블이라 전체 스캔을 고른 경우는, 문제가 없다.")
+        @Test
+        void passes_whenFullScanHasPossibleKey() {
+            // arrange
+            String plan = "{\"query_block\": {\"select_id\": 1, " + table("ALL", "\"idx_example_name\"", 3) + "}}";
+
+            // act
+            List<String> violations = QueryPlanInspector.violations(plan, 0);
+
+            // assert
+            assertThat(violations).isEmpty();
+        }
+
+        @DisplayName("예상 행 수가 maxRows 이하면, 전체 스캔이어도 문제가 없다.")
+        @Test
+        void passes_whenRowsAreWithinMaxRows() {
+            // arrange
+            String plan = "{\"query_block\": {\"select_id\": 1, " + table("ALL", null, 3) + "}}";
+
+            // act
+            List<String> violations = QueryPlanInspector.violations(plan, 10);
+
+            // assert
+            assertThat(violations).isEmpty();
+        }
+
+        @DisplayName("조인의 안쪽 테이블도 검사한다.")
+        @Test
+        void inspectsNestedLoopTables() {
+            // arrange
+            String plan = "{\"query_block\": {\"select_id\": 1, \"nested_loop\": ["
+                + "{" + table("ALL", null, 5) + "}, {" + table("eq_ref", "\"PRIMARY\"", 1) + "}]}}";
+
+            // act
+            List<String> violations = QueryPlanInspector.violations(plan, 0);
+
+            // assert
+            assertThat(violations).hasSize(1);
+        }
+    }
+
+    @DisplayName("정렬과 그룹핑을 검사할 때, ")
+    @Nested
+    class Operations {
+        @DisplayName("filesort 와 임시 테이블을 쓰면, 각각 위반이다.")
+        @Test
+        void fails_whenFilesortAndTemporaryTableAreUsed() {
+            // arrange
+            String plan = "{\"query_block\": {\"select_id\": 1, \"ordering_operation\": {\"using_filesort\": true, "
+                + "\"grouping_operation\": {\"using_temporary_table\": true, \"using_filesort\": false, "
+                + table("range", "\"PRIMARY\"", 20) + "}}}}";
+
+            // act
+            List<String> violations = QueryPlanInspector.violations(plan, 0);
+
+            // assert
+            assertThat(violations).containsExactly("filesort (rows=20)", "임시 테이블 (rows=20)");
+        }
+
+        @DisplayName("정렬할 행 수가 maxRows 이하면, 문제가 없다.")
+        @Test
+        void passes_whenSortedRowsAreWithinMaxRows() {
+            // arrange
+            String plan = "{\"query_block\": {\"select_id\": 1, \"ordering_operation\": {\"using_filesort\": true, "
+                + table("range", "\"PRIMARY\"", 20) + "}}}";
+
+            // act
+            List<String> violations = QueryPlanInspector.violations(plan, 100);
+
+            // assert
+            assertThat(violations).isEmpty();
+        }
+    }
+}
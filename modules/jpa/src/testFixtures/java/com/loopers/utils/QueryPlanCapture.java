@@ -0,0 +1,172 @@
+package com.loopers.utils;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 컨텍스트의 DataSource 를 감싸, {@link #start()} 와 {@link #stop()} 사이에 실행된 SELECT/UPDATE/DELETE 를 모은다.
+ * <p>
+ * JdbcTemplate, Hibernate, 직접 연 커넥션 모두 DataSource 를 거치므로 빠짐없이 모인다. (다른 스레드에서 실행된 문장도 포함한다)
+ * 같은 SQL 은 처음 바인딩된 파라미터와 함께 한 번만 남긴다. 모은 문장은 {@link QueryPlanGuard} 가 EXPLAIN 으로 검사한다.
+ * <p>
+ * {@code query-plan-guard.enabled} 가 false 인 컨텍스트에서는 DataSource 를 감싸지 않는다.
+ * 감싼 커넥션은 HikariCP 의 ProxyConnection 이 아니어서 {@code evictConnection} 이 무시되고, 프록시와 파라미터 기록이
+ * 할당량에 더해지므로, 커넥션 정리나 성능 예산을 확인하는 테스트는 검사를 끈다.
+ */
+@Component
+public class QueryPlanCapture implements BeanPostProcessor {
+    private static final Set<String> EXPLAINABLE = Set.of("select", "update", "delete");
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch"
+    );
+
+    private final boolean enabled;
+    private final Map<String, CapturedStatement> statements = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public QueryPlanCapture(Environment environment) {
+        this.enabled = enabled(environment);
+    }
+
+    static boolean enabled(Environment environment) {
+        return environment.getProperty("query-plan-guard.enabled", Boolean.class, true);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource) {
+            return proxy(ClassUtils.getAllInterfacesForClass(dataSource.getClass(), getClass().getClassLoader()),
+                (method, args) -> {
+                    Object result = method.invoke(dataSource, args);
+                    return method.getName().equals("getConnection") ? connection(dataSource, (Connection) result) : result;
+                });
+        }
+        return bean;
+    }
+
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        statements.clear();
+        recording = true;
+    }
+
+    public List<CapturedStatement> stop() {
+        recording = false;
+        List<CapturedStatement> captured = List.copyOf(statements.values());
+        statements.clear();
+        return captured;
+    }
+
+    private Connection connection(DataSource dataSource, Connection connection) {
+        return proxy(new Class<?>[]{Connection.class}, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return preparedStatement(dataSource, (String) args[0], statement);
+            }
+            if (method.getName().equals("createStatement") && result instanceof Statement statement) {
+                return statement(dataSource, statement);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement preparedStatement(DataSource dataSource, String sql, PreparedStatement statement) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(new Class<?>[]{PreparedStatement.class}, (method, args) -> {
+            if (!recording) {
+                return method.invoke(statement, args);
+            }
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, parameterValue(name, args[1]));
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (EXECUTE_METHODS.contains(name) && (args == null || args.length == 0)) {
+                record(dataSource, sql, new ArrayList<>(parameters.values()));
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    private Statement statement(DataSource dataSource, Statement statement) {
+        return proxy(new Class<?>[]{Statement.class}, (method, args) -> {
+            if (recording && EXECUTE_METHODS.contains(method.getName()) && args != null && args.length > 0 && args[0] instanceof String sql) {
+                record(dataSource, sql, List.of());
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    /**
+     * EXPLAIN 에는 값의 분포만 영향을 주므로, 스트림처럼 다시 읽을 수 없는 값과 setNull 의 타입 코드는 null 로 바꾼다.
+     */
+    private static Object parameterValue(String setter, Object value) {
+        if (setter.equals("setNull") || value instanceof InputStream || value instanceof Reader) {
+            return null;
+        }
+        return value;
+    }
+
+    private void record(DataSource dataSource, String sql, List<Object> parameters) {
+        if (!recording) {
+            return;
+        }
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        if (EXPLAINABLE.contains(trimmed.substring(0, end).toLowerCase(Locale.ROOT))) {
+            statements.putIfAbsent(System.identityHashCode(dataSource) + ":" + sql, new CapturedStatement(dataSource, sql, parameters));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?>[] interfaces, Invocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> args.length == 1 && proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> {
+                try {
+                    yield invocation.invoke(method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+        return (T) Proxy.newProxyInstance(QueryPlanCapture.class.getClassLoader(), interfaces, handler);
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    /**
+     * @param dataSource 감싸지 않은 DataSource. EXPLAIN 은 여기에 실행해 다시 모이지 않게 한다.
+     */
+    public record CapturedStatement(DataSource dataSource, String sql, List<Object> parameters) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.loopers.utils;
+
+import com.loopers.utils.QueryPlanCapture.CapturedStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 통합 테스트의 각 테스트 메서드가 실행한 SQL 을 Testcontainers MySQL 에 {@code EXPLAIN FORMAT=JSON} 으로 돌려,
+ * 인덱스 없는 전체 스캔, filesort, 임시 테이블이 있으면 테스트를 실패시킨다. (판정은 {@link QueryPlanInspector})
+ * <p>
+ * 테스트 스키마는 ddl-auto: create 로 만들어지므로, 인덱스는 엔티티의 {@code @Table(indexes = ...)} 로 선언해야 검사에도 반영된다.
+ * 의도한 전체 스캔(내보내기, 색인 적재 등)은 테스트 리소스의 {@code query-plan-allowlist.txt} 에 한 줄에 하나씩 정규식으로 등록한다.
+ * 정규식은 소문자로 바꾸고 공백을 하나로 줄인 SQL 에 대해 find 로 비교한다. ({@code #} 으로 시작하는 줄은 주석)
+ * <ul>
+ *     <li>{@code query-plan-guard.enabled} (true) : 끄면 DataSource 를 감싸지 않고 검사하지 않는다.</li>
+ *     <li>{@code query-plan-guard.max-rows} (0) : 예상 행 수가 이 값 이하면 문제로 보지 않는다.
+ *     테스트 데이터는 작으므로 기본값은 행 수와 관계없이 실패시킨다.</li>
+ * </ul>
+ * 테스트 데이터가 정리되기 전에 검사하도록 {@code @AfterEach} 보다 먼저 실행되는 afterTestExecution 에서 검사한다.
+ * 이미 실패한 테스트는 원래의 실패를 가리지 않도록 검사하지 않는다.
+ */
+public class QueryPlanGuard extends AbstractTestExecutionListener {
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanGuard.class);
+    private static final String ALLOWLIST_RESOURCE = "query-plan-allowlist.txt";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final List<Pattern> ALLOWLIST = loadAllowlist();
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeTestExecution(TestContext testContext) {
+        QueryPlanCapture capture = capture(testContext);
+        if (capture != null) {
+            capture.start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(TestContext testContext) {
+        QueryPlanCapture capture = capture(testContext);
+        if (capture == null) {
+            return;
+        }
+        List<CapturedStatement> statements = capture.stop();
+        if (testContext.getTestException() != null) {
+            return;
+        }
+        Environment environment = testContext.getApplicationContext().getEnvironment();
+        long maxRows = environment.getProperty("query-plan-guard.max-rows", Long.class, 0L);
+
+        List<String> failures = new ArrayList<>();
+        for (CapturedStatement statement : statements) {
+            String normalized = normalize(statement.sql());
+            if (ALLOWLIST.stream().anyMatch(pattern -> pattern.matcher(normalized).find())) {
+                continue;
+            }
+            String plan = explain(statement);
+            if (plan == null) {
+                continue;
+            }
+            List<String> violations = QueryPlanInspector.violations(plan, maxRows);
+            if (!violations.isEmpty()) {
+                failures.add("- " + normalized + "\n    " + String.join("\n    ", violations));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("실행 계획 검사에 실패했습니다. 인덱스를 추가하거나, 의도한 경우 "
+                + ALLOWLIST_RESOURCE + " 에 등록하세요.\n" + String.join("\n", failures));
+        }
+    }
+
+    /**
+     * 검사를 끈 컨텍스트에서는 모으지도 않는다.
+     */
+    private static QueryPlanCapture capture(TestContext testContext) {
+        if (!testContext.hasApplicationContext()
+            || !QueryPlanCapture.enabled(testContext.getApplicationContext().getEnvironment())) {
+            return null;
+        }
+        return testContext.getApplicationContext().getBeanProvider(QueryPlanCapture.class).getIfAvailable();
+    }
+
+    /**
+     * EXPLAIN 할 수 없는 문장(파라미터를 복원하지 못한 경우 등)은 건너뛴다.
+     */
+    private static String explain(CapturedStatement statement) {
+        try (Connection connection = statement.dataSource().getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN FORMAT=JSON " + statement.sql())) {
+            List<Object> parameters = statement.parameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                explain.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        } catch (SQLException e) {
+            log.warn("실행 계획을 확인하지 못해 건너뜁니다: {}", statement.sql(), e);
+            return null;
+        }
+    }
+
+    private static String normalize(String sql) {
+        return WHITESPACE.matcher(sql.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Pattern> loadAllowlist() {
+        List<Pattern> patterns = new ArrayList<>();
+        try {
+            for (URL resource : Collections.list(QueryPlanGuard.class.getClassLoader().getResources(ALLOWLIST_RESOURCE))) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                        .map(String::strip)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .map(Pattern::compile)
+                        .forEach(patterns::add);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(ALLOWLIST_RESOURCE + " 을 읽지 못했습니다.", e);
+        }
+        return List.copyOf(patterns);
+    }
+}
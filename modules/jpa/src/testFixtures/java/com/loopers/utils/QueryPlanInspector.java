@@ -0,0 +1,80 @@
+package com.loopers.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MySQL {@code EXPLAIN FORMAT=JSON} 결과에서 실행 계획의 문제를 찾는다.
+ * <ul>
+ *     <li>사용할 수 있는 인덱스가 없는 전체 스캔 (access_type ALL / index, possible_keys 없음)</li>
+ *     <li>filesort</li>
+ *     <li>임시 테이블</li>
+ * </ul>
+ * 모두 예상 행 수(rows_examined_per_scan)가 maxRows 보다 클 때만 문제로 본다.
+ * 인덱스가 있는데도 옵티마이저가 작은 테이블이라 전체 스캔을 고른 경우는 인덱스 누락이 아니므로 넘어간다.
+ */
+public final class QueryPlanInspector {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Set<String> FULL_SCAN_ACCESS_TYPES = Set.of("ALL", "index");
+
+    private QueryPlanInspector() {
+    }
+
+    public static List<String> violations(String explainJson, long maxRows) {
+        try {
+            List<String> violations = new ArrayList<>();
+            inspect(OBJECT_MAPPER.readTree(explainJson), maxRows, violations);
+            return violations;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("실행 계획을 해석할 수 없습니다: " + explainJson, e);
+        }
+    }
+
+    private static void inspect(JsonNode node, long maxRows, List<String> violations) {
+        if (node.isArray()) {
+            node.forEach(child -> inspect(child, maxRows, violations));
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+
+        JsonNode table = node.get("table");
+        if (table != null && table.isObject()) {
+            String accessType = table.path("access_type").asText();
+            long rows = table.path("rows_examined_per_scan").asLong();
+            if (FULL_SCAN_ACCESS_TYPES.contains(accessType) && table.path("possible_keys").isEmpty() && rows > maxRows) {
+                violations.add(String.format("전체 스캔: %s (access_type=%s, rows=%d, 사용할 수 있는 인덱스 없음)",
+                    table.path("table_name").asText(), accessType, rows));
+            }
+        }
+        if (node.path("using_filesort").asBoolean()) {
+            long rows = maxRows(node);
+            if (rows > maxRows) {
+                violations.add(String.format("filesort (rows=%d)", rows));
+            }
+        }
+        if (node.path("using_temporary_table").asBoolean()) {
+            long rows = maxRows(node);
+            if (rows > maxRows) {
+                violations.add(String.format("임시 테이블 (rows=%d)", rows));
+            }
+        }
+        node.forEach(child -> inspect(child, maxRows, violations));
+    }
+
+    private static long maxRows(JsonNode node) {
+        long rows = node.path("rows_examined_per_scan").asLong();
+        for (JsonNode child : node) {
+            if (child.isContainerNode()) {
+                rows = Math.max(rows, maxRows(child));
+            }
+        }
+        return rows;
+    }
+}
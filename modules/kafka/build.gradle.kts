@@ -5,6 +5,10 @@ plugins {
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
+    // DLT 재처리 endpoint
+    implementation("org.springframework.boot:spring-boot-actuator")
 
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
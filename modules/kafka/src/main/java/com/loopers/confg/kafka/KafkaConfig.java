@@ -1,6 +1,9 @@
 package com.loopers.confg.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.metrics.KafkaListenerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -13,6 +16,7 @@ import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -51,10 +55,21 @@ public class KafkaConfig {
         return new ByteArrayJsonMessageConverter(objectMapper);
     }
 
+    @Bean
+    public KafkaListenerMetrics kafkaListenerMetrics(MeterRegistry meterRegistry) {
+        return new KafkaListenerMetrics(meterRegistry, Duration.ofMillis(MAX_POLL_INTERVAL_MS));
+    }
+
+    @Bean
+    public MeterFilter kafkaListenerPartitionCardinalityLimit() {
+        return KafkaListenerMetrics.partitionCardinalityLimit();
+    }
+
     @Bean(name = BATCH_LISTENER)
     public ConcurrentKafkaListenerContainerFactory<Object, Object> defaultBatchListenerContainerFactory(
             KafkaProperties kafkaProperties,
-            ByteArrayJsonMessageConverter converter
+            ByteArrayJsonMessageConverter converter,
+            KafkaListenerMetrics kafkaListenerMetrics
     ) {
         Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
         consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLLING_SIZE);
@@ -70,6 +85,7 @@ public class KafkaConfig {
         factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
         factory.setConcurrency(3);
         factory.setBatchListener(true);
+        factory.setContainerCustomizer(kafkaListenerMetrics); // 리스너 id 별 처리/lag 지표
         return factory;
     }
 }
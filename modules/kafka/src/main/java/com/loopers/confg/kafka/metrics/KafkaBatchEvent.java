@@ -0,0 +1,30 @@
+package com.loopers.confg.kafka.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 배치 리스너가 한 번의 poll 결과를 처리한 구간. JFR 기록에서 느린 배치와 그 시점의 GC, 락 경합을 함께 보기 위해 남긴다.
+ */
+@Name("com.loopers.KafkaBatch")
+@Label("Kafka Batch")
+@Category({"Loopers", "Kafka"})
+@Description("배치 리스너의 poll 한 번 처리")
+@StackTrace(false)
+class KafkaBatchEvent extends Event {
+    @Label("Listener")
+    String listener;
+
+    @Label("Records")
+    int records;
+
+    @Label("Partitions")
+    int partitions;
+
+    @Label("Failed")
+    boolean failed;
+}
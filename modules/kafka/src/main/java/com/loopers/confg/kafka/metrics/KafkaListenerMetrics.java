@@ -0,0 +1,82 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 배치 리스너 컨테이너마다 처리/lag/리밸런스 지표를 붙인다. 모든 지표는 {@code listener} (리스너 id) 로 태깅된다.
+ * <p>
+ * 파티션 단위 gauge 는 할당된 파티션에 대해서만 유지하고, 회수되면 제거한다.
+ * 그래도 파티션 수가 비정상적으로 늘어나는 경우를 대비해 {@link #partitionCardinalityLimit()} 로 상한을 둔다.
+ */
+public class KafkaListenerMetrics implements ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> {
+    public static final String PREFIX = "kafka.listener";
+    public static final int MAX_PARTITION_TAGS = 512;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration maxPollInterval;
+
+    public KafkaListenerMetrics(MeterRegistry meterRegistry, Duration maxPollInterval) {
+        this.meterRegistry = meterRegistry;
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    @Override
+    public void configure(ConcurrentMessageListenerContainer<Object, Object> container) {
+        // createContainer 로 직접 만든 컨테이너는 아직 id 가 없으므로, id 를 정한 뒤 다시 호출해야 지표가 붙는다.
+        if (container.getListenerId() == null) {
+            return;
+        }
+        ContainerProperties containerProperties = container.getContainerProperties();
+        ListenerInstrumentation instrumentation = new ListenerInstrumentation(
+            container.getListenerId(),
+            meterRegistry,
+            maxPollInterval,
+            consumerAware(containerProperties.getConsumerRebalanceListener())
+        );
+        // concurrency 만큼 생성되는 자식 컨테이너도 부모의 interceptor / rebalance listener 를 공유한다.
+        container.setBatchInterceptor(instrumentation);
+        containerProperties.setConsumerRebalanceListener(instrumentation);
+    }
+
+    public static MeterFilter partitionCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags(PREFIX + ".partition", "partition", MAX_PARTITION_TAGS, MeterFilter.deny());
+    }
+
+    private static ConsumerAwareRebalanceListener consumerAware(ConsumerRebalanceListener listener) {
+        if (listener instanceof ConsumerAwareRebalanceListener consumerAware) {
+            return consumerAware;
+        }
+        return new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                if (listener != null) {
+                    listener.onPartitionsRevoked(partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                if (listener != null) {
+                    listener.onPartitionsAssigned(partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsLost(Collection<TopicPartition> partitions) {
+                if (listener != null) {
+                    listener.onPartitionsLost(partitions);
+                }
+            }
+        };
+    }
+}
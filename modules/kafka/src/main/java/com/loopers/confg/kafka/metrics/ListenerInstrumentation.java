@@ -0,0 +1,257 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 리스너 컨테이너의 지표를 기록한다.
+ * 콜백은 모두 컨슈머 스레드에서 호출되므로, 배치 시작 시각 같은 스레드별 상태는 {@link ThreadLocal} 에 둔다.
+ */
+class ListenerInstrumentation implements BatchInterceptor<Object, Object>, ConsumerAwareRebalanceListener {
+    private static final long COMMITTED_REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final String listenerId;
+    private final MeterRegistry meterRegistry;
+    private final long maxPollIntervalNanos;
+    private final ConsumerAwareRebalanceListener delegate;
+
+    private final DistributionSummary batchSize;
+    private final DistributionSummary pollIntervalUsage;
+    private final Timer successProcessing;
+    private final Timer failureProcessing;
+    private final Timer eventAge;
+    private final Counter assigned;
+    private final Counter revoked;
+    private final Counter lost;
+    private final Timer rebalance;
+
+    private final Map<TopicPartition, PartitionGauges> partitions = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> batchStartedAt = new ThreadLocal<>();
+    private final ThreadLocal<KafkaBatchEvent> batchEvent = new ThreadLocal<>();
+    private final ThreadLocal<Long> revokedAt = new ThreadLocal<>();
+    private final ThreadLocal<Long> committedRefreshedAt = ThreadLocal.withInitial(() -> 0L);
+
+    ListenerInstrumentation(
+        String listenerId,
+        MeterRegistry meterRegistry,
+        Duration maxPollInterval,
+        ConsumerAwareRebalanceListener delegate
+    ) {
+        this.listenerId = listenerId;
+        this.meterRegistry = meterRegistry;
+        this.maxPollIntervalNanos = maxPollInterval.toNanos();
+        this.delegate = delegate;
+
+        Tags tags = Tags.of("listener", listenerId);
+        this.batchSize = DistributionSummary.builder(KafkaListenerMetrics.PREFIX + ".batch.size")
+            .description("한 번의 poll 로 리스너에 전달된 레코드 수")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.pollIntervalUsage = DistributionSummary.builder(KafkaListenerMetrics.PREFIX + ".poll.interval.usage")
+            .description("배치 처리 시간 / max.poll.interval.ms (1 에 가까울수록 컨슈머가 그룹에서 제외될 위험이 크다)")
+            .tags(tags)
+            .register(meterRegistry);
+        this.successProcessing = processingTimer(tags, "success");
+        this.failureProcessing = processingTimer(tags, "failure");
+        this.eventAge = Timer.builder(KafkaListenerMetrics.PREFIX + ".event.age")
+            .description("레코드 timestamp 부터 배치 처리(ack) 완료까지의 시간")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.assigned = rebalanceCounter(tags, "assigned");
+        this.revoked = rebalanceCounter(tags, "revoked");
+        this.lost = rebalanceCounter(tags, "lost");
+        this.rebalance = Timer.builder(KafkaListenerMetrics.PREFIX + ".rebalance.duration")
+            .description("파티션 회수부터 재할당까지 처리가 멈춘 시간")
+            .tags(tags)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        batchStartedAt.set(System.nanoTime());
+        batchSize.record(records.count());
+        KafkaBatchEvent event = new KafkaBatchEvent();
+        event.begin();
+        batchEvent.set(event);
+
+        for (TopicPartition partition : consumer.assignment()) {
+            OptionalLong lag = consumer.currentLag(partition);
+            if (lag.isPresent()) {
+                gauges(partition).lag().set(lag.getAsLong());
+            }
+        }
+        refreshCommittedOffsets(consumer);
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        long elapsed = recordProcessing(successProcessing);
+        commitEvent(records, false);
+
+        long now = System.currentTimeMillis();
+        for (ConsumerRecord<Object, Object> record : records) {
+            if (record.timestamp() >= 0) {
+                eventAge.record(Math.max(0, now - record.timestamp()), TimeUnit.MILLISECONDS);
+            }
+        }
+        pollIntervalUsage.record(elapsed / (double) maxPollIntervalNanos);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        long elapsed = recordProcessing(failureProcessing);
+        commitEvent(records, true);
+        pollIntervalUsage.record(elapsed / (double) maxPollIntervalNanos);
+    }
+
+    @Override
+    public void clearThreadState(Consumer<?, ?> consumer) {
+        batchStartedAt.remove();
+        batchEvent.remove();
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revokedPartitions) {
+        if (!revokedPartitions.isEmpty()) {
+            revoked.increment();
+            revokedAt.set(System.nanoTime());
+        }
+        delegate.onPartitionsRevokedBeforeCommit(consumer, revokedPartitions);
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revokedPartitions) {
+        revokedPartitions.forEach(this::removeGauges);
+        delegate.onPartitionsRevokedAfterCommit(consumer, revokedPartitions);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lostPartitions) {
+        if (!lostPartitions.isEmpty()) {
+            lost.increment();
+            revokedAt.set(System.nanoTime());
+        }
+        lostPartitions.forEach(this::removeGauges);
+        delegate.onPartitionsLost(consumer, lostPartitions);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> assignedPartitions) {
+        assigned.increment();
+        Long startedAt = revokedAt.get();
+        if (startedAt != null) {
+            rebalance.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            revokedAt.remove();
+        }
+        assignedPartitions.forEach(this::gauges);
+        // 새 파티션의 committed offset 은 다음 배치에서 바로 갱신한다.
+        committedRefreshedAt.set(0L);
+        delegate.onPartitionsAssigned(consumer, assignedPartitions);
+    }
+
+    private long recordProcessing(Timer timer) {
+        Long startedAt = batchStartedAt.get();
+        if (startedAt == null) {
+            return 0L;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        batchStartedAt.remove();
+        return elapsed;
+    }
+
+    private void commitEvent(ConsumerRecords<Object, Object> records, boolean failed) {
+        KafkaBatchEvent event = batchEvent.get();
+        if (event == null) {
+            return;
+        }
+        batchEvent.remove();
+        event.end();
+        if (event.shouldCommit()) {
+            event.listener = listenerId;
+            event.records = records.count();
+            event.partitions = records.partitions().size();
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    /**
+     * committed() 는 브로커 왕복이 필요하므로, 컨슈머 스레드마다 일정 주기로만 조회한다.
+     */
+    private void refreshCommittedOffsets(Consumer<Object, Object> consumer) {
+        long now = System.nanoTime();
+        if (now - committedRefreshedAt.get() < COMMITTED_REFRESH_INTERVAL_NANOS) {
+            return;
+        }
+        committedRefreshedAt.set(now);
+
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(consumer.assignment());
+        committed.forEach((partition, offset) -> {
+            if (offset != null) {
+                gauges(partition).committed().set(offset.offset());
+            }
+        });
+    }
+
+    private PartitionGauges gauges(TopicPartition partition) {
+        return partitions.computeIfAbsent(partition, tp -> {
+            Tags tags = Tags.of("listener", listenerId, "topic", tp.topic(), "partition", String.valueOf(tp.partition()));
+            AtomicLong lag = new AtomicLong();
+            AtomicLong committed = new AtomicLong(-1);
+            return new PartitionGauges(
+                lag,
+                committed,
+                Gauge.builder(KafkaListenerMetrics.PREFIX + ".partition.lag", lag, AtomicLong::get).tags(tags).register(meterRegistry),
+                Gauge.builder(KafkaListenerMetrics.PREFIX + ".partition.committed", committed, AtomicLong::get).tags(tags).register(meterRegistry)
+            );
+        });
+    }
+
+    private void removeGauges(TopicPartition partition) {
+        PartitionGauges removed = partitions.remove(partition);
+        if (removed != null) {
+            meterRegistry.remove(removed.lagGauge());
+            meterRegistry.remove(removed.committedGauge());
+        }
+    }
+
+    private Timer processingTimer(Tags tags, String outcome) {
+        return Timer.builder(KafkaListenerMetrics.PREFIX + ".batch.processing")
+            .description("배치 리스너 호출 시간")
+            .tags(tags.and("outcome", outcome))
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private Counter rebalanceCounter(Tags tags, String type) {
+        return Counter.builder(KafkaListenerMetrics.PREFIX + ".rebalance")
+            .tags(tags.and("type", type))
+            .register(meterRegistry);
+    }
+
+    private record PartitionGauges(AtomicLong lag, AtomicLong committed, Gauge lagGauge, Gauge committedGauge) {
+    }
+}
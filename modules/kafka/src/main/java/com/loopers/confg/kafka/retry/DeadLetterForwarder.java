@@ -0,0 +1,48 @@
+package com.loopers.confg.kafka.retry;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 컨슈머가 받은 key/value 를 다시 직렬화하지 않고 그대로 재시도/DLT 토픽으로 보낸다.
+ * 기본 {@code kafkaTemplate} 은 JSON 직렬화를 하므로, 역직렬화된 타입(String, byte[])에 맞춰 serializer 를 고르는 전용 producer 를 쓴다.
+ */
+public class DeadLetterForwarder implements DisposableBean {
+    private final DefaultKafkaProducerFactory<Object, Object> producerFactory;
+    private final KafkaTemplate<Object, Object> template;
+
+    public DeadLetterForwarder(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        this.producerFactory = new DefaultKafkaProducerFactory<>(props, rawSerializer(), rawSerializer());
+        this.template = new KafkaTemplate<>(producerFactory);
+    }
+
+    public CompletableFuture<SendResult<Object, Object>> send(ProducerRecord<Object, Object> record) {
+        return template.send(record);
+    }
+
+    @Override
+    public void destroy() {
+        producerFactory.destroy();
+    }
+
+    private static Serializer<Object> rawSerializer() {
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(String.class, new StringSerializer());
+        return new DelegatingByTypeSerializer(delegates);
+    }
+}
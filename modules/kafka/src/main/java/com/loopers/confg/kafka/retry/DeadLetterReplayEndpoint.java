@@ -0,0 +1,153 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * DLT 의 레코드를 원본 토픽으로 다시 보낸다. ({@code POST /actuator/kafkadlt/{dltTopic}}, body {@code {"limit": 1000}})
+ * <p>
+ * 전용 consumer group 의 커밋 위치부터 읽으므로, 여러 번 호출하면 이어서 재처리한다.
+ * 재시도 상태 헤더는 제거하고 보내므로, 다시 실패하면 처음부터 재시도 단계를 밟는다.
+ * <p>
+ * poll 한 번의 레코드를 모두 원본 토픽 레코드로 바꾼 뒤에 보낸다. 원본 토픽 헤더가 없는 레코드가 있으면 그 poll 의 레코드는 하나도 보내지 않고 중단하므로,
+ * 커밋되지 않은 레코드가 먼저 보내져 다음 호출에서 두 번 보내지는 일이 없다.
+ */
+@Slf4j
+@Endpoint(id = "kafkadlt")
+public class DeadLetterReplayEndpoint {
+    private static final String REPLAY_GROUP_SUFFIX = "-dlt-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final int DEFAULT_LIMIT = 10_000;
+
+    private final Supplier<Consumer<byte[], byte[]>> consumerFactory;
+    private final DeadLetterForwarder forwarder;
+    private final KafkaRetryTopics topics;
+    private final KafkaRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DeadLetterReplayEndpoint(
+        KafkaProperties kafkaProperties,
+        DeadLetterForwarder forwarder,
+        KafkaRetryTopics topics,
+        KafkaRetryProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this(
+            () -> new KafkaConsumer<>(consumerConfig(kafkaProperties), new ByteArrayDeserializer(), new ByteArrayDeserializer()),
+            forwarder, topics, properties, meterRegistry
+        );
+    }
+
+    DeadLetterReplayEndpoint(
+        Supplier<Consumer<byte[], byte[]>> consumerFactory,
+        DeadLetterForwarder forwarder,
+        KafkaRetryTopics topics,
+        KafkaRetryProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.consumerFactory = consumerFactory;
+        this.forwarder = forwarder;
+        this.topics = topics;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(@Selector String topic, @Nullable Integer limit) {
+        if (!topics.isDltTopic(topic)) {
+            throw new IllegalArgumentException("DLT 토픽만 재처리할 수 있습니다: " + topic);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 DLT 재처리가 진행 중입니다.");
+        }
+        try {
+            int replayed = replay(topic, limit == null ? DEFAULT_LIMIT : limit);
+            log.info("DLT 재처리 완료 : topic = {}, replayed = {}", topic, replayed);
+            return Map.of("topic", topic, "replayed", replayed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int replay(String topic, int limit) {
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.get()) {
+            consumer.assign(consumer.partitionsFor(topic).stream()
+                .map(partition -> new TopicPartition(topic, partition.partition()))
+                .toList());
+
+            int replayed = 0;
+            while (replayed < limit) {
+                ConsumerRecords<byte[], byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                List<ProducerRecord<Object, Object>> originals = new ArrayList<>();
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<byte[], byte[]> record : records) {
+                    if (replayed + originals.size() >= limit) {
+                        break;
+                    }
+                    originals.add(toOriginal(record));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                }
+
+                CompletableFuture.allOf(originals.stream().map(forwarder::send).toArray(CompletableFuture[]::new))
+                    .orTimeout(properties.forwardTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+                consumer.commitSync(offsets);
+                replayed += originals.size();
+                meterRegistry.counter(KafkaRetryConfig.REPLAYED_METRIC, "topic", topic).increment(originals.size());
+            }
+            return replayed;
+        }
+    }
+
+    private ProducerRecord<Object, Object> toOriginal(ConsumerRecord<byte[], byte[]> record) {
+        String originalTopic = RetryHeaders.string(record.headers(), KafkaHeaders.DLT_ORIGINAL_TOPIC, null);
+        if (originalTopic == null) {
+            throw new IllegalStateException("원본 토픽 헤더가 없는 레코드입니다. (" + record.topic() + "-" + record.partition() + "@" + record.offset() + ")");
+        }
+        Headers headers = new RecordHeaders(record.headers().toArray());
+        RetryHeaders.RETRY_STATE.forEach(headers::remove);
+        return new ProducerRecord<>(originalTopic, null, record.key(), record.value(), headers);
+    }
+
+    private static Map<String, Object> consumerConfig(KafkaProperties kafkaProperties) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        String groupId = String.valueOf(config.getOrDefault(ConsumerConfig.GROUP_ID_CONFIG, "loopers"));
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + REPLAY_GROUP_SUFFIX);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        return config;
+    }
+}
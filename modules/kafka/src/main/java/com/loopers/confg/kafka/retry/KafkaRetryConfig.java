@@ -0,0 +1,56 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(KafkaRetryProperties.class)
+public class KafkaRetryConfig {
+    public static final String FAILURES_METRIC = "kafka.retry.failures";
+    public static final String REPLAYED_METRIC = "kafka.retry.replayed";
+
+    private static final int MAX_EXCEPTION_TAGS = 50;
+
+    @Bean
+    public KafkaRetryTopics kafkaRetryTopics(KafkaRetryProperties properties) {
+        return new KafkaRetryTopics(properties);
+    }
+
+    @Bean
+    public DeadLetterForwarder deadLetterForwarder(KafkaProperties kafkaProperties) {
+        return new DeadLetterForwarder(kafkaProperties);
+    }
+
+    @Bean
+    public RetryingBatchProcessor retryingBatchProcessor(
+        DeadLetterForwarder deadLetterForwarder,
+        KafkaRetryTopics kafkaRetryTopics,
+        KafkaRetryProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new RetryingBatchProcessor(deadLetterForwarder, kafkaRetryTopics, properties, meterRegistry);
+    }
+
+    @Bean
+    public DeadLetterReplayEndpoint deadLetterReplayEndpoint(
+        KafkaProperties kafkaProperties,
+        DeadLetterForwarder deadLetterForwarder,
+        KafkaRetryTopics kafkaRetryTopics,
+        KafkaRetryProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new DeadLetterReplayEndpoint(kafkaProperties, deadLetterForwarder, kafkaRetryTopics, properties, meterRegistry);
+    }
+
+    /**
+     * 실패 지표는 예외 클래스로 태깅하므로, 예상치 못한 예외 종류가 늘어나도 시계열이 무한히 늘지 않게 막는다.
+     */
+    @Bean
+    public MeterFilter kafkaRetryFailureCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags(FAILURES_METRIC, "exception", MAX_EXCEPTION_TAGS, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopers.confg.kafka.retry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 비차단 재시도 설정.
+ *
+ * @param backoffs   재시도 단계별 지연. 단계마다 {@code <topic>-retry-<n>} 토픽이 하나씩 필요하다.
+ * @param maxDueWait 재시도 토픽에서 아직 때가 되지 않은 레코드를 만났을 때, 다시 poll 하기까지 최대로 기다리는 시간
+ */
+@ConfigurationProperties("kafka.retry")
+public record KafkaRetryProperties(
+    List<Duration> backoffs,
+    Duration maxDueWait,
+    Duration forwardTimeout
+) {
+}
@@ -0,0 +1,56 @@
+package com.loopers.confg.kafka.retry;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 원본 토픽 이름으로부터 재시도/DLT 토픽 이름을 만든다.
+ * 재시도 토픽의 리스너는 단계마다 따로 띄운다. ({@link RetryTopicListenerContainers})
+ */
+public class KafkaRetryTopics {
+    private static final String RETRY_SUFFIX = "-retry-";
+    private static final String DLT_SUFFIX = "-dlt";
+
+    private final int tiers;
+
+    public KafkaRetryTopics(KafkaRetryProperties properties) {
+        this.tiers = properties.backoffs().size();
+    }
+
+    public int tiers() {
+        return tiers;
+    }
+
+    public String retryTopic(String topic, int tier) {
+        return topic + RETRY_SUFFIX + tier;
+    }
+
+    public String[] retryTopics(String topic) {
+        return IntStream.range(0, tiers).mapToObj(tier -> retryTopic(topic, tier)).toArray(String[]::new);
+    }
+
+    public String dltTopic(String topic) {
+        return topic + DLT_SUFFIX;
+    }
+
+    public boolean isDltTopic(String topic) {
+        return topic.endsWith(DLT_SUFFIX);
+    }
+
+    /**
+     * 토픽 자동 생성이 꺼져 있으므로, 재시도/DLT 토픽을 애플리케이션에서 선언할 때 사용한다.
+     */
+    public KafkaAdmin.NewTopics newTopics(String topic, int partitions, int replicas) {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String retryTopic : retryTopics(topic)) {
+            topics.add(TopicBuilder.name(retryTopic).partitions(partitions).replicas(replicas).build());
+        }
+        topics.add(TopicBuilder.name(dltTopic(topic)).partitions(partitions).replicas(replicas).build());
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+    }
+}
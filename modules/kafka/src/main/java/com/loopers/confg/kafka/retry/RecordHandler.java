@@ -0,0 +1,12 @@
+package com.loopers.confg.kafka.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * 배치 안의 레코드 한 건을 처리한다. 예외를 던지면 해당 레코드만 재시도 토픽으로 보내진다.
+ * 재시도 토픽 전송이 실패하면 그 지점부터 다시 전달되므로, 처리는 멱등해야 한다.
+ */
+@FunctionalInterface
+public interface RecordHandler {
+    void handle(ConsumerRecord<Object, Object> record) throws Exception;
+}
@@ -0,0 +1,66 @@
+package com.loopers.confg.kafka.retry;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 재시도 상태를 담는 레코드 헤더.
+ * 원본 위치와 예외 정보는 spring-kafka 의 DLT 헤더({@link KafkaHeaders#DLT_ORIGINAL_TOPIC} 등)와 같은 형식으로 기록한다.
+ */
+final class RetryHeaders {
+    static final String ATTEMPT = "x-retry-attempt";
+    static final String NOT_BEFORE = "x-retry-not-before";
+
+    /**
+     * 재처리(replay) 시 원본 토픽으로 돌려보내기 전에 제거하는 헤더.
+     */
+    static final Set<String> RETRY_STATE = Set.of(
+        ATTEMPT,
+        NOT_BEFORE,
+        KafkaHeaders.DLT_ORIGINAL_TOPIC,
+        KafkaHeaders.DLT_ORIGINAL_PARTITION,
+        KafkaHeaders.DLT_ORIGINAL_OFFSET,
+        KafkaHeaders.DLT_ORIGINAL_TIMESTAMP,
+        KafkaHeaders.DLT_EXCEPTION_FQCN,
+        KafkaHeaders.DLT_EXCEPTION_MESSAGE,
+        KafkaHeaders.DLT_EXCEPTION_STACKTRACE
+    );
+
+    private RetryHeaders() {
+    }
+
+    static String string(Headers headers, String key, String defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header == null ? defaultValue : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    static int integer(Headers headers, String key, int defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header == null || header.value().length != Integer.BYTES ? defaultValue : ByteBuffer.wrap(header.value()).getInt();
+    }
+
+    static long longValue(Headers headers, String key, long defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header == null || header.value().length != Long.BYTES ? defaultValue : ByteBuffer.wrap(header.value()).getLong();
+    }
+
+    static void put(Headers headers, String key, String value) {
+        headers.remove(key);
+        headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void put(Headers headers, String key, int value) {
+        headers.remove(key);
+        headers.add(key, ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+    }
+
+    static void put(Headers headers, String key, long value) {
+        headers.remove(key);
+        headers.add(key, ByteBuffer.allocate(Long.BYTES).putLong(value).array());
+    }
+}
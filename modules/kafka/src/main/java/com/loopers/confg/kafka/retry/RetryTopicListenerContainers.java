@@ -0,0 +1,75 @@
+package com.loopers.confg.kafka.retry;
+
+import com.loopers.confg.kafka.metrics.KafkaListenerMetrics;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 재시도 단계마다 리스너 컨테이너를 하나씩 띄운다. 리스너 id 는 {@code <listenerId>-<tier>} 이다.
+ * <p>
+ * 아직 때가 되지 않은 레코드를 만나면 {@link RetryingBatchProcessor} 가 nack(index, sleep) 하는데, 이는 컨슈머 전체를 멈춘다.
+ * 한 컨테이너가 모든 단계를 소비하면 긴 backoff 단계의 대기가 같은 컨슈머에 할당된 짧은 단계의 파티션까지 막으므로,
+ * 단계별로 컨슈머를 나눈다. 한 단계의 토픽은 backoff 가 같아 먼저 들어온 레코드가 먼저 때가 되므로, 단계 안에서의 대기는 손해가 없다.
+ * <pre>{@code
+ * @Bean
+ * public RetryTopicListenerContainers myRetryListeners(...) {
+ *     return new RetryTopicListenerContainers(factory, kafkaListenerMetrics, kafkaRetryTopics, retryingBatchProcessor,
+ *         "my-retry-listener", topicName, myConsumer::handle);
+ * }
+ * }</pre>
+ */
+public class RetryTopicListenerContainers implements SmartLifecycle {
+    private final List<ConcurrentMessageListenerContainer<Object, Object>> containers;
+
+    public RetryTopicListenerContainers(
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory,
+        KafkaListenerMetrics kafkaListenerMetrics,
+        KafkaRetryTopics topics,
+        RetryingBatchProcessor processor,
+        String listenerId,
+        String topic,
+        RecordHandler handler
+    ) {
+        this.containers = IntStream.range(0, topics.tiers())
+            .mapToObj(tier -> {
+                ConcurrentMessageListenerContainer<Object, Object> container = factory.createContainer(topics.retryTopic(topic, tier));
+                container.setBeanName(listenerId + "-" + tier);
+                container.setupMessageListener((BatchAcknowledgingMessageListener<Object, Object>)
+                    (records, acknowledgment) -> processor.process(records, acknowledgment, handler));
+                // 팩토리의 customizer 는 리스너 id 가 정해지기 전에 호출되므로, 지표는 id 를 정한 뒤 붙인다.
+                kafkaListenerMetrics.configure(container);
+                return container;
+            })
+            .toList();
+    }
+
+    public List<ConcurrentMessageListenerContainer<Object, Object>> getContainers() {
+        return containers;
+    }
+
+    @Override
+    public void start() {
+        containers.forEach(ConcurrentMessageListenerContainer::start);
+    }
+
+    @Override
+    public void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return containers.stream().anyMatch(ConcurrentMessageListenerContainer::isRunning);
+    }
+
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+}
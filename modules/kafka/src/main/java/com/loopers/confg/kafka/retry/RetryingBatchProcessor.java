@@ -0,0 +1,150 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@code BATCH_LISTENER} 배치를 레코드 단위로 처리한다.
+ * <ul>
+ *     <li>실패한 레코드는 배치를 멈추지 않고 다음 재시도 단계 토픽으로 보내며, 단계를 모두 소진하면 DLT 로 보낸다.</li>
+ *     <li>재시도 토픽의 레코드는 {@link RetryHeaders#NOT_BEFORE} 가 지나야 처리한다. 아직 이르면 그 지점부터 nack 한다.
+ *     nack 은 컨슈머 전체를 멈추므로, 재시도 토픽은 원본 토픽과 다른 컨테이너에서, 단계마다 따로 소비해야 한다. ({@link RetryTopicListenerContainers})</li>
+ *     <li>재시도 토픽 전송이 실패하면, 전송에 실패한 레코드 직전까지만 커밋하고 그 지점부터 다시 전달받는다.</li>
+ * </ul>
+ */
+@Slf4j
+public class RetryingBatchProcessor {
+    private static final int MAX_STACKTRACE_LENGTH = 8 * 1024;
+    private static final Duration FORWARD_FAILURE_BACKOFF = Duration.ofSeconds(1);
+
+    private final DeadLetterForwarder forwarder;
+    private final KafkaRetryTopics topics;
+    private final KafkaRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RetryingBatchProcessor(
+        DeadLetterForwarder forwarder,
+        KafkaRetryTopics topics,
+        KafkaRetryProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.forwarder = forwarder;
+        this.topics = topics;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void process(List<ConsumerRecord<Object, Object>> records, Acknowledgment acknowledgment, RecordHandler handler) {
+        List<PendingForward> forwards = new ArrayList<>();
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<Object, Object> record = records.get(index);
+
+            long waitMillis = RetryHeaders.longValue(record.headers(), RetryHeaders.NOT_BEFORE, 0L) - System.currentTimeMillis();
+            if (waitMillis > 0) {
+                Duration wait = Duration.ofMillis(Math.min(waitMillis, properties.maxDueWait().toMillis()));
+                complete(forwards, acknowledgment, index, wait);
+                return;
+            }
+
+            try {
+                handler.handle(record);
+            } catch (Exception e) {
+                forwards.add(new PendingForward(index, forward(record, e)));
+            }
+        }
+        complete(forwards, acknowledgment, records.size(), null);
+    }
+
+    /**
+     * 재시도 토픽 전송이 모두 끝난 것을 확인한 뒤 커밋한다. {@code sleep} 이 있으면 {@code nackIndex} 부터 다시 전달받는다.
+     */
+    private void complete(List<PendingForward> forwards, Acknowledgment acknowledgment, int nackIndex, Duration sleep) {
+        for (PendingForward pending : forwards) {
+            try {
+                pending.result().get(properties.forwardTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("재시도 토픽 전송에 실패해 index = {} 부터 다시 처리합니다.", pending.index(), e);
+                acknowledgment.nack(pending.index(), FORWARD_FAILURE_BACKOFF);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acknowledgment.nack(pending.index(), FORWARD_FAILURE_BACKOFF);
+                return;
+            }
+        }
+
+        if (sleep != null) {
+            acknowledgment.nack(nackIndex, sleep);
+        } else {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private CompletableFuture<?> forward(ConsumerRecord<Object, Object> record, Exception exception) {
+        Headers headers = new RecordHeaders(record.headers().toArray());
+        int attempt = RetryHeaders.integer(headers, RetryHeaders.ATTEMPT, 0);
+        if (headers.lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC) == null) {
+            RetryHeaders.put(headers, KafkaHeaders.DLT_ORIGINAL_TOPIC, record.topic());
+            RetryHeaders.put(headers, KafkaHeaders.DLT_ORIGINAL_PARTITION, record.partition());
+            RetryHeaders.put(headers, KafkaHeaders.DLT_ORIGINAL_OFFSET, record.offset());
+            RetryHeaders.put(headers, KafkaHeaders.DLT_ORIGINAL_TIMESTAMP, record.timestamp());
+        }
+        String originalTopic = RetryHeaders.string(headers, KafkaHeaders.DLT_ORIGINAL_TOPIC, record.topic());
+
+        RetryHeaders.put(headers, KafkaHeaders.DLT_EXCEPTION_FQCN, exception.getClass().getName());
+        RetryHeaders.put(headers, KafkaHeaders.DLT_EXCEPTION_MESSAGE, Objects.toString(exception.getMessage(), ""));
+        RetryHeaders.put(headers, KafkaHeaders.DLT_EXCEPTION_STACKTRACE, stackTrace(exception));
+
+        List<Duration> backoffs = properties.backoffs();
+        String target;
+        String stage;
+        if (attempt < backoffs.size()) {
+            target = topics.retryTopic(originalTopic, attempt);
+            stage = "retry-" + attempt;
+            RetryHeaders.put(headers, RetryHeaders.ATTEMPT, attempt + 1);
+            RetryHeaders.put(headers, RetryHeaders.NOT_BEFORE, System.currentTimeMillis() + backoffs.get(attempt).toMillis());
+        } else {
+            target = topics.dltTopic(originalTopic);
+            stage = "dlt";
+            headers.remove(RetryHeaders.NOT_BEFORE);
+        }
+
+        meterRegistry.counter(
+            KafkaRetryConfig.FAILURES_METRIC,
+            "topic", originalTopic,
+            "exception", exception.getClass().getSimpleName(),
+            "stage", stage
+        ).increment();
+        log.warn("레코드 처리에 실패해 {} 로 보냅니다. ({}-{}@{}) : {}",
+            target, record.topic(), record.partition(), record.offset(), exception.toString());
+
+        return forwarder.send(new ProducerRecord<>(target, null, record.key(), record.value(), headers));
+    }
+
+    private static String stackTrace(Exception exception) {
+        StringWriter writer = new StringWriter();
+        exception.printStackTrace(new PrintWriter(writer));
+        String trace = writer.toString();
+        return trace.length() > MAX_STACKTRACE_LENGTH ? trace.substring(0, MAX_STACKTRACE_LENGTH) : trace;
+    }
+
+    private record PendingForward(int index, CompletableFuture<?> result) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class KafkaListenerMetricsTest {
+    private static final TopicPartition PARTITION = new TopicPartition("demo", 0);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KafkaListenerMetrics metrics = new KafkaListenerMetrics(meterRegistry, Duration.ofMinutes(2));
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMessageListenerContainer<Object, Object> container(ConsumerRebalanceListener rebalanceListener) {
+        ContainerProperties containerProperties = new ContainerProperties("demo");
+        if (rebalanceListener != null) {
+            containerProperties.setConsumerRebalanceListener(rebalanceListener);
+        }
+        return new ConcurrentMessageListenerContainer<>(mock(ConsumerFactory.class), containerProperties);
+    }
+
+    @DisplayName("리스너 id 가 정해진 컨테이너에는, 리스너 id 로 태깅된 지표를 등록하고 기존 리밸런스 리스너를 감싼다.")
+    @Test
+    void instrumentsContainer_keepingExistingRebalanceListener() {
+        // arrange
+        ConsumerRebalanceListener existing = mock(ConsumerRebalanceListener.class);
+        ConcurrentMessageListenerContainer<Object, Object> container = container(existing);
+        container.setBeanName("demo-listener");
+
+        // act
+        metrics.configure(container);
+        ConsumerAwareRebalanceListener instrumented =
+            (ConsumerAwareRebalanceListener) container.getContainerProperties().getConsumerRebalanceListener();
+        instrumented.onPartitionsAssigned(mock(Consumer.class), List.of(PARTITION));
+
+        // assert
+        assertAll(
+            () -> assertThat(instrumented).isInstanceOf(ListenerInstrumentation.class),
+            () -> assertThat(meterRegistry.find(KafkaListenerMetrics.PREFIX + ".batch.size").tag("listener", "demo-listener").summary())
+                .isNotNull(),
+            () -> assertThat(meterRegistry.get(KafkaListenerMetrics.PREFIX + ".rebalance")
+                .tags("listener", "demo-listener", "type", "assigned").counter().count()).isEqualTo(1),
+            () -> verify(existing).onPartitionsAssigned(List.of(PARTITION))
+        );
+    }
+
+    @DisplayName("리스너 id 가 없는 컨테이너는, 지표를 붙이지 않고 그대로 둔다.")
+    @Test
+    void skipsContainer_withoutListenerId() {
+        // arrange
+        ConcurrentMessageListenerContainer<Object, Object> container = container(null);
+
+        // act
+        metrics.configure(container);
+
+        // assert
+        assertAll(
+            () -> assertThat(container.getContainerProperties().getConsumerRebalanceListener())
+                .isNotInstanceOf(ListenerInstrumentation.class),
+            () -> assertThat(meterRegistry.find(KafkaListenerMetrics.PREFIX + ".batch.size").meters()).isEmpty()
+        );
+    }
+
+    @DisplayName("파티션 단위 지표는 파티션 태그 값이 상한을 넘으면 더 등록하지 않는다.")
+    @Test
+    void limitsPartitionTagCardinality() {
+        // arrange
+        meterRegistry.config().meterFilter(KafkaListenerMetrics.partitionCardinalityLimit());
+
+        // act
+        for (int partition = 0; partition < KafkaListenerMetrics.MAX_PARTITION_TAGS + 10; partition++) {
+            meterRegistry.gauge(KafkaListenerMetrics.PREFIX + ".partition.lag",
+                Tags.of("partition", String.valueOf(partition)), 0);
+        }
+
+        // assert
+        assertThat(meterRegistry.find(KafkaListenerMetrics.PREFIX + ".partition.lag").gauges())
+            .hasSize(KafkaListenerMetrics.MAX_PARTITION_TAGS);
+    }
+}
@@ -0,0 +1,243 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ListenerInstrumentationTest {
+    private static final String LISTENER = "demo-listener";
+    private static final String TOPIC = "demo";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConsumerAwareRebalanceListener delegate = mock(ConsumerAwareRebalanceListener.class);
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final ListenerInstrumentation instrumentation = new ListenerInstrumentation(LISTENER, meterRegistry, MAX_POLL_INTERVAL, delegate);
+
+    @BeforeEach
+    void setUp() {
+        consumer.assign(List.of(PARTITION_0, PARTITION_1));
+        consumer.updateEndOffsets(Map.of(PARTITION_0, 10L, PARTITION_1, 5L));
+        consumer.seek(PARTITION_0, 3L);
+        consumer.seek(PARTITION_1, 5L);
+    }
+
+    private static ConsumerRecord<Object, Object> record(TopicPartition partition, long offset, long timestamp) {
+        return new ConsumerRecord<>(
+            partition.topic(), partition.partition(), offset, timestamp, TimestampType.CREATE_TIME,
+            -1, -1, "key-" + offset, "value-" + offset, new RecordHeaders(), Optional.empty()
+        );
+    }
+
+    @SafeVarargs
+    private static ConsumerRecords<Object, Object> batch(ConsumerRecord<Object, Object>... records) {
+        return new ConsumerRecords<>(Map.of(PARTITION_0, List.of(records)));
+    }
+
+    private double partitionGauge(String name, TopicPartition partition) {
+        return meterRegistry.get(KafkaListenerMetrics.PREFIX + ".partition." + name)
+            .tags("listener", LISTENER, "topic", partition.topic(), "partition", String.valueOf(partition.partition()))
+            .gauge()
+            .value();
+    }
+
+    private Timer processing(String outcome) {
+        return meterRegistry.get(KafkaListenerMetrics.PREFIX + ".batch.processing")
+            .tags("listener", LISTENER, "outcome", outcome)
+            .timer();
+    }
+
+    private double rebalanceCount(String type) {
+        return meterRegistry.get(KafkaListenerMetrics.PREFIX + ".rebalance")
+            .tags("listener", LISTENER, "type", type)
+            .counter()
+            .count();
+    }
+
+    @DisplayName("배치를 받을 때, ")
+    @Nested
+    class Intercept {
+        @DisplayName("배치 크기와 할당된 파티션별 lag 을 기록한다.")
+        @Test
+        void recordsBatchSizeAndPartitionLag() {
+            // arrange
+            long now = System.currentTimeMillis();
+            ConsumerRecords<Object, Object> records = batch(record(PARTITION_0, 3, now), record(PARTITION_0, 4, now));
+
+            // act
+            ConsumerRecords<Object, Object> intercepted = instrumentation.intercept(records, consumer);
+
+            // assert
+            assertAll(
+                () -> assertThat(intercepted).isSameAs(records),
+                () -> assertThat(meterRegistry.get(KafkaListenerMetrics.PREFIX + ".batch.size")
+                    .tag("listener", LISTENER).summary().totalAmount()).isEqualTo(2),
+                () -> assertThat(partitionGauge("lag", PARTITION_0)).isEqualTo(7),
+                () -> assertThat(partitionGauge("lag", PARTITION_1)).isZero()
+            );
+        }
+
+        @DisplayName("커밋된 offset 을 gauge 로 남기고, 커밋이 없는 파티션은 -1 로 둔다.")
+        @Test
+        void recordsCommittedOffsets() {
+            // arrange
+            consumer.commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(3L)));
+
+            // act
+            instrumentation.intercept(batch(record(PARTITION_0, 3, System.currentTimeMillis())), consumer);
+
+            // assert
+            assertAll(
+                () -> assertThat(partitionGauge("committed", PARTITION_0)).isEqualTo(3),
+                () -> assertThat(partitionGauge("committed", PARTITION_1)).isEqualTo(-1)
+            );
+        }
+
+        @DisplayName("다음 배치에서 lag 이 바뀌면, 같은 gauge 의 값을 갱신한다.")
+        @Test
+        void updatesLag_onNextBatch() {
+            // arrange
+            long now = System.currentTimeMillis();
+            instrumentation.intercept(batch(record(PARTITION_0, 3, now)), consumer);
+            instrumentation.success(batch(record(PARTITION_0, 3, now)), consumer);
+
+            // act
+            consumer.seek(PARTITION_0, 9L);
+            instrumentation.intercept(batch(record(PARTITION_0, 9, now)), consumer);
+
+            // assert
+            assertThat(partitionGauge("lag", PARTITION_0)).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("배치 처리가 끝날 때, ")
+    @Nested
+    class Completion {
+        @DisplayName("성공하면, 처리 시간과 레코드의 event age, max.poll.interval 사용률을 기록한다.")
+        @Test
+        void recordsSuccessMetrics() {
+            // arrange
+            long now = System.currentTimeMillis();
+            ConsumerRecords<Object, Object> records = batch(record(PARTITION_0, 3, now - 2_000), record(PARTITION_0, 4, -1));
+            instrumentation.intercept(records, consumer);
+
+            // act
+            instrumentation.success(records, consumer);
+
+            // assert
+            Timer eventAge = meterRegistry.get(KafkaListenerMetrics.PREFIX + ".event.age").tag("listener", LISTENER).timer();
+            assertAll(
+                () -> assertThat(processing("success").count()).isEqualTo(1),
+                () -> assertThat(processing("failure").count()).isZero(),
+                () -> assertThat(eventAge.count()).isEqualTo(1),
+                () -> assertThat(eventAge.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(2_000),
+                () -> assertThat(meterRegistry.get(KafkaListenerMetrics.PREFIX + ".poll.interval.usage")
+                    .tag("listener", LISTENER).summary().count()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("실패하면, 실패 처리 시간만 기록하고 event age 는 남기지 않는다.")
+        @Test
+        void recordsFailureMetrics() {
+            // arrange
+            ConsumerRecords<Object, Object> records = batch(record(PARTITION_0, 3, System.currentTimeMillis()));
+            instrumentation.intercept(records, consumer);
+
+            // act
+            instrumentation.failure(records, new IllegalStateException("처리 실패"), consumer);
+
+            // assert
+            assertAll(
+                () -> assertThat(processing("failure").count()).isEqualTo(1),
+                () -> assertThat(processing("success").count()).isZero(),
+                () -> assertThat(meterRegistry.get(KafkaListenerMetrics.PREFIX + ".event.age")
+                    .tag("listener", LISTENER).timer().count()).isZero()
+            );
+        }
+
+        @DisplayName("intercept 없이 호출되면, 처리 시간을 기록하지 않는다.")
+        @Test
+        void skipsProcessingTime_withoutIntercept() {
+            // act
+            instrumentation.success(batch(record(PARTITION_0, 3, System.currentTimeMillis())), consumer);
+
+            // assert
+            assertThat(processing("success").count()).isZero();
+        }
+    }
+
+    @DisplayName("리밸런스가 일어날 때, ")
+    @Nested
+    class Rebalance {
+        @DisplayName("회수된 파티션의 gauge 는 제거하고, 재할당까지 걸린 시간과 횟수를 기록한 뒤 원래 리스너에 넘긴다.")
+        @Test
+        void removesRevokedGauges_andRecordsRebalance() {
+            // arrange
+            instrumentation.intercept(batch(record(PARTITION_0, 3, System.currentTimeMillis())), consumer);
+
+            // act
+            instrumentation.onPartitionsRevokedBeforeCommit(consumer, List.of(PARTITION_1));
+            instrumentation.onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION_1));
+            instrumentation.onPartitionsAssigned(consumer, List.of(PARTITION_0));
+
+            // assert
+            assertAll(
+                () -> assertThat(meterRegistry.find(KafkaListenerMetrics.PREFIX + ".partition.lag")
+                    .tag("partition", "1").gauge()).isNull(),
+                () -> assertThat(meterRegistry.find(KafkaListenerMetrics.PREFIX + ".partition.lag")
+                    .tag("partition", "0").gauge()).isNotNull(),
+                () -> assertThat(rebalanceCount("revoked")).isEqualTo(1),
+                () -> assertThat(rebalanceCount("assigned")).isEqualTo(1),
+                () -> assertThat(meterRegistry.get(KafkaListenerMetrics.PREFIX + ".rebalance.duration")
+                    .tag("listener", LISTENER).timer().count()).isEqualTo(1),
+                () -> verify(delegate).onPartitionsRevokedBeforeCommit(consumer, List.of(PARTITION_1)),
+                () -> verify(delegate).onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION_1)),
+                () -> verify(delegate).onPartitionsAssigned(consumer, List.of(PARTITION_0))
+            );
+        }
+
+        @DisplayName("파티션을 잃으면, gauge 를 제거하고 lost 로 센다.")
+        @Test
+        void removesLostGauges() {
+            // arrange
+            instrumentation.intercept(batch(record(PARTITION_0, 3, System.currentTimeMillis())), consumer);
+
+            // act
+            instrumentation.onPartitionsLost(consumer, List.of(PARTITION_0, PARTITION_1));
+
+            // assert
+            assertAll(
+                () -> assertThat(meterRegistry.find(KafkaListenerMetrics.PREFIX + ".partition.lag").gauges()).isEmpty(),
+                () -> assertThat(meterRegistry.find(KafkaListenerMetrics.PREFIX + ".partition.committed").gauges()).isEmpty(),
+                () -> assertThat(rebalanceCount("lost")).isEqualTo(1),
+                () -> verify(delegate).onPartitionsLost(consumer, List.of(PARTITION_0, PARTITION_1))
+            );
+        }
+    }
+}
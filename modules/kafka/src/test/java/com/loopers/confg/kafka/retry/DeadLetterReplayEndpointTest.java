@@ -0,0 +1,153 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeadLetterReplayEndpointTest {
+    private static final String TOPIC = "demo";
+    private static final String DLT = "demo-dlt";
+    private static final TopicPartition DLT_PARTITION = new TopicPartition(DLT, 0);
+
+    private final KafkaRetryProperties properties = new KafkaRetryProperties(
+        List.of(Duration.ofSeconds(10)), Duration.ofSeconds(5), Duration.ofSeconds(1)
+    );
+    private final DeadLetterForwarder forwarder = mock(DeadLetterForwarder.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ProducerRecord<Object, Object>> sent = new ArrayList<>();
+    private final Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+
+    /** endpoint 가 닫은 뒤에도 커밋한 offset 을 확인할 수 있도록 따로 기록한다 */
+    private final MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            committed.putAll(offsets);
+            super.commitSync(offsets);
+        }
+    };
+    private final DeadLetterReplayEndpoint endpoint = new DeadLetterReplayEndpoint(
+        () -> consumer, forwarder, new KafkaRetryTopics(properties), properties, meterRegistry
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(forwarder.send(any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        });
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, null, null, null)));
+    }
+
+    @SafeVarargs
+    private void givenDeadLetters(ConsumerRecord<byte[], byte[]>... records) {
+        // assign 은 endpoint 안에서 일어나므로, 첫 poll 에서 레코드를 채운다.
+        consumer.schedulePollTask(() -> {
+            consumer.updateBeginningOffsets(Map.of(DLT_PARTITION, 0L));
+            for (ConsumerRecord<byte[], byte[]> record : records) {
+                consumer.addRecord(record);
+            }
+        });
+    }
+
+    private static ConsumerRecord<byte[], byte[]> deadLetter(long offset, String originalTopic) {
+        ConsumerRecord<byte[], byte[]> record = new ConsumerRecord<>(
+            DLT, 0, offset, ("key-" + offset).getBytes(StandardCharsets.UTF_8), ("value-" + offset).getBytes(StandardCharsets.UTF_8)
+        );
+        if (originalTopic != null) {
+            RetryHeaders.put(record.headers(), KafkaHeaders.DLT_ORIGINAL_TOPIC, originalTopic);
+            RetryHeaders.put(record.headers(), KafkaHeaders.DLT_EXCEPTION_FQCN, IllegalStateException.class.getName());
+            RetryHeaders.put(record.headers(), RetryHeaders.ATTEMPT, 1);
+        }
+        record.headers().add("trace-id", "trace".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    @DisplayName("DLT 레코드를 재처리하면, 재시도 상태 헤더를 지워 원본 토픽으로 보내고 그 위치까지 커밋한다.")
+    @Test
+    void replaysToOriginalTopic_withoutRetryState() {
+        // arrange
+        givenDeadLetters(deadLetter(0, TOPIC), deadLetter(1, TOPIC));
+
+        // act
+        Map<String, Object> result = endpoint.replay(DLT, null);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).containsEntry("replayed", 2),
+            () -> assertThat(sent).extracting(ProducerRecord::topic).containsExactly(TOPIC, TOPIC),
+            () -> assertThat(sent.get(0).headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC)).isNull(),
+            () -> assertThat(sent.get(0).headers().lastHeader(RetryHeaders.ATTEMPT)).isNull(),
+            () -> assertThat(sent.get(0).headers().lastHeader("trace-id")).isNotNull(),
+            () -> assertThat(committed).containsEntry(DLT_PARTITION, new OffsetAndMetadata(2)),
+            () -> assertThat(meterRegistry.counter(KafkaRetryConfig.REPLAYED_METRIC, "topic", DLT).count()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("limit 이 있으면, limit 건까지만 보내고 커밋한다.")
+    @Test
+    void replaysUpToLimit() {
+        // arrange
+        givenDeadLetters(deadLetter(0, TOPIC), deadLetter(1, TOPIC), deadLetter(2, TOPIC));
+
+        // act
+        Map<String, Object> result = endpoint.replay(DLT, 2);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).containsEntry("replayed", 2),
+            () -> assertThat(sent).hasSize(2),
+            () -> assertThat(committed).containsEntry(DLT_PARTITION, new OffsetAndMetadata(2))
+        );
+    }
+
+    @DisplayName("원본 토픽 헤더가 없는 레코드가 섞여 있으면, 하나도 보내거나 커밋하지 않고 실패한다.")
+    @Test
+    void sendsNothing_whenAnyRecordHasNoOriginalTopic() {
+        // arrange
+        givenDeadLetters(deadLetter(0, TOPIC), deadLetter(1, null), deadLetter(2, TOPIC));
+
+        // act & assert
+        assertThatThrownBy(() -> endpoint.replay(DLT, null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(DLT + "-0@1");
+        assertAll(
+            () -> verify(forwarder, never()).send(any()),
+            () -> assertThat(committed).isEmpty(),
+            () -> assertThat(consumer.closed()).isTrue()
+        );
+    }
+
+    @DisplayName("DLT 가 아닌 토픽은 재처리하지 않는다.")
+    @Test
+    void rejectsNonDltTopic() {
+        // act & assert
+        assertThatThrownBy(() -> endpoint.replay(TOPIC, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
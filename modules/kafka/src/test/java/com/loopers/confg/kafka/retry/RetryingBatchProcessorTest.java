@@ -0,0 +1,212 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryingBatchProcessorTest {
+    private static final String TOPIC = "demo";
+    private static final Duration FIRST_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_DUE_WAIT = Duration.ofSeconds(5);
+
+    private final KafkaRetryProperties properties = new KafkaRetryProperties(
+        List.of(FIRST_BACKOFF, Duration.ofMinutes(1)), MAX_DUE_WAIT, Duration.ofSeconds(1)
+    );
+    private final KafkaRetryTopics topics = new KafkaRetryTopics(properties);
+    private final DeadLetterForwarder forwarder = mock(DeadLetterForwarder.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    private final RetryingBatchProcessor processor = new RetryingBatchProcessor(forwarder, topics, properties, meterRegistry);
+
+    private final List<ProducerRecord<Object, Object>> sent = new ArrayList<>();
+    private final List<Long> handled = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(forwarder.send(any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private static ConsumerRecord<Object, Object> record(String topic, long offset) {
+        return new ConsumerRecord<>(topic, 0, offset, "key-" + offset, "value-" + offset);
+    }
+
+    private RecordHandler failingAt(long failingOffset) {
+        return record -> {
+            handled.add(record.offset());
+            if (record.offset() == failingOffset) {
+                throw new IllegalStateException("처리 실패");
+            }
+        };
+    }
+
+    @DisplayName("원본 토픽의 배치를 처리할 때, ")
+    @Nested
+    class OriginalTopic {
+        @DisplayName("모두 성공하면, 재시도 토픽으로 보내지 않고 배치 전체를 커밋한다.")
+        @Test
+        void acknowledgesBatch_whenAllRecordsSucceed() {
+            // act
+            processor.process(List.of(record(TOPIC, 0), record(TOPIC, 1)), acknowledgment, failingAt(-1));
+
+            // assert
+            assertAll(
+                () -> assertThat(handled).containsExactly(0L, 1L),
+                () -> assertThat(sent).isEmpty(),
+                () -> verify(acknowledgment).acknowledge()
+            );
+        }
+
+        @DisplayName("한 건이 실패하면, 나머지는 계속 처리하고 실패한 레코드만 첫 번째 재시도 토픽으로 보낸다.")
+        @Test
+        void forwardsFailedRecordToFirstTier_andContinuesBatch() {
+            // arrange
+            long before = System.currentTimeMillis();
+
+            // act
+            processor.process(List.of(record(TOPIC, 0), record(TOPIC, 1), record(TOPIC, 2)), acknowledgment, failingAt(1));
+
+            // assert
+            ProducerRecord<Object, Object> forwarded = sent.get(0);
+            assertAll(
+                () -> assertThat(handled).containsExactly(0L, 1L, 2L),
+                () -> assertThat(sent).hasSize(1),
+                () -> assertThat(forwarded.topic()).isEqualTo("demo-retry-0"),
+                () -> assertThat(forwarded.key()).isEqualTo("key-1"),
+                () -> assertThat(RetryHeaders.integer(forwarded.headers(), RetryHeaders.ATTEMPT, 0)).isEqualTo(1),
+                () -> assertThat(RetryHeaders.longValue(forwarded.headers(), RetryHeaders.NOT_BEFORE, 0L))
+                    .isBetween(before + FIRST_BACKOFF.toMillis(), System.currentTimeMillis() + FIRST_BACKOFF.toMillis()),
+                () -> assertThat(RetryHeaders.string(forwarded.headers(), KafkaHeaders.DLT_ORIGINAL_TOPIC, null)).isEqualTo(TOPIC),
+                () -> assertThat(RetryHeaders.longValue(forwarded.headers(), KafkaHeaders.DLT_ORIGINAL_OFFSET, -1L)).isEqualTo(1L),
+                () -> assertThat(RetryHeaders.string(forwarded.headers(), KafkaHeaders.DLT_EXCEPTION_FQCN, null))
+                    .isEqualTo(IllegalStateException.class.getName()),
+                () -> assertThat(meterRegistry.counter(KafkaRetryConfig.FAILURES_METRIC,
+                    "topic", TOPIC, "exception", "IllegalStateException", "stage", "retry-0").count()).isEqualTo(1),
+                () -> verify(acknowledgment).acknowledge()
+            );
+        }
+
+        @DisplayName("재시도 토픽 전송이 실패하면, 커밋하지 않고 실패한 레코드부터 다시 전달받는다.")
+        @Test
+        void nacksFromFailedForward_whenForwardFails() {
+            // arrange
+            when(forwarder.send(any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 오류")));
+
+            // act
+            processor.process(List.of(record(TOPIC, 0), record(TOPIC, 1), record(TOPIC, 2)), acknowledgment, failingAt(1));
+
+            // assert
+            assertAll(
+                () -> verify(acknowledgment).nack(1, Duration.ofSeconds(1)),
+                () -> verify(acknowledgment, never()).acknowledge()
+            );
+        }
+    }
+
+    @DisplayName("재시도 토픽의 배치를 처리할 때, ")
+    @Nested
+    class RetryTopic {
+        private ConsumerRecord<Object, Object> retried(long offset, int attempt, long notBefore) {
+            ConsumerRecord<Object, Object> record = record(topics.retryTopic(TOPIC, attempt - 1), offset);
+            RetryHeaders.put(record.headers(), KafkaHeaders.DLT_ORIGINAL_TOPIC, TOPIC);
+            RetryHeaders.put(record.headers(), KafkaHeaders.DLT_ORIGINAL_OFFSET, 100L + offset);
+            RetryHeaders.put(record.headers(), RetryHeaders.ATTEMPT, attempt);
+            RetryHeaders.put(record.headers(), RetryHeaders.NOT_BEFORE, notBefore);
+            return record;
+        }
+
+        @DisplayName("다시 실패하면, 원본 위치를 유지한 채 다음 단계 토픽으로 보낸다.")
+        @Test
+        void forwardsToNextTier_keepingOriginalHeaders() {
+            // act
+            processor.process(List.of(retried(0, 1, 0L)), acknowledgment, failingAt(0));
+
+            // assert
+            ProducerRecord<Object, Object> forwarded = sent.get(0);
+            assertAll(
+                () -> assertThat(forwarded.topic()).isEqualTo("demo-retry-1"),
+                () -> assertThat(RetryHeaders.integer(forwarded.headers(), RetryHeaders.ATTEMPT, 0)).isEqualTo(2),
+                () -> assertThat(RetryHeaders.string(forwarded.headers(), KafkaHeaders.DLT_ORIGINAL_TOPIC, null)).isEqualTo(TOPIC),
+                () -> assertThat(RetryHeaders.longValue(forwarded.headers(), KafkaHeaders.DLT_ORIGINAL_OFFSET, -1L)).isEqualTo(100L)
+            );
+        }
+
+        @DisplayName("마지막 단계에서도 실패하면, DLT 로 보내고 대기 헤더를 지운다.")
+        @Test
+        void forwardsToDlt_whenTiersAreExhausted() {
+            // act
+            processor.process(List.of(retried(0, 2, 0L)), acknowledgment, failingAt(0));
+
+            // assert
+            ProducerRecord<Object, Object> forwarded = sent.get(0);
+            assertAll(
+                () -> assertThat(forwarded.topic()).isEqualTo("demo-dlt"),
+                () -> assertThat(forwarded.headers().lastHeader(RetryHeaders.NOT_BEFORE)).isNull(),
+                () -> assertThat(meterRegistry.counter(KafkaRetryConfig.FAILURES_METRIC,
+                    "topic", TOPIC, "exception", "IllegalStateException", "stage", "dlt").count()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("아직 때가 되지 않은 레코드를 만나면, 그 앞까지만 처리하고 최대 대기 시간만큼 쉰 뒤 그 레코드부터 다시 전달받는다.")
+        @Test
+        void nacksFromFirstRecordNotDue() {
+            // arrange
+            long now = System.currentTimeMillis();
+            List<ConsumerRecord<Object, Object>> records = List.of(
+                retried(0, 1, now - 1_000),
+                retried(1, 1, now + 60_000),
+                retried(2, 1, now - 1_000)
+            );
+
+            // act
+            processor.process(records, acknowledgment, failingAt(-1));
+
+            // assert
+            assertAll(
+                () -> assertThat(handled).containsExactly(0L),
+                () -> verify(acknowledgment).nack(1, MAX_DUE_WAIT),
+                () -> verify(acknowledgment, never()).acknowledge()
+            );
+        }
+
+        @DisplayName("앞에서 실패한 레코드의 전송이 끝난 뒤에 대기한다.")
+        @Test
+        void waitsForForwards_beforeNack() {
+            // arrange
+            long now = System.currentTimeMillis();
+            List<ConsumerRecord<Object, Object>> records = List.of(retried(0, 1, now - 1_000), retried(1, 1, now + 60_000));
+
+            // act
+            processor.process(records, acknowledgment, failingAt(0));
+
+            // assert
+            assertAll(
+                () -> assertThat(sent).singleElement().extracting(ProducerRecord::topic).isEqualTo("demo-retry-1"),
+                () -> verify(acknowledgment).nack(1, MAX_DUE_WAIT),
+                () -> verify(acknowledgment, never()).acknowledge()
+            );
+        }
+    }
+}
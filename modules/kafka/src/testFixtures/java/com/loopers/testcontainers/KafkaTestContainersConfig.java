@@ -0,0 +1,24 @@
+package com.loopers.testcontainers;
+
+import org.springframework.context.annotation.Configuration;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * kafka.yml 의 test 프로필(localhost:19092, admin 은 kafka:9092)을 컨테이너 브로커 주소로 덮어쓴다.
+ */
+@Configuration
+public class KafkaTestContainersConfig {
+    private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("apache/kafka:3.8.1"));
+
+    static {
+        kafkaContainer.start();
+
+        System.setProperty("spring.kafka.bootstrap-servers", kafkaContainer.getBootstrapServers());
+        System.setProperty("spring.kafka.admin.properties.bootstrap.servers", kafkaContainer.getBootstrapServers());
+    }
+
+    public static String bootstrapServers() {
+        return kafkaContainer.getBootstrapServers();
+    }
+}
@@ -5,6 +5,8 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
@@ -1,7 +1,14 @@
 package com.loopers.config.redis;
 
 
+import com.loopers.config.redis.metrics.RedisCommandLatencyRecorder;
+import com.loopers.config.redis.metrics.RedisConnectionMetrics;
+import com.loopers.config.redis.metrics.RedisMetricsProperties;
+import com.loopers.config.redis.metrics.RedisNodeRoles;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.event.DefaultEventPublisherOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -17,38 +24,74 @@ import java.util.List;
 import java.util.function.Consumer;
 
 @Configuration
-@EnableConfigurationProperties(RedisProperties.class)
+@EnableConfigurationProperties({RedisProperties.class, RedisMetricsProperties.class})
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    private static final String CLIENT_RESOURCES_MASTER = "redisClientResourcesMaster";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
+    private final RedisMetricsProperties redisMetricsProperties;
+    private final RedisNodeRoles redisNodeRoles;
 
-    public RedisConfig(RedisProperties redisProperties){
+    public RedisConfig(RedisProperties redisProperties, RedisMetricsProperties redisMetricsProperties){
         this.redisProperties = redisProperties;
+        this.redisMetricsProperties = redisMetricsProperties;
+        this.redisNodeRoles = new RedisNodeRoles(redisProperties.master(), redisProperties.replicas());
     }
 
+    /*
+     * 커넥션 팩토리마다 ClientResources 를 따로 두어, 명령 지연 시간과 커넥션 이벤트를 template 태그로 구분한다.
+     * 직접 넘긴 ClientResources 는 LettuceConnectionFactory 가 종료하지 않으므로 빈의 shutdown 으로 정리한다.
+     */
     @Primary
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources defaultRedisClientResources(MeterRegistry meterRegistry) {
+        return clientResources("default", meterRegistry);
+    }
+
+    @Qualifier(CLIENT_RESOURCES_MASTER)
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources masterRedisClientResources(MeterRegistry meterRegistry) {
+        return clientResources("master", meterRegistry);
+    }
+
+    @Bean
+    public RedisConnectionMetrics defaultRedisConnectionMetrics(ClientResources clientResources, MeterRegistry meterRegistry) {
+        return new RedisConnectionMetrics("default", redisNodeRoles, clientResources.eventBus(), meterRegistry);
+    }
+
     @Bean
-    public LettuceConnectionFactory defaultRedisConnectionFactory() {
+    public RedisConnectionMetrics masterRedisConnectionMetrics(
+            @Qualifier(CLIENT_RESOURCES_MASTER) ClientResources clientResources,
+            MeterRegistry meterRegistry
+    ) {
+        return new RedisConnectionMetrics("master", redisNodeRoles, clientResources.eventBus(), meterRegistry);
+    }
+
+    @Primary
+    @Bean
+    public LettuceConnectionFactory defaultRedisConnectionFactory(ClientResources clientResources) {
         int database = redisProperties.database();
         RedisNodeInfo master = redisProperties.master();
         List<RedisNodeInfo> replicas = redisProperties.replicas();
         return lettuceConnectionFactory(
                 database, master, replicas,
-                b -> b.readFrom(ReadFrom.REPLICA_PREFERRED)
+                b -> b.readFrom(ReadFrom.REPLICA_PREFERRED).clientResources(clientResources)
         );
     }
 
     @Qualifier(CONNECTION_MASTER)
     @Bean
-    public LettuceConnectionFactory masterRedisConnectionFactory() {
+    public LettuceConnectionFactory masterRedisConnectionFactory(
+            @Qualifier(CLIENT_RESOURCES_MASTER) ClientResources clientResources
+    ) {
         int database = redisProperties.database();
         RedisNodeInfo master = redisProperties.master();
         List<RedisNodeInfo> replicas = redisProperties.replicas();
         return lettuceConnectionFactory(
                 database, master, replicas,
-                b -> b.readFrom(ReadFrom.MASTER)
+                b -> b.readFrom(ReadFrom.MASTER).clientResources(clientResources)
         );
     }
 
@@ -68,6 +111,13 @@ public class RedisConfig{
         return defaultRedisTemplate(redisTemplate, lettuceConnectionFactory);
     }
 
+    private ClientResources clientResources(String template, MeterRegistry meterRegistry) {
+        return ClientResources.builder()
+                .commandLatencyRecorder(new RedisCommandLatencyRecorder(template, redisNodeRoles, meterRegistry, redisMetricsProperties))
+                // 지연 시간은 위 recorder 가 바로 기록하므로, 주기적인 지연 시간 이벤트 발행은 끈다
+                .commandLatencyPublisherOptions(DefaultEventPublisherOptions.disabled())
+                .build();
+    }
 
     private LettuceConnectionFactory lettuceConnectionFactory(
             int database,
@@ -0,0 +1,241 @@
+package com.loopers.config.redis.hedge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * replica 우선 template 으로 읽다가, 최근 지연의 분위수만큼 기다려도 응답이 없으면 master 로 한 번 더 읽는다. (hedged read)
+ * <p>
+ * fork/AOF rewrite 로 replica 하나가 잠시 느려져도 p99 가 그 replica 를 따라 늘어나지 않게 한다.
+ * 먼저 성공한 응답을 쓰고, 진 쪽은 스레드를 interrupt 해 Lettuce 가 명령을 취소하게 한다. (서버에 보낸 명령은 되돌릴 수 없다)
+ * 각 시도는 가상 스레드에서 실행하므로 기다리는 동안 플랫폼 스레드를 잡지 않는다.
+ * <p>
+ * 대기 시간은 작업(operation)별로 따로 계산한다. 명령마다 평소 지연이 다르기 때문이다.
+ * hedge 는 읽기마다 {@code budgetRatio} 만큼 쌓이는 예산 안에서만 보낸다. replica 가 모두 느려져도 master 로 가는 추가 요청은
+ * 읽기의 {@code budgetRatio} 배를 넘지 않는다.
+ * <ul>
+ *     <li>{@code redis.hedge.reads} : 읽기 수</li>
+ *     <li>{@code redis.hedge.requests} : hedge 를 보낸 수 (outcome=sent) 와 예산이 없어 보내지 못한 수 (outcome=budget_exhausted)</li>
+ *     <li>{@code redis.hedge.wins} : hedge 를 보낸 읽기 중 먼저 응답한 쪽 (winner=primary|hedge)</li>
+ *     <li>{@code redis.hedge.delay} : 현재 hedge 대기 시간</li>
+ * </ul>
+ */
+public class HedgedRedisReader implements AutoCloseable {
+    public static final String READS_METRIC = "redis.hedge.reads";
+    public static final String REQUESTS_METRIC = "redis.hedge.requests";
+    public static final String WINS_METRIC = "redis.hedge.wins";
+    public static final String DELAY_METRIC = "redis.hedge.delay";
+
+    /** 예산은 1/1000 건 단위의 정수로 다룬다 */
+    private static final long UNIT = 1_000;
+
+    private final RedisOperations<String, String> replicaPreferred;
+    private final RedisOperations<String, String> master;
+    private final RedisHedgeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("redis-hedge-", 0).factory()
+    );
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final long budgetPerRead;
+    private final long maxBudget;
+    private final AtomicLong budget;
+
+    public HedgedRedisReader(
+        RedisOperations<String, String> replicaPreferred,
+        RedisOperations<String, String> master,
+        RedisHedgeProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.replicaPreferred = replicaPreferred;
+        this.master = master;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.budgetPerRead = Math.round(properties.budgetRatio() * UNIT);
+        this.maxBudget = properties.budgetBurst() * UNIT;
+        this.budget = new AtomicLong(maxBudget);
+    }
+
+    /**
+     * @param operation 지연 분위수와 지표를 나누는 이름 (예: {@code example-access-log})
+     * @param read      읽기만 해야 한다. 같은 읽기가 두 노드에서 실행될 수 있다.
+     */
+    public <T> T read(String operation, Function<RedisOperations<String, String>, T> read) {
+        if (!properties.enabled()) {
+            return read.apply(replicaPreferred);
+        }
+        Operation op = operations.computeIfAbsent(operation, Operation::new);
+        op.reads.increment();
+        budget.getAndUpdate(current -> Math.min(maxBudget, current + budgetPerRead));
+
+        long startedAt = System.nanoTime();
+        Attempt<T> primary = start(() -> read.apply(replicaPreferred));
+        try {
+            T value = primary.result.get(op.delay.nanos(), TimeUnit.NANOSECONDS);
+            op.delay.record(System.nanoTime() - startedAt);
+            return value;
+        } catch (TimeoutException e) {
+            // 아래에서 hedge 를 보낸다
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new RedisSystemException("Redis 읽기를 기다리는 중 인터럽트되었습니다.", e);
+        }
+
+        if (!tryTakeBudget()) {
+            op.budgetExhausted.increment();
+            T value = await(primary.result);
+            op.delay.record(System.nanoTime() - startedAt);
+            return value;
+        }
+        op.hedged.increment();
+        Attempt<T> hedge = start(() -> read.apply(master));
+
+        Attempt<T> winner = await(firstSuccessful(primary, hedge));
+        Attempt<T> loser = winner == primary ? hedge : primary;
+        loser.cancel();
+        // primary 가 졌다면 실제 지연은 이보다 길다. 분위수를 낮게 보는 쪽으로 치우치지만 hedge 수는 예산이 막는다.
+        op.delay.record(System.nanoTime() - startedAt);
+        (winner == primary ? op.primaryWins : op.hedgeWins).increment();
+        return winner.result.join();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private boolean tryTakeBudget() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < UNIT) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - UNIT));
+        return true;
+    }
+
+    private <T> Attempt<T> start(Supplier<T> supplier) {
+        Attempt<T> attempt = new Attempt<>(supplier);
+        executor.execute(attempt);
+        return attempt;
+    }
+
+    /**
+     * 먼저 성공한 시도. 둘 다 실패하면 primary 의 예외로 끝난다.
+     */
+    private static <T> CompletableFuture<Attempt<T>> firstSuccessful(Attempt<T> primary, Attempt<T> hedge) {
+        CompletableFuture<Attempt<T>> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (Attempt<T> attempt : List.of(primary, hedge)) {
+            attempt.result.whenComplete((value, error) -> {
+                if (error == null) {
+                    winner.complete(attempt);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(primary.result.exceptionNow());
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new RedisSystemException("Redis 읽기에 실패했습니다.", cause);
+    }
+
+    /**
+     * 한 번의 읽기 시도. 취소하면 실행 중인 (가상) 스레드를 interrupt 한다.
+     */
+    private static final class Attempt<T> implements Runnable {
+        private final Supplier<T> supplier;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile Thread runner;
+
+        private Attempt(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;
+            }
+            runner = Thread.currentThread();
+            try {
+                result.complete(supplier.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                runner = null;
+            }
+        }
+
+        private void cancel() {
+            if (result.cancel(false)) {
+                Thread thread = runner;
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        }
+    }
+
+    private final class Operation {
+        private final LatencyWindow delay;
+        private final Counter reads;
+        private final Counter hedged;
+        private final Counter budgetExhausted;
+        private final Counter primaryWins;
+        private final Counter hedgeWins;
+
+        private Operation(String name) {
+            this.delay = new LatencyWindow(
+                properties.windowSize(), properties.percentile(), properties.minDelay(), properties.maxDelay()
+            );
+            this.reads = meterRegistry.counter(READS_METRIC, "operation", name);
+            this.hedged = meterRegistry.counter(REQUESTS_METRIC, "operation", name, "outcome", "sent");
+            this.budgetExhausted = meterRegistry.counter(REQUESTS_METRIC, "operation", name, "outcome", "budget_exhausted");
+            this.primaryWins = meterRegistry.counter(WINS_METRIC, "operation", name, "winner", "primary");
+            this.hedgeWins = meterRegistry.counter(WINS_METRIC, "operation", name, "winner", "hedge");
+            Gauge.builder(DELAY_METRIC, delay, window -> window.nanos() / 1_000_000.0)
+                .tag("operation", name)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        }
+    }
+}
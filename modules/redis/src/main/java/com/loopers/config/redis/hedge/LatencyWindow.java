@@ -0,0 +1,55 @@
+package com.loopers.config.redis.hedge;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 {@code size} 개 지연 표본의 분위수. 표본이 {@code size / 4} 개 쌓일 때마다, 그 표본을 넣은 스레드가 정렬해서 다시 계산한다.
+ * 표본이 다 차기 전에는 상한을 돌려준다.
+ */
+final class LatencyWindow {
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final int recomputeEvery;
+    private final double percentile;
+    private final long minNanos;
+    private final long maxNanos;
+    private volatile long current;
+
+    LatencyWindow(int size, double percentile, Duration min, Duration max) {
+        if (size < 4 || percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("size 는 4 이상, percentile 은 (0, 1] 이어야 합니다: " + size + ", " + percentile);
+        }
+        this.samples = new AtomicLongArray(size);
+        this.recomputeEvery = size / 4;
+        this.percentile = percentile;
+        this.minNanos = min.toNanos();
+        this.maxNanos = max.toNanos();
+        this.current = maxNanos;
+    }
+
+    void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples.lazySet((int) (n % samples.length()), nanos);
+        long recorded = n + 1;
+        if (recorded >= samples.length() && recorded % recomputeEvery == 0) {
+            recompute();
+        }
+    }
+
+    long nanos() {
+        return current;
+    }
+
+    private void recompute() {
+        long[] sorted = new long[samples.length()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        long value = sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+        current = Math.max(minNanos, Math.min(maxNanos, value));
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.config.redis.hedge;
+
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RedisHedgeProperties.class)
+class RedisHedgeConfig {
+
+    @Bean
+    HedgedRedisReader hedgedRedisReader(
+        RedisTemplate<String, String> defaultRedisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        RedisHedgeProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new HedgedRedisReader(defaultRedisTemplate, masterRedisTemplate, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.config.redis.hedge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled     비활성화하면 {@link HedgedRedisReader} 는 replica 우선 template 으로 한 번만 읽는다
+ * @param percentile  최근 읽기 지연의 이 분위수만큼 기다려도 응답이 없으면 master 로 한 번 더 보낸다
+ * @param minDelay    hedge 대기 시간의 하한. 평소 지연이 아주 짧아도 이보다 빨리 보내지 않는다.
+ * @param maxDelay    hedge 대기 시간의 상한. 표본이 모이기 전에도 이 값을 쓴다.
+ * @param windowSize  분위수를 계산하는 최근 표본 수
+ * @param budgetRatio 읽기 대비 hedge 로 더 보낼 수 있는 요청의 비율. replica 전체가 느려져도 master 부하가 이 이상 늘지 않는다.
+ * @param budgetBurst 한 번에 몰아서 쓸 수 있는 hedge 수
+ */
+@ConfigurationProperties(prefix = "redis.hedge")
+public record RedisHedgeProperties(
+    boolean enabled,
+    double percentile,
+    Duration minDelay,
+    Duration maxDelay,
+    int windowSize,
+    double budgetRatio,
+    int budgetBurst
+) {
+}
@@ -0,0 +1,118 @@
+package com.loopers.config.redis.metrics;
+
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lettuce 의 명령 단위 지연 시간을 Micrometer 로 기록한다.
+ * <p>
+ * 명령 종류(command), 노드 역할(role), 커넥션 팩토리(template) 로 태그를 나눈다. Prometheus 의 시계열 수를 고려해
+ * 전체 히스토그램 대신 고정된 SLO 버킷만 남긴다.
+ * {@code slowCommandThreshold} 이상 걸린 명령은 따로 세고, 명령 종류별로 간격마다 한 줄씩만 로그를 남긴다.
+ */
+@Slf4j
+public class RedisCommandLatencyRecorder implements CommandLatencyRecorder {
+    public static final String COMMANDS_METRIC = "redis.commands";
+    public static final String FIRST_RESPONSE_METRIC = "redis.commands.first-response";
+    public static final String SLOW_COMMANDS_METRIC = "redis.commands.slow";
+
+    private static final Duration[] SLO = {
+        Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10),
+        Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(500)
+    };
+
+    private final String template;
+    private final RedisNodeRoles nodeRoles;
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final long slowLogIntervalNanos;
+
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public RedisCommandLatencyRecorder(
+        String template,
+        RedisNodeRoles nodeRoles,
+        MeterRegistry meterRegistry,
+        RedisMetricsProperties properties
+    ) {
+        this.template = template;
+        this.nodeRoles = nodeRoles;
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = properties.slowCommandThreshold().toNanos();
+        this.slowLogIntervalNanos = properties.slowLogInterval().toNanos();
+    }
+
+    @Override
+    public void recordCommandLatency(
+        SocketAddress local,
+        SocketAddress remote,
+        ProtocolKeyword commandType,
+        long firstResponseLatency,
+        long completionLatency
+    ) {
+        String command = commandType.toString();
+        String role = nodeRoles.roleOf(remote);
+        Meters m = meters.computeIfAbsent(command + "|" + role, key -> new Meters(command, role));
+
+        m.completion.record(completionLatency, TimeUnit.NANOSECONDS);
+        m.firstResponse.record(firstResponseLatency, TimeUnit.NANOSECONDS);
+        if (completionLatency >= slowThresholdNanos) {
+            m.slow.increment();
+            logSlow(m, remote, completionLatency);
+        }
+    }
+
+    private void logSlow(Meters m, SocketAddress remote, long completionLatency) {
+        long now = System.nanoTime();
+        long last = m.slowLoggedAt.get();
+        if (now - last < slowLogIntervalNanos || !m.slowLoggedAt.compareAndSet(last, now)) {
+            m.slowSuppressed.increment();
+            return;
+        }
+        long suppressed = m.slowSuppressed.sumThenReset();
+        log.warn(
+            "느린 Redis 명령 [template = {}, command = {}, role = {}, remote = {}] : {}ms (직전 로그 이후 생략된 건수 = {})",
+            template, m.command, m.role, remote, TimeUnit.NANOSECONDS.toMillis(completionLatency), suppressed
+        );
+    }
+
+    private final class Meters {
+        private final String command;
+        private final String role;
+        private final Timer completion;
+        private final Timer firstResponse;
+        private final Counter slow;
+        /** 처음 발생한 느린 명령은 바로 남기도록 충분히 과거로 둔다. */
+        private final AtomicLong slowLoggedAt = new AtomicLong(System.nanoTime() - slowLogIntervalNanos);
+        private final LongAdder slowSuppressed = new LongAdder();
+
+        private Meters(String command, String role) {
+            this.command = command;
+            this.role = role;
+            this.completion = Timer.builder(COMMANDS_METRIC)
+                .description("명령을 보낸 뒤 응답이 완료될 때까지의 시간")
+                .tags("template", template, "command", command, "role", role)
+                .serviceLevelObjectives(SLO)
+                .register(meterRegistry);
+            this.firstResponse = Timer.builder(FIRST_RESPONSE_METRIC)
+                .description("명령을 보낸 뒤 첫 응답을 받을 때까지의 시간")
+                .tags("template", template, "command", command, "role", role)
+                .register(meterRegistry);
+            this.slow = Counter.builder(SLOW_COMMANDS_METRIC)
+                .tags("template", template, "command", command, "role", role)
+                .register(meterRegistry);
+        }
+    }
+}
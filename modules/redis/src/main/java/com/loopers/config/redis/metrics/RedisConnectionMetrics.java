@@ -0,0 +1,63 @@
+package com.loopers.config.redis.metrics;
+
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.event.connection.ConnectionEvent;
+import io.lettuce.core.event.connection.ReconnectAttemptEvent;
+import io.lettuce.core.event.connection.ReconnectFailedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.Disposable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lettuce 이벤트 버스의 커넥션 이벤트로 노드 역할별 활성 커넥션 수와 재연결 시도/실패 횟수를 집계한다.
+ */
+public class RedisConnectionMetrics implements AutoCloseable {
+    public static final String CONNECTIONS_METRIC = "redis.connections.active";
+    public static final String RECONNECTS_METRIC = "redis.reconnects";
+
+    private static final List<String> ROLES = List.of(RedisNodeRoles.MASTER, RedisNodeRoles.REPLICA, RedisNodeRoles.UNKNOWN);
+
+    private final RedisNodeRoles nodeRoles;
+    private final Map<String, AtomicLong> active = new HashMap<>();
+    private final Map<String, Counter> attempts = new HashMap<>();
+    private final Map<String, Counter> failures = new HashMap<>();
+    private final Disposable subscription;
+
+    public RedisConnectionMetrics(String template, RedisNodeRoles nodeRoles, EventBus eventBus, MeterRegistry meterRegistry) {
+        this.nodeRoles = nodeRoles;
+        for (String role : ROLES) {
+            Tags tags = Tags.of("template", template, "role", role);
+            active.put(role, meterRegistry.gauge(CONNECTIONS_METRIC, tags, new AtomicLong()));
+            attempts.put(role, meterRegistry.counter(RECONNECTS_METRIC, tags.and("outcome", "attempt")));
+            failures.put(role, meterRegistry.counter(RECONNECTS_METRIC, tags.and("outcome", "failed")));
+        }
+        this.subscription = eventBus.get()
+            .filter(ConnectionEvent.class::isInstance)
+            .cast(ConnectionEvent.class)
+            .subscribe(this::onEvent);
+    }
+
+    private void onEvent(ConnectionEvent event) {
+        String role = nodeRoles.roleOf(event.remoteAddress());
+        switch (event) {
+            case ConnectionActivatedEvent ignored -> active.get(role).incrementAndGet();
+            case ConnectionDeactivatedEvent ignored -> active.get(role).decrementAndGet();
+            case ReconnectAttemptEvent ignored -> attempts.get(role).increment();
+            case ReconnectFailedEvent ignored -> failures.get(role).increment();
+            default -> { }
+        }
+    }
+
+    @Override
+    public void close() {
+        subscription.dispose();
+    }
+}
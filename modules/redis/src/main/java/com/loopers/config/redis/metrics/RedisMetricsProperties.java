@@ -0,0 +1,16 @@
+package com.loopers.config.redis.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param slowCommandThreshold 이 시간 이상 걸린 명령을 느린 명령으로 집계한다 (redis 의 latency-monitor-threshold 와 같은 의미)
+ * @param slowLogInterval      느린 명령 로그를 명령 종류별로 이 간격에 한 줄로 제한한다
+ */
+@ConfigurationProperties(prefix = "redis.metrics")
+public record RedisMetricsProperties(
+    Duration slowCommandThreshold,
+    Duration slowLogInterval
+) {
+}
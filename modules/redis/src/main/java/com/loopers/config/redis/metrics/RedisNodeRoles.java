@@ -0,0 +1,64 @@
+package com.loopers.config.redis.metrics;
+
+import com.loopers.config.redis.RedisNodeInfo;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lettuce 가 넘겨주는 원격 주소를 설정된 노드의 역할(master / replica)로 바꾼다.
+ * 원격 주소는 해석된 IP 로 들어오므로, 설정의 호스트 이름과 해석된 IP 를 모두 등록해둔다.
+ */
+public class RedisNodeRoles {
+    public static final String MASTER = "master";
+    public static final String REPLICA = "replica";
+    public static final String UNKNOWN = "unknown";
+
+    private final Map<String, String> roles = new HashMap<>();
+    private final Map<SocketAddress, String> resolved = new ConcurrentHashMap<>();
+
+    public RedisNodeRoles(RedisNodeInfo master, List<RedisNodeInfo> replicas) {
+        for (RedisNodeInfo replica : replicas) {
+            register(replica, REPLICA);
+        }
+        // master 와 replica 가 같은 주소로 설정된 경우에는 master 로 본다
+        register(master, MASTER);
+    }
+
+    public String roleOf(SocketAddress address) {
+        if (!(address instanceof InetSocketAddress inet)) {
+            return UNKNOWN;
+        }
+        return resolved.computeIfAbsent(address, a -> {
+            String byHost = roles.get(key(inet.getHostString(), inet.getPort()));
+            if (byHost != null) {
+                return byHost;
+            }
+            if (inet.getAddress() != null) {
+                return roles.getOrDefault(key(inet.getAddress().getHostAddress(), inet.getPort()), UNKNOWN);
+            }
+            return UNKNOWN;
+        });
+    }
+
+    private void register(RedisNodeInfo node, String role) {
+        roles.put(key(node.host(), node.port()), role);
+        try {
+            for (InetAddress address : InetAddress.getAllByName(node.host())) {
+                roles.put(key(address.getHostAddress(), node.port()), role);
+            }
+        } catch (UnknownHostException e) {
+            // 지금 해석되지 않는 호스트는 이름으로만 매칭한다
+        }
+    }
+
+    private static String key(String host, int port) {
+        return host + ":" + port;
+    }
+}
@@ -0,0 +1,159 @@
+package com.loopers.config.redis.hedge;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class HedgedRedisReaderTest {
+    private static final String OPERATION = "test";
+
+    /** 연결 없이 어느 노드로 보낸 읽기인지 구분하는 데만 쓴다 */
+    private final RedisOperations<String, String> replica = new RedisTemplate<>();
+    private final RedisOperations<String, String> master = new RedisTemplate<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch replicaInterrupted = new CountDownLatch(1);
+    private HedgedRedisReader reader;
+
+    private HedgedRedisReader reader(double budgetRatio, int budgetBurst) {
+        reader = new HedgedRedisReader(
+            replica, master,
+            new RedisHedgeProperties(true, 0.95, Duration.ofMillis(1), Duration.ofMillis(20), 16, budgetRatio, budgetBurst),
+            meterRegistry
+        );
+        return reader;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    /**
+     * replica 는 replicaLatency 만큼 걸리고, 인터럽트되면 replicaInterrupted 를 연다. master 는 바로 응답한다.
+     */
+    private Function<RedisOperations<String, String>, String> read(long replicaLatencyMillis) {
+        return operations -> {
+            if (operations == master) {
+                return "master";
+            }
+            try {
+                Thread.sleep(replicaLatencyMillis);
+            } catch (InterruptedException e) {
+                replicaInterrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+            return "replica";
+        };
+    }
+
+    private double count(String metric, String... tags) {
+        return meterRegistry.get(metric).tags(tags).counter().count();
+    }
+
+    @DisplayName("replica 가 대기 시간 안에 응답하면, hedge 없이 replica 의 응답을 쓴다.")
+    @Test
+    void returnsReplicaResponse_withoutHedge_whenReplicaIsFast() {
+        // act
+        String result = reader(0.1, 10).read(OPERATION, read(0));
+
+        // assert
+        assertAll(
+            () -> assertThat(result).isEqualTo("replica"),
+            () -> assertThat(count(HedgedRedisReader.READS_METRIC, "operation", OPERATION)).isEqualTo(1),
+            () -> assertThat(count(HedgedRedisReader.REQUESTS_METRIC, "operation", OPERATION, "outcome", "sent")).isZero()
+        );
+    }
+
+    @DisplayName("replica 가 느리면, master 로 hedge 를 보내 먼저 온 응답을 쓰고 replica 읽기를 취소한다.")
+    @Test
+    void returnsMasterResponse_andCancelsReplica_whenReplicaIsSlow() throws InterruptedException {
+        // act
+        long startedAt = System.nanoTime();
+        String result = reader(0.1, 10).read(OPERATION, read(5_000));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // assert
+        assertAll(
+            () -> assertThat(result).isEqualTo("master"),
+            () -> assertThat(elapsedMillis).isLessThan(1_000),
+            () -> assertThat(replicaInterrupted.await(1, TimeUnit.SECONDS)).isTrue(),
+            () -> assertThat(count(HedgedRedisReader.REQUESTS_METRIC, "operation", OPERATION, "outcome", "sent")).isEqualTo(1),
+            () -> assertThat(count(HedgedRedisReader.WINS_METRIC, "operation", OPERATION, "winner", "hedge")).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("hedge 예산을 다 쓰면, 느려도 hedge 를 보내지 않고 replica 의 응답을 기다린다.")
+    @Test
+    void waitsForReplica_whenBudgetIsExhausted() {
+        // arrange
+        HedgedRedisReader reader = reader(0, 1);
+        reader.read(OPERATION, read(100));
+
+        // act
+        String result = reader.read(OPERATION, read(100));
+
+        // assert
+        assertAll(
+            () -> assertThat(result).isEqualTo("replica"),
+            () -> assertThat(count(HedgedRedisReader.REQUESTS_METRIC, "operation", OPERATION, "outcome", "sent")).isEqualTo(1),
+            () -> assertThat(count(HedgedRedisReader.REQUESTS_METRIC, "operation", OPERATION, "outcome", "budget_exhausted")).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("읽기가 실패할 때, ")
+    @Nested
+    class Failure {
+        @DisplayName("hedge 가 성공하면, hedge 의 응답을 쓴다.")
+        @Test
+        void returnsHedgeResponse_whenSlowReplicaFails() {
+            // act
+            String result = reader(0.1, 10).read(OPERATION, operations -> {
+                if (operations == master) {
+                    return "master";
+                }
+                sleep(100);
+                throw new IllegalStateException("replica");
+            });
+
+            // assert
+            assertThat(result).isEqualTo("master");
+        }
+
+        @DisplayName("둘 다 실패하면, replica 읽기의 예외를 던진다.")
+        @Test
+        void throwsReplicaException_whenBothFail() {
+            // act & assert
+            assertThatThrownBy(() -> reader(0.1, 10).read(OPERATION, operations -> {
+                if (operations == master) {
+                    throw new IllegalStateException("master");
+                }
+                sleep(100);
+                throw new IllegalStateException("replica");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("replica");
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.loopers.config.redis.metrics;
+
+import com.loopers.config.redis.RedisNodeInfo;
+import io.lettuce.core.protocol.CommandType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RedisCommandLatencyRecorderTest {
+    private static final String TEMPLATE = "default";
+    private static final Duration SLOW_THRESHOLD = Duration.ofMillis(100);
+    private static final String SLOW_LOG = "느린 Redis 명령";
+
+    /** 해석되지 않은 주소는 호스트 이름으로 역할을 찾는다 */
+    private static final SocketAddress LOCAL = InetSocketAddress.createUnresolved("localhost", 50000);
+    private static final SocketAddress MASTER = InetSocketAddress.createUnresolved("redis-master", 6379);
+    private static final SocketAddress REPLICA = InetSocketAddress.createUnresolved("redis-replica", 6379);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RedisCommandLatencyRecorder recorder(Duration slowLogInterval) {
+        RedisNodeRoles nodeRoles = new RedisNodeRoles(
+            new RedisNodeInfo("redis-master", 6379), List.of(new RedisNodeInfo("redis-replica", 6379))
+        );
+        return new RedisCommandLatencyRecorder(
+            TEMPLATE, nodeRoles, meterRegistry, new RedisMetricsProperties(SLOW_THRESHOLD, slowLogInterval)
+        );
+    }
+
+    private static void record(RedisCommandLatencyRecorder recorder, SocketAddress remote, CommandType command, long millis) {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        recorder.recordCommandLatency(LOCAL, remote, command, nanos / 2, nanos);
+    }
+
+    private Timer completion(CommandType command, String role) {
+        return meterRegistry.get(RedisCommandLatencyRecorder.COMMANDS_METRIC)
+            .tags("template", TEMPLATE, "command", command.name(), "role", role)
+            .timer();
+    }
+
+    private double slowCount(CommandType command, String role) {
+        return meterRegistry.get(RedisCommandLatencyRecorder.SLOW_COMMANDS_METRIC)
+            .tags("template", TEMPLATE, "command", command.name(), "role", role)
+            .counter()
+            .count();
+    }
+
+    private static long occurrences(CapturedOutput output, String text) {
+        return output.getOut().lines().filter(line -> line.contains(text)).count();
+    }
+
+    @DisplayName("명령 지연 시간을 기록할 때, ")
+    @Nested
+    class Latency {
+        @DisplayName("완료 시간을 SLO 버킷에 누적해서 센다.")
+        @Test
+        void recordsCompletionIntoSloBuckets() {
+            // arrange
+            RedisCommandLatencyRecorder recorder = recorder(Duration.ofMinutes(1));
+
+            // act
+            record(recorder, MASTER, CommandType.GET, 3);
+            record(recorder, MASTER, CommandType.GET, 7);
+            record(recorder, MASTER, CommandType.GET, 200);
+
+            // assert
+            Timer timer = completion(CommandType.GET, RedisNodeRoles.MASTER);
+            Map<Double, Double> buckets = Arrays.stream(timer.takeSnapshot().histogramCounts())
+                .collect(Collectors.toMap(bucket -> bucket.bucket(TimeUnit.MILLISECONDS), CountAtBucket::count));
+            assertAll(
+                () -> assertThat(timer.count()).isEqualTo(3),
+                () -> assertThat(buckets).containsOnlyKeys(1.0, 5.0, 10.0, 50.0, 100.0, 500.0),
+                () -> assertThat(buckets).containsEntry(1.0, 0.0),
+                () -> assertThat(buckets).containsEntry(5.0, 1.0),
+                () -> assertThat(buckets).containsEntry(10.0, 2.0),
+                () -> assertThat(buckets).containsEntry(100.0, 2.0),
+                () -> assertThat(buckets).containsEntry(500.0, 3.0)
+            );
+        }
+
+        @DisplayName("원격 주소의 노드 역할과 명령 종류로 시계열을 나누고, 첫 응답 시간도 따로 기록한다.")
+        @Test
+        void tagsByRoleAndCommand() {
+            // arrange
+            RedisCommandLatencyRecorder recorder = recorder(Duration.ofMinutes(1));
+
+            // act
+            record(recorder, MASTER, CommandType.SET, 2);
+            record(recorder, REPLICA, CommandType.GET, 2);
+            record(recorder, REPLICA, CommandType.GET, 4);
+            record(recorder, InetSocketAddress.createUnresolved("other", 6379), CommandType.GET, 2);
+
+            // assert
+            assertAll(
+                () -> assertThat(completion(CommandType.SET, RedisNodeRoles.MASTER).count()).isEqualTo(1),
+                () -> assertThat(completion(CommandType.GET, RedisNodeRoles.REPLICA).count()).isEqualTo(2),
+                () -> assertThat(completion(CommandType.GET, RedisNodeRoles.UNKNOWN).count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.find(RedisCommandLatencyRecorder.COMMANDS_METRIC)
+                    .tags("command", CommandType.GET.name(), "role", RedisNodeRoles.MASTER).timer()).isNull(),
+                () -> assertThat(meterRegistry.get(RedisCommandLatencyRecorder.FIRST_RESPONSE_METRIC)
+                    .tags("template", TEMPLATE, "command", CommandType.GET.name(), "role", RedisNodeRoles.REPLICA)
+                    .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0)
+            );
+        }
+    }
+
+    @DisplayName("느린 명령을 집계할 때, ")
+    @Nested
+    @ExtendWith(OutputCaptureExtension.class)
+    class SlowCommand {
+        @DisplayName("기준 시간 이상 걸린 명령만 센다.")
+        @Test
+        void countsOnlyCommandsAtOrAboveThreshold() {
+            // arrange
+            RedisCommandLatencyRecorder recorder = recorder(Duration.ofMinutes(1));
+
+            // act
+            record(recorder, MASTER, CommandType.GET, 99);
+            record(recorder, MASTER, CommandType.GET, 100);
+            record(recorder, MASTER, CommandType.GET, 300);
+
+            // assert
+            assertThat(slowCount(CommandType.GET, RedisNodeRoles.MASTER)).isEqualTo(2);
+        }
+
+        @DisplayName("로그는 명령 종류와 역할별로 간격마다 한 줄만 남기고, 세는 것은 모두 센다.")
+        @Test
+        void logsOncePerInterval_perCommandAndRole(CapturedOutput output) {
+            // arrange
+            RedisCommandLatencyRecorder recorder = recorder(Duration.ofHours(1));
+
+            // act
+            record(recorder, MASTER, CommandType.GET, 150);
+            record(recorder, MASTER, CommandType.GET, 150);
+            record(recorder, MASTER, CommandType.GET, 150);
+            record(recorder, REPLICA, CommandType.GET, 150);
+            record(recorder, MASTER, CommandType.SET, 150);
+
+            // assert
+            assertAll(
+                () -> assertThat(slowCount(CommandType.GET, RedisNodeRoles.MASTER)).isEqualTo(3),
+                () -> assertThat(occurrences(output, SLOW_LOG)).isEqualTo(3),
+                () -> assertThat(occurrences(output, "command = GET, role = master")).isEqualTo(1),
+                () -> assertThat(occurrences(output, "command = GET, role = replica")).isEqualTo(1),
+                () -> assertThat(occurrences(output, "command = SET, role = master")).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("간격이 지난 뒤의 로그에는 그 사이 생략한 건수를 함께 남긴다.")
+        @Test
+        void reportsSuppressedCount_afterInterval(CapturedOutput output) throws InterruptedException {
+            // arrange
+            Duration interval = Duration.ofMillis(200);
+            RedisCommandLatencyRecorder recorder = recorder(interval);
+            record(recorder, MASTER, CommandType.GET, 150);
+            record(recorder, MASTER, CommandType.GET, 150);
+            record(recorder, MASTER, CommandType.GET, 150);
+
+            // act
+            Thread.sleep(interval.toMillis() + 50);
+            record(recorder, MASTER, CommandType.GET, 150);
+
+            // assert
+            List<String> logs = output.getOut().lines().filter(line -> line.contains(SLOW_LOG)).toList();
+            assertAll(
+                () -> assertThat(logs).hasSize(2),
+                () -> assertThat(logs.get(0)).contains("생략된 건수 = 0"),
+                () -> assertThat(logs.get(1)).contains("생략된 건수 = 2"),
+                () -> assertThat(slowCount(CommandType.GET, RedisNodeRoles.MASTER)).isEqualTo(4)
+            );
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.loopers.config.redis.metrics;
+
+import com.loopers.config.redis.RedisNodeInfo;
+import io.lettuce.core.event.DefaultEventBus;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.event.connection.ReconnectAttemptEvent;
+import io.lettuce.core.event.connection.ReconnectFailedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RedisConnectionMetricsTest {
+    private static final String TEMPLATE = "default";
+
+    /** 해석되지 않은 주소는 호스트 이름으로 역할을 찾는다 */
+    private static final SocketAddress LOCAL = InetSocketAddress.createUnresolved("localhost", 50000);
+    private static final SocketAddress MASTER = InetSocketAddress.createUnresolved("redis-master", 6379);
+    private static final SocketAddress REPLICA = InetSocketAddress.createUnresolved("redis-replica", 6379);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    /** 구독자에게 같은 스레드에서 바로 전달해, 발행 직후 값을 확인할 수 있게 한다 */
+    private final EventBus eventBus = new DefaultEventBus(Schedulers.immediate());
+    private final RedisConnectionMetrics metrics = new RedisConnectionMetrics(
+        TEMPLATE,
+        new RedisNodeRoles(new RedisNodeInfo("redis-master", 6379), List.of(new RedisNodeInfo("redis-replica", 6379))),
+        eventBus,
+        meterRegistry
+    );
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    private double active(String role) {
+        return meterRegistry.get(RedisConnectionMetrics.CONNECTIONS_METRIC)
+            .tags("template", TEMPLATE, "role", role)
+            .gauge()
+            .value();
+    }
+
+    private double reconnects(String role, String outcome) {
+        return meterRegistry.get(RedisConnectionMetrics.RECONNECTS_METRIC)
+            .tags("template", TEMPLATE, "role", role, "outcome", outcome)
+            .counter()
+            .count();
+    }
+
+    private static ReconnectAttemptEvent reconnectAttempt(SocketAddress remote) {
+        return new ReconnectAttemptEvent("redis://" + remote, "ep", LOCAL, remote, 1, Duration.ofMillis(100));
+    }
+
+    private static ReconnectFailedEvent reconnectFailed(SocketAddress remote) {
+        return new ReconnectFailedEvent("redis://" + remote, "ep", LOCAL, remote, new IllegalStateException("연결 실패"), 1);
+    }
+
+    @DisplayName("이벤트가 오기 전에도, 모든 역할의 게이지와 카운터를 0 으로 등록해둔다.")
+    @Test
+    void registersAllRoles_beforeAnyEvent() {
+        // assert
+        assertAll(
+            () -> assertThat(active(RedisNodeRoles.MASTER)).isZero(),
+            () -> assertThat(active(RedisNodeRoles.REPLICA)).isZero(),
+            () -> assertThat(active(RedisNodeRoles.UNKNOWN)).isZero(),
+            () -> assertThat(reconnects(RedisNodeRoles.REPLICA, "attempt")).isZero(),
+            () -> assertThat(reconnects(RedisNodeRoles.REPLICA, "failed")).isZero()
+        );
+    }
+
+    @DisplayName("커넥션이 열리고 닫히면, 원격 노드의 역할별로 활성 커넥션 수를 올리고 내린다.")
+    @Test
+    void tracksActiveConnections_byRole() {
+        // act
+        eventBus.publish(new ConnectionActivatedEvent(LOCAL, MASTER));
+        eventBus.publish(new ConnectionActivatedEvent(LOCAL, REPLICA));
+        eventBus.publish(new ConnectionActivatedEvent(LOCAL, REPLICA));
+        eventBus.publish(new ConnectionDeactivatedEvent(LOCAL, REPLICA));
+        eventBus.publish(new ConnectionActivatedEvent(LOCAL, InetSocketAddress.createUnresolved("other", 6379)));
+
+        // assert
+        assertAll(
+            () -> assertThat(active(RedisNodeRoles.MASTER)).isEqualTo(1),
+            () -> assertThat(active(RedisNodeRoles.REPLICA)).isEqualTo(1),
+            () -> assertThat(active(RedisNodeRoles.UNKNOWN)).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("재연결을 시도하거나 실패하면, 역할과 결과별로 센다.")
+    @Test
+    void countsReconnects_byRoleAndOutcome() {
+        // act
+        eventBus.publish(reconnectAttempt(REPLICA));
+        eventBus.publish(reconnectAttempt(REPLICA));
+        eventBus.publish(reconnectFailed(REPLICA));
+        eventBus.publish(reconnectAttempt(MASTER));
+
+        // assert
+        assertAll(
+            () -> assertThat(reconnects(RedisNodeRoles.REPLICA, "attempt")).isEqualTo(2),
+            () -> assertThat(reconnects(RedisNodeRoles.REPLICA, "failed")).isEqualTo(1),
+            () -> assertThat(reconnects(RedisNodeRoles.MASTER, "attempt")).isEqualTo(1),
+            () -> assertThat(reconnects(RedisNodeRoles.MASTER, "failed")).isZero()
+        );
+    }
+
+    @DisplayName("닫은 뒤에 오는 이벤트는 집계하지 않는다.")
+    @Test
+    void ignoresEvents_afterClose() {
+        // arrange
+        eventBus.publish(new ConnectionActivatedEvent(LOCAL, MASTER));
+
+        // act
+        metrics.close();
+        eventBus.publish(new ConnectionActivatedEvent(LOCAL, MASTER));
+        eventBus.publish(reconnectAttempt(MASTER));
+
+        // assert
+        assertAll(
+            () -> assertThat(active(RedisNodeRoles.MASTER)).isEqualTo(1),
+            () -> assertThat(reconnects(RedisNodeRoles.MASTER, "attempt")).isZero()
+        );
+    }
+}
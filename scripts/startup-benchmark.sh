@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+#
+# 애플리케이션 기동 시간(readiness UP 까지)과 첫 요청 지연을 측정한다.
+#
+#   ./scripts/startup-benchmark.sh <app> <default|fast> [first-request-path] [repeat]
+#
+#   default : ./gradlew :apps:<app>:bootJar
+#   fast    : ./gradlew :apps:<app>:cdsArchive -PfastStartup
+#
+# 결과는 build/startup-benchmark.csv 에 누적된다.
+set -euo pipefail
+
+APP=${1:?"app 이름이 필요합니다. (ex. commerce-api)"}
+VARIANT=${2:-default}
+FIRST_REQUEST_PATH=${3:-/api/v1/examples/1}
+REPEAT=${4:-5}
+
+ROOT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+APP_DIR="$ROOT_DIR/apps/$APP"
+READINESS_URL=${READINESS_URL:-http://localhost:8081/actuator/health/readiness} # monitoring.yml 의 management port
+APP_URL=${APP_URL:-http://localhost:8080}
+RESULT_FILE="$ROOT_DIR/build/startup-benchmark.csv"
+LOG_FILE="$ROOT_DIR/build/startup-benchmark-$APP-$VARIANT.log"
+TIMEOUT_SEC=${TIMEOUT_SEC:-120}
+
+case "$VARIANT" in
+  default)
+    JAR=$(ls "$APP_DIR"/build/libs/*.jar | head -n 1)
+    COMMAND=(java -jar "$JAR")
+    ;;
+  fast)
+    FAST_DIR="$APP_DIR/build/fast-startup"
+    JAR=$(ls "$FAST_DIR"/*.jar | head -n 1)
+    COMMAND=(java -XX:SharedArchiveFile="$FAST_DIR/application.jsa" -Dspring.aot.enabled=true -jar "$JAR")
+    ;;
+  *)
+    echo "variant 는 default 또는 fast 여야 합니다." >&2
+    exit 1
+    ;;
+esac
+
+mkdir -p "$ROOT_DIR/build"
+[ -f "$RESULT_FILE" ] || echo "timestamp,app,variant,run,time_to_ready_ms,first_request_ms" > "$RESULT_FILE"
+
+now_ms() { echo $(( $(date +%s%N) / 1000000 )); }
+
+for run in $(seq 1 "$REPEAT"); do
+  started_at=$(now_ms)
+  "${COMMAND[@]}" > "$LOG_FILE" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true; wait $pid 2>/dev/null || true' EXIT
+
+  until curl -sf "$READINESS_URL" | grep -q '"status":"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "애플리케이션이 기동 중 종료되었습니다. ($LOG_FILE 참고)" >&2
+      exit 1
+    fi
+    if (( $(now_ms) - started_at > TIMEOUT_SEC * 1000 )); then
+      echo "${TIMEOUT_SEC}s 안에 readiness 가 UP 이 되지 않았습니다." >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  ready_ms=$(( $(now_ms) - started_at ))
+
+  first_request_sec=$(curl -s -o /dev/null -w '%{time_total}' "$APP_URL$FIRST_REQUEST_PATH")
+  first_request_ms=$(awk "BEGIN { printf \"%.1f\", $first_request_sec * 1000 }")
+
+  echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$APP,$VARIANT,$run,$ready_ms,$first_request_ms" | tee -a "$RESULT_FILE"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+done
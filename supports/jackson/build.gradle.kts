@@ -8,4 +8,7 @@ dependencies {
     // jackson
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    // binary formats : 컨버터를 쓰는 쪽(테스트 등)에서도 같은 포맷으로 읽을 수 있도록 노출한다
+    api("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    api("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 }
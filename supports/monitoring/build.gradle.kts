@@ -1,4 +1,10 @@
+plugins {
+    `java-test-fixtures`
+}
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("io.micrometer:micrometer-registry-prometheus")
+    // facade 호출 JFR 이벤트
+    implementation("org.springframework.boot:spring-boot-starter-aop")
 }
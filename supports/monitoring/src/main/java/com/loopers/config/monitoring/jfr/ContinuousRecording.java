@@ -0,0 +1,111 @@
+package com.loopers.config.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션이 떠 있는 동안 JFR 을 계속 기록한다.
+ * <p>
+ * 기록은 JFR repository 에 청크 단위로 쓰이고 {@code maxAge}, {@code maxSize} 를 넘는 오래된 청크부터 지워지므로,
+ * 필요할 때 {@link #dump(Duration)} 로 최근 구간만 잘라 파일로 남길 수 있다.
+ * <p>
+ * 덤프는 밖으로 내려받는 파일이므로, 환경 변수·시스템 프로퍼티·JVM 인자처럼 비밀값이 담길 수 있는 이벤트({@link #SENSITIVE_EVENTS})는 기록하지 않는다.
+ */
+@Slf4j
+public class ContinuousRecording implements InitializingBean, DisposableBean {
+    private static final String RECORDING_NAME = "loopers-continuous";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    static final Set<String> SENSITIVE_EVENTS = Set.of(
+        "jdk.InitialEnvironmentVariable",
+        "jdk.InitialSystemProperty",
+        "jdk.JVMInformation", // jvmArguments 에 -D 로 넘긴 비밀번호가 담긴다
+        "jdk.SystemProcess" // 다른 프로세스의 command line
+    );
+
+    private final JfrProperties properties;
+    private Recording recording;
+
+    public ContinuousRecording(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException, ParseException {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("이 JVM 에서는 JFR 을 사용할 수 없어 상시 기록을 시작하지 않습니다.");
+            return;
+        }
+        Files.createDirectories(properties.dumpDirectory());
+
+        recording = new Recording(Configuration.getConfiguration(properties.settings()));
+        recording.setName(RECORDING_NAME);
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.maxAge());
+        recording.setMaxSize(properties.maxSize());
+        recording.start();
+        log.info("JFR 상시 기록을 시작합니다. (settings = {}, maxAge = {}, maxSize = {})",
+            properties.settings(), properties.maxAge(), properties.maxSize());
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * 최근 {@code age} 동안 기록된 데이터를 dumpDirectory 에 파일로 남기고 경로를 반환한다.
+     * 상시 기록 외에 다른 기록(이벤트 스트림 등)이 켠 이벤트도 함께 포함된다.
+     */
+    public synchronized Path dump(Duration age) {
+        if (recording == null) {
+            throw new IllegalStateException("JFR 상시 기록이 시작되지 않았습니다.");
+        }
+        Path file = properties.dumpDirectory().resolve("recording-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.setMaxAge(age);
+            snapshot.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        deleteOldDumps();
+        return file;
+    }
+
+    private void deleteOldDumps() {
+        try (Stream<Path> files = Files.list(properties.dumpDirectory())) {
+            List<Path> dumps = files
+                .filter(path -> path.getFileName().toString().endsWith(".jfr"))
+                .sorted(Comparator.comparing(Path::getFileName).reversed())
+                .toList();
+            for (Path old : dumps.subList(Math.min(properties.maxDumps(), dumps.size()), dumps.size())) {
+                Files.deleteIfExists(old);
+            }
+        } catch (IOException e) {
+            log.warn("오래된 JFR 덤프를 정리하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.config.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * application 계층 Facade 메서드 한 번의 호출. 느린 요청 구간을 JFR 의 CPU, 락, GC 이벤트와 같은 타임라인에서 보기 위해 남긴다.
+ */
+@Name("com.loopers.FacadeCall")
+@Label("Facade Call")
+@Category({"Loopers", "Application"})
+@Description("application 계층 Facade 메서드 호출")
+@StackTrace(false)
+@Threshold("5 ms")
+class FacadeCallEvent extends Event {
+    @Label("Facade")
+    String facade;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
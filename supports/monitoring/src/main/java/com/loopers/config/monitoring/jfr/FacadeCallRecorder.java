@@ -0,0 +1,33 @@
+package com.loopers.config.monitoring.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * {@code com.loopers.application} 의 *Facade 공개 메서드마다 {@link FacadeCallEvent} 를 남긴다.
+ * 이벤트가 꺼져 있거나 threshold 보다 빨리 끝난 호출은 commit 하지 않으므로 필드를 채우는 비용도 들지 않는다.
+ */
+@Aspect
+public class FacadeCallRecorder {
+
+    @Around("execution(public * com.loopers.application..*Facade.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        FacadeCallEvent event = new FacadeCallEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.facade = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+}
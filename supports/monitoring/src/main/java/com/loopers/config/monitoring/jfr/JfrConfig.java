@@ -0,0 +1,34 @@
+package com.loopers.config.monitoring.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+@ConditionalOnProperty(prefix = "monitoring.jfr", name = "enabled", havingValue = "true")
+class JfrConfig {
+
+    @Bean
+    ContinuousRecording continuousRecording(JfrProperties properties) {
+        return new ContinuousRecording(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "monitoring.jfr.streaming", name = "enabled", havingValue = "true")
+    JfrMetricsBridge jfrMetricsBridge(JfrProperties properties, MeterRegistry meterRegistry) {
+        return new JfrMetricsBridge(properties.streaming(), meterRegistry);
+    }
+
+    @Bean
+    FacadeCallRecorder facadeCallRecorder() {
+        return new FacadeCallRecorder();
+    }
+
+    @Bean
+    JfrDumpEndpoint jfrDumpEndpoint(ContinuousRecording recording, JfrProperties properties) {
+        return new JfrDumpEndpoint(recording, properties);
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.config.monitoring.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 최근 N 분의 JFR 기록을 내려받는다. ({@code POST /actuator/jfr}, body {@code {"minutes": 5}}, management 포트)
+ * 호출할 때마다 {@code monitoring.jfr.dump-directory} 에 덤프 파일을 남기므로, 크롤러나 캐시가 부르지 않도록 쓰기 작업으로 노출한다.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrDumpEndpoint {
+    private final ContinuousRecording recording;
+    private final JfrProperties properties;
+
+    public JfrDumpEndpoint(ContinuousRecording recording, JfrProperties properties) {
+        this.recording = recording;
+        this.properties = properties;
+    }
+
+    @WriteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) {
+        if (!recording.isRecording()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        if (minutes != null && minutes <= 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Duration age = minutes != null ? Duration.ofMinutes(minutes) : properties.defaultDumpAge();
+        Path file = recording.dump(age);
+        return new WebEndpointResponse<>(new FileSystemResource(file), WebEndpointResponse.STATUS_OK);
+    }
+}
@@ -0,0 +1,84 @@
+package com.loopers.config.monitoring.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+/**
+ * JFR 이벤트 스트림을 구독해 GC 멈춤, safepoint, 모니터 경합, 할당량을 Micrometer 지표로 남긴다.
+ * <p>
+ * 이벤트는 JFR 이 청크를 flush 할 때(기본 약 1초) 모아서 전달되므로 지표도 그만큼 늦게 반영된다.
+ * 스트림에서 켠 이벤트는 상시 기록에도 함께 남는다.
+ */
+@Slf4j
+public class JfrMetricsBridge implements InitializingBean, DisposableBean {
+    public static final String GC_PAUSE_METRIC = "jfr.gc.pause";
+    public static final String SAFEPOINT_METRIC = "jfr.safepoint";
+    public static final String MONITOR_CONTENTION_METRIC = "jfr.monitor.contention";
+    public static final String ALLOCATION_METRIC = "jfr.allocation.sampled";
+
+    private static final Duration STREAM_MAX_AGE = Duration.ofSeconds(10);
+
+    private final JfrProperties.Streaming properties;
+    private final MeterRegistry meterRegistry;
+    private RecordingStream stream;
+
+    public JfrMetricsBridge(JfrProperties.Streaming properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!FlightRecorder.isAvailable()) {
+            return;
+        }
+        Timer safepoints = Timer.builder(SAFEPOINT_METRIC)
+            .description("safepoint 에 도달해 VM 작업을 마칠 때까지 애플리케이션 스레드가 멈춘 시간")
+            .register(meterRegistry);
+        Timer monitorContention = Timer.builder(MONITOR_CONTENTION_METRIC)
+            .description("synchronized 모니터를 얻기 위해 기다린 시간 (threshold 이상만)")
+            .register(meterRegistry);
+        Counter allocated = Counter.builder(ALLOCATION_METRIC)
+            .description("할당 샘플의 weight 합. 힙 할당량의 추정치다.")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+
+        stream = new RecordingStream();
+        stream.setMaxAge(STREAM_MAX_AGE);
+        stream.enable("jdk.GarbageCollection");
+        stream.enable("jdk.SafepointBegin");
+        stream.enable("jdk.JavaMonitorEnter").withThreshold(properties.monitorThreshold());
+        stream.enable("jdk.ObjectAllocationSample").with("throttle", properties.allocationThrottle());
+
+        stream.onEvent("jdk.GarbageCollection", event -> gcPause(event).record(event.getDuration("sumOfPauses")));
+        stream.onEvent("jdk.SafepointBegin", event -> safepoints.record(event.getDuration()));
+        stream.onEvent("jdk.JavaMonitorEnter", event -> monitorContention.record(event.getDuration()));
+        stream.onEvent("jdk.ObjectAllocationSample", event -> allocated.increment(event.getLong("weight")));
+        stream.onError(e -> log.warn("JFR 이벤트 스트림 처리 중 오류가 발생했습니다.", e));
+        stream.startAsync();
+    }
+
+    private Timer gcPause(RecordedEvent event) {
+        return Timer.builder(GC_PAUSE_METRIC)
+            .description("GC 한 번의 stop-the-world 멈춤 합계")
+            .tag("collector", event.getString("name"))
+            .tag("cause", event.getString("cause"))
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.config.monitoring.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param settings       상시 기록에 쓰는 JFR 설정 ("default" 는 오버헤드 1% 미만을 목표로 한다)
+ * @param maxAge         디스크에 유지하는 기록의 최대 기간
+ * @param maxSize        디스크에 유지하는 기록의 최대 크기(bytes)
+ * @param dumpDirectory  덤프 파일을 남기는 디렉터리
+ * @param maxDumps       dumpDirectory 에 남겨두는 최대 덤프 파일 수 (오래된 것부터 지운다)
+ * @param defaultDumpAge 덤프 요청에 기간이 없을 때 포함하는 최근 기간
+ * @param streaming      JFR 이벤트를 Micrometer 지표로 바꾸는 이벤트 스트림 설정
+ */
+@ConfigurationProperties("monitoring.jfr")
+public record JfrProperties(
+    boolean enabled,
+    String settings,
+    Duration maxAge,
+    long maxSize,
+    Path dumpDirectory,
+    int maxDumps,
+    Duration defaultDumpAge,
+    Streaming streaming
+) {
+    /**
+     * @param monitorThreshold   이 시간 이상 모니터 획득을 기다린 경우만 집계한다
+     * @param allocationThrottle 할당 샘플 이벤트의 초당 최대 수 (예: 150/s)
+     */
+    public record Streaming(
+        boolean enabled,
+        Duration monitorThreshold,
+        String allocationThrottle
+    ) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.config.monitoring.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class JfrDumpEndpointTest {
+    @TempDir
+    private Path dumpDirectory;
+
+    private ContinuousRecording recording;
+
+    private JfrDumpEndpoint endpoint(boolean start) throws Exception {
+        JfrProperties properties = new JfrProperties(
+            true, "default", Duration.ofMinutes(5), 64L * 1024 * 1024, dumpDirectory, 5, Duration.ofMinutes(1), null
+        );
+        recording = new ContinuousRecording(properties);
+        if (start) {
+            recording.afterPropertiesSet();
+        }
+        return new JfrDumpEndpoint(recording, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (recording != null) {
+            recording.destroy();
+        }
+    }
+
+    @DisplayName("덤프를 요청하면, 기록 파일을 내려주고 비밀값이 담길 수 있는 이벤트는 포함하지 않는다.")
+    @Test
+    void dumpsRecording_withoutSensitiveEvents() throws Exception {
+        // arrange
+        JfrDumpEndpoint endpoint = endpoint(true);
+
+        // act
+        WebEndpointResponse<Resource> response = endpoint.dump(1);
+
+        // assert
+        Path file = response.getBody().getFile().toPath();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertAll(
+            () -> assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK),
+            () -> assertThat(file).startsWith(dumpDirectory),
+            () -> assertThat(Files.size(file)).isPositive(),
+            () -> assertThat(events).isNotEmpty(),
+            () -> assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .doesNotContainAnyElementsOf(ContinuousRecording.SENSITIVE_EVENTS)
+        );
+    }
+
+    @DisplayName("기간이 0 이하면, 덤프하지 않고 400 을 반환한다.")
+    @Test
+    void returnsBadRequest_whenMinutesIsNotPositive() throws Exception {
+        // arrange
+        JfrDumpEndpoint endpoint = endpoint(true);
+
+        // act
+        WebEndpointResponse<Resource> response = endpoint.dump(0);
+
+        // assert
+        assertAll(
+            () -> assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST),
+            () -> assertThat(dumpDirectory).isEmptyDirectory()
+        );
+    }
+
+    @DisplayName("상시 기록이 시작되지 않았으면, 503 을 반환한다.")
+    @Test
+    void returnsServiceUnavailable_whenNotRecording() throws Exception {
+        // arrange
+        JfrDumpEndpoint endpoint = endpoint(false);
+
+        // act
+        WebEndpointResponse<Resource> response = endpoint.dump(null);
+
+        // assert
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,83 @@
+package com.loopers.config.monitoring.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class JfrMetricsBridgeTest {
+    /** 이벤트는 JFR 이 청크를 flush 할 때(약 1초) 전달되므로 넉넉히 기다린다 */
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JfrMetricsBridge bridge = new JfrMetricsBridge(
+        new JfrProperties.Streaming(true, Duration.ofMillis(10), "150/s"), meterRegistry
+    );
+
+    @AfterEach
+    void tearDown() {
+        bridge.destroy();
+    }
+
+    private static boolean await(BooleanSupplier condition, Runnable trigger) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            trigger.run();
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(200);
+        }
+        return condition.getAsBoolean();
+    }
+
+    @DisplayName("GC 가 일어나면, 수집기와 원인으로 태깅된 GC 멈춤 시간을 기록한다.")
+    @Test
+    void recordsGcPause() throws InterruptedException {
+        // arrange
+        bridge.afterPropertiesSet();
+
+        // act
+        boolean recorded = await(
+            () -> meterRegistry.find(JfrMetricsBridge.GC_PAUSE_METRIC).tag("cause", "System.gc()").timer() != null,
+            System::gc
+        );
+
+        // assert
+        Timer gcPause = meterRegistry.find(JfrMetricsBridge.GC_PAUSE_METRIC).tag("cause", "System.gc()").timer();
+        assertAll(
+            () -> assertThat(recorded).isTrue(),
+            () -> assertThat(gcPause.count()).isPositive(),
+            () -> assertThat(gcPause.getId().getTag("collector")).isNotBlank()
+        );
+    }
+
+    @DisplayName("객체를 할당하면, 할당 샘플의 weight 를 누적한다.")
+    @Test
+    void recordsSampledAllocation() throws InterruptedException {
+        // arrange
+        bridge.afterPropertiesSet();
+        Object[] sink = new Object[1024];
+
+        // act
+        boolean recorded = await(
+            () -> meterRegistry.counter(JfrMetricsBridge.ALLOCATION_METRIC).count() > 0,
+            () -> {
+                for (int i = 0; i < 100_000; i++) {
+                    sink[i % sink.length] = new byte[1024];
+                }
+            }
+        );
+
+        // assert
+        assertThat(recorded).isTrue();
+    }
+}
@@ -0,0 +1,169 @@
+package com.loopers.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 코드 블록의 호출당 할당량과 실행 시간을 재고, 예산을 넘으면 실패한다.
+ * <pre>{@code
+ * PerformanceBudget.of("example.getExample")
+ *     .allocatedBytesBelow(64 * 1024)
+ *     .medianTimeBelow(Duration.ofMillis(5))
+ *     .run(() -> exampleFacade.getExample(id));
+ * }</pre>
+ * 할당량은 {@code ThreadMXBean.getThreadAllocatedBytes} 로 재므로 호출한 스레드에서 할당한 것만 센다.
+ * (다른 스레드에 넘긴 작업은 빠진다) JIT 이 끝난 상태를 재도록 warmup 만큼 먼저 실행하고, 호출마다 잰 값의 중앙값으로 비교한다.
+ * 실행 시간은 실행 환경에 따라 흔들리므로, 실행 시간 예산은 {@code @Tag("benchmark")} 테스트로 나눠 기본 테스트에서 돌지 않게 한다.
+ * <p>
+ * 결과는 예산을 넘었는지와 관계없이 {@code performance-budget.report-file} (build/reports/performance-budget/results.jsonl) 에
+ * 한 줄씩 JSON 으로 누적되고, {@code performance-budget.version} 으로 어느 커밋의 결과인지 남긴다.
+ */
+public final class PerformanceBudget {
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Path REPORT_FILE = Path.of(
+        System.getProperty("performance-budget.report-file", "build/reports/performance-budget/results.jsonl")
+    );
+    private static final String VERSION = System.getProperty("performance-budget.version", "unknown");
+
+    private final String name;
+    private int warmup = 100;
+    private int iterations = 200;
+    private long allocatedBytesBudget = Long.MAX_VALUE;
+    private long medianNanosBudget = Long.MAX_VALUE;
+
+    private PerformanceBudget(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param name 리포트에서 추세를 묶는 이름 (예: {@code example.getExample})
+     */
+    public static PerformanceBudget of(String name) {
+        return new PerformanceBudget(name);
+    }
+
+    public PerformanceBudget warmup(int warmup) {
+        this.warmup = warmup;
+        return this;
+    }
+
+    public PerformanceBudget iterations(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations 는 1 이상이어야 합니다.");
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    public PerformanceBudget allocatedBytesBelow(long bytes) {
+        this.allocatedBytesBudget = bytes;
+        return this;
+    }
+
+    public PerformanceBudget medianTimeBelow(Duration time) {
+        this.medianNanosBudget = time.toNanos();
+        return this;
+    }
+
+    /**
+     * warmup 후 iterations 번 실행해 재고, 리포트에 남긴 뒤 예산과 비교한다.
+     *
+     * @throws AssertionError 할당량이나 실행 시간의 중앙값이 예산 이상일 때
+     */
+    public Result run(Runnable block) {
+        if (!THREADS.isThreadAllocatedMemoryEnabled()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+        for (int i = 0; i < warmup; i++) {
+            block.run();
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long[] allocatedBytes = new long[iterations];
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long startedAt = System.nanoTime();
+            block.run();
+            nanos[i] = System.nanoTime() - startedAt;
+            allocatedBytes[i] = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        Arrays.sort(allocatedBytes);
+        Arrays.sort(nanos);
+
+        Result result = new Result(
+            name, iterations,
+            percentile(allocatedBytes, 50), percentile(allocatedBytes, 100),
+            percentile(nanos, 50), percentile(nanos, 99), percentile(nanos, 100)
+        );
+        boolean passed = result.allocatedBytes() < allocatedBytesBudget && result.medianNanos() < medianNanosBudget;
+        report(result, passed);
+
+        if (result.allocatedBytes() >= allocatedBytesBudget) {
+            throw new AssertionError(String.format(Locale.ROOT,
+                "[%s] 호출당 할당량 %,d bytes 가 예산 %,d bytes 이상입니다. (최대 %,d bytes)",
+                name, result.allocatedBytes(), allocatedBytesBudget, result.maxAllocatedBytes()));
+        }
+        if (result.medianNanos() >= medianNanosBudget) {
+            throw new AssertionError(String.format(Locale.ROOT,
+                "[%s] 실행 시간 중앙값 %.3f ms 가 예산 %.3f ms 이상입니다. (p99 %.3f ms)",
+                name, result.medianNanos() / 1e6, medianNanosBudget / 1e6, result.p99Nanos() / 1e6));
+        }
+        return result;
+    }
+
+    private void report(Result result, boolean passed) {
+        String line = String.format(Locale.ROOT,
+            "{\"timestamp\":\"%s\",\"version\":\"%s\",\"name\":\"%s\",\"iterations\":%d,"
+                + "\"allocated_bytes_p50\":%d,\"allocated_bytes_max\":%d,\"allocated_bytes_budget\":%s,"
+                + "\"time_ns_p50\":%d,\"time_ns_p99\":%d,\"time_ns_max\":%d,\"time_ns_budget\":%s,\"passed\":%b}%n",
+            Instant.now(), escape(VERSION), escape(name), result.iterations(),
+            result.allocatedBytes(), result.maxAllocatedBytes(), budget(allocatedBytesBudget),
+            result.medianNanos(), result.p99Nanos(), result.maxNanos(), budget(medianNanosBudget), passed
+        );
+        synchronized (PerformanceBudget.class) {
+            try {
+                Files.createDirectories(REPORT_FILE.toAbsolutePath().getParent());
+                Files.writeString(REPORT_FILE, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException("성능 예산 리포트를 쓰지 못했습니다: " + REPORT_FILE, e);
+            }
+        }
+    }
+
+    private static String budget(long value) {
+        return value == Long.MAX_VALUE ? "null" : Long.toString(value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(sorted.length * percentile / 100) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * @param allocatedBytes 호출당 할당량의 중앙값
+     */
+    public record Result(
+        String name,
+        int iterations,
+        long allocatedBytes,
+        long maxAllocatedBytes,
+        long medianNanos,
+        long p99Nanos,
+        long maxNanos
+    ) {
+    }
+}